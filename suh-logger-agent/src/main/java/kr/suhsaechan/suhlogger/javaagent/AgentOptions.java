@@ -0,0 +1,130 @@
+package kr.suhsaechan.suhlogger.javaagent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 에이전트 옵션
+ *
+ * 에이전트는 Spring보다 먼저 시작하므로 application.yml이 아닌 에이전트 인자 또는 시스템 프로퍼티로 받는다.
+ * <pre>
+ * -javaagent:suh-logger-agent.jar=include=com.example.service.*,com.example.OrderClient#send;debug=true
+ * -Dsuh-logger.agent.include=com.example.service.*
+ * </pre>
+ *
+ * include 형식 (쉼표 구분, 어노테이션이 없는 메서드의 실행 시간 기록 대상):
+ * - com.example.service.*       : 패키지(하위 포함)의 public 메서드
+ * - com.example.OrderService    : 클래스의 public 메서드
+ * - com.example.OrderService#place : 특정 메서드 (가시성 무관)
+ */
+final class AgentOptions {
+
+    static final String INCLUDE_PROPERTY = "suh-logger.agent.include";
+    static final String DEBUG_PROPERTY = "suh-logger.agent.debug";
+
+    private final List<String> packagePrefixes;
+    private final Set<String> classNames;
+    private final Map<String, Set<String>> methodNames;
+    private final boolean debug;
+
+    private AgentOptions(List<String> packagePrefixes, Set<String> classNames,
+                         Map<String, Set<String>> methodNames, boolean debug) {
+        this.packagePrefixes = packagePrefixes;
+        this.classNames = classNames;
+        this.methodNames = methodNames;
+        this.debug = debug;
+    }
+
+    /**
+     * 에이전트 인자(key=value;key=value)와 시스템 프로퍼티를 합쳐서 파싱
+     * @param agentArgs -javaagent:...jar= 뒤의 문자열 (없으면 null)
+     */
+    static AgentOptions parse(String agentArgs) {
+        List<String> includes = new ArrayList<>();
+        boolean debug = Boolean.getBoolean(DEBUG_PROPERTY);
+
+        addAll(includes, System.getProperty(INCLUDE_PROPERTY));
+        if (agentArgs != null) {
+            for (String option : agentArgs.split(";")) {
+                int separator = option.indexOf('=');
+                String key = (separator < 0 ? option : option.substring(0, separator)).trim();
+                String value = (separator < 0 ? "" : option.substring(separator + 1)).trim();
+                if ("include".equals(key)) {
+                    addAll(includes, value);
+                } else if ("debug".equals(key)) {
+                    debug = value.isEmpty() || Boolean.parseBoolean(value);
+                }
+            }
+        }
+
+        List<String> packagePrefixes = new ArrayList<>();
+        Set<String> classNames = new HashSet<>();
+        Map<String, Set<String>> methodNames = new HashMap<>();
+        for (String include : includes) {
+            int hash = include.indexOf('#');
+            if (include.endsWith(".*")) {
+                packagePrefixes.add(include.substring(0, include.length() - 1));
+            } else if (hash > 0 && hash < include.length() - 1) {
+                methodNames.computeIfAbsent(include.substring(0, hash), key -> new HashSet<>())
+                    .add(include.substring(hash + 1));
+            } else {
+                classNames.add(include);
+            }
+        }
+        return new AgentOptions(packagePrefixes, classNames, methodNames, debug);
+    }
+
+    private static void addAll(List<String> target, String commaSeparated) {
+        if (commaSeparated == null) {
+            return;
+        }
+        for (String value : commaSeparated.split(",")) {
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                target.add(trimmed);
+            }
+        }
+    }
+
+    /**
+     * 타입 이름이 include 대상인지 (패키지/클래스/메서드 지정 중 하나라도 해당)
+     */
+    boolean isIncluded(String typeName) {
+        return includesAllPublicMethods(typeName) || methodNames.containsKey(typeName);
+    }
+
+    /**
+     * 패키지 또는 클래스 단위로 지정되어 public 메서드 전체가 대상인지
+     */
+    boolean includesAllPublicMethods(String typeName) {
+        if (classNames.contains(typeName)) {
+            return true;
+        }
+        for (String prefix : packagePrefixes) {
+            if (typeName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메서드 단위로 지정된 메서드 이름 (없으면 빈 집합)
+     */
+    Set<String> includedMethods(String typeName) {
+        return methodNames.getOrDefault(typeName, Collections.emptySet());
+    }
+
+    boolean hasIncludes() {
+        return !packagePrefixes.isEmpty() || !classNames.isEmpty() || !methodNames.isEmpty();
+    }
+
+    boolean isDebug() {
+        return debug;
+    }
+}
@@ -0,0 +1,52 @@
+package kr.suhsaechan.suhlogger.javaagent;
+
+import kr.suhsaechan.suhlogger.agent.AgentRecorder;
+import kr.suhsaechan.suhlogger.agent.MethodSite;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+/**
+ * 대상 메서드 앞뒤에 인라인되는 코드
+ *
+ * 본문은 바이트코드로 복사되므로 AgentRecorder의 정적 훅 호출만 둔다.
+ * - 클래스/시그니처는 상수로 박히고 MethodSite는 ClassValue 캐시에서 조회
+ * - 인자 배열(@AllArguments)은 호출 로그를 남길 때만 읽음 (ON_ERROR 모드는 exit까지 지역 변수에 보관)
+ * - 훅에서 발생한 예외는 suppress로 삼켜 원래 메서드 동작에 영향을 주지 않음
+ *
+ * 이 클래스는 로드하지 않고 TypePool로 바이트코드만 읽는다 (SuhLoggerAgent.advice 참고).
+ */
+final class MethodAdvice {
+
+    private MethodAdvice() {
+    }
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    static void enter(@Advice.Origin Class<?> type,
+                      @Advice.Origin("#m#d") String signature,
+                      @Advice.AllArguments Object[] args,
+                      @Advice.Local("site") MethodSite site,
+                      @Advice.Local("flags") int flags,
+                      @Advice.Local("start") long start,
+                      @Advice.Local("captured") Object[] captured) {
+        site = AgentRecorder.site(type, signature);
+        flags = AgentRecorder.enter(site);
+        if ((flags & AgentRecorder.CALL) != 0) {
+            captured = AgentRecorder.call(site, args);
+        }
+        if (flags != 0) {
+            start = System.nanoTime();
+        }
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    static void exit(@Advice.Return(typing = Assigner.Typing.DYNAMIC) Object result,
+                     @Advice.Thrown Throwable thrown,
+                     @Advice.Local("site") MethodSite site,
+                     @Advice.Local("flags") int flags,
+                     @Advice.Local("start") long start,
+                     @Advice.Local("captured") Object[] captured) {
+        if (flags != 0) {
+            AgentRecorder.exit(site, flags, start, result, thrown, captured);
+        }
+    }
+}
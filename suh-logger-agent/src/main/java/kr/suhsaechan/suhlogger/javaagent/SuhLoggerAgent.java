@@ -0,0 +1,196 @@
+package kr.suhsaechan.suhlogger.javaagent;
+
+import static net.bytebuddy.matcher.ElementMatchers.declaresMethod;
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.isBridge;
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.isNative;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.isSynthetic;
+import static net.bytebuddy.matcher.ElementMatchers.nameContains;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+import java.lang.instrument.Instrumentation;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * SuhLogger Java 에이전트 (Spring 프록시 없이 메서드 로깅)
+ *
+ * @LogCall / @LogTime / @LogMonitor 메서드와 include 옵션으로 지정한 메서드에 기록 코드를 직접 삽입한다.
+ * 프록시를 거치지 않으므로 self-invocation, private/final 메서드, Spring 빈이 아닌 객체도 기록된다.
+ * 삽입 코드는 suh-logger-core의 AgentRecorder 정적 훅을 호출하며, 설정/토글/출력 형식은 Aspect와 같다.
+ *
+ * 설치되면 suh-logger.agent.active=true 시스템 프로퍼티를 설정하고,
+ * 자동 설정은 이 값을 보고 Aspect를 등록하지 않는다 (중복 기록 방지).
+ */
+public final class SuhLoggerAgent {
+
+    // AgentRecorder.ACTIVE_PROPERTY (에이전트는 core를 로드하지 않으므로 값을 그대로 둠)
+    static final String ACTIVE_PROPERTY = "suh-logger.agent.active";
+
+    // 삽입 코드가 호출하는 훅 클래스 (이 클래스가 보이는 클래스로더의 타입만 변환)
+    static final String RECORDER_RESOURCE = "kr/suhsaechan/suhlogger/agent/AgentRecorder.class";
+
+    // 삽입할 Advice 클래스 (클래스 리터럴을 쓰면 로드되므로 이름으로만 참조)
+    static final String ADVICE_CLASS = "kr.suhsaechan.suhlogger.javaagent.MethodAdvice";
+
+    static final String[] LOG_ANNOTATIONS = {
+        "kr.suhsaechan.suhlogger.annotation.LogCall",
+        "kr.suhsaechan.suhlogger.annotation.LogTime",
+        "kr.suhsaechan.suhlogger.annotation.LogMonitor"
+    };
+
+    private static final String LOG_PREFIX = "[suh-logger-agent] ";
+
+    private static boolean installed;
+
+    private SuhLoggerAgent() {
+    }
+
+    public static void premain(String agentArgs, Instrumentation instrumentation) {
+        install(agentArgs, instrumentation);
+    }
+
+    public static void agentmain(String agentArgs, Instrumentation instrumentation) {
+        install(agentArgs, instrumentation);
+    }
+
+    /**
+     * 에이전트 설치 (여러 번 호출되어도 한 번만 설치)
+     */
+    static synchronized void install(String agentArgs, Instrumentation instrumentation) {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        AgentOptions options = AgentOptions.parse(agentArgs);
+        System.setProperty(ACTIVE_PROPERTY, "true");
+
+        Advice advice = advice(ClassFileLocator.ForClassLoader.of(SuhLoggerAgent.class.getClassLoader()));
+
+        new AgentBuilder.Default()
+            .disableClassFormatChanges()
+            .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+            .with(new FailureListener(options.isDebug()))
+            .ignore(nameStartsWith("net.bytebuddy."))
+            .or(nameStartsWith("kr.suhsaechan.suhlogger."))
+            .or(nameStartsWith("java."))
+            .or(nameStartsWith("javax."))
+            .or(nameStartsWith("jdk."))
+            .or(nameStartsWith("sun."))
+            .or(nameStartsWith("com.sun."))
+            .or(nameContains("$$"))
+            .or(isSynthetic())
+            .type(typeMatcher(options), new RecorderVisibleLoaders())
+            .transform((builder, type, classLoader, module, protectionDomain) ->
+                builder.visit(advice.on(methodMatcher(type, options))))
+            .installOn(instrumentation);
+
+        if (options.isDebug()) {
+            System.err.println(LOG_PREFIX + "installed");
+        }
+    }
+
+    /**
+     * 삽입할 Advice 생성
+     * Advice 클래스는 로드하지 않고 TypePool로 바이트코드만 읽으며, 참조 타입(MethodSite 등)은 이름 이상이 필요할 때만 해석하므로
+     * locator가 core 타입을 볼 수 없어도 동작한다. (core는 Spring Boot 실행 jar처럼 에이전트와 다른 클래스로더에만 있을 수 있음)
+     */
+    static Advice advice(ClassFileLocator locator) {
+        TypeDescription advice = TypePool.Default.WithLazyResolution.of(locator).describe(ADVICE_CLASS).resolve();
+        return Advice.to(advice, locator);
+    }
+
+    /**
+     * 변환 대상 타입: 로깅 어노테이션이 붙은 메서드를 선언했거나 include 대상인 타입
+     */
+    static ElementMatcher<TypeDescription> typeMatcher(AgentOptions options) {
+        ElementMatcher.Junction<TypeDescription> annotated = declaresMethod(isAnnotatedWith(namedOneOf(LOG_ANNOTATIONS)));
+        if (!options.hasIncludes()) {
+            return annotated;
+        }
+        return annotated.or(type -> options.isIncluded(type.getName()));
+    }
+
+    /**
+     * 타입 안에서 코드를 삽입할 메서드
+     * - 로깅 어노테이션이 붙은 메서드 (가시성 무관)
+     * - 패키지/클래스로 지정된 타입이면 public 메서드
+     * - Type#method로 지정된 메서드
+     */
+    static ElementMatcher<MethodDescription> methodMatcher(TypeDescription type, AgentOptions options) {
+        ElementMatcher.Junction<MethodDescription> selected = isAnnotatedWith(namedOneOf(LOG_ANNOTATIONS));
+        if (options.includesAllPublicMethods(type.getName())) {
+            selected = selected.or(isPublic());
+        }
+        Set<String> methods = options.includedMethods(type.getName());
+        if (!methods.isEmpty()) {
+            selected = selected.or(namedOneOf(methods.toArray(new String[0])));
+        }
+        return isMethod()
+            .and(not(isAbstract()))
+            .and(not(isNative()))
+            .and(not(isSynthetic()))
+            .and(not(isBridge()))
+            .and(selected);
+    }
+
+    /**
+     * AgentRecorder를 볼 수 있는 클래스로더만 대상 (부트스트랩/플랫폼 로더, suh-logger가 없는 로더 제외)
+     * Spring Boot 실행 jar처럼 애플리케이션 클래스로더가 따로 있는 경우도 동작
+     */
+    static final class RecorderVisibleLoaders implements ElementMatcher<ClassLoader> {
+
+        private final Map<ClassLoader, Boolean> visible = new WeakHashMap<>();
+
+        @Override
+        public synchronized boolean matches(ClassLoader classLoader) {
+            if (classLoader == null) {
+                return false;
+            }
+            return visible.computeIfAbsent(classLoader, loader -> loader.getResource(RECORDER_RESOURCE) != null);
+        }
+    }
+
+    /**
+     * 변환 실패는 항상, 변환 성공은 debug일 때만 stderr로 출력 (로깅 프레임워크 초기화 전일 수 있음)
+     */
+    static final class FailureListener extends AgentBuilder.Listener.Adapter {
+
+        private final boolean debug;
+
+        FailureListener(boolean debug) {
+            this.debug = debug;
+        }
+
+        @Override
+        public void onTransformation(TypeDescription typeDescription, ClassLoader classLoader, JavaModule module,
+                                     boolean loaded, DynamicType dynamicType) {
+            if (debug) {
+                System.err.println(LOG_PREFIX + "woven " + typeDescription.getName());
+            }
+        }
+
+        @Override
+        public void onError(String typeName, ClassLoader classLoader, JavaModule module, boolean loaded,
+                            Throwable throwable) {
+            System.err.println(LOG_PREFIX + "failed to weave " + typeName + ": " + throwable);
+        }
+    }
+}
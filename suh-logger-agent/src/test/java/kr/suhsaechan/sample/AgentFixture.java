@@ -0,0 +1,38 @@
+package kr.suhsaechan.sample;
+
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogTime;
+
+/**
+ * 에이전트 삽입 검증용 클래스
+ *
+ * 에이전트는 kr.suhsaechan.suhlogger 패키지를 변환하지 않으므로 테스트 패키지 밖에 둔다.
+ * 프록시로는 기록되지 않는 private 메서드와 self-invocation만으로 호출되는 메서드를 가진다.
+ */
+public class AgentFixture {
+
+  /**
+   * 어노테이션 없는 진입점 (내부에서 audit, measure를 직접 호출)
+   */
+  public String process(String item) {
+    return audit(item) + ":" + measure(item.length());
+  }
+
+  @LogCall
+  public String audit(String item) {
+    return "audited-" + item;
+  }
+
+  @LogTime
+  private int measure(int length) {
+    return length * 2;
+  }
+
+  /**
+   * 기록이 꺼졌을 때 할당 여부 검증용 (원시 타입 인자/반환값은 기록할 때만 박싱되어야 함)
+   */
+  @LogCall
+  public long sum(long base, long offset) {
+    return base + offset;
+  }
+}
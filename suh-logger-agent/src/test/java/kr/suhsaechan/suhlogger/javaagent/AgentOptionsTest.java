@@ -0,0 +1,84 @@
+package kr.suhsaechan.suhlogger.javaagent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 에이전트 인자/시스템 프로퍼티 파싱 검증 테스트
+ */
+class AgentOptionsTest {
+
+  @AfterEach
+  void clearProperties() {
+    System.clearProperty(AgentOptions.INCLUDE_PROPERTY);
+    System.clearProperty(AgentOptions.DEBUG_PROPERTY);
+  }
+
+  @Test
+  void emptyArgumentsIncludeNothing() {
+    AgentOptions options = AgentOptions.parse(null);
+
+    assertFalse(options.hasIncludes());
+    assertFalse(options.isDebug());
+    assertFalse(options.isIncluded("com.example.OrderService"));
+  }
+
+  @Test
+  void packagePatternIncludesSubpackages() {
+    AgentOptions options = AgentOptions.parse("include=com.example.service.*");
+
+    assertTrue(options.includesAllPublicMethods("com.example.service.OrderService"));
+    assertTrue(options.includesAllPublicMethods("com.example.service.order.OrderReader"), "하위 패키지도 포함");
+    assertFalse(options.includesAllPublicMethods("com.example.servicex.OrderService"), "이름이 이어지는 다른 패키지는 제외");
+    assertFalse(options.includesAllPublicMethods("com.example.OrderService"));
+  }
+
+  @Test
+  void classPatternIncludesOnlyThatType() {
+    AgentOptions options = AgentOptions.parse("include=com.example.OrderService");
+
+    assertTrue(options.includesAllPublicMethods("com.example.OrderService"));
+    assertFalse(options.includesAllPublicMethods("com.example.OrderServiceImpl"));
+    assertTrue(options.includedMethods("com.example.OrderService").isEmpty());
+  }
+
+  @Test
+  void methodPatternIncludesOnlyNamedMethods() {
+    AgentOptions options = AgentOptions.parse("include=com.example.OrderClient#send, com.example.OrderClient#retry");
+
+    assertTrue(options.isIncluded("com.example.OrderClient"));
+    assertFalse(options.includesAllPublicMethods("com.example.OrderClient"), "메서드 지정은 public 메서드 전체가 아님");
+    assertEquals(Set.of("send", "retry"), options.includedMethods("com.example.OrderClient"));
+  }
+
+  @Test
+  void incompleteMethodPatternIsTreatedAsClassName() {
+    AgentOptions options = AgentOptions.parse("include=com.example.OrderClient#");
+
+    assertTrue(options.includedMethods("com.example.OrderClient").isEmpty());
+    assertTrue(options.includesAllPublicMethods("com.example.OrderClient#"));
+  }
+
+  @Test
+  void argumentsAndSystemPropertiesAreMerged() {
+    System.setProperty(AgentOptions.INCLUDE_PROPERTY, "com.example.batch.*");
+
+    AgentOptions options = AgentOptions.parse(" include = com.example.OrderService ,, ; debug ");
+
+    assertTrue(options.includesAllPublicMethods("com.example.batch.SettleJob"), "시스템 프로퍼티 include도 반영");
+    assertTrue(options.includesAllPublicMethods("com.example.OrderService"), "공백/빈 항목은 무시");
+    assertTrue(options.isDebug(), "값 없는 debug는 true");
+  }
+
+  @Test
+  void debugFollowsExplicitValue() {
+    System.setProperty(AgentOptions.DEBUG_PROPERTY, "true");
+
+    assertFalse(AgentOptions.parse("debug=false").isDebug(), "에이전트 인자가 시스템 프로퍼티보다 우선");
+    assertTrue(AgentOptions.parse("include=com.example.*").isDebug());
+  }
+}
@@ -0,0 +1,126 @@
+package kr.suhsaechan.suhlogger.javaagent;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.suhsaechan.sample.AgentFixture;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 에이전트 설치 후 실제 삽입 코드 동작 검증 (테스트 JVM에 ByteBuddyAgent로 런타임 설치)
+ */
+class SuhLoggerAgentTest {
+
+  private static final String FIXTURE = "kr.suhsaechan.sample.AgentFixture";
+  private static final String RECORDER = "kr/suhsaechan/suhlogger/agent/AgentRecorder";
+
+  private static Instrumentation instrumentation;
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeAll
+  static void installAgent() {
+    instrumentation = ByteBuddyAgent.install();
+    SuhLoggerAgent.install(null, instrumentation);
+  }
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void privateAndSelfInvokedMethodsAreWoven() {
+    assertEquals("audited-book:8", new AgentFixture().process("book"));
+
+    String output = String.join("\n", appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+    assertTrue(output.contains("[AgentFixture.audit] CALL"), "self-invocation된 @LogCall 메서드도 기록되어야 함: " + output);
+    assertTrue(output.contains("[AgentFixture.audit] RESULT"), output);
+    assertTrue(output.contains("[TIME]: AgentFixture.measure : "), "private @LogTime 메서드도 기록되어야 함: " + output);
+    assertFalse(output.contains("AgentFixture.process"), "어노테이션/include 대상이 아닌 메서드는 기록하지 않음: " + output);
+  }
+
+  @Test
+  void adviceClassIsNeverLoaded() {
+    new AgentFixture().process("pen");
+
+    assertTrue(Arrays.stream(instrumentation.getAllLoadedClasses())
+            .noneMatch(type -> type.getName().equals(SuhLoggerAgent.ADVICE_CLASS)),
+        "Advice는 TypePool로 바이트코드만 읽고 로드하지 않아야 함");
+  }
+
+  @Test
+  void adviceResolvesWithoutCoreTypesOnLocator() throws Exception {
+    // Advice 바이트코드와 JDK 타입만 제공하는 locator (core 타입은 보이지 않음)
+    ClassFileLocator testClasses = ClassFileLocator.ForClassLoader.of(getClass().getClassLoader());
+    byte[] adviceBytes = testClasses.locate(SuhLoggerAgent.ADVICE_CLASS).resolve();
+    ClassFileLocator withoutCore = new ClassFileLocator.Compound(
+        ClassFileLocator.Simple.of(SuhLoggerAgent.ADVICE_CLASS, adviceBytes),
+        ClassFileLocator.ForClassLoader.of(ClassLoader.getPlatformClassLoader()));
+    assertFalse(withoutCore.locate(RECORDER.replace('/', '.')).isResolved(), "core 타입이 보이면 검증이 무의미함");
+    Advice advice = SuhLoggerAgent.advice(withoutCore);
+
+    TypeDescription fixture = TypePool.Default.of(testClasses).describe(FIXTURE).resolve();
+    byte[] woven = new ByteBuddy()
+        .redefine(fixture, testClasses)
+        .visit(advice.on(SuhLoggerAgent.methodMatcher(fixture, AgentOptions.parse(null))))
+        .make()
+        .getBytes();
+
+    assertTrue(new String(woven, StandardCharsets.ISO_8859_1).contains(RECORDER), "삽입 코드가 AgentRecorder 훅을 호출해야 함");
+  }
+
+  @Test
+  void disabledCallsDoNotAllocate() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "스레드별 할당량 측정 미지원 JVM");
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().enabled(false).build());
+    AgentFixture fixture = new AgentFixture();
+    long total = 0;
+    for (int i = 0; i < 20_000; i++) {
+      total += fixture.sum(100_000L, i);
+    }
+
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < 100_000; i++) {
+      total += fixture.sum(100_000L, i);
+    }
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+    assertTrue(total > 0);
+    assertTrue(appender.list.isEmpty(), "전체 스위치가 꺼지면 기록하지 않음");
+    // 호출마다 인자 배열이나 박싱이 생기면 수 MB가 할당됨 (측정 자체의 할당만 허용)
+    assertTrue(allocated < 64 * 1024, "기록하지 않는 호출은 할당하지 않아야 함: " + allocated + " bytes");
+  }
+}
@@ -0,0 +1,148 @@
+package kr.suhsaechan.suhlogger.agent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kr.suhsaechan.suhlogger.aspect.MethodInvocationLogger;
+import kr.suhsaechan.suhlogger.aspect.MethodLogDescriptor;
+import kr.suhsaechan.suhlogger.aspect.MethodLogToggle;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+
+/**
+ * Java 에이전트(suh-logger-agent)가 삽입한 코드가 호출하는 정적 기록 훅
+ *
+ * 삽입 코드 흐름:
+ * <pre>
+ * site  = AgentRecorder.site(Type.class, "method(desc)ret");   // 상수 인자, 캐시 조회
+ * flags = AgentRecorder.enter(site);                            // 0이면 아무것도 하지 않음
+ * if ((flags &amp; CALL) != 0) captured = AgentRecorder.call(site, args);   // 인자 배열은 이때만 생성
+ * start = System.nanoTime();
+ * ... 원래 메서드 ...
+ * if (flags != 0) AgentRecorder.exit(site, flags, start, result, thrown, captured);
+ * </pre>
+ * @LogCall(mode = ON_ERROR) 메서드는 call에서 로깅 없이 인자만 보관하고, 예외가 발생했을 때 exit에서 함께 출력한다.
+ * 로깅하지 않는 호출(설정 off, 토글 off, 샘플링 제외)은 객체를 할당하지 않는다.
+ * 출력은 애스펙트와 같은 MethodInvocationLogger를 사용한다.
+ *
+ * 훅에서 발생한 예외는 삽입 코드가 삼키므로 원래 메서드 동작에 영향을 주지 않는다.
+ */
+public final class AgentRecorder {
+
+    /**
+     * 에이전트가 설치되면 true로 설정되는 시스템 프로퍼티 (Spring Environment에서도 보이므로 애스펙트 등록 조건으로 사용)
+     */
+    public static final String ACTIVE_PROPERTY = "suh-logger.agent.active";
+
+    public static final int CALL = 1;
+    public static final int TIME = 1 << 1;
+
+    // 클래스별 시그니처 → 메서드 정보 (클래스 언로드 시 함께 해제)
+    private static final ClassValue<Map<String, MethodSite>> SITES = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodSite> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private AgentRecorder() {
+    }
+
+    /**
+     * 에이전트 설치 여부
+     */
+    public static boolean isActive() {
+        return Boolean.getBoolean(ACTIVE_PROPERTY);
+    }
+
+    /**
+     * 삽입된 메서드 정보 조회 (최초 호출 시 리플렉션으로 해석 후 캐시)
+     * @param type 메서드를 선언한 클래스
+     * @param signature 메서드명 + JVM 디스크립터 (삽입 시점에 상수로 박힘)
+     */
+    public static MethodSite site(Class<?> type, String signature) {
+        Map<String, MethodSite> sites = SITES.get(type);
+        MethodSite site = sites.get(signature);
+        if (site == null) {
+            site = sites.computeIfAbsent(signature, key -> MethodSite.resolve(type, key));
+        }
+        return site;
+    }
+
+    /**
+     * 이번 호출에서 기록할 항목 결정 (전역 스위치 + 메서드별 토글/샘플링)
+     * @return CALL/TIME 비트 조합, 기록하지 않으면 0
+     */
+    public static int enter(MethodSite site) {
+        MethodLogDescriptor descriptor = site.getDescriptor();
+        if (descriptor == null) {
+            return 0;
+        }
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+        int flags = 0;
+        if (site.can(CALL) && settings.isMethodLoggingEnabled()) {
+            flags |= CALL;
+        }
+        if (site.can(TIME) && settings.isTimingEnabled()) {
+            flags |= TIME;
+        }
+        if (flags == 0 || !descriptor.getToggle().shouldLog()) {
+            return 0;
+        }
+        return flags;
+    }
+
+    /**
+     * 호출 로그 (enter가 CALL을 반환한 경우만)
+     * @return ON_ERROR 모드면 예외 시 출력할 인자 (exit에 그대로 전달), 그 외에는 null
+     */
+    public static Object[] call(MethodSite site, Object[] args) {
+        MethodLogDescriptor descriptor = site.getDescriptor();
+        if (descriptor.isOnError()) {
+            return MethodInvocationLogger.captureArguments(descriptor, SuhLoggerSettings.current(), args);
+        }
+        MethodInvocationLogger.logCall(descriptor, descriptor.getToggle(), SuhLoggerSettings.current(),
+            site.getParameterNames(), args);
+        return null;
+    }
+
+    /**
+     * 결과/예외 및 실행 시간 로그
+     * @param result 반환값 (void 메서드나 예외 발생 시 null)
+     * @param thrown 발생한 예외 (정상 종료 시 null)
+     */
+    public static void exit(MethodSite site, int flags, long startNanos, Object result, Throwable thrown) {
+        exit(site, flags, startNanos, result, thrown, null);
+    }
+
+    /**
+     * 결과/예외 및 실행 시간 로그
+     * @param result 반환값 (void 메서드나 예외 발생 시 null)
+     * @param thrown 발생한 예외 (정상 종료 시 null)
+     * @param captured call이 반환한 인자 (ON_ERROR 모드가 아니면 null)
+     */
+    public static void exit(MethodSite site, int flags, long startNanos, Object result, Throwable thrown,
+                            Object[] captured) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        MethodLogDescriptor descriptor = site.getDescriptor();
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+
+        if ((flags & CALL) != 0) {
+            MethodLogToggle toggle = descriptor.getToggle();
+            if (descriptor.isOnError()) {
+                // 정상 종료 시 아무것도 출력하지 않음
+                if (thrown instanceof Exception) {
+                    MethodInvocationLogger.logError(descriptor, toggle, settings, site.getParameterNames(), captured,
+                        (Exception) thrown);
+                }
+            } else if (thrown == null) {
+                MethodInvocationLogger.logResult(descriptor, toggle, settings, result);
+            } else if (thrown instanceof Exception) {
+                // 애스펙트와 동일하게 Exception만 기록 (Error는 그대로 전파)
+                MethodInvocationLogger.logError(descriptor, settings, (Exception) thrown);
+            }
+        }
+        if ((flags & TIME) != 0) {
+            MethodInvocationLogger.logTime(descriptor, elapsedNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.suhsaechan.suhlogger.agent;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.annotation.LogTime;
+import kr.suhsaechan.suhlogger.aspect.MethodLogDescriptor;
+import kr.suhsaechan.suhlogger.aspect.MethodLogRegistry;
+
+/**
+ * 에이전트가 코드를 삽입한 메서드 하나의 정보 (최초 호출 시 한 번만 해석)
+ *
+ * 디스크립터는 애스펙트와 같은 MethodLogRegistry에서 가져오므로 런타임 토글(actuator, JMX)이 그대로 적용된다.
+ * - @LogCall: 호출 로그, @LogTime: 실행 시간, @LogMonitor: 둘 다
+ * - 어노테이션 없이 설정(include)으로 선택된 메서드: 실행 시간만
+ */
+public final class MethodSite {
+
+    /**
+     * 메서드를 찾지 못한 경우 (아무것도 기록하지 않음)
+     */
+    static final MethodSite UNRESOLVED = new MethodSite(null, null, 0);
+
+    private final MethodLogDescriptor descriptor;
+    private final String[] parameterNames;
+    private final int capabilities;
+
+    private MethodSite(MethodLogDescriptor descriptor, String[] parameterNames, int capabilities) {
+        this.descriptor = descriptor;
+        this.parameterNames = parameterNames;
+        this.capabilities = capabilities;
+    }
+
+    /**
+     * 클래스와 "메서드명(파라미터)반환" 형식의 JVM 시그니처로 메서드 조회
+     * @param signature 예: place(Ljava/lang/String;J)Lcom/example/Order;
+     */
+    static MethodSite resolve(Class<?> type, String signature) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (signature.equals(signatureOf(method))) {
+                return of(method);
+            }
+        }
+        return UNRESOLVED;
+    }
+
+    static MethodSite of(Method method) {
+        boolean logCall = method.isAnnotationPresent(LogCall.class);
+        boolean logTime = method.isAnnotationPresent(LogTime.class);
+        boolean logMonitor = method.isAnnotationPresent(LogMonitor.class);
+
+        int capabilities = 0;
+        if (logCall || logMonitor) {
+            capabilities |= AgentRecorder.CALL;
+        }
+        if (logTime || logMonitor || capabilities == 0) {
+            capabilities |= AgentRecorder.TIME;
+        }
+
+        Parameter[] parameters = method.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return new MethodSite(MethodLogRegistry.descriptor(method), names, capabilities);
+    }
+
+    static String signatureOf(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.append(parameterType.descriptorString());
+        }
+        return signature.append(')').append(method.getReturnType().descriptorString()).toString();
+    }
+
+    public MethodLogDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * 파라미터 이름 (-parameters 없이 컴파일된 클래스는 arg0, arg1 ...)
+     */
+    public String[] getParameterNames() {
+        return parameterNames;
+    }
+
+    boolean can(int capability) {
+        return (capabilities & capability) != 0;
+    }
+}
@@ -0,0 +1,29 @@
+package kr.suhsaechan.suhlogger.annotation;
+
+/**
+ * 호출 로그 출력 시점
+ * - ALWAYS: 호출/결과를 항상 출력 (기본값, 기존 동작)
+ * - ON_ERROR: 정상 종료 시 아무것도 출력하지 않고, 예외가 발생했을 때만 예외와 함께 인자를 출력
+ *
+ * ON_ERROR에서는 호출 전에 인자를 직렬화하지 않고 참조만 보관하므로 정상 경로 비용이 거의 없다.
+ * 메서드가 인자를 변경한다면 @LogCall(snapshot = true)로 호출 시점의 얕은 복사본을 보관할 수 있다.
+ *
+ * 사용 예시:
+ * <pre>
+ * import static kr.suhsaechan.suhlogger.annotation.CallLogMode.*;
+ *
+ * &#64;LogCall(mode = ON_ERROR)
+ * public void settle(Order order) {}
+ * </pre>
+ */
+public enum CallLogMode {
+    /**
+     * 호출/결과를 항상 출력 (기본값)
+     */
+    ALWAYS,
+
+    /**
+     * 예외가 발생했을 때만 예외와 인자를 출력
+     */
+    ON_ERROR
+}
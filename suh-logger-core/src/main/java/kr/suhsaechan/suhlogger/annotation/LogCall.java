@@ -27,6 +27,14 @@ import java.lang.annotation.Target;
  * // 마스킹 강제 + 추가 필드
  * &#64;LogCall(mask = ON, maskFields = {"ssn", "creditCard"})
  * public void sensitiveData() {}
+ *
+ * // 큰 결과는 내용 대신 타입/크기/해시만 출력
+ * &#64;LogCall(digest = ON)
+ * public List&lt;OrderDto&gt; exportAll() {}
+ *
+ * // 예외가 발생했을 때만 인자 출력 (인자를 변경하는 메서드는 호출 시점 복사본 사용)
+ * &#64;LogCall(mode = CallLogMode.ON_ERROR, snapshot = true)
+ * public void settle(Order order) {}
  * </pre>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -70,4 +78,26 @@ public @interface LogCall {
      * 예: maskFields = {"password", "ssn"}
      */
     String[] maskFields() default {};
+
+    /**
+     * 페이로드 다이제스트 제어 (파라미터/결과를 내용 대신 타입·크기·XXH64 해시로 출력)
+     * - DEFAULT: 전역 설정(suh-logger.digest.mode) 따름
+     * - ON: 항상 다이제스트 출력
+     * - OFF: 항상 내용 출력
+     */
+    TriState digest() default TriState.DEFAULT;
+
+    /**
+     * 호출 로그 출력 시점 (기본값: ALWAYS)
+     * - ALWAYS: 호출/결과를 항상 로깅
+     * - ON_ERROR: 인자는 참조만 보관하고, 예외가 발생했을 때만 예외와 함께 직렬화/마스킹하여 로깅
+     */
+    CallLogMode mode() default CallLogMode.ALWAYS;
+
+    /**
+     * ON_ERROR 모드에서 호출 시점 인자의 얕은 복사본 보관 여부 (기본값: false)
+     * 메서드가 인자(컬렉션, DTO 필드 등)를 변경해도 호출 당시 값이 출력된다.
+     * 컬렉션/맵/배열은 요소 참조를, 그 외 객체는 필드 값을 한 단계만 복사한다.
+     */
+    boolean snapshot() default false;
 }
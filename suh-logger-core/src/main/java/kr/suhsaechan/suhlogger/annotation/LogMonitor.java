@@ -27,6 +27,10 @@ import java.lang.annotation.Target;
  * // 마스킹 강제 + 추가 필드
  * &#64;LogMonitor(mask = ON, maskFields = {"ssn", "creditCard"})
  * public void sensitiveData() {}
+ *
+ * // 큰 결과는 내용 대신 타입/크기/해시만 출력
+ * &#64;LogMonitor(digest = ON)
+ * public List&lt;OrderDto&gt; exportAll() {}
  * </pre>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -70,4 +74,12 @@ public @interface LogMonitor {
      * 예: maskFields = {"password", "ssn"}
      */
     String[] maskFields() default {};
+
+    /**
+     * 페이로드 다이제스트 제어 (파라미터/결과를 내용 대신 타입·크기·XXH64 해시로 출력)
+     * - DEFAULT: 전역 설정(suh-logger.digest.mode) 따름
+     * - ON: 항상 다이제스트 출력
+     * - OFF: 항상 내용 출력
+     */
+    TriState digest() default TriState.DEFAULT;
 }
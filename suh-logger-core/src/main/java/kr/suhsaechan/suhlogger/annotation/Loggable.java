@@ -0,0 +1,36 @@
+package kr.suhsaechan.suhlogger.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그 출력용 직렬화기를 컴파일 시점에 생성할 DTO 표시
+ *
+ * suh-logger-processor를 annotationProcessor로 추가하면 같은 패키지에 {@code <클래스명>_SuhLogSerializer}가 생성되고
+ * ServiceLoader로 등록되어 SuhLogger.superLog / CommonUtil.createSafeMap이 리플렉션 없이 사용한다.
+ *
+ * 사용 예시:
+ * <pre>
+ * &#64;Loggable(maskFields = {"cardNumber"})
+ * public class PaymentRequest {
+ *     private String orderId;
+ *     private String cardNumber;   // 항상 마스킹 (값을 읽지도 않음)
+ *     ...
+ * }
+ * </pre>
+ *
+ * - 출력 대상: static이 아닌 선언 필드 (레코드는 컴포넌트)
+ * - private 필드는 getter(getX/isX) 또는 레코드 접근자로 읽고, 접근 방법이 없으면 생성 시 경고 후 제외
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Loggable {
+
+    /**
+     * 컴파일 시점에 마스킹을 확정할 필드 키워드 (필드명에 포함되면 마스킹, 대소문자 무시)
+     * 전역 설정(suh-logger.masking.mask-fields)은 실행 시점에 추가로 적용됨
+     */
+    String[] maskFields() default {};
+}
@@ -0,0 +1,103 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.extractor.LazyEntitySupport;
+import kr.suhsaechan.suhlogger.extractor.TypeExtractors;
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializers;
+import kr.suhsaechan.suhlogger.serializer.PlainDtoTypes;
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * 호출 시점 인자의 얕은 복사본 (@LogCall(mode = ON_ERROR, snapshot = true))
+ *
+ * 메서드가 인자를 변경해도 예외 로그에는 호출 당시 값이 남도록 한 단계만 복사한다.
+ * - 배열/컬렉션/맵: 새 컨테이너에 요소 참조 복사
+ * - 일반 DTO(엔티티 포함): 필드명 → 필드 값 맵 (필드 값 자체는 참조)
+ * - 그 외에는 참조 그대로 보관하여 직렬화 시점에 타입별 처리를 그대로 받는다
+ *   (제외 클래스, TypeExtractor 대상(MultipartFile, JTS), @Loggable 생성 직렬화기와 마스킹,
+ *   스트림/서블릿 등 일반 DTO가 아닌 타입, JDK 타입, enum, record, 초기화되지 않은 지연 로딩 프록시/컬렉션)
+ */
+final class ArgumentSnapshot {
+
+    private ArgumentSnapshot() {
+    }
+
+    /**
+     * 인자 배열 전체의 얕은 복사본
+     * @param excludedClasses 직렬화에서 제외할 클래스 목록 (복사하지 않음, null 허용)
+     */
+    static Object[] of(Object[] args, List<String> excludedClasses) {
+        if (args == null) {
+            return null;
+        }
+        Object[] snapshot = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            snapshot[i] = copy(args[i], excludedClasses);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 인자 하나의 얕은 복사본
+     * @param excludedClasses 직렬화에서 제외할 클래스 목록 (복사하지 않음, null 허용)
+     */
+    static Object copy(Object value, List<String> excludedClasses) {
+        if (value == null || LazyEntitySupport.lazyPlaceholder(value) != null
+            || CommonUtil.isExcludedClass(value, excludedClasses)) {
+            return value;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(type.getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Collection) {
+            return new ArrayList<>((Collection<?>) value);
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        if (!isCopiedAsFields(type)) {
+            return value;
+        }
+        if (LazyEntitySupport.isEntity(value)) {
+            Object entity = LazyEntitySupport.unproxy(value);
+            return copyFields(entity, LazyEntitySupport.fields(entity.getClass()));
+        }
+        return copyFields(value, PlainDtoTypes.fields(type));
+    }
+
+    /**
+     * 필드 맵으로 복사할 타입 (직렬화 엔진이 타입별로 따로 처리하는 타입은 제외)
+     */
+    private static boolean isCopiedAsFields(Class<?> type) {
+        return !type.isRecord()
+            && PlainDtoTypes.isPlainDto(type)
+            && GeneratedLogSerializers.find(type) == null
+            && TypeExtractors.find(type) == null;
+    }
+
+    private static Object copyFields(Object value, List<Field> fields) {
+        if (fields.isEmpty()) {
+            return value;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>();
+        try {
+            for (Field field : fields) {
+                copy.put(field.getName(), field.get(value));
+            }
+        } catch (IllegalAccessException e) {
+            return value;
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,37 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.util.Collections;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+
+/**
+ * 메서드 호출 로그에 실행 환경 정보를 더하는 확장 지점
+ *
+ * core 모듈은 웹 환경을 모르므로, HTTP 요청 정보와 결과 객체 변환(ResponseEntity 등)은
+ * spring-boot-autoconfigure 모듈이 구현체를 MethodInvocationLogger에 등록해 제공한다.
+ */
+public interface InvocationContextProvider {
+
+    /**
+     * 아무 정보도 더하지 않는 기본 구현
+     */
+    InvocationContextProvider NONE = new InvocationContextProvider() {
+    };
+
+    /**
+     * 현재 스레드에서 처리 중인 요청 정보 (method, URI, headers, requestId 등)
+     * @return 요청이 없으면 빈 맵
+     */
+    default Map<String, Object> requestInfo(SuhLoggerSettings settings) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * 결과 객체를 로그 출력용으로 변환
+     * @return 그대로 출력하면 result 자체
+     */
+    default Object resultView(Object result, SuhLoggerSettings settings) {
+        return result;
+    }
+}
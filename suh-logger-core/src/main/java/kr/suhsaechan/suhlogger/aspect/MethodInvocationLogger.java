@@ -0,0 +1,254 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.annotation.TriState;
+import kr.suhsaechan.suhlogger.config.DigestMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.masking.KeywordMatcher;
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+import kr.suhsaechan.suhlogger.util.RequestLogContext;
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+
+/**
+ * 메서드 호출/실행 시간 로그 출력 (AOP 애스펙트와 Java 에이전트 공용)
+ *
+ * 프록시 기반(@Aspect)이든 바이트코드 삽입(-javaagent)이든 같은 형식으로 출력하도록 한곳에 모아 둔다.
+ * 웹 환경에 의존하는 정보는 등록된 InvocationContextProvider에 위임한다.
+ */
+public final class MethodInvocationLogger {
+
+    private static volatile InvocationContextProvider contextProvider = InvocationContextProvider.NONE;
+
+    private MethodInvocationLogger() {
+    }
+
+    /**
+     * 실행 환경 정보 제공자 등록
+     * @param provider 제공자 (null이면 정보를 더하지 않음)
+     */
+    public static void setContextProvider(InvocationContextProvider provider) {
+        contextProvider = (provider != null) ? provider : InvocationContextProvider.NONE;
+    }
+
+    public static InvocationContextProvider getContextProvider() {
+        return contextProvider;
+    }
+
+    /**
+     * 호출 로그 (CALL, 파라미터, HTTP 요청 정보)
+     * @param parameterNames 파라미터 이름 (null이면 파라미터 로그 생략)
+     * @param args 인자 값
+     */
+    public static void logCall(MethodLogDescriptor descriptor, MethodLogToggle toggle, SuhLoggerSettings settings,
+                               String[] parameterNames, Object[] args) {
+        String fullMethodName = descriptor.getName();
+
+        // 어노테이션 옵션 확인 (토글은 끄는 방향으로만 적용)
+        boolean shouldLogParams = descriptor.isLogParams() && toggle.isParams();
+        boolean shouldLogHeaders = shouldLogHeaders(descriptor, settings);
+
+        // 메서드 호출 전 로깅
+        SuhLogger.lineLog("[" + fullMethodName + "] CALL");
+
+        // 요청 로그 예산이 소진되었으면 CALL 한 줄만 남기고 파라미터/헤더는 생략
+        if (RequestLogContext.isBudgetExhausted()) {
+            return;
+        }
+
+        // 파라미터 로깅 (params = true 인 경우만)
+        if (shouldLogParams) {
+            Map<String, Object> parameterMap = maskedParameterMap(descriptor, settings, parameterNames, args);
+            if (!parameterMap.isEmpty()) {
+                SuhLogger.lineLog("CALL PARAMETER");
+                SuhLogger.superLog(parameterMap, false, digestMode(descriptor, settings),
+                    fullMethodName + "#params");
+            }
+        }
+
+        // HTTP 정보 로깅 (header = ON 또는 전역 설정 true 인 경우)
+        if (shouldLogHeaders) {
+            Map<String, Object> httpInfo = contextProvider.requestInfo(settings);
+            if (!httpInfo.isEmpty()) {
+                SuhLogger.lineLog("HTTP REQUEST INFO");
+                SuhLogger.superLog(httpInfo, false);
+            }
+        }
+    }
+
+    /**
+     * 결과 로그 (result = true 인 경우만)
+     */
+    public static void logResult(MethodLogDescriptor descriptor, MethodLogToggle toggle, SuhLoggerSettings settings,
+                                 Object result) {
+        if (!descriptor.isLogResult() || !toggle.isResult()) {
+            return;
+        }
+        SuhLogger.lineLog("[" + descriptor.getName() + "] RESULT");
+        if (result != null && !RequestLogContext.isBudgetExhausted()) {
+            logResultSafely(descriptor, result, settings);
+        }
+    }
+
+    /**
+     * 예외 로그 (같은 지문의 반복 예외는 윈도우 동안 개수만 집계 후 요약 출력)
+     */
+    public static void logError(MethodLogDescriptor descriptor, SuhLoggerSettings settings, Exception e) {
+        String fullMethodName = descriptor.getName();
+        if (settings.getExceptionSuppressor().shouldLog(fullMethodName, e)) {
+            SuhLogger.lineLogError("[ERROR][X]" + fullMethodName + " 예외 발생");
+            SuhLogger.error("Exception Type: " + e.getClass().getSimpleName());
+            SuhLogger.error("Exception Message: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ON_ERROR 모드에서 예외 시 출력할 인자 보관
+     * 기본은 인자 배열 참조만 보관하고 (직렬화 없음), snapshot = true이면 호출 시점의 얕은 복사본을 만든다.
+     * 제외 클래스는 복사하지 않고 참조로 보관한다 (직렬화 시 제외 처리를 그대로 받도록).
+     */
+    public static Object[] captureArguments(MethodLogDescriptor descriptor, SuhLoggerSettings settings,
+                                            Object[] args) {
+        return descriptor.isSnapshot() ? ArgumentSnapshot.of(args, settings.getExcludedClasses()) : args;
+    }
+
+    /**
+     * 예외 로그 + 보관해 둔 인자 (ON_ERROR 모드)
+     * 정상 경로에서 미뤄 둔 직렬화/마스킹을 예외가 로깅될 때만 수행한다.
+     * @param parameterNames 파라미터 이름 (null이면 파라미터 로그 생략)
+     * @param capturedArgs captureArguments로 보관한 인자
+     */
+    public static void logError(MethodLogDescriptor descriptor, MethodLogToggle toggle, SuhLoggerSettings settings,
+                                String[] parameterNames, Object[] capturedArgs, Exception e) {
+        String fullMethodName = descriptor.getName();
+        if (!settings.getExceptionSuppressor().shouldLog(fullMethodName, e)) {
+            return;
+        }
+        SuhLogger.lineLogError("[ERROR][X]" + fullMethodName + " 예외 발생");
+        SuhLogger.error("Exception Type: " + e.getClass().getSimpleName());
+        SuhLogger.error("Exception Message: " + e.getMessage());
+
+        if (!descriptor.isLogParams() || !toggle.isParams() || RequestLogContext.isBudgetExhausted()) {
+            return;
+        }
+        try {
+            Map<String, Object> parameterMap = maskedParameterMap(descriptor, settings, parameterNames, capturedArgs);
+            if (!parameterMap.isEmpty()) {
+                SuhLogger.lineLogError("CALL PARAMETER");
+                SuhLogger.superLogError(parameterMap, false);
+            }
+        } catch (Exception loggingError) {
+            // 인자 로깅 실패가 원래 예외 전파를 방해하지 않도록 함
+            SuhLogger.warn("파라미터 로깅 중 에러 발생: " + loggingError.getMessage());
+        }
+    }
+
+    /**
+     * 실행 시간 로그
+     */
+    public static void logTime(MethodLogDescriptor descriptor, long executionTimeMillis) {
+        SuhLogger.lineLog("[TIME]: " + descriptor.getName() + " : " + executionTimeMillis + " ms");
+    }
+
+    /**
+     * 결과 객체를 안전하게 로깅 (로깅 중 에러가 발생해도 원본 결과에는 영향을 주지 않음)
+     */
+    private static void logResultSafely(MethodLogDescriptor descriptor, Object result, SuhLoggerSettings settings) {
+        try {
+            SuhLogger.superLog(contextProvider.resultView(result, settings), false, digestMode(descriptor, settings),
+                descriptor.getName() + "#result");
+        } catch (Exception e) {
+            SuhLogger.warn("결과 로깅 중 에러 발생: " + e.getMessage());
+            SuhLogger.info("결과 타입: " + result.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * 헤더 출력 여부를 결정하는 메서드
+     * - ON: 헤더 출력
+     * - OFF: 헤더 출력 안함
+     * - DEFAULT: 전역 설정(properties.header.enabled)에 따라 결정
+     */
+    private static boolean shouldLogHeaders(MethodLogDescriptor descriptor, SuhLoggerSettings settings) {
+        TriState headerState = descriptor.getHeader();
+        if (headerState == TriState.ON) {
+            return true;
+        } else if (headerState == TriState.OFF) {
+            return false;
+        }
+        // DEFAULT이거나 어노테이션이 없으면 전역 설정 사용
+        return settings.isHeaderEnabled();
+    }
+
+    /**
+     * 마스킹 활성화 여부를 결정하는 메서드
+     * - ON: 마스킹 활성화
+     * - OFF: 마스킹 비활성화
+     * - DEFAULT: 전역 설정(properties.masking.enabled)에 따라 결정
+     */
+    private static boolean shouldMask(MethodLogDescriptor descriptor, SuhLoggerSettings settings) {
+        TriState maskState = descriptor.getMask();
+        if (maskState == TriState.ON) {
+            return true;
+        } else if (maskState == TriState.OFF) {
+            return false;
+        }
+        // DEFAULT이거나 어노테이션이 없으면 전역 설정 사용
+        return settings.isMaskingEnabled();
+    }
+
+    /**
+     * 페이로드 다이제스트 모드를 결정하는 메서드
+     * - ON: 항상 다이제스트
+     * - OFF: 항상 내용 출력
+     * - DEFAULT: 전역 설정(properties.digest.mode)에 따라 결정
+     */
+    private static DigestMode digestMode(MethodLogDescriptor descriptor, SuhLoggerSettings settings) {
+        TriState digestState = descriptor.getDigest();
+        if (digestState == TriState.ON) {
+            return DigestMode.ALWAYS;
+        } else if (digestState == TriState.OFF) {
+            return DigestMode.OFF;
+        }
+        return settings.getDigestMode();
+    }
+
+    /**
+     * 마스킹할 필드 매처 수집 (전역 설정 + 어노테이션 병합)
+     * 어노테이션에 추가 필드가 없으면 스냅샷의 컴파일된 매처를 그대로 사용
+     */
+    private static KeywordMatcher collectMaskFields(MethodLogDescriptor descriptor, SuhLoggerSettings settings) {
+        KeywordMatcher matcher = settings.getMaskFieldMatcher();
+        if (descriptor.getMaskFields().length > 0) {
+            matcher = matcher.with(descriptor.getMaskFields());
+        }
+        return matcher;
+    }
+
+    /**
+     * 파라미터 맵 생성 후 마스킹 적용 (mask 옵션/전역 설정에 따라)
+     */
+    private static Map<String, Object> maskedParameterMap(MethodLogDescriptor descriptor, SuhLoggerSettings settings,
+                                                          String[] parameterNames, Object[] args) {
+        Map<String, Object> parameterMap = toParameterMap(parameterNames, args);
+        if (shouldMask(descriptor, settings)) {
+            KeywordMatcher maskFields = collectMaskFields(descriptor, settings);
+            parameterMap = CommonUtil.maskParameters(parameterMap, maskFields, settings.getMaskValue());
+        }
+        return parameterMap;
+    }
+
+    /**
+     * 파라미터 이름과 값을 맵으로 변환
+     */
+    private static Map<String, Object> toParameterMap(String[] parameterNames, Object[] args) {
+        Map<String, Object> params = new HashMap<>();
+        if (parameterNames != null && args != null) {
+            for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+                params.put(parameterNames[i], args[i]);
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,155 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import kr.suhsaechan.suhlogger.annotation.CallLogMode;
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.annotation.TriState;
+
+/**
+ * 메서드별 로깅 디스크립터
+ *
+ * 어노테이션(@LogCall/@LogMonitor) 옵션과 로그용 메서드명을 최초 호출 시 한 번만 해석해 보관한다.
+ * 런타임 토글은 volatile 필드 하나로 보관되어, 호출마다 필드 읽기 한 번으로 확인한다.
+ */
+public final class MethodLogDescriptor {
+
+    private final String name;
+    private final String qualifiedName;
+
+    private final boolean logParams;
+    private final boolean logResult;
+    private final TriState header;
+    private final TriState mask;
+    private final String[] maskFields;
+    private final TriState digest;
+    private final CallLogMode mode;
+    private final boolean snapshot;
+
+    private volatile MethodLogToggle toggle;
+
+    MethodLogDescriptor(Method method, MethodLogToggle toggle) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        this.name = declaringClass.getSimpleName() + "." + method.getName();
+        this.qualifiedName = declaringClass.getName() + "." + method.getName();
+
+        LogCall logCall = method.getAnnotation(LogCall.class);
+        LogMonitor logMonitor = method.getAnnotation(LogMonitor.class);
+
+        // @LogCall 우선, 없으면 @LogMonitor, 둘 다 없으면 기본값
+        if (logCall != null) {
+            this.logParams = logCall.params();
+            this.logResult = logCall.result();
+        } else if (logMonitor != null) {
+            this.logParams = logMonitor.params();
+            this.logResult = logMonitor.result();
+        } else {
+            this.logParams = true;
+            this.logResult = true;
+        }
+        this.header = resolve(logCall != null ? logCall.header() : TriState.DEFAULT,
+            logMonitor != null ? logMonitor.header() : TriState.DEFAULT);
+        this.mask = resolve(logCall != null ? logCall.mask() : TriState.DEFAULT,
+            logMonitor != null ? logMonitor.mask() : TriState.DEFAULT);
+        this.maskFields = Stream.concat(
+                Arrays.stream(logCall != null ? logCall.maskFields() : new String[0]),
+                Arrays.stream(logMonitor != null ? logMonitor.maskFields() : new String[0]))
+            .toArray(String[]::new);
+        this.digest = resolve(logCall != null ? logCall.digest() : TriState.DEFAULT,
+            logMonitor != null ? logMonitor.digest() : TriState.DEFAULT);
+        this.mode = (logCall != null) ? logCall.mode() : CallLogMode.ALWAYS;
+        this.snapshot = logCall != null && logCall.snapshot();
+
+        this.toggle = toggle;
+    }
+
+    /**
+     * 로그 출력용 메서드명 (SimpleClassName.methodName)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 패키지를 포함한 메서드명 (com.example.UserService.create)
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public boolean isLogParams() {
+        return logParams;
+    }
+
+    public boolean isLogResult() {
+        return logResult;
+    }
+
+    /**
+     * 헤더 로깅 TriState (@LogCall이 DEFAULT가 아니면 우선)
+     */
+    public TriState getHeader() {
+        return header;
+    }
+
+    /**
+     * 마스킹 TriState (@LogCall이 DEFAULT가 아니면 우선)
+     */
+    public TriState getMask() {
+        return mask;
+    }
+
+    /**
+     * 어노테이션에 지정된 추가 마스킹 필드 (수정 금지)
+     */
+    public String[] getMaskFields() {
+        return maskFields;
+    }
+
+    /**
+     * 페이로드 다이제스트 TriState (@LogCall이 DEFAULT가 아니면 우선)
+     */
+    public TriState getDigest() {
+        return digest;
+    }
+
+    /**
+     * 호출 로그 출력 시점 (@LogCall에만 지정 가능, 없으면 ALWAYS)
+     */
+    public CallLogMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 예외가 발생했을 때만 로깅하는 메서드인지 여부
+     */
+    public boolean isOnError() {
+        return mode == CallLogMode.ON_ERROR;
+    }
+
+    /**
+     * ON_ERROR 모드에서 호출 시점 인자의 얕은 복사본을 보관할지 여부
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public MethodLogToggle getToggle() {
+        return toggle;
+    }
+
+    void setToggle(MethodLogToggle toggle) {
+        this.toggle = toggle;
+    }
+
+    boolean matches(String key) {
+        return name.equals(key) || qualifiedName.equals(key);
+    }
+
+    private static TriState resolve(TriState primary, TriState secondary) {
+        return (primary != TriState.DEFAULT) ? primary : secondary;
+    }
+}
@@ -0,0 +1,120 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드별 로깅 디스크립터 저장소
+ *
+ * 디스크립터는 Method 단위로 최초 호출 시 생성되어 캐시된다.
+ * 토글은 메서드명(SimpleClassName.method 또는 패키지 포함 이름) 기준으로 적용되며,
+ * 아직 호출되지 않은 메서드에 지정한 토글은 보관해 두었다가 디스크립터 생성 시 적용한다.
+ */
+public final class MethodLogRegistry {
+
+    private static final Map<Method, MethodLogDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+    private static final Map<String, MethodLogToggle> OVERRIDES = new ConcurrentHashMap<>();
+
+    private MethodLogRegistry() {
+    }
+
+    /**
+     * 메서드 디스크립터 조회 (없으면 생성)
+     */
+    public static MethodLogDescriptor descriptor(Method method) {
+        MethodLogDescriptor descriptor = DESCRIPTORS.get(method);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        // 생성은 드물므로 토글 적용과 직렬화하여 누락 방지
+        synchronized (MethodLogRegistry.class) {
+            return DESCRIPTORS.computeIfAbsent(method, m -> {
+                MethodLogDescriptor created = new MethodLogDescriptor(m, MethodLogToggle.DEFAULT);
+                created.setToggle(overrideFor(created));
+                return created;
+            });
+        }
+    }
+
+    /**
+     * 메서드명 기준 토글 적용
+     * @param method SimpleClassName.method 또는 패키지 포함 이름
+     * @return 적용된 토글
+     */
+    public static synchronized MethodLogToggle apply(String method, MethodLogToggle toggle) {
+        OVERRIDES.put(method, toggle);
+        for (MethodLogDescriptor descriptor : DESCRIPTORS.values()) {
+            if (descriptor.matches(method)) {
+                descriptor.setToggle(overrideFor(descriptor));
+            }
+        }
+        return toggle;
+    }
+
+    /**
+     * 메서드명 기준 토글 제거 (어노테이션 설정으로 복귀)
+     */
+    public static synchronized void reset(String method) {
+        OVERRIDES.remove(method);
+        for (MethodLogDescriptor descriptor : DESCRIPTORS.values()) {
+            if (descriptor.matches(method)) {
+                descriptor.setToggle(overrideFor(descriptor));
+            }
+        }
+    }
+
+    /**
+     * 모든 토글 제거
+     */
+    public static synchronized void resetAll() {
+        OVERRIDES.clear();
+        for (MethodLogDescriptor descriptor : DESCRIPTORS.values()) {
+            descriptor.setToggle(MethodLogToggle.DEFAULT);
+        }
+    }
+
+    /**
+     * 메서드명에 현재 적용될 토글 (지정된 토글이 없으면 DEFAULT)
+     */
+    public static MethodLogToggle toggleOf(String method) {
+        MethodLogToggle toggle = OVERRIDES.get(method);
+        if (toggle != null) {
+            return toggle;
+        }
+        for (MethodLogDescriptor descriptor : DESCRIPTORS.values()) {
+            if (descriptor.matches(method)) {
+                return descriptor.getToggle();
+            }
+        }
+        return MethodLogToggle.DEFAULT;
+    }
+
+    /**
+     * 호출된 메서드와 토글이 지정된 메서드의 토글 현황 (메서드명 정렬)
+     */
+    public static Map<String, MethodLogToggle> snapshot() {
+        Map<String, MethodLogToggle> result = new TreeMap<>();
+        for (MethodLogDescriptor descriptor : DESCRIPTORS.values()) {
+            result.put(descriptor.getName(), descriptor.getToggle());
+        }
+        // 아직 호출되지 않은 메서드에 지정된 토글
+        OVERRIDES.forEach((method, toggle) -> {
+            boolean invoked = DESCRIPTORS.values().stream().anyMatch(descriptor -> descriptor.matches(method));
+            if (!invoked) {
+                result.put(method, toggle);
+            }
+        });
+        return result;
+    }
+
+    // 패키지 포함 이름으로 지정된 토글이 우선
+    private static MethodLogToggle overrideFor(MethodLogDescriptor descriptor) {
+        MethodLogToggle toggle = OVERRIDES.get(descriptor.getQualifiedName());
+        if (toggle == null) {
+            toggle = OVERRIDES.get(descriptor.getName());
+        }
+        return (toggle != null) ? toggle : MethodLogToggle.DEFAULT;
+    }
+}
@@ -0,0 +1,87 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메서드별 런타임 로깅 토글 (불변)
+ *
+ * 어노테이션 설정을 "낮추는" 방향으로만 동작한다.
+ * - enabled=false: 해당 메서드 로깅 완전 중단
+ * - params/result=false: 어노테이션이 켜 두었어도 파라미터/결과 로깅 생략 (true면 어노테이션 설정 따름)
+ * - sampleRate: 0.0 ~ 1.0 비율로 호출 로깅 샘플링
+ */
+public final class MethodLogToggle {
+
+    /**
+     * 기본 토글 (어노테이션 설정 그대로 사용)
+     */
+    public static final MethodLogToggle DEFAULT = new MethodLogToggle(true, true, true, 1.0);
+
+    private final boolean enabled;
+    private final boolean params;
+    private final boolean result;
+    private final double sampleRate;
+
+    public MethodLogToggle(boolean enabled, boolean params, boolean result, double sampleRate) {
+        this.enabled = enabled;
+        this.params = params;
+        this.result = result;
+        this.sampleRate = Double.isNaN(sampleRate) ? 1.0 : Math.max(0.0, Math.min(1.0, sampleRate));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isParams() {
+        return params;
+    }
+
+    public boolean isResult() {
+        return result;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * 이번 호출을 로깅할지 결정 (비활성화 또는 샘플링 제외 시 false)
+     */
+    public boolean shouldLog() {
+        if (!enabled) {
+            return false;
+        }
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * 전달된 항목만 바꾼 새 토글 생성 (null 항목은 기존 값 유지)
+     */
+    public MethodLogToggle merge(Boolean enabled, Boolean params, Boolean result, Double sampleRate) {
+        return new MethodLogToggle(
+            (enabled != null) ? enabled : this.enabled,
+            (params != null) ? params : this.params,
+            (result != null) ? result : this.result,
+            (sampleRate != null) ? sampleRate : this.sampleRate);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", enabled);
+        map.put("params", params);
+        map.put("result", result);
+        map.put("sampleRate", sampleRate);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "enabled=" + enabled + ", params=" + params + ", result=" + result + ", sampleRate=" + sampleRate;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.suhsaechan.suhlogger.config;
+
+/**
+ * 페이로드 다이제스트 모드 (파라미터/결과/Response Body를 내용 대신 타입·크기·XXH64 해시로 출력)
+ * - OFF: 항상 내용 출력 (기본값, 기존 동작)
+ * - AUTO: 직렬화 크기가 digest.threshold를 넘을 때만 다이제스트 출력
+ * - ALWAYS: 항상 다이제스트 출력
+ *
+ * 해시는 직렬화 결과를 버퍼에 모으지 않고 스트리밍으로 계산한다.
+ * 같은 라우트/메서드의 직전 해시와 같으면 same-as-previous를 덧붙인다 (digest.mark-repeats).
+ */
+public enum DigestMode {
+    OFF,
+    AUTO,
+    ALWAYS
+}
@@ -0,0 +1,15 @@
+package kr.suhsaechan.suhlogger.config;
+
+/**
+ * Response Body 로깅 조건
+ * - SUCCESS_ONLY: 2xx 응답만 로깅 (기본값, 기존 동작)
+ * - SLOW_OR_ERROR: 2xx가 아니거나 예외가 발생했거나 slow-request-threshold를 넘긴 요청만 로깅
+ * - ALWAYS: 모든 응답 로깅
+ *
+ * 어느 모드든 본문 캡처(고정 크기 바이트 복사)는 항상 하며, 디코딩/포맷팅은 로깅하기로 결정된 요청에만 수행
+ */
+public enum ResponseLogMode {
+    SUCCESS_ONLY,
+    SLOW_OR_ERROR,
+    ALWAYS
+}
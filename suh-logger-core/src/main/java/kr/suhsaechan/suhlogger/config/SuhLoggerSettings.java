@@ -0,0 +1,729 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import kr.suhsaechan.suhlogger.digest.DigestTracker;
+import kr.suhsaechan.suhlogger.masking.KeywordMatcher;
+import kr.suhsaechan.suhlogger.masking.ValuePatternRedactor;
+import kr.suhsaechan.suhlogger.serializer.LogSerializer;
+import kr.suhsaechan.suhlogger.serializer.SimpleLogSerializer;
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+import kr.suhsaechan.suhlogger.util.ExceptionStormSuppressor;
+import kr.suhsaechan.suhlogger.util.RequestLogContext;
+
+/**
+ * SuhLogger 설정 불변 스냅샷
+ *
+ * SuhLoggerProperties(가변 바인딩 객체)를 매처/테이블 형태로 미리 컴파일해 둔 읽기 전용 설정.
+ * 하나의 volatile 참조로 발행되므로, 로깅 경로는 current() 한 번만 읽고 나머지는 일반 필드 접근으로 처리한다.
+ * 설정 변경 시(refresh, actuator) 새 스냅샷을 만들어 통째로 교체한다.
+ * Spring 없이 사용할 때는 builder()로 직접 만들어 publish()한다.
+ */
+public final class SuhLoggerSettings {
+
+    public static final String DEFAULT_REQUEST_ID_HEADER = "X-Request-ID";
+    public static final String DEFAULT_REQUEST_ID_MDC_KEY = "requestId";
+    public static final Duration DEFAULT_SLOW_REQUEST_THRESHOLD = Duration.ofSeconds(1);
+    public static final int DEFAULT_CAPTURE_BUFFER_POOL_SIZE = 32;
+    public static final int DEFAULT_TELEMETRY_MAX_ROUTES = 200;
+    public static final int DEFAULT_DIGEST_THRESHOLD = 16384;
+
+    private static volatile SuhLoggerSettings current = builder().build();
+
+    private final boolean enabled;
+    private final int maxResponseBodySize;
+    private final boolean prettyPrintJson;
+    private final String[] excludePatterns;
+    private final List<String> excludedClasses;
+
+    private final boolean maskingEnabled;
+    private final String maskValue;
+    private final KeywordMatcher maskFieldMatcher;
+    private final KeywordMatcher maskHeaderMatcher;
+    private final ValuePatternRedactor valueRedactor;
+
+    private final boolean headerEnabled;
+    private final boolean headerIncludeAll;
+    private final String[] includeHeaders;
+
+    private final LogSerializer serializer;
+    private final boolean callerAware;
+
+    private final boolean methodLoggingEnabled;
+    private final boolean timingEnabled;
+    private final boolean httpCaptureEnabled;
+
+    private final ExceptionStormSuppressor exceptionSuppressor;
+
+    private final boolean requestIdEnabled;
+    private final String requestIdHeader;
+    private final String requestIdMdcKey;
+
+    private final boolean tailBufferEnabled;
+    private final int tailBufferCapacity;
+    private final Duration slowRequestThreshold;
+    private final long slowRequestThresholdNanos;
+
+    private final int captureBufferPoolSize;
+    private final boolean captureBufferDirect;
+
+    private final boolean responseLogAsync;
+    private final ResponseLogMode responseLogMode;
+
+    private final boolean telemetryEnabled;
+    private final int telemetryMaxRoutes;
+    private final Duration telemetrySummaryInterval;
+
+    private final DigestMode digestMode;
+    private final int digestThreshold;
+    private final String[] digestRoutes;
+    private final DigestTracker digestTracker;
+
+    private final boolean logBudgetEnabled;
+    private final int logBudgetMaxEvents;
+    private final long logBudgetMaxBytes;
+    private final int logBudgetSummaryEvents;
+
+    private SuhLoggerSettings(Builder builder) {
+        this.enabled = builder.enabled;
+        this.maxResponseBodySize = builder.maxResponseBodySize;
+        this.prettyPrintJson = builder.prettyPrintJson;
+        this.excludePatterns = compact(builder.excludePatterns);
+        this.excludedClasses = Collections.unmodifiableList(new ArrayList<>(builder.excludedClasses));
+
+        this.maskingEnabled = builder.maskingEnabled;
+        this.maskValue = (builder.maskValue != null) ? builder.maskValue : CommonUtil.DEFAULT_MASK_VALUE;
+        this.maskFieldMatcher = KeywordMatcher.of(builder.maskFields);
+        this.maskHeaderMatcher = KeywordMatcher.of(builder.maskHeaders);
+        this.valueRedactor = builder.maskingEnabled
+            ? ValuePatternRedactor.compile(builder.valuePatterns, this.maskValue)
+            : ValuePatternRedactor.NONE;
+
+        this.headerEnabled = builder.headerEnabled;
+        this.headerIncludeAll = builder.headerIncludeAll;
+        this.includeHeaders = distinctIgnoreCase(builder.includeHeaders);
+
+        this.serializer = (builder.serializer != null)
+            ? builder.serializer
+            : new SimpleLogSerializer(this.excludedClasses);
+        this.callerAware = builder.callerAware;
+
+        // 기능별 스위치는 전체 스위치와 미리 합쳐 둠
+        this.methodLoggingEnabled = builder.enabled && builder.methodLoggingEnabled;
+        this.timingEnabled = builder.enabled && builder.timingEnabled;
+        this.httpCaptureEnabled = builder.enabled && builder.httpCaptureEnabled;
+
+        this.exceptionSuppressor = (builder.exceptionSuppressor != null)
+            ? builder.exceptionSuppressor
+            : new ExceptionStormSuppressor(ExceptionStormSuppressor.DEFAULT_WINDOW,
+                ExceptionStormSuppressor.DEFAULT_MAX_FINGERPRINTS, ExceptionStormSuppressor.DEFAULT_STACK_DEPTH);
+
+        this.requestIdEnabled = builder.requestIdEnabled;
+        this.requestIdHeader = isBlank(builder.requestIdHeader) ? DEFAULT_REQUEST_ID_HEADER : builder.requestIdHeader;
+        this.requestIdMdcKey = isBlank(builder.requestIdMdcKey) ? DEFAULT_REQUEST_ID_MDC_KEY : builder.requestIdMdcKey;
+
+        this.tailBufferEnabled = builder.tailBufferEnabled;
+        this.tailBufferCapacity = (builder.tailBufferCapacity > 0) ? builder.tailBufferCapacity : RequestLogContext.DEFAULT_CAPACITY;
+        this.slowRequestThreshold = (builder.slowRequestThreshold != null && !builder.slowRequestThreshold.isNegative())
+            ? builder.slowRequestThreshold
+            : DEFAULT_SLOW_REQUEST_THRESHOLD;
+        this.slowRequestThresholdNanos = this.slowRequestThreshold.toNanos();
+
+        this.captureBufferPoolSize = Math.max(0, builder.captureBufferPoolSize);
+        this.captureBufferDirect = builder.captureBufferDirect;
+
+        this.responseLogAsync = builder.responseLogAsync;
+        this.responseLogMode = (builder.responseLogMode != null) ? builder.responseLogMode : ResponseLogMode.SUCCESS_ONLY;
+
+        this.telemetryEnabled = builder.telemetryEnabled;
+        this.telemetryMaxRoutes = (builder.telemetryMaxRoutes > 0) ? builder.telemetryMaxRoutes : DEFAULT_TELEMETRY_MAX_ROUTES;
+        this.telemetrySummaryInterval = (builder.telemetrySummaryInterval != null) ? builder.telemetrySummaryInterval : Duration.ZERO;
+
+        this.digestMode = (builder.digestMode != null) ? builder.digestMode : DigestMode.OFF;
+        this.digestThreshold = (builder.digestThreshold > 0) ? builder.digestThreshold : DEFAULT_DIGEST_THRESHOLD;
+        this.digestRoutes = compact(builder.digestRoutes);
+        this.digestTracker = builder.digestMarkRepeats
+            ? new DigestTracker(DigestTracker.DEFAULT_MAX_KEYS)
+            : DigestTracker.DISABLED;
+
+        this.logBudgetEnabled = builder.logBudgetEnabled;
+        this.logBudgetMaxEvents = (builder.logBudgetMaxEvents > 0)
+            ? builder.logBudgetMaxEvents
+            : RequestLogContext.DEFAULT_BUDGET_MAX_EVENTS;
+        this.logBudgetMaxBytes = (builder.logBudgetMaxBytes > 0)
+            ? builder.logBudgetMaxBytes
+            : RequestLogContext.DEFAULT_BUDGET_MAX_BYTES;
+        this.logBudgetSummaryEvents = Math.max(0, builder.logBudgetSummaryEvents);
+    }
+
+    /**
+     * 현재 발행된 설정 스냅샷 (volatile 읽기 1회)
+     */
+    public static SuhLoggerSettings current() {
+        return current;
+    }
+
+    /**
+     * 새 설정 스냅샷을 발행 (원자적 교체)
+     * 예외 억제 윈도우/집계와 다이제스트 반복 기록은 이전 스냅샷에서 이어받는다 (설정 갱신으로 초기화되지 않도록).
+     */
+    public static synchronized void publish(SuhLoggerSettings settings) {
+        if (settings == null) {
+            return;
+        }
+        SuhLoggerSettings previous = current;
+        current = settings;
+        if (previous != null && previous != settings) {
+            settings.exceptionSuppressor.takeOver(previous.exceptionSuppressor);
+            settings.digestTracker.takeOver(previous.digestTracker);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== 조회 ==========
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    public boolean isPrettyPrintJson() {
+        return prettyPrintJson;
+    }
+
+    public List<String> getExcludedClasses() {
+        return excludedClasses;
+    }
+
+    public boolean isMaskingEnabled() {
+        return maskingEnabled;
+    }
+
+    public String getMaskValue() {
+        return maskValue;
+    }
+
+    public KeywordMatcher getMaskFieldMatcher() {
+        return maskFieldMatcher;
+    }
+
+    public KeywordMatcher getMaskHeaderMatcher() {
+        return maskHeaderMatcher;
+    }
+
+    public ValuePatternRedactor getValueRedactor() {
+        return valueRedactor;
+    }
+
+    public boolean isHeaderEnabled() {
+        return headerEnabled;
+    }
+
+    public boolean isHeaderIncludeAll() {
+        return headerIncludeAll;
+    }
+
+    /**
+     * 대소문자 무시 중복 제거된 출력 헤더 목록 (복사본 아님, 수정 금지)
+     */
+    public String[] getIncludeHeaders() {
+        return includeHeaders;
+    }
+
+    public LogSerializer getSerializer() {
+        return serializer;
+    }
+
+    /**
+     * 정적 SuhLogger 호출을 호출 클래스의 로거로 출력할지 여부
+     */
+    public boolean isCallerAware() {
+        return callerAware;
+    }
+
+    /**
+     * 메서드 호출 로깅 활성화 여부 (전체 스위치 포함)
+     */
+    public boolean isMethodLoggingEnabled() {
+        return methodLoggingEnabled;
+    }
+
+    /**
+     * 실행 시간 로깅 활성화 여부 (전체 스위치 포함)
+     */
+    public boolean isTimingEnabled() {
+        return timingEnabled;
+    }
+
+    /**
+     * HTTP 응답 캡처 활성화 여부 (전체 스위치 포함)
+     */
+    public boolean isHttpCaptureEnabled() {
+        return httpCaptureEnabled;
+    }
+
+    /**
+     * 예외 폭주 억제기 (스냅샷 교체 시 윈도우와 집계는 takeOver로 새 억제기에 이어짐)
+     */
+    public ExceptionStormSuppressor getExceptionSuppressor() {
+        return exceptionSuppressor;
+    }
+
+    public boolean isRequestIdEnabled() {
+        return requestIdEnabled;
+    }
+
+    public String getRequestIdHeader() {
+        return requestIdHeader;
+    }
+
+    public String getRequestIdMdcKey() {
+        return requestIdMdcKey;
+    }
+
+    /**
+     * 요청 단위 꼬리 버퍼링 활성화 여부
+     */
+    public boolean isTailBufferEnabled() {
+        return tailBufferEnabled;
+    }
+
+    public int getTailBufferCapacity() {
+        return tailBufferCapacity;
+    }
+
+    public Duration getSlowRequestThreshold() {
+        return slowRequestThreshold;
+    }
+
+    /**
+     * 처리 시간이 느린 요청 기준을 넘었는지 확인
+     */
+    public boolean isSlowRequest(long elapsedNanos) {
+        return elapsedNanos >= slowRequestThresholdNanos;
+    }
+
+    /**
+     * 응답 본문 캡처 버퍼 풀에 보관할 최대 버퍼 수
+     */
+    public int getCaptureBufferPoolSize() {
+        return captureBufferPoolSize;
+    }
+
+    /**
+     * 캡처 버퍼를 direct ByteBuffer(힙 외부)로 할당할지 여부
+     */
+    public boolean isCaptureBufferDirect() {
+        return captureBufferDirect;
+    }
+
+    /**
+     * 응답 로깅을 전용 스레드에서 처리할지 여부
+     */
+    public boolean isResponseLogAsync() {
+        return responseLogAsync;
+    }
+
+    /**
+     * Response Body 로깅 조건
+     */
+    public ResponseLogMode getResponseLogMode() {
+        return responseLogMode;
+    }
+
+    /**
+     * 라우트별 통계 집계 활성화 여부
+     */
+    public boolean isTelemetryEnabled() {
+        return telemetryEnabled;
+    }
+
+    /**
+     * 집계할 최대 라우트 수 (초과분은 OTHER로 합산)
+     */
+    public int getTelemetryMaxRoutes() {
+        return telemetryMaxRoutes;
+    }
+
+    /**
+     * 라우트 통계 요약 출력 주기 (0이면 출력 안 함)
+     */
+    public Duration getTelemetrySummaryInterval() {
+        return telemetrySummaryInterval;
+    }
+
+    /**
+     * 페이로드 다이제스트 모드 (라우트 지정 없이 쓰이는 전역 값)
+     */
+    public DigestMode getDigestMode() {
+        return digestMode;
+    }
+
+    /**
+     * AUTO 모드에서 다이제스트로 전환하는 직렬화 크기 (bytes)
+     */
+    public int getDigestThreshold() {
+        return digestThreshold;
+    }
+
+    /**
+     * 라우트/메서드별 직전 다이제스트 해시 (mark-repeats가 꺼져 있으면 추적하지 않는 인스턴스)
+     */
+    public DigestTracker getDigestTracker() {
+        return digestTracker;
+    }
+
+    /**
+     * URI에 적용할 다이제스트 모드 (digest.routes에 해당하면 ALWAYS, 아니면 전역 모드)
+     */
+    public DigestMode digestModeFor(String uri) {
+        return matchesAny(uri, digestRoutes) ? DigestMode.ALWAYS : digestMode;
+    }
+
+    /**
+     * 요청당 로그 예산 활성화 여부
+     */
+    public boolean isLogBudgetEnabled() {
+        return logBudgetEnabled;
+    }
+
+    /**
+     * 요청당 출력할 최대 이벤트 수
+     */
+    public int getLogBudgetMaxEvents() {
+        return logBudgetMaxEvents;
+    }
+
+    /**
+     * 요청당 출력할 최대 바이트 수 (문자 수 기준 근사치)
+     */
+    public long getLogBudgetMaxBytes() {
+        return logBudgetMaxBytes;
+    }
+
+    /**
+     * 예산 소진 후 추가로 출력할 한 줄 요약 이벤트 수
+     */
+    public int getLogBudgetSummaryEvents() {
+        return logBudgetSummaryEvents;
+    }
+
+    /**
+     * 요청 단위 컨텍스트(RequestLogContext)가 필요한지 여부 (꼬리 버퍼링 또는 로그 예산)
+     */
+    public boolean isRequestLogContextEnabled() {
+        return tailBufferEnabled || logBudgetEnabled;
+    }
+
+    /**
+     * 로깅에서 제외할 URI인지 확인
+     */
+    public boolean isExcludedUri(String uri) {
+        return matchesAny(uri, excludePatterns);
+    }
+
+    private static boolean matchesAny(String uri, String[] patterns) {
+        if (uri == null) {
+            return false;
+        }
+        for (String pattern : patterns) {
+            if (uri.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String[] compact(List<String> values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                result.add(value);
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    private static String[] distinctIgnoreCase(List<String> names) {
+        Set<String> seen = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> ordered = new ArrayList<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank() && seen.add(name.trim())) {
+                ordered.add(name.trim());
+            }
+        }
+        return ordered.toArray(new String[0]);
+    }
+
+    /**
+     * 설정 스냅샷 빌더 (기본값은 SuhLoggerProperties 기본값과 동일)
+     */
+    public static final class Builder {
+        private boolean enabled = true;
+        private int maxResponseBodySize = 4096;
+        private boolean prettyPrintJson = false;
+        private List<String> excludePatterns = Collections.emptyList();
+        private List<String> excludedClasses = Collections.emptyList();
+        private boolean maskingEnabled = false;
+        private String maskValue = CommonUtil.DEFAULT_MASK_VALUE;
+        private List<String> maskFields = Collections.emptyList();
+        private List<String> maskHeaders = Collections.emptyList();
+        private List<String> valuePatterns = Collections.emptyList();
+        private boolean headerEnabled = false;
+        private boolean headerIncludeAll = false;
+        private List<String> includeHeaders = Collections.emptyList();
+        private LogSerializer serializer;
+        private boolean callerAware = false;
+        private boolean methodLoggingEnabled = true;
+        private boolean timingEnabled = true;
+        private boolean httpCaptureEnabled = true;
+        private ExceptionStormSuppressor exceptionSuppressor;
+        private boolean requestIdEnabled = true;
+        private String requestIdHeader = DEFAULT_REQUEST_ID_HEADER;
+        private String requestIdMdcKey = DEFAULT_REQUEST_ID_MDC_KEY;
+        private boolean tailBufferEnabled = false;
+        private int tailBufferCapacity = RequestLogContext.DEFAULT_CAPACITY;
+        private Duration slowRequestThreshold = DEFAULT_SLOW_REQUEST_THRESHOLD;
+        private int captureBufferPoolSize = DEFAULT_CAPTURE_BUFFER_POOL_SIZE;
+        private boolean captureBufferDirect = false;
+        private boolean responseLogAsync = false;
+        private ResponseLogMode responseLogMode = ResponseLogMode.SUCCESS_ONLY;
+        private boolean telemetryEnabled = true;
+        private int telemetryMaxRoutes = DEFAULT_TELEMETRY_MAX_ROUTES;
+        private Duration telemetrySummaryInterval = Duration.ZERO;
+        private DigestMode digestMode = DigestMode.OFF;
+        private int digestThreshold = DEFAULT_DIGEST_THRESHOLD;
+        private List<String> digestRoutes = Collections.emptyList();
+        private boolean digestMarkRepeats = true;
+        private boolean logBudgetEnabled = false;
+        private int logBudgetMaxEvents = RequestLogContext.DEFAULT_BUDGET_MAX_EVENTS;
+        private long logBudgetMaxBytes = RequestLogContext.DEFAULT_BUDGET_MAX_BYTES;
+        private int logBudgetSummaryEvents = RequestLogContext.DEFAULT_BUDGET_SUMMARY_EVENTS;
+
+        private Builder() {
+        }
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder maxResponseBodySize(int maxResponseBodySize) {
+            this.maxResponseBodySize = maxResponseBodySize;
+            return this;
+        }
+
+        public Builder prettyPrintJson(boolean prettyPrintJson) {
+            this.prettyPrintJson = prettyPrintJson;
+            return this;
+        }
+
+        public Builder excludePatterns(List<String> excludePatterns) {
+            this.excludePatterns = nonNull(excludePatterns);
+            return this;
+        }
+
+        public Builder excludedClasses(List<String> excludedClasses) {
+            this.excludedClasses = nonNull(excludedClasses);
+            return this;
+        }
+
+        public Builder maskingEnabled(boolean maskingEnabled) {
+            this.maskingEnabled = maskingEnabled;
+            return this;
+        }
+
+        public Builder maskValue(String maskValue) {
+            this.maskValue = maskValue;
+            return this;
+        }
+
+        public Builder maskFields(List<String> maskFields) {
+            this.maskFields = nonNull(maskFields);
+            return this;
+        }
+
+        public Builder maskHeaders(List<String> maskHeaders) {
+            this.maskHeaders = nonNull(maskHeaders);
+            return this;
+        }
+
+        public Builder valuePatterns(List<String> valuePatterns) {
+            this.valuePatterns = nonNull(valuePatterns);
+            return this;
+        }
+
+        public Builder headerEnabled(boolean headerEnabled) {
+            this.headerEnabled = headerEnabled;
+            return this;
+        }
+
+        public Builder headerIncludeAll(boolean headerIncludeAll) {
+            this.headerIncludeAll = headerIncludeAll;
+            return this;
+        }
+
+        public Builder includeHeaders(List<String> includeHeaders) {
+            this.includeHeaders = nonNull(includeHeaders);
+            return this;
+        }
+
+        public Builder serializer(LogSerializer serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+        public Builder callerAware(boolean callerAware) {
+            this.callerAware = callerAware;
+            return this;
+        }
+
+        public Builder methodLoggingEnabled(boolean methodLoggingEnabled) {
+            this.methodLoggingEnabled = methodLoggingEnabled;
+            return this;
+        }
+
+        public Builder timingEnabled(boolean timingEnabled) {
+            this.timingEnabled = timingEnabled;
+            return this;
+        }
+
+        public Builder httpCaptureEnabled(boolean httpCaptureEnabled) {
+            this.httpCaptureEnabled = httpCaptureEnabled;
+            return this;
+        }
+
+        public Builder exceptionSuppressor(ExceptionStormSuppressor exceptionSuppressor) {
+            this.exceptionSuppressor = exceptionSuppressor;
+            return this;
+        }
+
+        public Builder requestIdEnabled(boolean requestIdEnabled) {
+            this.requestIdEnabled = requestIdEnabled;
+            return this;
+        }
+
+        public Builder requestIdHeader(String requestIdHeader) {
+            this.requestIdHeader = requestIdHeader;
+            return this;
+        }
+
+        public Builder requestIdMdcKey(String requestIdMdcKey) {
+            this.requestIdMdcKey = requestIdMdcKey;
+            return this;
+        }
+
+        public Builder tailBufferEnabled(boolean tailBufferEnabled) {
+            this.tailBufferEnabled = tailBufferEnabled;
+            return this;
+        }
+
+        public Builder tailBufferCapacity(int tailBufferCapacity) {
+            this.tailBufferCapacity = tailBufferCapacity;
+            return this;
+        }
+
+        public Builder slowRequestThreshold(Duration slowRequestThreshold) {
+            this.slowRequestThreshold = slowRequestThreshold;
+            return this;
+        }
+
+        public Builder captureBufferPoolSize(int captureBufferPoolSize) {
+            this.captureBufferPoolSize = captureBufferPoolSize;
+            return this;
+        }
+
+        public Builder captureBufferDirect(boolean captureBufferDirect) {
+            this.captureBufferDirect = captureBufferDirect;
+            return this;
+        }
+
+        public Builder responseLogAsync(boolean responseLogAsync) {
+            this.responseLogAsync = responseLogAsync;
+            return this;
+        }
+
+        public Builder responseLogMode(ResponseLogMode responseLogMode) {
+            this.responseLogMode = responseLogMode;
+            return this;
+        }
+
+        public Builder telemetryEnabled(boolean telemetryEnabled) {
+            this.telemetryEnabled = telemetryEnabled;
+            return this;
+        }
+
+        public Builder telemetryMaxRoutes(int telemetryMaxRoutes) {
+            this.telemetryMaxRoutes = telemetryMaxRoutes;
+            return this;
+        }
+
+        public Builder telemetrySummaryInterval(Duration telemetrySummaryInterval) {
+            this.telemetrySummaryInterval = telemetrySummaryInterval;
+            return this;
+        }
+
+        public Builder digestMode(DigestMode digestMode) {
+            this.digestMode = digestMode;
+            return this;
+        }
+
+        public Builder digestThreshold(int digestThreshold) {
+            this.digestThreshold = digestThreshold;
+            return this;
+        }
+
+        public Builder digestRoutes(List<String> digestRoutes) {
+            this.digestRoutes = nonNull(digestRoutes);
+            return this;
+        }
+
+        public Builder digestMarkRepeats(boolean digestMarkRepeats) {
+            this.digestMarkRepeats = digestMarkRepeats;
+            return this;
+        }
+
+        public Builder logBudgetEnabled(boolean logBudgetEnabled) {
+            this.logBudgetEnabled = logBudgetEnabled;
+            return this;
+        }
+
+        public Builder logBudgetMaxEvents(int logBudgetMaxEvents) {
+            this.logBudgetMaxEvents = logBudgetMaxEvents;
+            return this;
+        }
+
+        public Builder logBudgetMaxBytes(long logBudgetMaxBytes) {
+            this.logBudgetMaxBytes = logBudgetMaxBytes;
+            return this;
+        }
+
+        public Builder logBudgetSummaryEvents(int logBudgetSummaryEvents) {
+            this.logBudgetSummaryEvents = logBudgetSummaryEvents;
+            return this;
+        }
+
+        public SuhLoggerSettings build() {
+            return new SuhLoggerSettings(this);
+        }
+
+        private static List<String> nonNull(List<String> values) {
+            return (values != null) ? values : Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package kr.suhsaechan.suhlogger.digest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(라우트/메서드)별 직전 다이제스트 해시 보관 (same-as-previous 표시용)
+ *
+ * 키 수에 상한을 두어 경로 변수가 섞인 URI 등으로 키가 무한히 늘어나도 메모리가 일정하다.
+ * 상한에 도달하면 새 키는 추적하지 않고 기존 키만 갱신한다.
+ * 설정 스냅샷이 교체되면 takeOver로 이전 인스턴스의 해시를 이어받는다 (설정 갱신 후에도 same-as-previous 유지).
+ */
+public final class DigestTracker {
+
+    public static final int DEFAULT_MAX_KEYS = 1024;
+
+    /**
+     * 반복 여부를 추적하지 않는 인스턴스 (digest.mark-repeats=false)
+     */
+    public static final DigestTracker DISABLED = new DigestTracker(0);
+
+    private final ConcurrentHashMap<String, Long> lastHashes = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public DigestTracker(int maxKeys) {
+        this.maxKeys = Math.max(0, maxKeys);
+    }
+
+    /**
+     * 해시를 기록하고 같은 키의 직전 해시와 같은지 반환
+     * @param key 추적 키 (null이면 추적하지 않음)
+     * @return 직전 해시와 같으면 true
+     */
+    public boolean record(String key, long hash) {
+        if (key == null || maxKeys == 0) {
+            return false;
+        }
+        // 상한에 도달하면 이미 추적 중인 키만 갱신 (size()는 근사치라 상한을 약간 넘을 수 있음)
+        Long previous = (lastHashes.size() < maxKeys) ? lastHashes.put(key, hash) : lastHashes.replace(key, hash);
+        return previous != null && previous == hash;
+    }
+
+    /**
+     * 이전 설정 스냅샷의 해시 기록을 이어받음 (SuhLoggerSettings.publish에서 호출, 상한까지만)
+     */
+    public void takeOver(DigestTracker previous) {
+        if (previous == null || previous == this || maxKeys == 0) {
+            return;
+        }
+        for (Map.Entry<String, Long> entry : previous.lastHashes.entrySet()) {
+            if (lastHashes.size() >= maxKeys) {
+                break;
+            }
+            lastHashes.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 추적 중인 키 수 (근사치)
+     */
+    public int size() {
+        return lastHashes.size();
+    }
+
+    public void clear() {
+        lastHashes.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package kr.suhsaechan.suhlogger.digest;
+
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 쓰이는 바이트를 저장하지 않고 크기와 XXH64 해시만 계산하는 스트림
+ *
+ * retainLimit를 지정하면 앞부분을 그 크기까지만 보관한다 (digest.mode=auto에서 작은 페이로드는 원문 출력).
+ * 보관 한도를 넘으면 보관을 멈추고 해시만 이어서 계산하므로 큰 페이로드도 메모리는 한도만큼만 쓴다.
+ */
+public final class HashingOutputStream extends OutputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final XxHash64 hash = new XxHash64();
+    private final int retainLimit;
+    private byte[] retained = EMPTY;
+    private int retainedLength;
+
+    /**
+     * 해시만 계산 (원문 보관 안 함)
+     */
+    public HashingOutputStream() {
+        this(0);
+    }
+
+    /**
+     * @param retainLimit 앞부분을 보관할 최대 바이트 수 (0이면 보관 안 함)
+     */
+    public HashingOutputStream(int retainLimit) {
+        this.retainLimit = Math.max(0, retainLimit);
+    }
+
+    @Override
+    public void write(int b) {
+        hash.update(b);
+        if (retainedLength < retainLimit) {
+            ensureRetained(retainedLength + 1);
+            retained[retainedLength++] = (byte) b;
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        hash.update(bytes, offset, length);
+        int keep = Math.min(length, retainLimit - retainedLength);
+        if (keep > 0) {
+            ensureRetained(retainedLength + keep);
+            System.arraycopy(bytes, offset, retained, retainedLength, keep);
+            retainedLength += keep;
+        }
+    }
+
+    /**
+     * 지금까지 쓰인 전체 바이트 수
+     */
+    public long length() {
+        return hash.length();
+    }
+
+    /**
+     * 지금까지 쓰인 바이트의 XXH64 해시
+     */
+    public long hash() {
+        return hash.getValue();
+    }
+
+    /**
+     * 쓰인 바이트를 모두 보관했는지 여부 (보관 한도를 넘었으면 false)
+     */
+    public boolean isFullyRetained() {
+        return hash.length() == retainedLength;
+    }
+
+    /**
+     * 보관한 앞부분을 문자열로 디코딩
+     */
+    public String retainedString(Charset charset) {
+        return new String(retained, 0, retainedLength, charset);
+    }
+
+    /**
+     * 처음 상태로 되돌림 (직렬화 도중 실패해 다시 쓸 때 사용)
+     */
+    public void reset() {
+        hash.reset();
+        retainedLength = 0;
+    }
+
+    // 보관 버퍼는 실제로 쓰인 만큼만 늘림 (작은 페이로드에 한도 크기 배열을 할당하지 않음)
+    private void ensureRetained(int required) {
+        if (required > retained.length) {
+            int grown = Math.max(required, Math.min(retainLimit, Math.max(256, retained.length * 2)));
+            retained = Arrays.copyOf(retained, grown);
+        }
+    }
+}
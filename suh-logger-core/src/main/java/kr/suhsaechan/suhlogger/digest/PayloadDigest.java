@@ -0,0 +1,105 @@
+package kr.suhsaechan.suhlogger.digest;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.extractor.LazyEntitySupport;
+
+/**
+ * 페이로드 다이제스트 (내용 대신 타입/크기/해시만 출력)
+ *
+ * 출력 형식: [DIGEST] type=OrderDto, bytes=18234, elements=120, xxh64=5f1c0e9a4b2d7c31, same-as-previous
+ * - bytes: 직렬화된 형태(또는 응답 본문)의 바이트 수
+ * - elements: 컬렉션/맵/배열일 때만 요소 수
+ * - same-as-previous: 같은 키(라우트/메서드)의 직전 해시와 같을 때만 표시
+ */
+public final class PayloadDigest {
+
+    /**
+     * 요소 수를 알 수 없는 타입
+     */
+    public static final int UNKNOWN_ELEMENTS = -1;
+
+    private final String type;
+    private final long bytes;
+    private final int elements;
+    private final long hash;
+    private final boolean sameAsPrevious;
+
+    public PayloadDigest(String type, long bytes, int elements, long hash, boolean sameAsPrevious) {
+        this.type = type;
+        this.bytes = bytes;
+        this.elements = elements;
+        this.hash = hash;
+        this.sameAsPrevious = sameAsPrevious;
+    }
+
+    /**
+     * 로그용 타입명 (배열은 int[] 형태)
+     */
+    public static String typeName(Object obj) {
+        return (obj != null) ? obj.getClass().getSimpleName() : "null";
+    }
+
+    /**
+     * 컬렉션/맵/배열의 요소 수 (그 외 또는 초기화되지 않은 지연 로딩 컬렉션이면 UNKNOWN_ELEMENTS)
+     */
+    public static int elementCount(Object obj) {
+        if (obj == null || LazyEntitySupport.lazyPlaceholder(obj) != null) {
+            return UNKNOWN_ELEMENTS;
+        }
+        if (obj instanceof Collection) {
+            return ((Collection<?>) obj).size();
+        }
+        if (obj instanceof Map) {
+            return ((Map<?, ?>) obj).size();
+        }
+        if (obj.getClass().isArray()) {
+            return Array.getLength(obj);
+        }
+        return UNKNOWN_ELEMENTS;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public int getElements() {
+        return elements;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * 16자리 16진수 해시
+     */
+    public String getHashHex() {
+        return XxHash64.toHex(hash);
+    }
+
+    public boolean isSameAsPrevious() {
+        return sameAsPrevious;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(96)
+            .append("[DIGEST] type=").append(type)
+            .append(", bytes=").append(bytes);
+        if (elements != UNKNOWN_ELEMENTS) {
+            sb.append(", elements=").append(elements);
+        }
+        sb.append(", xxh64=").append(getHashHex());
+        if (sameAsPrevious) {
+            sb.append(", same-as-previous");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package kr.suhsaechan.suhlogger.digest;
+
+/**
+ * 스트리밍 XXH64 해시 (seed 0, 비암호화 64비트)
+ *
+ * 직렬화 결과나 응답 본문을 버퍼에 모으지 않고 쓰이는 대로 흘려 넣어 해시를 계산한다.
+ * 32바이트 블록 단위로 누적하고 남는 바이트만 내부 버퍼에 보관하므로 입력 크기와 무관하게 할당량 일정.
+ * 값은 상관관계 추적/변경 감지용이며 보안 용도로 쓰면 안 된다. (스레드 안전하지 않음)
+ */
+public final class XxHash64 {
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final int BLOCK_SIZE = 32;
+
+    private final byte[] pending = new byte[BLOCK_SIZE];
+    private int pendingLength;
+    private long totalLength;
+
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+
+    public XxHash64() {
+        reset();
+    }
+
+    /**
+     * 한 번에 해시 계산
+     */
+    public static long hash(byte[] bytes, int offset, int length) {
+        XxHash64 hash = new XxHash64();
+        hash.update(bytes, offset, length);
+        return hash.getValue();
+    }
+
+    /**
+     * 초기 상태로 되돌림 (재사용용)
+     */
+    public void reset() {
+        v1 = PRIME64_1 + PRIME64_2;
+        v2 = PRIME64_2;
+        v3 = 0;
+        v4 = -PRIME64_1;
+        pendingLength = 0;
+        totalLength = 0;
+    }
+
+    public void update(int b) {
+        totalLength++;
+        pending[pendingLength++] = (byte) b;
+        if (pendingLength == BLOCK_SIZE) {
+            processBlock(pending, 0);
+            pendingLength = 0;
+        }
+    }
+
+    public void update(byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        totalLength += length;
+        int end = offset + length;
+
+        // 이전 호출에서 남은 바이트부터 블록을 채움
+        if (pendingLength > 0) {
+            int fill = Math.min(BLOCK_SIZE - pendingLength, length);
+            System.arraycopy(bytes, offset, pending, pendingLength, fill);
+            pendingLength += fill;
+            offset += fill;
+            if (pendingLength < BLOCK_SIZE) {
+                return;
+            }
+            processBlock(pending, 0);
+            pendingLength = 0;
+        }
+
+        while (end - offset >= BLOCK_SIZE) {
+            processBlock(bytes, offset);
+            offset += BLOCK_SIZE;
+        }
+
+        if (offset < end) {
+            System.arraycopy(bytes, offset, pending, 0, end - offset);
+            pendingLength = end - offset;
+        }
+    }
+
+    /**
+     * 지금까지 입력된 바이트 수
+     */
+    public long length() {
+        return totalLength;
+    }
+
+    /**
+     * 현재까지의 해시 값 (상태는 바뀌지 않으므로 이후 update를 이어서 할 수 있음)
+     */
+    public long getValue() {
+        long h;
+        if (totalLength >= BLOCK_SIZE) {
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = mergeRound(h, v1);
+            h = mergeRound(h, v2);
+            h = mergeRound(h, v3);
+            h = mergeRound(h, v4);
+        } else {
+            h = v3 + PRIME64_5;
+        }
+        h += totalLength;
+
+        int i = 0;
+        while (i + 8 <= pendingLength) {
+            h ^= round(0, readLong(pending, i));
+            h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+            i += 8;
+        }
+        if (i + 4 <= pendingLength) {
+            h ^= (readInt(pending, i) & 0xFFFFFFFFL) * PRIME64_1;
+            h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+            i += 4;
+        }
+        while (i < pendingLength) {
+            h ^= (pending[i] & 0xFFL) * PRIME64_5;
+            h = Long.rotateLeft(h, 11) * PRIME64_1;
+            i++;
+        }
+
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    /**
+     * 해시 값을 16자리 소문자 16진수로 변환
+     */
+    public static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return (hex.length() == 16) ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    private void processBlock(byte[] bytes, int offset) {
+        v1 = round(v1, readLong(bytes, offset));
+        v2 = round(v2, readLong(bytes, offset + 8));
+        v3 = round(v3, readLong(bytes, offset + 16));
+        v4 = round(v4, readLong(bytes, offset + 24));
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+
+    // 리틀 엔디언 읽기
+    private static long readLong(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL)
+            | (bytes[offset + 1] & 0xFFL) << 8
+            | (bytes[offset + 2] & 0xFFL) << 16
+            | (bytes[offset + 3] & 0xFFL) << 24
+            | (bytes[offset + 4] & 0xFFL) << 32
+            | (bytes[offset + 5] & 0xFFL) << 40
+            | (bytes[offset + 6] & 0xFFL) << 48
+            | (bytes[offset + 7] & 0xFFL) << 56;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF)
+            | (bytes[offset + 1] & 0xFF) << 8
+            | (bytes[offset + 2] & 0xFF) << 16
+            | (bytes[offset + 3] & 0xFF) << 24;
+    }
+}
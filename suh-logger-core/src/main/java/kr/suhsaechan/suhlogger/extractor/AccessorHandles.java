@@ -0,0 +1,91 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 인자 없는 public 메서드를 (Object)Object MethodHandle로 찾는 유틸리티
+ *
+ * 구현 클래스가 public이 아니어도(StandardMultipartFile 등) 같은 메서드를 선언한 public 상위 타입을 찾아 연결한다.
+ * 조회는 클래스당 한 번만 하고(호출 측 ClassValue 캐시), 이후 호출은 invokeExact로 리플렉션 없이 실행된다.
+ */
+final class AccessorHandles {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private AccessorHandles() {
+    }
+
+    /**
+     * @param type 구현 클래스
+     * @param name 메서드 이름
+     * @return 핸들 (메서드가 없거나 접근할 수 없으면 null)
+     */
+    static MethodHandle find(Class<?> type, String name) {
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            MethodHandle handle = findOn(current, name);
+            if (handle != null) {
+                return handle.asType(GETTER);
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            Collections.addAll(queue, current.getInterfaces());
+        }
+        return null;
+    }
+
+    /**
+     * 핸들 실행 (핸들이 없으면 예외, 대상 메서드 예외는 그대로 전달)
+     */
+    static Object invoke(MethodHandle handle, Object target, String name) throws Throwable {
+        if (handle == null) {
+            throw new NoSuchMethodException(target.getClass().getName() + "." + name + "()");
+        }
+        return (Object) handle.invokeExact(target);
+    }
+
+    /**
+     * 핸들 실행 (핸들이 없거나 실패하면 fallback)
+     */
+    static Object invokeOrDefault(MethodHandle handle, Object target, Object fallback) {
+        if (handle == null) {
+            return fallback;
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable e) {
+            return fallback;
+        }
+    }
+
+    private static MethodHandle findOn(Class<?> owner, String name) {
+        if (!Modifier.isPublic(owner.getModifiers())) {
+            return null;
+        }
+        try {
+            Method method = owner.getMethod(name);
+            if (Modifier.isStatic(method.getModifiers())) {
+                return null;
+            }
+            return MethodHandles.publicLookup().findVirtual(owner, name, MethodType.methodType(method.getReturnType()));
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+}
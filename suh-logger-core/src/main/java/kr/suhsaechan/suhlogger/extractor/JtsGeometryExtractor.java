@@ -0,0 +1,101 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JTS Geometry 요약 정보 추출기 (좌표 배열/팩토리 등 순환 참조 구조는 따라가지 않음)
+ * 출력: _type, _class, (Point면) x/y/longitude/latitude, srid, wkt, isEmpty, isValid
+ */
+public class JtsGeometryExtractor implements TypeExtractor {
+
+    public static final String TARGET_TYPE = "org.locationtech.jts.geom.Geometry";
+
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors(type);
+        }
+    };
+
+    @Override
+    public String targetType() {
+        return TARGET_TYPE;
+    }
+
+    /**
+     * 다른 공간 라이브러리의 유사 타입도 이름 규칙으로 지원 (CommonUtil.isJTSGeometryType과 같은 규칙)
+     */
+    @Override
+    public boolean supports(Class<?> type) {
+        String className = type.getName();
+        return className.contains("org.locationtech.jts.geom") ||
+               className.contains("Point") && className.contains("geom") ||
+               className.contains("Polygon") && className.contains("geom") ||
+               className.contains("LineString") && className.contains("geom") ||
+               className.contains("Geometry") && className.contains("jts");
+    }
+
+    @Override
+    public Map<String, Object> extract(Object value) {
+        Accessors accessors = ACCESSORS.get(value.getClass());
+        Map<String, Object> info = new HashMap<>();
+        info.put("_type", "JTS_Geometry");
+        info.put("_class", value.getClass().getSimpleName());
+
+        // Point 객체인 경우 좌표 정보 추출
+        if (accessors.point) {
+            try {
+                Object x = AccessorHandles.invoke(accessors.x, value, "getX");
+                Object y = AccessorHandles.invoke(accessors.y, value, "getY");
+                info.put("x", x);
+                info.put("y", y);
+                info.put("longitude", x);
+                info.put("latitude", y);
+            } catch (Throwable e) {
+                info.put("coordinates", "좌표 추출 실패: " + e.getMessage());
+            }
+        }
+
+        info.put("srid", AccessorHandles.invokeOrDefault(accessors.srid, value, "SRID 추출 실패"));
+        info.put("wkt", AccessorHandles.invokeOrDefault(accessors.wkt, value, "WKT 변환 실패"));
+
+        // 기하학적 속성들 (실패하면 생략)
+        putIfAvailable(info, "isEmpty", accessors.empty, value);
+        putIfAvailable(info, "isValid", accessors.valid, value);
+        return info;
+    }
+
+    private static void putIfAvailable(Map<String, Object> info, String key, MethodHandle handle, Object value) {
+        try {
+            info.put(key, AccessorHandles.invoke(handle, value, key));
+        } catch (Throwable e) {
+            // 무시
+        }
+    }
+
+    /**
+     * 구현 클래스별 메서드 핸들
+     */
+    private static final class Accessors {
+
+        final boolean point;
+        final MethodHandle x;
+        final MethodHandle y;
+        final MethodHandle srid;
+        final MethodHandle wkt;
+        final MethodHandle empty;
+        final MethodHandle valid;
+
+        Accessors(Class<?> type) {
+            this.point = type.getSimpleName().contains("Point");
+            this.x = point ? AccessorHandles.find(type, "getX") : null;
+            this.y = point ? AccessorHandles.find(type, "getY") : null;
+            this.srid = AccessorHandles.find(type, "getSRID");
+            this.wkt = AccessorHandles.find(type, "toText");
+            this.empty = AccessorHandles.find(type, "isEmpty");
+            this.valid = AccessorHandles.find(type, "isValid");
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JPA 엔티티 / Hibernate 지연 로딩 안전 처리
+ *
+ * - 초기화되지 않은 Hibernate 프록시와 PersistentCollection은 초기화하지 않고 {"_lazy": "Order#42"}로 표시
+ *   (Hibernate.isInitialized, LazyInitializer.getIdentifier 등은 DB 조회를 일으키지 않음)
+ * - 엔티티(@Entity, 프록시 포함)는 toString()/getter를 호출하지 않고 필드를 직접 읽도록 필드 목록과 식별 라벨 제공
+ *
+ * Hibernate/JPA는 컴파일 의존성이 아니며, 클래스패스에 있을 때만 최초 사용 시 MethodHandle을 한 번 조회한다.
+ * 클래스별 판별 결과는 ClassValue에 캐시된다.
+ */
+public final class LazyEntitySupport {
+
+    private static final Set<String> ENTITY_ANNOTATIONS = Set.of(
+        "jakarta.persistence.Entity",
+        "javax.persistence.Entity"
+    );
+
+    private static final Set<String> ID_ANNOTATIONS = Set.of(
+        "jakarta.persistence.Id",
+        "jakarta.persistence.EmbeddedId",
+        "javax.persistence.Id",
+        "javax.persistence.EmbeddedId"
+    );
+
+    // 바이트코드 향상(enhancement)이 추가하는 내부 필드 접두사
+    private static final String ENHANCED_FIELD_PREFIX = "$$_hibernate_";
+
+    private enum Kind { NONE, ENTITY, PROXY, COLLECTION }
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            return kindOf(type);
+        }
+    };
+
+    private static final ClassValue<EntityInfo> ENTITIES = new ClassValue<>() {
+        @Override
+        protected EntityInfo computeValue(Class<?> type) {
+            return new EntityInfo(type);
+        }
+    };
+
+    private LazyEntitySupport() {
+    }
+
+    /**
+     * JPA 엔티티 또는 Hibernate 엔티티 프록시인지 확인
+     */
+    public static boolean isEntity(Object value) {
+        if (value == null) {
+            return false;
+        }
+        Kind kind = KINDS.get(value.getClass());
+        return kind == Kind.ENTITY || kind == Kind.PROXY;
+    }
+
+    /**
+     * JPA 엔티티 또는 Hibernate 엔티티 프록시 클래스인지 확인
+     */
+    public static boolean isEntityType(Class<?> type) {
+        Kind kind = KINDS.get(type);
+        return kind == Kind.ENTITY || kind == Kind.PROXY;
+    }
+
+    /**
+     * 초기화되지 않은 프록시/컬렉션이면 초기화 없이 만든 표시 정보 반환
+     * @return {"_lazy": "Order#42"} 또는 {"_lazy": "Order.items#42"} (지연 로딩 대상이 아니면 null)
+     */
+    public static Map<String, Object> lazyPlaceholder(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Kind kind = KINDS.get(value.getClass());
+        if (kind != Kind.PROXY && kind != Kind.COLLECTION) {
+            return null;
+        }
+        HibernateHandles hibernate = HibernateHandles.INSTANCE;
+        if (hibernate.isInitialized(value)) {
+            return null;
+        }
+        Map<String, Object> placeholder = new LinkedHashMap<>();
+        placeholder.put("_lazy", kind == Kind.PROXY ? hibernate.proxyLabel(value) : hibernate.collectionLabel(value));
+        return placeholder;
+    }
+
+    /**
+     * 초기화된 Hibernate 프록시면 실제 엔티티 반환 (그 외에는 그대로)
+     * 프록시 클래스의 필드는 비어 있으므로 필드를 읽기 전에 호출
+     */
+    public static Object unproxy(Object value) {
+        if (value == null || KINDS.get(value.getClass()) != Kind.PROXY) {
+            return value;
+        }
+        HibernateHandles hibernate = HibernateHandles.INSTANCE;
+        if (!hibernate.isInitialized(value)) {
+            return value;
+        }
+        Object implementation = hibernate.implementation(value);
+        return implementation != null ? implementation : value;
+    }
+
+    /**
+     * toString() 대신 사용할 엔티티 식별 라벨 ("Order#42", 식별자 필드가 없으면 "Order")
+     * 프록시는 초기화 여부와 관계없이 LazyInitializer의 식별자를 사용
+     */
+    public static String label(Object entity) {
+        Kind kind = KINDS.get(entity.getClass());
+        if (kind == Kind.PROXY) {
+            return HibernateHandles.INSTANCE.proxyLabel(entity);
+        }
+        EntityInfo info = ENTITIES.get(entity.getClass());
+        if (info.idField == null) {
+            return entity.getClass().getSimpleName();
+        }
+        try {
+            return entity.getClass().getSimpleName() + "#" + info.idField.get(entity);
+        } catch (IllegalAccessException e) {
+            return entity.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * 엔티티의 영속 필드 목록 (상위 클래스/@MappedSuperclass 포함, static/transient/향상 필드 제외, 접근 가능 상태)
+     */
+    public static List<Field> fields(Class<?> entityType) {
+        return ENTITIES.get(entityType).fields;
+    }
+
+    private static Kind kindOf(Class<?> type) {
+        HibernateHandles hibernate = HibernateHandles.INSTANCE;
+        if (hibernate.proxyType != null && hibernate.proxyType.isAssignableFrom(type)) {
+            return Kind.PROXY;
+        }
+        if (hibernate.collectionType != null && hibernate.collectionType.isAssignableFrom(type)) {
+            return Kind.COLLECTION;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (hasAnnotation(current.getDeclaredAnnotations(), ENTITY_ANNOTATIONS)) {
+                return Kind.ENTITY;
+            }
+        }
+        return Kind.NONE;
+    }
+
+    private static boolean hasAnnotation(Annotation[] annotations, Set<String> names) {
+        for (Annotation annotation : annotations) {
+            if (names.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * "com.example.Order" → "Order"
+     */
+    static String simpleEntityName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * "com.example.Order.items" → "Order.items" (대문자로 시작하는 첫 구간부터)
+     */
+    static String simpleRole(String role) {
+        int start = 0;
+        while (start < role.length() && !Character.isUpperCase(role.charAt(start))) {
+            int next = role.indexOf('.', start);
+            if (next < 0) {
+                return role;
+            }
+            start = next + 1;
+        }
+        return start < role.length() ? role.substring(start) : role;
+    }
+
+    /**
+     * 엔티티 클래스별 필드 정보
+     */
+    private static final class EntityInfo {
+
+        final List<Field> fields;
+        final Field idField;
+
+        EntityInfo(Class<?> type) {
+            List<Field> collected = new ArrayList<>();
+            Field id = null;
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                List<Field> declared = new ArrayList<>();
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || field.getName().startsWith(ENHANCED_FIELD_PREFIX)) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                    } catch (RuntimeException e) {
+                        continue;
+                    }
+                    if (id == null && hasAnnotation(field.getDeclaredAnnotations(), ID_ANNOTATIONS)) {
+                        id = field;
+                    }
+                    declared.add(field);
+                }
+                // 상위 클래스 필드(id, 생성일 등)가 먼저 출력되도록 앞에 추가
+                collected.addAll(0, declared);
+            }
+            this.fields = Collections.unmodifiableList(collected);
+            this.idField = id;
+        }
+    }
+
+    /**
+     * Hibernate API 메서드 핸들 (클래스패스에 없으면 모든 타입이 null이고 지연 로딩 판별을 하지 않음)
+     */
+    private static final class HibernateHandles {
+
+        static final HibernateHandles INSTANCE = load();
+
+        final Class<?> proxyType;
+        final Class<?> collectionType;
+        private final MethodHandle isInitialized;
+        private final MethodHandle lazyInitializer;
+        private final MethodHandle entityName;
+        private final MethodHandle identifier;
+        private final MethodHandle implementation;
+        private final MethodHandle role;
+        private final MethodHandle key;
+
+        private HibernateHandles(ClassLoader loader) throws ReflectiveOperationException {
+            Class<?> hibernate = Class.forName("org.hibernate.Hibernate", false, loader);
+            Class<?> initializerType = Class.forName("org.hibernate.proxy.LazyInitializer", false, loader);
+            this.proxyType = Class.forName("org.hibernate.proxy.HibernateProxy", false, loader);
+            this.collectionType = Class.forName("org.hibernate.collection.spi.PersistentCollection", false, loader);
+            this.isInitialized = MethodHandles.publicLookup()
+                .findStatic(hibernate, "isInitialized", MethodType.methodType(boolean.class, Object.class));
+            this.lazyInitializer = AccessorHandles.find(proxyType, "getHibernateLazyInitializer");
+            this.entityName = AccessorHandles.find(initializerType, "getEntityName");
+            this.identifier = AccessorHandles.find(initializerType, "getIdentifier");
+            this.implementation = AccessorHandles.find(initializerType, "getImplementation");
+            this.role = AccessorHandles.find(collectionType, "getRole");
+            this.key = AccessorHandles.find(collectionType, "getKey");
+        }
+
+        private HibernateHandles() {
+            this.proxyType = null;
+            this.collectionType = null;
+            this.isInitialized = null;
+            this.lazyInitializer = null;
+            this.entityName = null;
+            this.identifier = null;
+            this.implementation = null;
+            this.role = null;
+            this.key = null;
+        }
+
+        private static HibernateHandles load() {
+            ClassLoader ownLoader = LazyEntitySupport.class.getClassLoader();
+            try {
+                return new HibernateHandles(ownLoader);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // 라이브러리와 Hibernate가 다른 클래스로더에 있는 경우 (WAR 배포 등)
+                ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+                if (contextLoader != null && contextLoader != ownLoader) {
+                    try {
+                        return new HibernateHandles(contextLoader);
+                    } catch (ReflectiveOperationException | LinkageError ignored) {
+                        // Hibernate 없음
+                    }
+                }
+                return new HibernateHandles();
+            }
+        }
+
+        /**
+         * Hibernate.isInitialized (판별 실패 시 초기화된 것으로 보지 않음 - 값을 읽지 않는 쪽이 안전)
+         */
+        boolean isInitialized(Object value) {
+            try {
+                return (boolean) isInitialized.invokeExact(value);
+            } catch (Throwable e) {
+                return false;
+            }
+        }
+
+        String proxyLabel(Object proxy) {
+            Object initializer = AccessorHandles.invokeOrDefault(lazyInitializer, proxy, null);
+            if (initializer == null) {
+                return proxy.getClass().getSimpleName();
+            }
+            Object name = AccessorHandles.invokeOrDefault(entityName, initializer, null);
+            Object id = AccessorHandles.invokeOrDefault(identifier, initializer, null);
+            String simpleName = name != null ? simpleEntityName(name.toString()) : proxy.getClass().getSimpleName();
+            return simpleName + "#" + id;
+        }
+
+        String collectionLabel(Object collection) {
+            Object roleName = AccessorHandles.invokeOrDefault(role, collection, null);
+            Object owner = AccessorHandles.invokeOrDefault(key, collection, null);
+            String simpleRole = roleName != null ? simpleRole(roleName.toString()) : collection.getClass().getSimpleName();
+            return simpleRole + "#" + owner;
+        }
+
+        Object implementation(Object proxy) {
+            Object initializer = AccessorHandles.invokeOrDefault(lazyInitializer, proxy, null);
+            return initializer != null ? AccessorHandles.invokeOrDefault(implementation, initializer, null) : null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spring MultipartFile 요약 정보 추출기 (파일 내용은 읽지 않음)
+ * 출력: _type, fileName, contentType, size, isEmpty
+ */
+public class MultipartFileExtractor implements TypeExtractor {
+
+    public static final String TARGET_TYPE = "org.springframework.web.multipart.MultipartFile";
+
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors(type);
+        }
+    };
+
+    @Override
+    public String targetType() {
+        return TARGET_TYPE;
+    }
+
+    /**
+     * MultipartFile을 구현하지 않았어도 클래스/인터페이스 이름에 MultipartFile이 포함되면 지원 (이전 동작 유지)
+     */
+    @Override
+    public boolean supports(Class<?> type) {
+        if (type.getName().contains("MultipartFile")) {
+            return true;
+        }
+        for (Class<?> iface : type.getInterfaces()) {
+            if (iface.getName().contains("MultipartFile")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> extract(Object value) {
+        Accessors accessors = ACCESSORS.get(value.getClass());
+        Map<String, Object> info = new HashMap<>();
+        info.put("_type", "MultipartFile");
+        info.put("fileName", AccessorHandles.invokeOrDefault(accessors.originalFilename, value, "unknown"));
+        info.put("contentType", AccessorHandles.invokeOrDefault(accessors.contentType, value, "unknown"));
+        info.put("size", AccessorHandles.invokeOrDefault(accessors.size, value, -1));
+        info.put("isEmpty", AccessorHandles.invokeOrDefault(accessors.empty, value, "unknown"));
+        return info;
+    }
+
+    /**
+     * 구현 클래스별 메서드 핸들
+     */
+    private static final class Accessors {
+
+        final MethodHandle originalFilename;
+        final MethodHandle contentType;
+        final MethodHandle size;
+        final MethodHandle empty;
+
+        Accessors(Class<?> type) {
+            this.originalFilename = AccessorHandles.find(type, "getOriginalFilename");
+            this.contentType = AccessorHandles.find(type, "getContentType");
+            this.size = AccessorHandles.find(type, "getSize");
+            this.empty = AccessorHandles.find(type, "isEmpty");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.util.Map;
+
+/**
+ * 직렬화하기 어려운 타입을 요약 정보 Map으로 바꾸는 추출기 SPI
+ *
+ * ServiceLoader(META-INF/services/kr.suhsaechan.suhlogger.extractor.TypeExtractor) 또는
+ * Spring 빈으로 등록하면 makeSafeForSerialization / createSafeMap이 대상 타입 대신 extract 결과를 출력한다.
+ * 클래스별 추출기 결정은 TypeExtractors가 캐시하므로 추출기 구현도 클래스별 준비 작업을 캐시하는 것이 좋다.
+ */
+public interface TypeExtractor {
+
+    /**
+     * 대상 타입의 전체 클래스 이름 (상위 클래스/인터페이스까지 일치하면 적용)
+     * 이름으로 선언하므로 대상 라이브러리가 클래스패스에 없어도 추출기를 로드할 수 있음
+     */
+    String targetType();
+
+    /**
+     * 대상 타입 계층에 없는 클래스를 추가로 지원할지 여부 (이름 규칙 등, 기본 false)
+     * 클래스당 한 번만 호출되고 결과는 캐시됨
+     */
+    default boolean supports(Class<?> type) {
+        return false;
+    }
+
+    /**
+     * 요약 정보 추출
+     * @param value 대상 타입 인스턴스
+     * @return 출력할 정보 ("_type" 키 권장)
+     */
+    Map<String, Object> extract(Object value);
+}
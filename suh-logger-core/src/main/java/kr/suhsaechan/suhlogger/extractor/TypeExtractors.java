@@ -0,0 +1,210 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * TypeExtractor 레지스트리
+ *
+ * 기본 추출기(MultipartFile, JTS Geometry)와 ServiceLoader로 찾은 추출기를 최초 조회 시 한 번 로드하고,
+ * 클래스별 추출기 결정(타입 계층 이름 비교)은 ClassValue에 캐시해 이후 조회는 O(1)이다.
+ * 같은 대상 타입에 여러 추출기가 등록되면 나중에 등록한 추출기가 사용된다 (Spring 빈이 기본 추출기를 대체).
+ */
+public final class TypeExtractors {
+
+    private static final int MAX_LOAD_FAILURES = 16;
+
+    private static final Object LOCK = new Object();
+
+    // 추출기가 없는 클래스 표시 (ClassValue는 null을 캐시하지 않음)
+    private static final TypeExtractor NONE = new TypeExtractor() {
+        @Override
+        public String targetType() {
+            return "";
+        }
+
+        @Override
+        public Map<String, Object> extract(Object value) {
+            return null;
+        }
+    };
+
+    private static volatile Map<String, TypeExtractor> extractors;
+
+    // 등록 정보가 바뀌면 새 인스턴스로 교체 (이전 캐시는 버림)
+    private static volatile ClassValue<TypeExtractor> resolved = newCache();
+
+    private TypeExtractors() {
+    }
+
+    /**
+     * 클래스에 적용할 추출기 조회 (클래스별 캐시)
+     * @param type 런타임 클래스
+     * @return 추출기 (없으면 null)
+     */
+    public static TypeExtractor find(Class<?> type) {
+        TypeExtractor extractor = resolved.get(type);
+        return extractor == NONE ? null : extractor;
+    }
+
+    /**
+     * 추출기가 있으면 요약 정보를 반환
+     * @param value 대상 객체
+     * @return 요약 정보 (추출기가 없으면 null, 추출기 예외는 error 항목으로 기록)
+     */
+    public static Map<String, Object> extract(Object value) {
+        if (value == null) {
+            return null;
+        }
+        TypeExtractor extractor = find(value.getClass());
+        if (extractor == null) {
+            return null;
+        }
+        try {
+            return extractor.extract(value);
+        } catch (RuntimeException e) {
+            Map<String, Object> info = new HashMap<>();
+            info.put("_class", value.getClass().getName());
+            info.put("error", "정보 추출 실패: " + e.getMessage());
+            return info;
+        }
+    }
+
+    /**
+     * 추출기 등록 (Spring 빈, ServiceLoader로 찾을 수 없는 클래스로더, 테스트용)
+     */
+    public static void register(TypeExtractor extractor) {
+        synchronized (LOCK) {
+            Map<String, TypeExtractor> updated = new LinkedHashMap<>(load());
+            putLast(updated, extractor);
+            publish(updated);
+        }
+    }
+
+    /**
+     * 등록 해제 (같은 인스턴스가 등록되어 있을 때만, 기본 추출기로 되돌리지 않음)
+     */
+    public static void unregister(TypeExtractor extractor) {
+        synchronized (LOCK) {
+            Map<String, TypeExtractor> updated = new LinkedHashMap<>(load());
+            if (updated.remove(extractor.targetType(), extractor)) {
+                publish(updated);
+            }
+        }
+    }
+
+    /**
+     * 등록 정보를 비우고 다음 조회 시 다시 로드 (테스트용)
+     */
+    public static void reset() {
+        synchronized (LOCK) {
+            extractors = null;
+            resolved = newCache();
+        }
+    }
+
+    private static void publish(Map<String, TypeExtractor> updated) {
+        extractors = Collections.unmodifiableMap(updated);
+        resolved = newCache();
+    }
+
+    private static ClassValue<TypeExtractor> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected TypeExtractor computeValue(Class<?> type) {
+                TypeExtractor extractor = resolve(type, load());
+                return extractor != null ? extractor : NONE;
+            }
+        };
+    }
+
+    /**
+     * 가장 가까운 타입 계층(클래스 → 상위 클래스 → 인터페이스 순, 너비 우선)의 추출기,
+     * 없으면 supports가 true인 추출기 (나중에 등록한 것 우선)
+     */
+    static TypeExtractor resolve(Class<?> type, Map<String, TypeExtractor> candidates) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            TypeExtractor extractor = candidates.get(current.getName());
+            if (extractor != null) {
+                return extractor;
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            Collections.addAll(queue, current.getInterfaces());
+        }
+
+        TypeExtractor supported = null;
+        for (TypeExtractor extractor : candidates.values()) {
+            if (extractor.supports(type)) {
+                supported = extractor;
+            }
+        }
+        return supported;
+    }
+
+    private static Map<String, TypeExtractor> load() {
+        Map<String, TypeExtractor> current = extractors;
+        if (current != null) {
+            return current;
+        }
+        synchronized (LOCK) {
+            if (extractors != null) {
+                return extractors;
+            }
+            Map<String, TypeExtractor> loaded = new LinkedHashMap<>();
+            putLast(loaded, new MultipartFileExtractor());
+            putLast(loaded, new JtsGeometryExtractor());
+            loadFrom(TypeExtractors.class.getClassLoader(), loaded);
+            ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+            if (contextLoader != null && contextLoader != TypeExtractors.class.getClassLoader()) {
+                loadFrom(contextLoader, loaded);
+            }
+            extractors = Collections.unmodifiableMap(loaded);
+            return extractors;
+        }
+    }
+
+    /**
+     * 같은 대상 타입의 기존 추출기를 대체하고 맨 뒤로 이동 (supports 검사에서 나중 등록 우선)
+     */
+    private static void putLast(Map<String, TypeExtractor> target, TypeExtractor extractor) {
+        target.remove(extractor.targetType());
+        target.put(extractor.targetType(), extractor);
+    }
+
+    private static void loadFrom(ClassLoader classLoader, Map<String, TypeExtractor> target) {
+        Iterator<TypeExtractor> iterator = ServiceLoader.load(TypeExtractor.class, classLoader).iterator();
+        // 잘못된 등록(클래스 누락 등)은 건너뜀 (복구가 안 되는 경우를 대비해 횟수 제한)
+        int failures = 0;
+        while (failures < MAX_LOAD_FAILURES) {
+            try {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                putLast(target, iterator.next());
+            } catch (ServiceConfigurationError e) {
+                failures++;
+            }
+        }
+    }
+}
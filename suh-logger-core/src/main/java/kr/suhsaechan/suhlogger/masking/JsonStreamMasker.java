@@ -0,0 +1,117 @@
+package kr.suhsaechan.suhlogger.masking;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * JSON 본문 스트리밍 마스킹 유틸리티
+ *
+ * JsonParser 토큰을 JsonGenerator로 그대로 복사하면서, 마스킹 키워드에 해당하는 키의 값만 마스킹 값으로 대체한다.
+ * - 트리(JsonNode/Map)를 만들지 않고 한 번의 패스로 처리
+ * - 민감 키의 값이 객체/배열이면 skipChildren()으로 건너뛰고 마스킹 값 하나로 대체
+ * - 파싱에 실패하면(잘린 본문, 잘못된 바이트 등) 그때까지 마스킹된 출력 뒤에 "[unparsable JSON, N chars]" 표식을 붙여 반환
+ *   (원문을 그대로 반환하면 실패 지점 이전의 민감 값이 노출되므로 원본은 절대 반환하지 않음)
+ *
+ * jackson-core가 필요하다. (core 모듈에서는 선택 의존성, spring-boot-autoconfigure 모듈이 제공)
+ */
+public final class JsonStreamMasker {
+
+    // 실패 시 열린 객체/배열을 자동으로 닫지 않도록 비활성화 (부분 출력이 온전한 JSON처럼 보이지 않게)
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+    private JsonStreamMasker() {
+    }
+
+    /**
+     * Content-Type이 JSON 계열인지 확인 (application/json, application/*+json)
+     * @param contentType 응답 Content-Type (null 허용)
+     * @return JSON 여부
+     */
+    public static boolean isJsonContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String lower = contentType.toLowerCase();
+        return lower.startsWith("application/json") || lower.contains("+json");
+    }
+
+    /**
+     * JSON 문자열에서 마스킹 키워드에 해당하는 키의 값을 마스킹
+     * @param json 원본 JSON 문자열
+     * @param maskFields 마스킹할 필드 키워드 목록
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     * @param prettyPrint 출력 시 들여쓰기 적용 여부
+     * @return 마스킹된 JSON 문자열 (파싱 실패 시 부분 출력 + 실패 표식)
+     */
+    public static String mask(String json, List<String> maskFields, String maskValue, boolean prettyPrint) {
+        return mask(json, KeywordMatcher.of(maskFields), maskValue, prettyPrint);
+    }
+
+    /**
+     * JSON 문자열에서 마스킹 키워드에 해당하는 키의 값을 마스킹 (컴파일된 키워드 매처 사용)
+     * @param json 원본 JSON 문자열
+     * @param maskFields 마스킹 키워드 매처
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     * @param prettyPrint 출력 시 들여쓰기 적용 여부
+     * @return 마스킹된 JSON 문자열 (파싱 실패 시 부분 출력 + 실패 표식)
+     */
+    public static String mask(String json, KeywordMatcher maskFields, String maskValue, boolean prettyPrint) {
+        if (json == null || json.isEmpty() || maskFields == null || maskFields.isEmpty()) {
+            return json;
+        }
+
+        String mask = (maskValue != null) ? maskValue : CommonUtil.DEFAULT_MASK_VALUE;
+        StringWriter writer = new StringWriter(json.length());
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+
+            if (prettyPrint) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            boolean maskNextValue = false;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    maskNextValue = maskFields.matches(parser.currentName());
+                    generator.copyCurrentEvent(parser);
+                    continue;
+                }
+
+                if (maskNextValue) {
+                    // 객체/배열 값은 하위 토큰을 건너뛰고 마스킹 값 하나로 대체
+                    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                    }
+                    generator.writeString(mask);
+                    maskNextValue = false;
+                    continue;
+                }
+
+                generator.copyCurrentEvent(parser);
+            }
+        } catch (Exception e) {
+            // 잘린/깨진 JSON: 실패 지점까지 마스킹된 출력만 남기고 원문은 반환하지 않음
+            return unparsable(writer.toString(), json.length());
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * 파싱 실패 시 부분 출력 뒤에 실패 표식을 붙임
+     */
+    private static String unparsable(String partial, int length) {
+        String marker = "[unparsable JSON, " + length + " chars]";
+        return partial.isEmpty() ? marker : partial + " " + marker;
+    }
+}
@@ -0,0 +1,123 @@
+package kr.suhsaechan.suhlogger.masking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 마스킹 키워드 매처 (대소문자 무시 "포함" 검사)
+ *
+ * CommonUtil.isSensitive와 같은 의미(이름에 키워드가 포함되면 민감)를 갖지만,
+ * 키워드를 미리 소문자로 컴파일하고 첫 글자별로 후보를 나눠 두어 호출마다 문자열을 만들지 않는다.
+ */
+public final class KeywordMatcher {
+
+    /**
+     * 아무것도 일치하지 않는 매처
+     */
+    public static final KeywordMatcher NONE = new KeywordMatcher(Collections.emptyList());
+
+    private static final int ASCII = 128;
+
+    private final List<String> keywords;
+    // 첫 글자(ASCII 소문자)별 후보 키워드
+    private final String[][] byFirstChar;
+    // 첫 글자가 ASCII가 아닌 키워드
+    private final String[] nonAscii;
+
+    private KeywordMatcher(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isEmpty()) {
+                normalized.add(keyword.toLowerCase(Locale.ROOT));
+            }
+        }
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(normalized));
+
+        List<List<String>> buckets = new ArrayList<>(ASCII);
+        for (int i = 0; i < ASCII; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        List<String> others = new ArrayList<>();
+        for (String keyword : this.keywords) {
+            char first = keyword.charAt(0);
+            if (first < ASCII) {
+                buckets.get(first).add(keyword);
+            } else {
+                others.add(keyword);
+            }
+        }
+
+        this.byFirstChar = new String[ASCII][];
+        for (int i = 0; i < ASCII; i++) {
+            List<String> bucket = buckets.get(i);
+            this.byFirstChar[i] = bucket.isEmpty() ? null : bucket.toArray(new String[0]);
+        }
+        this.nonAscii = others.toArray(new String[0]);
+    }
+
+    /**
+     * 키워드 목록으로 매처 생성
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        if (keywords == null || keywords.isEmpty()) {
+            return NONE;
+        }
+        return new KeywordMatcher(keywords);
+    }
+
+    /**
+     * 기존 매처에 키워드를 추가한 새 매처 생성
+     */
+    public KeywordMatcher with(String... extraKeywords) {
+        if (extraKeywords == null || extraKeywords.length == 0) {
+            return this;
+        }
+        List<String> merged = new ArrayList<>(keywords);
+        merged.addAll(Arrays.asList(extraKeywords));
+        return new KeywordMatcher(merged);
+    }
+
+    /**
+     * 키워드가 하나도 없는지 여부
+     */
+    public boolean isEmpty() {
+        return keywords.isEmpty();
+    }
+
+    /**
+     * 소문자로 정규화된 키워드 목록
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * 이름에 키워드가 하나라도 포함되는지 확인 (대소문자 무시)
+     */
+    public boolean matches(String name) {
+        if (name == null || keywords.isEmpty()) {
+            return false;
+        }
+
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            String[] candidates = (c < ASCII) ? byFirstChar[c] : nonAscii;
+            if (candidates == null) {
+                continue;
+            }
+            for (String keyword : candidates) {
+                if (keyword.length() <= length - i && name.regionMatches(true, i, keyword, 0, keyword.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,388 @@
+package kr.suhsaechan.suhlogger.masking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * 값 패턴 기반 마스킹 엔진 (suh-logger.masking.value-patterns)
+ *
+ * 필드명과 무관하게 값 자체가 민감 정보 패턴에 해당하면 마스킹한다.
+ * (예: note 필드에 들어간 카드번호, raw 필드에 들어간 JWT)
+ *
+ * 내장 패턴:
+ * - card: 13~19자리 카드번호 (공백/하이픈 구분 허용, 발급사 식별번호(IIN)와 길이가 브랜드 규칙에 맞고 Luhn 검증 통과 시에만 마스킹)
+ *   (Luhn은 임의 숫자 10개 중 1개꼴로 통과하므로 epoch-millis 타임스탬프, 주문번호, snowflake ID 등의 오탐을 IIN으로 거름)
+ * - jwt: eyJ로 시작하는 3개 세그먼트 토큰
+ * - email: 이메일 주소
+ * 그 외 문자열은 정규식으로 취급하며, 모든 정규식은 하나의 대안(|) 패턴으로 합쳐 컴파일한다.
+ *
+ * 동작 방식:
+ * - 출력 문자열을 한 번만 선형 스캔하며, 각 위치에서 첫 글자(숫자, 'e', '@')로 내장 패턴 후보를 사전 필터링
+ * - 정규식 매칭은 스레드별로 재사용하는 Matcher로 같은 스캔 안에서 병합 처리
+ * - 일치하는 값이 없으면 원본 문자열 인스턴스를 그대로 반환 (추가 할당 없음)
+ */
+public final class ValuePatternRedactor {
+
+    public static final String CARD = "card";
+    public static final String JWT = "jwt";
+    public static final String EMAIL = "email";
+
+    /**
+     * 아무것도 마스킹하지 않는 인스턴스
+     */
+    public static final ValuePatternRedactor NONE = new ValuePatternRedactor(false, false, false, null, null);
+
+    private static final int MIN_CARD_DIGITS = 13;
+    private static final int MAX_CARD_DIGITS = 19;
+
+    private final boolean card;
+    private final boolean jwt;
+    private final boolean email;
+    private final Pattern custom;
+    private final ThreadLocal<Matcher> customMatcher;
+    private final String maskValue;
+
+    private ValuePatternRedactor(boolean card, boolean jwt, boolean email, Pattern custom, String maskValue) {
+        this.card = card;
+        this.jwt = jwt;
+        this.email = email;
+        this.custom = custom;
+        this.customMatcher = (custom != null) ? ThreadLocal.withInitial(() -> custom.matcher("")) : null;
+        this.maskValue = (maskValue != null) ? maskValue : CommonUtil.DEFAULT_MASK_VALUE;
+    }
+
+    /**
+     * 값 패턴 목록을 하나의 엔진으로 컴파일
+     * @param patterns 내장 패턴 이름(card, jwt, email) 또는 정규식 목록
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     * @return 컴파일된 엔진 (패턴이 없으면 NONE)
+     */
+    public static ValuePatternRedactor compile(List<String> patterns, String maskValue) {
+        if (patterns == null || patterns.isEmpty()) {
+            return NONE;
+        }
+
+        boolean card = false;
+        boolean jwt = false;
+        boolean email = false;
+        List<String> regexes = new ArrayList<>();
+
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            String name = pattern.trim();
+            if (CARD.equalsIgnoreCase(name)) {
+                card = true;
+            } else if (JWT.equalsIgnoreCase(name)) {
+                jwt = true;
+            } else if (EMAIL.equalsIgnoreCase(name)) {
+                email = true;
+            } else {
+                regexes.add("(?:" + pattern + ")");
+            }
+        }
+
+        Pattern custom = regexes.isEmpty() ? null : Pattern.compile(String.join("|", regexes));
+        if (!card && !jwt && !email && custom == null) {
+            return NONE;
+        }
+        return new ValuePatternRedactor(card, jwt, email, custom, maskValue);
+    }
+
+    /**
+     * 활성화된 패턴이 하나라도 있는지 여부
+     */
+    public boolean isEnabled() {
+        return card || jwt || email || custom != null;
+    }
+
+    /**
+     * 문자열에서 패턴에 해당하는 값을 마스킹
+     * @param text 최종 직렬화된 로그 문자열
+     * @return 마스킹된 문자열 (일치 항목이 없으면 원본 인스턴스)
+     */
+    public String redact(String text) {
+        if (text == null || !isEnabled()) {
+            return text;
+        }
+
+        int length = text.length();
+        Matcher matcher = null;
+        int customStart = -1;
+        if (custom != null) {
+            matcher = customMatcher.get().reset(text);
+            customStart = matcher.find() ? matcher.start() : -1;
+        }
+
+        StringBuilder out = null;
+        int copied = 0;   // out에 복사가 끝난 위치
+        int i = 0;
+
+        while (i < length) {
+            // 정규식 일치 위치가 스캔 위치보다 뒤처졌으면 (내장 패턴과 겹친 경우) 다시 탐색
+            if (customStart != -1 && customStart < i) {
+                customStart = matcher.find(i) ? matcher.start() : -1;
+            }
+
+            int end = -1;
+            int start = i;
+            char c = text.charAt(i);
+
+            if (card && isDigit(c) && (i == 0 || !isWordChar(text.charAt(i - 1)))) {
+                end = matchCard(text, i);
+            }
+            if (end == -1 && jwt && c == 'e' && (i == 0 || !isBase64UrlChar(text.charAt(i - 1)))) {
+                end = matchJwt(text, i);
+            }
+            if (end == -1 && email && c == '@') {
+                start = emailLocalStart(text, i, copied);
+                end = (start < i) ? matchEmailDomain(text, i + 1) : -1;
+            }
+            if (end == -1 && customStart == i) {
+                end = matcher.end();
+                if (end == i) {
+                    // 빈 문자열 일치는 무시
+                    end = -1;
+                    customStart = matcher.find(i + 1) ? matcher.start() : -1;
+                }
+            }
+
+            if (end == -1) {
+                i++;
+                continue;
+            }
+
+            if (out == null) {
+                out = new StringBuilder(length);
+            }
+            out.append(text, copied, start).append(maskValue);
+            copied = end;
+            i = end;
+        }
+
+        if (out == null) {
+            return text;
+        }
+        out.append(text, copied, length);
+        return out.toString();
+    }
+
+    /**
+     * 카드번호 일치 시 끝 위치 반환 (13~19자리, 숫자 사이 단일 공백/하이픈 허용, IIN/길이 및 Luhn 검증)
+     */
+    private static int matchCard(String text, int from) {
+        int length = text.length();
+        int digits = 0;
+        int lastDigitEnd = -1;
+        int i = from;
+
+        while (i < length && digits < MAX_CARD_DIGITS + 1) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+                lastDigitEnd = i + 1;
+                i++;
+            } else if ((c == ' ' || c == '-') && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+
+        if (digits < MIN_CARD_DIGITS || digits > MAX_CARD_DIGITS) {
+            return -1;
+        }
+        if (lastDigitEnd < length && isWordChar(text.charAt(lastDigitEnd))) {
+            return -1;
+        }
+        if (!issuerMatches(leadingDigits(text, from), digits)) {
+            return -1;
+        }
+        return luhnValid(text, from, lastDigitEnd) ? lastDigitEnd : -1;
+    }
+
+    /**
+     * 앞 4자리 숫자 (구분자는 건너뜀, 호출 시점에 13자리 이상이 보장됨)
+     */
+    private static int leadingDigits(String text, int from) {
+        int prefix = 0;
+        int count = 0;
+        for (int i = from; count < 4; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                prefix = prefix * 10 + (c - '0');
+                count++;
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * 발급사 식별번호(IIN) 앞자리와 자릿수가 카드 브랜드 규칙에 맞는지 확인 (첫 자리 2~6만 허용)
+     * @param prefix 앞 4자리
+     * @param digits 전체 자릿수
+     */
+    private static boolean issuerMatches(int prefix, int digits) {
+        int two = prefix / 100;
+        int three = prefix / 10;
+        switch (prefix / 1000) {
+            case 2:
+                // Mastercard 2-series(2221~2720), Mir(2200~2204)
+                if (prefix >= 2221 && prefix <= 2720) {
+                    return digits == 16;
+                }
+                return prefix >= 2200 && prefix <= 2204 && digits >= 16;
+            case 3:
+                if (two == 34 || two == 37) {
+                    return digits == 15; // Amex
+                }
+                if (prefix >= 3528 && prefix <= 3589) {
+                    return digits >= 16; // JCB
+                }
+                // Diners Club (300~305, 36, 38, 39)
+                return ((three >= 300 && three <= 305) || two == 36 || two == 38 || two == 39) && digits >= 14;
+            case 4:
+                return digits == 13 || digits == 16 || digits == 19; // Visa
+            case 5:
+                if (two >= 51 && two <= 55) {
+                    return digits == 16; // Mastercard
+                }
+                return two == 50 || (two >= 56 && two <= 58); // Maestro (13~19)
+            case 6:
+                if (two == 67) {
+                    return true; // Maestro (13~19)
+                }
+                return digits >= 16; // Discover, UnionPay, RuPay 등
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Luhn 체크섬 검증 (구분자는 건너뜀)
+     */
+    private static boolean luhnValid(String text, int from, int to) {
+        int sum = 0;
+        boolean doubleIt = false;
+        for (int i = to - 1; i >= from; i--) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                continue;
+            }
+            int d = c - '0';
+            if (doubleIt) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+            doubleIt = !doubleIt;
+        }
+        return sum % 10 == 0;
+    }
+
+    /**
+     * JWT 일치 시 끝 위치 반환 (eyJ로 시작하는 header.payload.signature)
+     */
+    private static int matchJwt(String text, int from) {
+        if (!text.startsWith("eyJ", from)) {
+            return -1;
+        }
+        int i = segmentEnd(text, from);
+        if (i >= text.length() || text.charAt(i) != '.') {
+            return -1;
+        }
+        int payloadEnd = segmentEnd(text, i + 1);
+        if (payloadEnd == i + 1 || payloadEnd >= text.length() || text.charAt(payloadEnd) != '.') {
+            return -1;
+        }
+        // 서명 세그먼트는 비어 있을 수 있음 (alg=none)
+        return segmentEnd(text, payloadEnd + 1);
+    }
+
+    private static int segmentEnd(String text, int from) {
+        int i = from;
+        while (i < text.length() && isBase64UrlChar(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * '@' 앞쪽 로컬 파트 시작 위치 (이미 복사한 위치 이전으로는 가지 않음)
+     */
+    private static int emailLocalStart(String text, int at, int lowerBound) {
+        int i = at;
+        while (i > lowerBound && isEmailLocalChar(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * '@' 뒤쪽 도메인 일치 시 끝 위치 반환 (점으로 구분된 라벨 2개 이상, 최상위 도메인은 영문 2자 이상)
+     */
+    private static int matchEmailDomain(String text, int from) {
+        int length = text.length();
+        int i = from;
+        int labels = 0;
+        int lastLabelStart = from;
+
+        while (i < length) {
+            int labelStart = i;
+            while (i < length && (isAsciiLetterOrDigit(text.charAt(i)) || text.charAt(i) == '-')) {
+                i++;
+            }
+            if (i == labelStart) {
+                break;
+            }
+            labels++;
+            lastLabelStart = labelStart;
+            if (i + 1 < length && text.charAt(i) == '.' && isAsciiLetterOrDigit(text.charAt(i + 1))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+
+        if (labels < 2 || i - lastLabelStart < 2) {
+            return -1;
+        }
+        for (int j = lastLabelStart; j < i; j++) {
+            if (!isAsciiLetter(text.charAt(j))) {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isDigit(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '-' || c == '_';
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+}
@@ -0,0 +1,132 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * Jackson 엔진용 @Loggable DTO 직렬화기
+ * BeanSerializer(리플렉션 기반 프로퍼티 탐색) 대신 생성된 직렬화기로 필드를 직접 출력
+ */
+final class GeneratedJacksonSerializers {
+
+    private GeneratedJacksonSerializers() {
+    }
+
+    /**
+     * 등록된 생성 직렬화기를 모두 Jackson 직렬화기로 등록한 모듈 생성
+     * @param maskFields 실행 시점 마스킹 키워드 (null이면 @Loggable maskFields만 적용)
+     * @param maskValue 마스킹 값
+     */
+    static SimpleModule module(List<String> maskFields, String maskValue) {
+        SimpleModule module = new SimpleModule("SuhLoggerGenerated");
+        for (GeneratedLogSerializer generated : GeneratedLogSerializers.all()) {
+            addSerializer(module, generated, maskFields, maskValue);
+        }
+        return module;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addSerializer(SimpleModule module, GeneratedLogSerializer generated,
+                                          List<String> maskFields, String maskValue) {
+        Class<T> type = (Class<T>) generated.type();
+        module.addSerializer(type, new StdSerializer<T>(type) {
+            @Override
+            public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeStartObject(value);
+                try {
+                    generated.write(value, new JsonFieldWriter(gen, provider, maskFields, maskValue));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                gen.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * JsonGenerator에 필드를 직접 쓰는 writer (LogFieldWriter는 checked 예외가 없으므로 감싸서 전달)
+     */
+    private static final class JsonFieldWriter implements LogFieldWriter {
+
+        private final JsonGenerator gen;
+        private final SerializerProvider provider;
+        private final List<String> maskFields;
+        private final String maskValue;
+
+        JsonFieldWriter(JsonGenerator gen, SerializerProvider provider, List<String> maskFields, String maskValue) {
+            this.gen = gen;
+            this.provider = provider;
+            this.maskFields = maskFields;
+            this.maskValue = maskValue;
+        }
+
+        @Override
+        public void field(String name, Object value) {
+            try {
+                if (CommonUtil.isSensitive(name, maskFields)) {
+                    gen.writeStringField(name, maskValue);
+                } else {
+                    provider.defaultSerializeField(name, value, gen);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void field(String name, long value) {
+            try {
+                if (CommonUtil.isSensitive(name, maskFields)) {
+                    gen.writeStringField(name, maskValue);
+                } else {
+                    gen.writeNumberField(name, value);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void field(String name, double value) {
+            try {
+                if (CommonUtil.isSensitive(name, maskFields)) {
+                    gen.writeStringField(name, maskValue);
+                } else {
+                    gen.writeNumberField(name, value);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void field(String name, boolean value) {
+            try {
+                if (CommonUtil.isSensitive(name, maskFields)) {
+                    gen.writeStringField(name, maskValue);
+                } else {
+                    gen.writeBooleanField(name, value);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void maskedField(String name) {
+            try {
+                gen.writeStringField(name, maskValue);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
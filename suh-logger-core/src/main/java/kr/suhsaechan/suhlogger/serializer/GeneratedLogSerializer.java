@@ -0,0 +1,23 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+/**
+ * @Loggable DTO용으로 컴파일 시점에 생성되는 직렬화기 SPI
+ *
+ * suh-logger-processor가 구현 클래스와 META-INF/services 등록 파일을 생성하며,
+ * 생성 코드는 필드/getter를 직접 호출하므로 실행 시점에 리플렉션을 사용하지 않는다.
+ * 조회는 GeneratedLogSerializers 레지스트리를 사용한다.
+ */
+public interface GeneratedLogSerializer {
+
+    /**
+     * 직렬화 대상 타입 (정확히 일치하는 런타임 클래스에만 적용)
+     */
+    Class<?> type();
+
+    /**
+     * 필드를 선언 순서대로 출력
+     * @param value type() 인스턴스
+     * @param out 출력 대상
+     */
+    void write(Object value, LogFieldWriter out);
+}
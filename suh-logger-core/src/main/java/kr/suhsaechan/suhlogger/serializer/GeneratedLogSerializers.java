@@ -0,0 +1,106 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 생성된 직렬화기 레지스트리
+ *
+ * 최초 조회 시 ServiceLoader(META-INF/services/...GeneratedLogSerializer)로 한 번만 로드하고,
+ * 이후 조회는 불변 Map 조회 한 번으로 끝난다. 생성된 직렬화기가 없으면 빈 Map 확인만 한다.
+ */
+public final class GeneratedLogSerializers {
+
+    private static final int MAX_LOAD_FAILURES = 16;
+
+    private static final Object LOCK = new Object();
+
+    private static volatile Map<Class<?>, GeneratedLogSerializer> serializers;
+
+    private GeneratedLogSerializers() {
+    }
+
+    /**
+     * 타입에 대한 생성된 직렬화기 조회
+     * @param type 런타임 클래스
+     * @return 직렬화기 (없으면 null)
+     */
+    public static GeneratedLogSerializer find(Class<?> type) {
+        Map<Class<?>, GeneratedLogSerializer> current = serializers;
+        if (current == null) {
+            current = load();
+        }
+        return current.isEmpty() ? null : current.get(type);
+    }
+
+    /**
+     * 등록된 모든 직렬화기 (Jackson 모듈 등록용)
+     */
+    public static Collection<GeneratedLogSerializer> all() {
+        Map<Class<?>, GeneratedLogSerializer> current = serializers;
+        if (current == null) {
+            current = load();
+        }
+        return current.values();
+    }
+
+    /**
+     * 직렬화기 직접 등록 (ServiceLoader로 찾을 수 없는 클래스로더, 테스트용)
+     * 이미 생성된 Jackson 엔진에는 반영되지 않으므로 설정 발행 전에 등록해야 함
+     */
+    public static void register(GeneratedLogSerializer serializer) {
+        synchronized (LOCK) {
+            Map<Class<?>, GeneratedLogSerializer> updated = new HashMap<>(load());
+            updated.put(serializer.type(), serializer);
+            serializers = Collections.unmodifiableMap(updated);
+        }
+    }
+
+    /**
+     * 등록 정보를 비우고 다음 조회 시 다시 로드 (테스트용)
+     */
+    public static void reset() {
+        synchronized (LOCK) {
+            serializers = null;
+        }
+    }
+
+    private static Map<Class<?>, GeneratedLogSerializer> load() {
+        synchronized (LOCK) {
+            if (serializers != null) {
+                return serializers;
+            }
+            Map<Class<?>, GeneratedLogSerializer> loaded = new HashMap<>();
+            loadFrom(GeneratedLogSerializers.class.getClassLoader(), loaded);
+            ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+            if (contextLoader != null && contextLoader != GeneratedLogSerializers.class.getClassLoader()) {
+                loadFrom(contextLoader, loaded);
+            }
+            serializers = loaded.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(loaded);
+            return serializers;
+        }
+    }
+
+    private static void loadFrom(ClassLoader classLoader, Map<Class<?>, GeneratedLogSerializer> target) {
+        Iterator<GeneratedLogSerializer> iterator =
+            ServiceLoader.load(GeneratedLogSerializer.class, classLoader).iterator();
+        // 잘못된 등록(클래스 누락 등)은 건너뛰고 해당 타입은 리플렉션 경로 사용 (복구가 안 되는 경우를 대비해 횟수 제한)
+        int failures = 0;
+        while (failures < MAX_LOAD_FAILURES) {
+            try {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                GeneratedLogSerializer serializer = iterator.next();
+                target.putIfAbsent(serializer.type(), serializer);
+            } catch (ServiceConfigurationError e) {
+                failures++;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * Jackson 기반 직렬화 엔진 (suh-logger.serializer=jackson)
+ *
+ * 특징:
+ * - 타입별 ObjectWriter 캐시: 루트 직렬화기 조회 비용을 호출마다 반복하지 않음
+ * - Jackson 내부 BeanSerializer 캐시 재사용: 매 호출 리플렉션 없이 직렬화
+ * - MaskingSerializerModifier: DTO 내부 어느 깊이의 필드든 마스킹 키워드에 해당하면 마스킹
+ * - PlainDtoSerializerModifier: 일반 DTO/record/엔티티만 getter 기반으로 직렬화하고, 서블릿 요청/응답 등
+ *   그 외 타입은 toString으로 출력 (getInputStream(), getSession() 같은 부수효과 방지)
+ * - @Loggable DTO: 생성된 직렬화기로 필드를 직접 출력 (엔진 생성 시점에 등록된 직렬화기 기준)
+ * - 원시 타입 배열: 요소 수 제한 및 byte[] 미리보기 (기본 Base64 전체 출력 대체)
+ * - 직렬화 실패 시(순환 참조 등) SimpleLogSerializer로 대체 (DTO를 필드 단위로 펼치고 같은 마스킹 키워드 적용)
+ * - writeTo: 중간 문자열 없이 바이트 스트림으로 직접 직렬화 (페이로드 다이제스트)
+ *
+ * jackson-databind/jackson-datatype-jsr310이 필요하다. 직접 생성하지 말고 LogSerializerFactory를 통해 만들면
+ * 클래스패스에 없을 때 SimpleLogSerializer로 대체된다.
+ */
+public class JacksonLogSerializer implements LogSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter defaultWriter;
+
+    // 루트 타입별 ObjectWriter 캐시
+    private final ConcurrentHashMap<Class<?>, ObjectWriter> writerCache = new ConcurrentHashMap<>();
+
+    // JSON 직렬화에서 제외할 클래스 목록 (null 허용)
+    private final List<String> excludedClasses;
+
+    // Jackson 직렬화 실패 시 대체 엔진
+    private final LogSerializer fallback;
+
+    /**
+     * @param excludedClasses JSON 직렬화에서 제외할 클래스 목록 (null 허용)
+     * @param maskFields 마스킹할 필드 키워드 목록 (null 또는 빈 목록이면 마스킹 안함)
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     */
+    public JacksonLogSerializer(List<String> excludedClasses, List<String> maskFields, String maskValue) {
+        this(excludedClasses, maskFields, maskValue,
+            SimpleLogSerializer.DEFAULT_MAX_ARRAY_ELEMENTS, SimpleLogSerializer.DEFAULT_BYTE_PREVIEW_SIZE);
+    }
+
+    /**
+     * @param excludedClasses JSON 직렬화에서 제외할 클래스 목록 (null 허용)
+     * @param maskFields 마스킹할 필드 키워드 목록 (null 또는 빈 목록이면 마스킹 안함)
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     * @param maxArrayElements 원시 타입 배열 출력 최대 요소 수
+     * @param bytePreviewSize byte[] 미리보기 최대 바이트 수
+     */
+    public JacksonLogSerializer(List<String> excludedClasses, List<String> maskFields, String maskValue,
+                                int maxArrayElements, int bytePreviewSize) {
+        String mask = (maskValue != null) ? maskValue : CommonUtil.DEFAULT_MASK_VALUE;
+        boolean masking = maskFields != null && !maskFields.isEmpty();
+
+        this.excludedClasses = excludedClasses;
+        this.fallback = new SimpleLogSerializer(excludedClasses, maxArrayElements, bytePreviewSize,
+            masking ? maskFields : null, mask, true);
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(PrimitiveArraySerializers.module(maxArrayElements, bytePreviewSize));
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        SimpleModule plainDtoModule = new SimpleModule("SuhLoggerPlainDto");
+        plainDtoModule.setSerializerModifier(new PlainDtoSerializerModifier());
+        mapper.registerModule(plainDtoModule);
+
+        mapper.registerModule(GeneratedJacksonSerializers.module(masking ? maskFields : null, mask));
+
+        if (masking) {
+            SimpleModule maskingModule = new SimpleModule("SuhLoggerMasking");
+            maskingModule.setSerializerModifier(new MaskingSerializerModifier(maskFields, mask));
+            mapper.registerModule(maskingModule);
+        }
+
+        this.objectMapper = mapper;
+        this.defaultWriter = mapper.writerWithDefaultPrettyPrinter();
+    }
+
+    @Override
+    public String serialize(Object obj) {
+        if (obj == null) {
+            return "null";
+        }
+
+        try {
+            Object safeObject = CommonUtil.makeSafeForSerialization(obj, excludedClasses);
+            return writerFor(safeObject.getClass()).writeValueAsString(safeObject);
+        } catch (Exception e) {
+            // 순환 참조, 접근 불가 getter 등으로 실패한 경우 기본 엔진으로 대체
+            return fallback.serialize(obj);
+        }
+    }
+
+    /**
+     * 스트림으로 직접 직렬화
+     * 도중에 실패하면 이미 쓴 바이트를 되돌릴 수 없으므로 대체 엔진으로 넘기지 않고 예외를 그대로 던진다.
+     * (호출자가 스트림을 초기화한 뒤 serialize()로 다시 시도)
+     */
+    @Override
+    public void writeTo(Object obj, OutputStream out) throws IOException {
+        if (obj == null) {
+            LogSerializer.super.writeTo(null, out);
+            return;
+        }
+        Object safeObject = CommonUtil.makeSafeForSerialization(obj, excludedClasses);
+        writerFor(safeObject.getClass()).writeValue(out, safeObject);
+    }
+
+    /**
+     * 루트 타입에 대한 캐시된 ObjectWriter 반환
+     */
+    private ObjectWriter writerFor(Class<?> type) {
+        return writerCache.computeIfAbsent(type, t -> defaultWriter.forType(t));
+    }
+
+    /**
+     * 내부 ObjectMapper 반환 (테스트 및 확장용)
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
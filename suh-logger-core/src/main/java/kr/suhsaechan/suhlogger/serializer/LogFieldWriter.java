@@ -0,0 +1,24 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+/**
+ * 생성된 직렬화기(GeneratedLogSerializer)가 필드를 출력하는 대상
+ *
+ * 원시 타입은 박싱 없이 전달되며, 출력 형식(문자열/Map/Jackson)은 구현체가 결정한다.
+ * - int/short/byte는 long, float는 double로 전달
+ * - char는 String으로 전달
+ */
+public interface LogFieldWriter {
+
+    void field(String name, Object value);
+
+    void field(String name, long value);
+
+    void field(String name, double value);
+
+    void field(String name, boolean value);
+
+    /**
+     * 컴파일 시점에 마스킹이 확정된 필드 (값을 읽지 않음)
+     */
+    void maskedField(String name);
+}
@@ -0,0 +1,33 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그 출력용 직렬화 엔진 SPI
+ * SuhLogger.superLog / infoJson 등에서 객체를 문자열로 변환할 때 사용
+ *
+ * 구현체:
+ * - SimpleLogSerializer: 외부 의존성 없는 기본 엔진 (suh-logger.serializer=simple)
+ * - JacksonLogSerializer: Jackson 기반 엔진, 중첩 필드 마스킹 지원 (suh-logger.serializer=jackson)
+ */
+public interface LogSerializer {
+
+    /**
+     * 객체를 로그 출력용 JSON 형태의 문자열로 변환
+     * @param obj 변환할 객체 (null 허용)
+     * @return JSON 형태의 문자열
+     */
+    String serialize(Object obj);
+
+    /**
+     * 객체를 직렬화하여 UTF-8 바이트로 스트림에 씀 (페이로드 다이제스트에서 사용)
+     * 기본 구현은 serialize() 결과를 인코딩하며, 스트리밍을 지원하는 엔진은 중간 문자열 없이 직접 쓴다.
+     * @param obj 변환할 객체 (null 허용)
+     * @param out 대상 스트림 (닫지 않음)
+     */
+    default void writeTo(Object obj, OutputStream out) throws IOException {
+        out.write(serialize(obj).getBytes(StandardCharsets.UTF_8));
+    }
+}
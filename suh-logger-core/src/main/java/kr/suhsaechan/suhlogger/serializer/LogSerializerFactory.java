@@ -0,0 +1,52 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import java.util.List;
+
+/**
+ * 설정(suh-logger.serializer)에 따라 직렬화 엔진을 생성하는 팩토리
+ *
+ * Jackson은 core 모듈의 선택 의존성이므로, JACKSON을 지정해도 클래스패스에 jackson-databind가 없으면
+ * SIMPLE 엔진으로 대체한다.
+ */
+public final class LogSerializerFactory {
+
+    private static final boolean JACKSON_PRESENT = isPresent("com.fasterxml.jackson.databind.ObjectMapper")
+        && isPresent("com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
+
+    private LogSerializerFactory() {
+    }
+
+    /**
+     * 설정에 맞는 직렬화 엔진 생성
+     * @param type 엔진 종류 (null이면 SIMPLE)
+     * @param excludedClasses 직렬화에서 제외할 클래스 이름 목록
+     * @param maskFields 마스킹할 필드 키워드 목록 (null이면 마스킹 안함, SIMPLE 엔진은 @Loggable DTO 출력에만 적용)
+     * @param maskValue 마스킹 값
+     * @param maxArrayElements 배열/컬렉션 최대 출력 요소 수
+     * @param bytePreviewSize byte[] 미리보기 바이트 수
+     * @return 직렬화 엔진
+     */
+    public static LogSerializer create(SerializerType type, List<String> excludedClasses, List<String> maskFields,
+                                       String maskValue, int maxArrayElements, int bytePreviewSize) {
+        if (type == SerializerType.JACKSON && JACKSON_PRESENT) {
+            return new JacksonLogSerializer(excludedClasses, maskFields, maskValue, maxArrayElements, bytePreviewSize);
+        }
+        return new SimpleLogSerializer(excludedClasses, maxArrayElements, bytePreviewSize, maskFields, maskValue);
+    }
+
+    /**
+     * Jackson 엔진 사용 가능 여부 (jackson-databind, jackson-datatype-jsr310이 클래스패스에 있는지)
+     */
+    public static boolean isJacksonAvailable() {
+        return JACKSON_PRESENT;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, LogSerializerFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
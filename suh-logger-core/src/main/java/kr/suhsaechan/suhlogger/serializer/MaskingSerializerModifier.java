@@ -0,0 +1,113 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * 마스킹 키워드에 해당하는 프로퍼티를 마스킹하는 Jackson BeanSerializerModifier
+ *
+ * - Bean 프로퍼티: 타입별 BeanSerializer 생성 시 한 번만 판별되어 캐시됨 (호출마다 판별 비용 없음)
+ * - Map 엔트리: 키 이름으로 판별 (request.user.password 처럼 Map 안에 중첩된 DTO도 처리)
+ */
+public class MaskingSerializerModifier extends BeanSerializerModifier {
+
+    private final List<String> maskFields;
+    private final String maskValue;
+
+    public MaskingSerializerModifier(List<String> maskFields, String maskValue) {
+        this.maskFields = new ArrayList<>(maskFields);
+        this.maskValue = maskValue;
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                     BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            if (CommonUtil.isSensitive(writer.getName(), maskFields)) {
+                beanProperties.set(i, new MaskedPropertyWriter(writer, maskValue));
+            }
+        }
+        return beanProperties;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(SerializationConfig config,
+                                                 MapType valueType,
+                                                 BeanDescription beanDesc,
+                                                 JsonSerializer<?> serializer) {
+        return new MaskingMapSerializer(maskFields, maskValue);
+    }
+
+    /**
+     * 값 대신 마스킹 값을 출력하는 프로퍼티 writer
+     */
+    static class MaskedPropertyWriter extends BeanPropertyWriter {
+
+        private final String maskValue;
+
+        MaskedPropertyWriter(BeanPropertyWriter base, String maskValue) {
+            super(base);
+            this.maskValue = maskValue;
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            gen.writeStringField(getName(), maskValue);
+        }
+
+        @Override
+        public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            gen.writeString(maskValue);
+        }
+    }
+
+    /**
+     * 키 이름 기준으로 값을 마스킹하는 Map 직렬화기
+     */
+    @SuppressWarnings("rawtypes")
+    static class MaskingMapSerializer extends JsonSerializer<Map> {
+
+        private final List<String> maskFields;
+        private final String maskValue;
+
+        MaskingMapSerializer(List<String> maskFields, String maskValue) {
+            this.maskFields = maskFields;
+            this.maskValue = maskValue;
+        }
+
+        @Override
+        public void serialize(Map value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            for (Object o : value.entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                String key = String.valueOf(entry.getKey());
+                if (CommonUtil.isSensitive(key, maskFields)) {
+                    gen.writeStringField(key, maskValue);
+                } else {
+                    provider.defaultSerializeField(key, entry.getValue(), gen);
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Map value) {
+            return value == null || value.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 일반 DTO가 아닌 타입의 BeanSerializer를 toString 출력으로 교체하는 BeanSerializerModifier
+ *
+ * Jackson은 알 수 없는 타입도 모든 getter를 호출해 직렬화하므로, HttpServletRequest의 getInputStream()/getSession(),
+ * HttpServletResponse의 getWriter() 같은 부수효과가 로깅 중에 일어난다.
+ * PlainDtoTypes 기준으로 DTO/record/엔티티만 필드 단위로 직렬화하고, 나머지는 SIMPLE 엔진과 같이 toString으로 출력한다.
+ * 타입별 직렬화기 생성 시 한 번만 판별되어 캐시된다.
+ */
+final class PlainDtoSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                              BeanDescription beanDesc,
+                                              JsonSerializer<?> serializer) {
+        if (serializer instanceof BeanSerializerBase && !PlainDtoTypes.isPlainDto(beanDesc.getBeanClass())) {
+            return ToStringSerializer.instance;
+        }
+        return serializer;
+    }
+}
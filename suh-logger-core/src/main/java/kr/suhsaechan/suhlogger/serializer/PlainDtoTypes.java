@@ -0,0 +1,127 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import kr.suhsaechan.suhlogger.extractor.LazyEntitySupport;
+
+/**
+ * 필드 단위로 펼쳐 출력해도 안전한 "일반 DTO" 타입 판별
+ *
+ * HttpServletRequest/Response, 세션, 스트림, 프레임워크 빈처럼 getter가 부수효과를 일으키는 타입은
+ * 펼치지 않고 toString 요약으로 출력해야 한다 (getInputStream, getSession, getWriter 등 호출 방지).
+ * - 일반 DTO: 애플리케이션 클래스(이름 없는 모듈), record, JPA 엔티티
+ * - 제외: JDK/서블릿/Spring/Hibernate 등 프레임워크 패키지의 클래스이거나 그 타입을 상속/구현한 클래스,
+ *   AutoCloseable(스트림/커넥션), 인터페이스/enum/배열/원시 타입
+ *
+ * 판별 결과와 필드 목록은 클래스별로 ClassValue에 캐시된다.
+ */
+public final class PlainDtoTypes {
+
+    private static final String[] FRAMEWORK_PACKAGES = {
+        "java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun.",
+        "org.springframework.", "org.apache.", "org.hibernate.",
+        "org.eclipse.jetty.", "io.undertow.", "io.netty.", "reactor."
+    };
+
+    // DTO가 흔히 구현하는 표식 인터페이스 (프레임워크 타입으로 보지 않음)
+    private static final Set<Class<?>> MARKER_INTERFACES = Set.of(Serializable.class, Comparable.class, Cloneable.class);
+
+    private static final ClassValue<Boolean> PLAIN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computePlain(type);
+        }
+    };
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return collectFields(type);
+        }
+    };
+
+    private PlainDtoTypes() {
+    }
+
+    /**
+     * 필드 단위로 펼쳐 출력해도 안전한 타입인지 확인
+     */
+    public static boolean isPlainDto(Class<?> type) {
+        return PLAIN.get(type);
+    }
+
+    /**
+     * 상위 클래스까지의 인스턴스 필드 (static/synthetic 제외, 접근 가능 상태)
+     * @return 접근할 수 없는 타입이면 빈 목록
+     */
+    public static List<Field> fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    private static boolean computePlain(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()) {
+            return false;
+        }
+        // 엔티티/프록시는 프레임워크 인터페이스를 구현하더라도 필드 기준으로 처리
+        if (LazyEntitySupport.isEntityType(type)) {
+            return true;
+        }
+        if (type.getModule().isNamed() || AutoCloseable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        // record는 java.lang.Record를 상속하므로 상위 클래스 검사에서 제외
+        for (Class<?> current = type; current != null && current != Object.class && current != Record.class;
+             current = current.getSuperclass()) {
+            if (isFrameworkName(current.getName()) || implementsFrameworkType(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean implementsFrameworkType(Class<?> type) {
+        for (Class<?> iface : type.getInterfaces()) {
+            if (MARKER_INTERFACES.contains(iface)) {
+                continue;
+            }
+            if (isFrameworkName(iface.getName()) || implementsFrameworkType(iface)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFrameworkName(String className) {
+        for (String prefix : FRAMEWORK_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Field> collectFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        try {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 모듈 경계 등으로 접근할 수 없으면 펼치지 않음
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(fields);
+    }
+}
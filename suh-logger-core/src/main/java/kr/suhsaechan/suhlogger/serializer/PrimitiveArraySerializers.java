@@ -0,0 +1,106 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Jackson 엔진용 원시 타입 배열 직렬화기
+ * SimpleLogSerializer/PrimitiveArrayWriter와 같은 규칙(요소 수 제한, byte[] 미리보기)을 적용하며 박싱 없이 출력
+ */
+final class PrimitiveArraySerializers {
+
+    private PrimitiveArraySerializers() {
+    }
+
+    /**
+     * 원시 타입 배열 직렬화기를 등록한 모듈 생성
+     */
+    static SimpleModule module(int maxElements, int bytePreviewSize) {
+        SimpleModule module = new SimpleModule("SuhLoggerPrimitiveArrays");
+        module.addSerializer(byte[].class, new BytesSerializer(bytePreviewSize));
+        module.addSerializer(int[].class, budgeted(int[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeNumber(a[i])));
+        module.addSerializer(long[].class, budgeted(long[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeNumber(a[i])));
+        module.addSerializer(float[].class, budgeted(float[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeNumber(a[i])));
+        module.addSerializer(double[].class, budgeted(double[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeNumber(a[i])));
+        module.addSerializer(short[].class, budgeted(short[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeNumber(a[i])));
+        module.addSerializer(boolean[].class, budgeted(boolean[].class, maxElements,
+            a -> a.length, (gen, a, i) -> gen.writeBoolean(a[i])));
+        module.addSerializer(char[].class, new StdSerializer<char[]>(char[].class) {
+            @Override
+            public void serialize(char[] value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                // 비밀번호 용도로 자주 쓰이므로 길이만 출력
+                gen.writeStartObject();
+                gen.writeStringField("_type", "char[]");
+                gen.writeNumberField("length", value.length);
+                gen.writeEndObject();
+            }
+        });
+        return module;
+    }
+
+    /**
+     * 요소 수 제한을 적용하는 배열 직렬화기 생성
+     * @param type 배열 타입
+     * @param maxElements 출력할 최대 요소 수
+     * @param length 배열 길이 함수
+     * @param writer i번째 요소를 박싱 없이 출력하는 함수
+     */
+    static <T> StdSerializer<T> budgeted(Class<T> type, int maxElements,
+                                         ToIntFunction<T> length, ElementWriter<T> writer) {
+        return new StdSerializer<T>(type) {
+            @Override
+            public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                int total = length.applyAsInt(value);
+                int n = Math.min(total, maxElements);
+                gen.writeStartArray(value, n);
+                for (int i = 0; i < n; i++) {
+                    writer.write(gen, value, i);
+                }
+                if (total > n) {
+                    gen.writeString("... " + (total - n) + " more");
+                }
+                gen.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * 배열의 i번째 요소 출력
+     */
+    @FunctionalInterface
+    interface ElementWriter<T> {
+        void write(JsonGenerator gen, T array, int index) throws IOException;
+    }
+
+    /**
+     * byte[]를 길이 + hex 미리보기로 출력 (기본 Base64 전체 출력 대체)
+     */
+    static class BytesSerializer extends StdSerializer<byte[]> {
+
+        private final int previewSize;
+
+        BytesSerializer(int previewSize) {
+            super(byte[].class);
+            this.previewSize = previewSize;
+        }
+
+        @Override
+        public void serialize(byte[] value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("_type", "byte[]");
+            gen.writeNumberField("length", value.length);
+            gen.writeStringField("preview", PrimitiveArrayWriter.hexPreview(value, previewSize));
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+/**
+ * 원시 타입 배열 전용 writer
+ *
+ * Object[] 캐스팅/박싱 없이 StringBuilder에 직접 append 한다.
+ * - 숫자/boolean 배열: 최대 maxElements개까지 출력하고 나머지는 "... N more"로 요약
+ * - byte[]: 길이와 앞부분 hex 미리보기만 출력 (이미지 등 대용량 바이너리 대비)
+ * - char[]: 비밀번호 용도로 자주 쓰이므로 길이만 출력
+ */
+public final class PrimitiveArrayWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private PrimitiveArrayWriter() {
+    }
+
+    /**
+     * 원시 타입 배열인지 확인
+     */
+    public static boolean isPrimitiveArray(Object obj) {
+        return obj != null && obj.getClass().isArray() && obj.getClass().getComponentType().isPrimitive();
+    }
+
+    /**
+     * 원시 타입 배열을 JSON 형태로 append
+     * @param sb 출력 대상
+     * @param array 원시 타입 배열
+     * @param maxElements 출력할 최대 요소 수
+     * @param bytePreviewSize byte[] 미리보기 최대 바이트 수
+     */
+    public static void append(StringBuilder sb, Object array, int maxElements, int bytePreviewSize) {
+        if (array instanceof byte[]) {
+            appendBytes(sb, (byte[]) array, bytePreviewSize);
+        } else if (array instanceof int[]) {
+            appendInts(sb, (int[]) array, maxElements);
+        } else if (array instanceof long[]) {
+            appendLongs(sb, (long[]) array, maxElements);
+        } else if (array instanceof float[]) {
+            appendFloats(sb, (float[]) array, maxElements);
+        } else if (array instanceof double[]) {
+            appendDoubles(sb, (double[]) array, maxElements);
+        } else if (array instanceof short[]) {
+            appendShorts(sb, (short[]) array, maxElements);
+        } else if (array instanceof boolean[]) {
+            appendBooleans(sb, (boolean[]) array, maxElements);
+        } else if (array instanceof char[]) {
+            sb.append("{\"_type\": \"char[]\", \"length\": ").append(((char[]) array).length).append('}');
+        }
+    }
+
+    /**
+     * byte[]를 길이 + hex 미리보기로 append
+     */
+    public static void appendBytes(StringBuilder sb, byte[] bytes, int previewSize) {
+        sb.append("{\"_type\": \"byte[]\", \"length\": ").append(bytes.length)
+          .append(", \"preview\": \"");
+        appendHex(sb, bytes, previewSize);
+        if (bytes.length > previewSize) {
+            sb.append("...");
+        }
+        sb.append("\"}");
+    }
+
+    /**
+     * byte[] 앞부분을 hex 문자열로 append
+     */
+    public static void appendHex(StringBuilder sb, byte[] bytes, int previewSize) {
+        int n = Math.min(bytes.length, Math.max(previewSize, 0));
+        for (int i = 0; i < n; i++) {
+            int b = bytes[i] & 0xFF;
+            sb.append(HEX[b >>> 4]).append(HEX[b & 0x0F]);
+        }
+    }
+
+    /**
+     * byte[] 앞부분을 hex 문자열로 반환
+     */
+    public static String hexPreview(byte[] bytes, int previewSize) {
+        StringBuilder sb = new StringBuilder(Math.min(bytes.length, Math.max(previewSize, 0)) * 2 + 3);
+        appendHex(sb, bytes, previewSize);
+        if (bytes.length > previewSize) {
+            sb.append("...");
+        }
+        return sb.toString();
+    }
+
+    private static void appendInts(StringBuilder sb, int[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    private static void appendLongs(StringBuilder sb, long[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    private static void appendFloats(StringBuilder sb, float[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    private static void appendDoubles(StringBuilder sb, double[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    private static void appendShorts(StringBuilder sb, short[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    private static void appendBooleans(StringBuilder sb, boolean[] array, int maxElements) {
+        int n = Math.min(array.length, maxElements);
+        sb.append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(array[i]);
+        }
+        appendRemaining(sb, array.length, n);
+    }
+
+    /**
+     * 출력하지 않은 나머지 요소 수를 요약하고 배열을 닫음
+     */
+    private static void appendRemaining(StringBuilder sb, int length, int written) {
+        if (length > written) {
+            if (written > 0) sb.append(", ");
+            sb.append("\"... ").append(length - written).append(" more\"");
+        }
+        sb.append(']');
+    }
+}
@@ -0,0 +1,11 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+/**
+ * 직렬화 엔진 종류
+ * - SIMPLE: 외부 의존성 없는 기본 엔진 (기본값)
+ * - JACKSON: Jackson 기반 엔진 (캐시된 ObjectWriter + 중첩 필드 마스킹)
+ */
+public enum SerializerType {
+    SIMPLE,
+    JACKSON
+}
@@ -0,0 +1,326 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * 외부 의존성 없는 기본 직렬화 엔진
+ * 객체를 안전한 형태(makeSafeForSerialization)로 변환한 뒤 JSON-like 문자열을 생성
+ * 하나의 StringBuilder에 재귀적으로 append 하며, 원시 타입 배열은 PrimitiveArrayWriter로 박싱 없이 출력
+ * @Loggable DTO는 생성된 직렬화기(GeneratedLogSerializer)로 필드를 직접 출력 (toString 대신)
+ *
+ * Jackson 엔진의 대체 엔진으로 쓰일 때(expandPlainDtos)는 일반 DTO를 toString 대신 필드 단위로 펼치고
+ * Map 키/필드 이름에 마스킹 키워드를 적용한다 (Jackson 엔진과 같은 중첩 마스킹 유지).
+ */
+public class SimpleLogSerializer implements LogSerializer {
+
+    private static final int MAX_DEPTH = 10; // 무한 재귀 방지
+
+    public static final int DEFAULT_MAX_ARRAY_ELEMENTS = 100;
+    public static final int DEFAULT_BYTE_PREVIEW_SIZE = 32;
+
+    // JSON 직렬화에서 제외할 클래스 목록 (null 허용)
+    private final List<String> excludedClasses;
+
+    // 원시 타입 배열 출력 최대 요소 수
+    private final int maxArrayElements;
+
+    // byte[] 미리보기 최대 바이트 수
+    private final int bytePreviewSize;
+
+    // 생성된 직렬화기 출력에 적용할 마스킹 키워드 (null 허용)
+    private final List<String> maskFields;
+
+    // 마스킹 값 (@Loggable maskFields 포함)
+    private final String maskValue;
+
+    // 일반 DTO를 필드 단위로 펼치고 Map 키/필드 이름 마스킹 적용 (Jackson 엔진 대체용)
+    private final boolean expandPlainDtos;
+
+    public SimpleLogSerializer(List<String> excludedClasses) {
+        this(excludedClasses, DEFAULT_MAX_ARRAY_ELEMENTS, DEFAULT_BYTE_PREVIEW_SIZE);
+    }
+
+    public SimpleLogSerializer(List<String> excludedClasses, int maxArrayElements, int bytePreviewSize) {
+        this(excludedClasses, maxArrayElements, bytePreviewSize, null, null);
+    }
+
+    /**
+     * @param maskFields 생성된 직렬화기 출력에 적용할 마스킹 키워드 (null이면 @Loggable maskFields만 적용)
+     * @param maskValue 마스킹 값 (null이면 기본값)
+     */
+    public SimpleLogSerializer(List<String> excludedClasses, int maxArrayElements, int bytePreviewSize,
+                               List<String> maskFields, String maskValue) {
+        this(excludedClasses, maxArrayElements, bytePreviewSize, maskFields, maskValue, false);
+    }
+
+    /**
+     * @param expandPlainDtos 일반 DTO를 필드 단위로 펼치고 Map 키/필드 이름에 마스킹 적용 (Jackson 엔진 대체용)
+     */
+    SimpleLogSerializer(List<String> excludedClasses, int maxArrayElements, int bytePreviewSize,
+                        List<String> maskFields, String maskValue, boolean expandPlainDtos) {
+        this.expandPlainDtos = expandPlainDtos;
+        this.excludedClasses = excludedClasses;
+        this.maxArrayElements = maxArrayElements;
+        this.bytePreviewSize = bytePreviewSize;
+        this.maskFields = maskFields;
+        this.maskValue = CommonUtil.getMaskValue(maskValue);
+    }
+
+    @Override
+    public String serialize(Object obj) {
+        if (obj == null) {
+            return "null";
+        }
+
+        if (obj instanceof String) {
+            return "\"" + obj.toString().replace("\"", "\\\"") + "\"";
+        }
+
+        if (obj instanceof Number || obj instanceof Boolean) {
+            return obj.toString();
+        }
+
+        // 객체를 safe serialization 통해 Map으로 변환 후 JSON-like 문자열 생성
+        Object safeObject = CommonUtil.makeSafeForSerialization(obj, excludedClasses);
+        StringBuilder sb = new StringBuilder(128);
+        write(sb, safeObject, 0);
+        return sb.toString();
+    }
+
+    /**
+     * 객체를 JSON-like 문자열로 append (재귀적)
+     */
+    private void write(StringBuilder sb, Object obj, int depth) {
+        if (obj == null) {
+            sb.append("null");
+            return;
+        }
+        if (depth > MAX_DEPTH) {
+            sb.append("\"[MAX_DEPTH_REACHED]\"");
+            return;
+        }
+
+        if (obj instanceof String) {
+            appendQuoted(sb, obj.toString());
+            return;
+        }
+
+        if (obj instanceof Number || obj instanceof Boolean) {
+            sb.append(obj);
+            return;
+        }
+
+        if (obj instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) obj;
+            sb.append("{\n");
+            boolean first = true;
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) sb.append(",\n");
+                indent(sb, depth + 1);
+                sb.append("\"").append(entry.getKey()).append("\": ");
+                if (expandPlainDtos && CommonUtil.isSensitive(String.valueOf(entry.getKey()), maskFields)) {
+                    appendQuoted(sb, maskValue);
+                } else {
+                    write(sb, entry.getValue(), depth + 1);
+                }
+                first = false;
+            }
+
+            sb.append("\n");
+            indent(sb, depth);
+            sb.append("}");
+            return;
+        }
+
+        if (obj instanceof Collection) {
+            Collection<?> collection = (Collection<?>) obj;
+            sb.append("[\n");
+            boolean first = true;
+
+            for (Object item : collection) {
+                if (!first) sb.append(",\n");
+                indent(sb, depth + 1);
+                write(sb, item, depth + 1);
+                first = false;
+            }
+
+            sb.append("\n");
+            indent(sb, depth);
+            sb.append("]");
+            return;
+        }
+
+        if (obj.getClass().isArray()) {
+            // 원시 타입 배열은 박싱 없이 전용 writer로 출력
+            if (obj.getClass().getComponentType().isPrimitive()) {
+                PrimitiveArrayWriter.append(sb, obj, maxArrayElements, bytePreviewSize);
+                return;
+            }
+
+            Object[] array = (Object[]) obj;
+            sb.append("[\n");
+
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) sb.append(",\n");
+                indent(sb, depth + 1);
+                write(sb, array[i], depth + 1);
+            }
+
+            sb.append("\n");
+            indent(sb, depth);
+            sb.append("]");
+            return;
+        }
+
+        // @Loggable DTO는 생성된 직렬화기로 필드를 직접 출력
+        GeneratedLogSerializer generated = GeneratedLogSerializers.find(obj.getClass());
+        if (generated != null) {
+            GeneratedObjectWriter writer = new GeneratedObjectWriter(sb, depth);
+            generated.write(obj, writer);
+            writer.close();
+            return;
+        }
+
+        // Jackson 대체 엔진이면 일반 DTO를 필드 단위로 펼쳐 중첩 필드도 마스킹
+        if (expandPlainDtos && PlainDtoTypes.isPlainDto(obj.getClass())) {
+            List<Field> fields = PlainDtoTypes.fields(obj.getClass());
+            if (!fields.isEmpty()) {
+                writeFields(sb, obj, fields, depth);
+                return;
+            }
+        }
+
+        // 기본적으로 toString() 사용
+        appendQuoted(sb, obj.toString());
+    }
+
+    /**
+     * 일반 DTO 필드 출력 (필드를 직접 읽으므로 getter를 호출하지 않음)
+     */
+    private void writeFields(StringBuilder sb, Object obj, List<Field> fields, int depth) {
+        sb.append("{\n");
+        boolean first = true;
+
+        for (Field field : fields) {
+            if (!first) sb.append(",\n");
+            indent(sb, depth + 1);
+            sb.append("\"").append(field.getName()).append("\": ");
+            if (CommonUtil.isSensitive(field.getName(), maskFields)) {
+                appendQuoted(sb, maskValue);
+            } else {
+                Object value;
+                try {
+                    value = field.get(obj);
+                } catch (IllegalAccessException e) {
+                    value = "[접근 불가]";
+                }
+                write(sb, CommonUtil.makeSafeForSerialization(value, excludedClasses), depth + 1);
+            }
+            first = false;
+        }
+
+        sb.append("\n");
+        indent(sb, depth);
+        sb.append("}");
+    }
+
+    private static void appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append("\\\"");
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void indent(StringBuilder sb, int depth) {
+        for (int i = 0; i < depth; i++) {
+            sb.append("  ");
+        }
+    }
+
+    /**
+     * 생성된 직렬화기 출력을 Map과 같은 형식으로 append (원시 타입은 박싱 없이)
+     */
+    private final class GeneratedObjectWriter implements LogFieldWriter {
+
+        private final StringBuilder sb;
+        private final int depth;
+        private boolean first = true;
+
+        GeneratedObjectWriter(StringBuilder sb, int depth) {
+            this.sb = sb;
+            this.depth = depth;
+            sb.append("{\n");
+        }
+
+        @Override
+        public void field(String name, Object value) {
+            if (name(name)) {
+                write(sb, CommonUtil.makeSafeForSerialization(value, excludedClasses), depth + 1);
+            }
+        }
+
+        @Override
+        public void field(String name, long value) {
+            if (name(name)) {
+                sb.append(value);
+            }
+        }
+
+        @Override
+        public void field(String name, double value) {
+            if (name(name)) {
+                sb.append(value);
+            }
+        }
+
+        @Override
+        public void field(String name, boolean value) {
+            if (name(name)) {
+                sb.append(value);
+            }
+        }
+
+        @Override
+        public void maskedField(String name) {
+            begin(name);
+            appendQuoted(sb, maskValue);
+        }
+
+        /**
+         * 필드 이름 출력 후 값을 출력해야 하면 true (실행 시점 마스킹 키워드에 해당하면 마스킹 값 출력)
+         */
+        private boolean name(String name) {
+            begin(name);
+            if (CommonUtil.isSensitive(name, maskFields)) {
+                appendQuoted(sb, maskValue);
+                return false;
+            }
+            return true;
+        }
+
+        private void begin(String name) {
+            if (!first) sb.append(",\n");
+            indent(sb, depth + 1);
+            sb.append("\"").append(name).append("\": ");
+            first = false;
+        }
+
+        void close() {
+            sb.append("\n");
+            indent(sb, depth);
+            sb.append("}");
+        }
+    }
+}
@@ -3,12 +3,25 @@ package kr.suhsaechan.suhlogger.util;
 import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
-import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.extractor.JtsGeometryExtractor;
+import kr.suhsaechan.suhlogger.extractor.LazyEntitySupport;
+import kr.suhsaechan.suhlogger.extractor.MultipartFileExtractor;
+import kr.suhsaechan.suhlogger.extractor.TypeExtractors;
+import kr.suhsaechan.suhlogger.masking.KeywordMatcher;
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializer;
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializers;
+import kr.suhsaechan.suhlogger.serializer.LogFieldWriter;
 
 /**
  * 공통 유틸리티 클래스
@@ -20,6 +33,10 @@ public class CommonUtil {
      */
     public static final String DEFAULT_MASK_VALUE = "****";
 
+    private static final MultipartFileExtractor MULTIPART_FILE_EXTRACTOR = new MultipartFileExtractor();
+
+    private static final JtsGeometryExtractor JTS_GEOMETRY_EXTRACTOR = new JtsGeometryExtractor();
+
     /**
      * 민감한 필드/헤더인지 확인 (키워드 기반)
      * @param name 필드명 또는 헤더명
@@ -38,14 +55,11 @@ public class CommonUtil {
 
     /**
      * 마스킹 값 반환 (null이면 기본값)
-     * @param masking 마스킹 설정
+     * @param maskValue 설정된 마스킹 값
      * @return 마스킹 값
      */
-    public static String getMaskValue(SuhLoggerProperties.MaskingConfig masking) {
-        if (masking == null || masking.getMaskValue() == null) {
-            return DEFAULT_MASK_VALUE;
-        }
-        return masking.getMaskValue();
+    public static String getMaskValue(String maskValue) {
+        return (maskValue != null) ? maskValue : DEFAULT_MASK_VALUE;
     }
 
     /**
@@ -78,6 +92,52 @@ public class CommonUtil {
         return masked;
     }
 
+    /**
+     * 파라미터 맵에 마스킹 적용 (컴파일된 키워드 매처 사용)
+     * @param params 원본 파라미터 맵
+     * @param matcher 마스킹 키워드 매처
+     * @param maskValue 마스킹 값
+     * @return 마스킹 적용된 파라미터 맵
+     */
+    public static Map<String, Object> maskParameters(Map<String, Object> params, KeywordMatcher matcher, String maskValue) {
+        if (params == null || params.isEmpty() || matcher == null || matcher.isEmpty()) {
+            return params;
+        }
+
+        String mask = (maskValue != null) ? maskValue : DEFAULT_MASK_VALUE;
+        Map<String, Object> masked = new HashMap<>();
+
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            String paramName = entry.getKey();
+            masked.put(paramName, matcher.matches(paramName) ? mask : entry.getValue());
+        }
+
+        return masked;
+    }
+
+    /**
+     * 헤더 맵에 마스킹 적용 (컴파일된 키워드 매처 사용)
+     * @param headers 원본 헤더 맵
+     * @param matcher 마스킹 헤더 키워드 매처
+     * @param maskValue 마스킹 값
+     * @return 마스킹 적용된 헤더 맵
+     */
+    public static Map<String, String> maskHeaders(Map<String, String> headers, KeywordMatcher matcher, String maskValue) {
+        if (headers == null || headers.isEmpty() || matcher == null || matcher.isEmpty()) {
+            return headers;
+        }
+
+        String mask = (maskValue != null) ? maskValue : DEFAULT_MASK_VALUE;
+        Map<String, String> masked = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            String headerName = entry.getKey();
+            masked.put(headerName, matcher.matches(headerName) ? mask : entry.getValue());
+        }
+
+        return masked;
+    }
+
     /**
      * 헤더 맵에 마스킹 적용
      * @param headers 원본 헤더 맵
@@ -129,6 +189,13 @@ public class CommonUtil {
      * 특히 MultipartFile, JTS Geometry와 같은 직렬화 불가능 객체를 처리
      */
     public static Object makeSafeForSerialization(Object obj, List<String> excludedClasses) {
+        return makeSafe(obj, excludedClasses, null);
+    }
+
+    /**
+     * @param entityPath 현재 변환 중인 엔티티 경로 (양방향 연관 순환 방지, 첫 엔티티를 만날 때 생성)
+     */
+    private static Object makeSafe(Object obj, List<String> excludedClasses, Set<Object> entityPath) {
         if (obj == null) {
             return null;
         }
@@ -137,6 +204,22 @@ public class CommonUtil {
         if (excludedClasses != null && isExcludedClass(obj, excludedClasses)) {
             return createExcludedClassInfo(obj);
         }
+
+        // Hibernate 지연 로딩 프록시/컬렉션은 초기화하지 않고 {"_lazy": "Order#42"}로 대체 (DB 조회 방지)
+        Map<String, Object> lazy = LazyEntitySupport.lazyPlaceholder(obj);
+        if (lazy != null) {
+            return lazy;
+        }
+
+        // JPA 엔티티는 toString()/getter를 호출하지 않고 필드를 직접 읽어 Map으로 변환
+        if (LazyEntitySupport.isEntity(obj)) {
+            return entityToSafeMap(LazyEntitySupport.unproxy(obj), excludedClasses, entityPath);
+        }
+
+        // @Loggable 생성 직렬화기가 있는 DTO는 그대로 두고 직렬화 엔진이 처리 (toString 검사 생략)
+        if (GeneratedLogSerializers.find(obj.getClass()) != null) {
+            return obj;
+        }
         
         // InputStream은 항상 안전한 맵으로 대체
         if (obj instanceof InputStream) {
@@ -146,15 +229,10 @@ public class CommonUtil {
             return result;
         }
         
-        // 클래스 이름에 MultipartFile이 포함된 객체는 안전하게 처리
-        // 단, excludedClasses에 포함된 경우는 제외
-        String className = obj.getClass().getName();
-        if (className.contains("MultipartFile")) {
-            // excludedClasses에 포함되어 있으면 제외된 클래스 정보만 반환
-            if (excludedClasses != null && isExcludedClass(obj, excludedClasses)) {
-                return createExcludedClassInfo(obj);
-            }
-            return extractMultipartFileInfo(obj);
+        // 등록된 TypeExtractor 대상(MultipartFile, JTS Geometry 등)은 요약 정보로 대체 (클래스별 캐시 조회)
+        Map<String, Object> extracted = TypeExtractors.extract(obj);
+        if (extracted != null) {
+            return extracted;
         }
         
         // Vector 객체 처리
@@ -175,18 +253,13 @@ public class CommonUtil {
             return extractFileInfo((File) obj);
         }
         
-        // JTS Geometry 객체 처리 (Point, Polygon 등)
-        if (className.contains("org.locationtech.jts.geom") || isJTSGeometryType(obj)) {
-            return extractJTSGeometryInfo(obj);
-        }
-        
         // Map의 경우 각 값을 안전하게 처리
         if (obj instanceof Map) {
             Map<Object, Object> original = (Map<Object, Object>) obj;
             Map<Object, Object> safe = new HashMap<>();
             
             for (Map.Entry<Object, Object> entry : original.entrySet()) {
-                safe.put(entry.getKey(), makeSafeForSerialization(entry.getValue(), excludedClasses));
+                safe.put(entry.getKey(), makeSafe(entry.getValue(), excludedClasses, entityPath));
             }
             
             return safe;
@@ -199,7 +272,7 @@ public class CommonUtil {
             
             int i = 0;
             for (Object item : original) {
-                safe[i++] = makeSafeForSerialization(item, excludedClasses);
+                safe[i++] = makeSafe(item, excludedClasses, entityPath);
             }
             
             return safe;
@@ -207,19 +280,19 @@ public class CommonUtil {
         
         // 배열의 경우 각 항목을 안전하게 처리
         if (obj.getClass().isArray()) {
-            try {
-                Object[] array = (Object[]) obj;
-                Object[] safe = new Object[array.length];
-                
-                for (int i = 0; i < array.length; i++) {
-                    safe[i] = makeSafeForSerialization(array[i], excludedClasses);
-                }
-                
-                return safe;
-            } catch (ClassCastException e) {
-                // 원시 타입 배열인 경우 그대로 반환
+            // 원시 타입 배열은 직렬화 엔진의 전용 writer가 처리하므로 그대로 반환
+            if (obj.getClass().getComponentType().isPrimitive()) {
                 return obj;
             }
+
+            Object[] array = (Object[]) obj;
+            Object[] safe = new Object[array.length];
+
+            for (int i = 0; i < array.length; i++) {
+                safe[i] = makeSafe(array[i], excludedClasses, entityPath);
+            }
+
+            return safe;
         }
         
         // 일반 객체의 경우, toString() 결과에서 "MultipartFile"이 포함되어 있으면 안전하게 처리
@@ -232,47 +305,49 @@ public class CommonUtil {
     }
     
     /**
-     * MultipartFile 객체에서 중요 정보를 추출
+     * JPA 엔티티를 필드 Map으로 변환
+     * - 필드 값도 makeSafe 규칙 적용 (지연 연관은 _lazy 표시, 연관 엔티티는 재귀 변환)
+     * - 현재 경로에 이미 있는 엔티티(양방향 연관)는 {"_ref": "Order#42"}로 표시
+     * - Map으로 바뀌어 DTO 필드 마스킹이 적용되지 않으므로 현재 설정의 마스킹 키워드를 여기서 적용
      */
-    public static Map<String, Object> extractMultipartFileInfo(Object multipartFile) {
-        Map<String, Object> info = new HashMap<>();
-        info.put("_type", "MultipartFile");
-        
+    private static Map<String, Object> entityToSafeMap(Object entity, List<String> excludedClasses,
+                                                       Set<Object> entityPath) {
+        Set<Object> path = (entityPath != null) ? entityPath : Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!path.add(entity)) {
+            Map<String, Object> ref = new LinkedHashMap<>();
+            ref.put("_ref", LazyEntitySupport.label(entity));
+            return ref;
+        }
+
         try {
-            // 리플렉션을 사용하여 MultipartFile 메서드 호출
-            try {
-                Object fileName = multipartFile.getClass().getMethod("getOriginalFilename").invoke(multipartFile);
-                info.put("fileName", fileName);
-            } catch (Exception e) {
-                info.put("fileName", "unknown");
-            }
-            
-            try {
-                Object contentType = multipartFile.getClass().getMethod("getContentType").invoke(multipartFile);
-                info.put("contentType", contentType);
-            } catch (Exception e) {
-                info.put("contentType", "unknown");
-            }
-            
-            try {
-                Object size = multipartFile.getClass().getMethod("getSize").invoke(multipartFile);
-                info.put("size", size);
-            } catch (Exception e) {
-                info.put("size", -1);
-            }
-            
-            try {
-                Object isEmpty = multipartFile.getClass().getMethod("isEmpty").invoke(multipartFile);
-                info.put("isEmpty", isEmpty);
-            } catch (Exception e) {
-                info.put("isEmpty", "unknown");
+            SuhLoggerSettings settings = SuhLoggerSettings.current();
+            KeywordMatcher maskMatcher = settings.isMaskingEnabled() ? settings.getMaskFieldMatcher() : KeywordMatcher.NONE;
+            String maskValue = getMaskValue(settings.getMaskValue());
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Field field : LazyEntitySupport.fields(entity.getClass())) {
+                String fieldName = field.getName();
+                if (maskMatcher.matches(fieldName)) {
+                    result.put(fieldName, maskValue);
+                    continue;
+                }
+                try {
+                    result.put(fieldName, makeSafe(field.get(entity), excludedClasses, path));
+                } catch (IllegalAccessException e) {
+                    result.put(fieldName, "[접근 불가: " + e.getMessage() + "]");
+                }
             }
-            
-        } catch (Exception e) {
-            info.put("error", "정보 추출 실패: " + e.getMessage());
+            return result;
+        } finally {
+            path.remove(entity);
         }
-        
-        return info;
+    }
+
+    /**
+     * MultipartFile 객체에서 중요 정보를 추출 (구현 클래스별로 캐시된 MethodHandle 사용)
+     */
+    public static Map<String, Object> extractMultipartFileInfo(Object multipartFile) {
+        return MULTIPART_FILE_EXTRACTOR.extract(multipartFile);
     }
     
     /**
@@ -355,7 +430,8 @@ public class CommonUtil {
         info.put("_type", "EXCLUDED_CLASS");
         info.put("_class", obj.getClass().getName());
         info.put("_simpleName", obj.getClass().getSimpleName());
-        info.put("_toString", obj.toString());
+        // 엔티티는 toString()이 지연 로딩을 일으킬 수 있으므로 식별 라벨 사용
+        info.put("_toString", LazyEntitySupport.isEntity(obj) ? LazyEntitySupport.label(obj) : obj.toString());
         return info;
     }
     
@@ -367,76 +443,15 @@ public class CommonUtil {
             return false;
         }
         
-        String className = obj.getClass().getName();
-        
-        // JTS Geometry 클래스들 확인
-        return className.contains("org.locationtech.jts.geom") ||
-               className.contains("Point") && className.contains("geom") ||
-               className.contains("Polygon") && className.contains("geom") ||
-               className.contains("LineString") && className.contains("geom") ||
-               className.contains("Geometry") && className.contains("jts");
+        // JTS Geometry 클래스들 확인 (JtsGeometryExtractor와 같은 이름 규칙)
+        return JTS_GEOMETRY_EXTRACTOR.supports(obj.getClass());
     }
     
     /**
-     * JTS Geometry 객체에서 중요 정보를 추출 (순환 참조 방지)
+     * JTS Geometry 객체에서 중요 정보를 추출 (순환 참조 방지, 구현 클래스별로 캐시된 MethodHandle 사용)
      */
     public static Map<String, Object> extractJTSGeometryInfo(Object geometry) {
-        Map<String, Object> info = new HashMap<>();
-        info.put("_type", "JTS_Geometry");
-        info.put("_class", geometry.getClass().getSimpleName());
-        
-        try {
-            // Point 객체인 경우 좌표 정보 추출
-            if (geometry.getClass().getSimpleName().contains("Point")) {
-                try {
-                    Object x = geometry.getClass().getMethod("getX").invoke(geometry);
-                    Object y = geometry.getClass().getMethod("getY").invoke(geometry);
-                    info.put("x", x);
-                    info.put("y", y);
-                    info.put("longitude", x);
-                    info.put("latitude", y);
-                } catch (Exception e) {
-                    info.put("coordinates", "좌표 추출 실패: " + e.getMessage());
-                }
-            }
-            
-            // SRID (좌표계) 정보 추출
-            try {
-                Object srid = geometry.getClass().getMethod("getSRID").invoke(geometry);
-                info.put("srid", srid);
-            } catch (Exception e) {
-                info.put("srid", "SRID 추출 실패");
-            }
-            
-            // WKT (Well-Known Text) 형식으로 변환 시도
-            try {
-                Object wkt = geometry.getClass().getMethod("toText").invoke(geometry);
-                info.put("wkt", wkt);
-            } catch (Exception e) {
-                info.put("wkt", "WKT 변환 실패");
-            }
-            
-            // 기하학적 속성들
-            try {
-                Object isEmpty = geometry.getClass().getMethod("isEmpty").invoke(geometry);
-                info.put("isEmpty", isEmpty);
-            } catch (Exception e) {
-                // 무시
-            }
-            
-            try {
-                Object isValid = geometry.getClass().getMethod("isValid").invoke(geometry);
-                info.put("isValid", isValid);
-            } catch (Exception e) {
-                // 무시
-            }
-            
-        } catch (Exception e) {
-            info.put("error", "JTS Geometry 정보 추출 실패: " + e.getMessage());
-            info.put("toString", geometry.toString());
-        }
-        
-        return info;
+        return JTS_GEOMETRY_EXTRACTOR.extract(geometry);
     }
     
     /**
@@ -460,7 +475,10 @@ public class CommonUtil {
             }
         }
         
-        // toString()으로 확인
+        // toString()으로 확인 (엔티티는 toString()이 지연 로딩을 일으킬 수 있으므로 제외)
+        if (LazyEntitySupport.isEntity(obj)) {
+            return false;
+        }
         String toString = obj.toString();
         return toString.contains("MultipartFile");
     }
@@ -469,32 +487,59 @@ public class CommonUtil {
      * 객체를 안전하게 Map으로 변환
      */
     public static Map<String, Object> createSafeMap(Object obj) {
-        return createSafeMap(obj, null);
+        return createSafeMap(obj, null, null);
     }
 
     /**
      * 객체를 안전하게 Map으로 변환 (마스킹 설정 포함)
      * @param obj 변환할 객체
-     * @param masking 마스킹 설정 (null이면 마스킹 안함)
+     * @param maskFields 마스킹할 필드 키워드 목록 (null이면 마스킹 안함)
+     * @param maskValue 마스킹 값 (null이면 기본값)
      */
-    public static Map<String, Object> createSafeMap(Object obj, SuhLoggerProperties.MaskingConfig masking) {
+    public static Map<String, Object> createSafeMap(Object obj, List<String> maskFields, String maskValue) {
         if (obj == null) {
             return new HashMap<>();
         }
 
+        Map<String, Object> lazy = LazyEntitySupport.lazyPlaceholder(obj);
+        if (lazy != null) {
+            return lazy;
+        }
+        obj = LazyEntitySupport.unproxy(obj);
+        boolean entity = LazyEntitySupport.isEntity(obj);
+
+        // @Loggable로 생성된 직렬화기 (있으면 toString()/리플렉션 없이 필드를 직접 읽음)
+        GeneratedLogSerializer generated = GeneratedLogSerializers.find(obj.getClass());
+
         Map<String, Object> result = new HashMap<>();
         result.put("_class", obj.getClass().getName());
-        result.put("_toString", obj.toString());
+        // 엔티티는 toString() 대신 식별 라벨 (지연 로딩 방지)
+        // 생성 직렬화기가 있으면 toString() 생략 (Lombok toString 등이 컴파일 시점 마스킹 필드를 출력하지 않도록)
+        if (entity) {
+            result.put("_entity", LazyEntitySupport.label(obj));
+        } else if (generated == null) {
+            result.put("_toString", obj.toString());
+        }
 
         // 마스킹 설정 확인
-        boolean shouldMask = masking != null && masking.isEnabled();
-        List<String> maskFields = shouldMask ? masking.getMaskFields() : null;
-        String maskValue = (masking != null && masking.getMaskValue() != null)
-            ? masking.getMaskValue() : "****";
+        boolean shouldMask = maskFields != null && !maskFields.isEmpty();
+        maskValue = getMaskValue(maskValue);
+
+        if (generated != null) {
+            try {
+                generated.write(obj, new SafeMapFieldWriter(result, shouldMask ? maskFields : null, maskValue));
+            } catch (Exception e) {
+                result.put("_error", "필드 추출 실패: " + e.getMessage());
+            }
+            return result;
+        }
 
         // 리플렉션을 사용하여 필드 값 추출 시도
         try {
-            for (Field field : obj.getClass().getDeclaredFields()) {
+            Iterable<Field> fields = entity
+                ? LazyEntitySupport.fields(obj.getClass())
+                : Arrays.asList(obj.getClass().getDeclaredFields());
+            for (Field field : fields) {
                 field.setAccessible(true);
                 String fieldName = field.getName();
 
@@ -505,32 +550,7 @@ public class CommonUtil {
                 }
 
                 try {
-                    Object value = field.get(obj);
-
-                    // 특수한 필드 타입 처리
-                    if (value == null) {
-                        result.put(fieldName, null);
-                    } else if (value instanceof InputStream) {
-                        result.put(fieldName, "[InputStream]");
-                    } else if (isMultipartFileType(value)) {
-                        result.put(fieldName, extractMultipartFileInfo(value));
-                    } else if (isJTSGeometryType(value)) {
-                        result.put(fieldName, extractJTSGeometryInfo(value));
-                    } else if (value instanceof Collection) {
-                        result.put(fieldName, "[Collection: " + ((Collection<?>) value).size() + " items]");
-                    } else if (value.getClass().isArray()) {
-                        try {
-                            Object[] array = (Object[]) value;
-                            result.put(fieldName, "[Array: " + array.length + " items]");
-                        } catch (ClassCastException e) {
-                            result.put(fieldName, "[Primitive Array]");
-                        }
-                    } else if (value instanceof Map) {
-                        result.put(fieldName, "[Map: " + ((Map<?, ?>) value).size() + " entries]");
-                    } else {
-                        // 기본 타입이나 String은 직접 포함
-                        result.put(fieldName, value);
-                    }
+                    result.put(fieldName, toSafeFieldValue(field.get(obj)));
                 } catch (Exception e) {
                     result.put(fieldName, "[접근 불가: " + e.getMessage() + "]");
                 }
@@ -541,4 +561,79 @@ public class CommonUtil {
 
         return result;
     }
+
+    /**
+     * createSafeMap 필드 값 변환 (특수 타입은 요약 정보로 대체)
+     */
+    private static Object toSafeFieldValue(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof InputStream) {
+            return "[InputStream]";
+        }
+        // 지연 로딩 프록시/컬렉션은 size() 등을 호출하기 전에 먼저 판별
+        Map<String, Object> lazy = LazyEntitySupport.lazyPlaceholder(value);
+        if (lazy != null) {
+            return lazy;
+        } else if (LazyEntitySupport.isEntity(value)) {
+            return "[Entity: " + LazyEntitySupport.label(value) + "]";
+        }
+        Map<String, Object> extracted = TypeExtractors.extract(value);
+        if (extracted != null) {
+            return extracted;
+        } else if (value instanceof Collection) {
+            return "[Collection: " + ((Collection<?>) value).size() + " items]";
+        } else if (value.getClass().isArray()) {
+            int length = java.lang.reflect.Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return "[" + value.getClass().getComponentType().getName() + "[]: " + length + " items]";
+            }
+            return "[Array: " + length + " items]";
+        } else if (value instanceof Map) {
+            return "[Map: " + ((Map<?, ?>) value).size() + " entries]";
+        }
+        // 기본 타입이나 String은 직접 포함
+        return value;
+    }
+
+    /**
+     * 생성된 직렬화기 출력을 createSafeMap 결과 Map에 담는 writer
+     */
+    private static final class SafeMapFieldWriter implements LogFieldWriter {
+
+        private final Map<String, Object> result;
+        private final List<String> maskFields;
+        private final String maskValue;
+
+        SafeMapFieldWriter(Map<String, Object> result, List<String> maskFields, String maskValue) {
+            this.result = result;
+            this.maskFields = maskFields;
+            this.maskValue = maskValue;
+        }
+
+        @Override
+        public void field(String name, Object value) {
+            result.put(name, isSensitive(name, maskFields) ? maskValue : toSafeFieldValue(value));
+        }
+
+        @Override
+        public void field(String name, long value) {
+            result.put(name, isSensitive(name, maskFields) ? maskValue : value);
+        }
+
+        @Override
+        public void field(String name, double value) {
+            result.put(name, isSensitive(name, maskFields) ? maskValue : value);
+        }
+
+        @Override
+        public void field(String name, boolean value) {
+            result.put(name, isSensitive(name, maskFields) ? maskValue : value);
+        }
+
+        @Override
+        public void maskedField(String name) {
+            result.put(name, maskValue);
+        }
+    }
 }
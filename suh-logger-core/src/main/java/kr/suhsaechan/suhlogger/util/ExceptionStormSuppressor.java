@@ -0,0 +1,285 @@
+package kr.suhsaechan.suhlogger.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예외 폭주 억제기
+ *
+ * 예외를 "메서드 + 예외 타입 + 상위 스택 프레임"으로 지문(fingerprint)화하여,
+ * 같은 지문은 윈도우(기본 10초) 안에서 첫 발생만 전체 로그로 남기고 나머지는 개수만 센다.
+ * 윈도우가 지나면 "N more in 10s" 요약을 한 줄 출력한다.
+ *
+ * - 요약은 예외 경로에서 기회적으로(opportunistic) 정리하며 출력하고, 억제된 예외가 남아 있으면
+ *   이후 예외가 없어도 윈도우가 끝날 때 공용 데몬 스레드(최초 억제 시 생성)가 출력
+ * - 추적하는 지문 수는 maxFingerprints로 제한 (초과 시 만료 지문 정리 후에도 가득 차면 추적 없이 전체 로그)
+ * - 설정 스냅샷이 교체되면 takeOver로 이전 인스턴스의 윈도우/집계를 이어받음 (설정 갱신으로 집계가 사라지지 않도록)
+ */
+public final class ExceptionStormSuppressor {
+
+    /**
+     * 억제 비활성화 (항상 전체 로그)
+     */
+    public static final ExceptionStormSuppressor DISABLED = new ExceptionStormSuppressor(false, Duration.ofSeconds(10), 0, 0);
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+    public static final int DEFAULT_STACK_DEPTH = 3;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final String windowLabel;
+    private final int maxFingerprints;
+    private final int stackDepth;
+
+    private final Map<Long, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public ExceptionStormSuppressor(Duration window, int maxFingerprints, int stackDepth) {
+        this(true, window, maxFingerprints, stackDepth);
+    }
+
+    private ExceptionStormSuppressor(boolean enabled, Duration window, int maxFingerprints, int stackDepth) {
+        Duration effectiveWindow = (window != null && !window.isNegative() && !window.isZero()) ? window : DEFAULT_WINDOW;
+        this.enabled = enabled;
+        this.windowNanos = effectiveWindow.toNanos();
+        this.windowLabel = formatWindow(effectiveWindow);
+        this.maxFingerprints = Math.max(1, maxFingerprints);
+        this.stackDepth = Math.max(0, stackDepth);
+        this.nextSweep.set(System.nanoTime() + windowNanos);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예외 발생 기록
+     * @param methodName 예외가 발생한 메서드 (로그 출력용 이름)
+     * @param error 발생한 예외
+     * @return 전체 로그를 남겨야 하면 true, 억제(개수만 집계)되면 false
+     */
+    public boolean shouldLog(String methodName, Throwable error) {
+        if (!enabled) {
+            return true;
+        }
+        long now = System.nanoTime();
+        sweepIfDue(now);
+
+        long key = fingerprint(methodName, error, stackDepth);
+        Fingerprint fingerprint = fingerprints.get(key);
+        if (fingerprint == null) {
+            if (fingerprints.size() >= maxFingerprints) {
+                sweep(now);
+                if (fingerprints.size() >= maxFingerprints) {
+                    // 추적 한도 초과: 억제하지 않고 그대로 출력
+                    return true;
+                }
+            }
+            String label = methodName + " " + error.getClass().getSimpleName();
+            fingerprint = fingerprints.putIfAbsent(key, new Fingerprint(label, now));
+            if (fingerprint == null) {
+                return true;
+            }
+        }
+        if (fingerprint.hit(now)) {
+            return true;
+        }
+        scheduleFlush();
+        return false;
+    }
+
+    /**
+     * 이전 설정 스냅샷의 억제기 상태를 이어받음 (SuhLoggerSettings.publish에서 호출)
+     * 지문 계산 방식이 같으면 진행 중인 윈도우와 억제 개수를 옮기고, 다르거나 억제가 꺼졌으면 이전 집계를 바로 출력한다.
+     */
+    public void takeOver(ExceptionStormSuppressor previous) {
+        if (previous == null || previous == this || !previous.enabled) {
+            return;
+        }
+        if (!enabled || stackDepth != previous.stackDepth) {
+            previous.flush();
+            return;
+        }
+        long now = System.nanoTime();
+        for (Map.Entry<Long, Fingerprint> entry : previous.fingerprints.entrySet()) {
+            Fingerprint old = entry.getValue();
+            long suppressed = old.suppressed.sumThenReset();
+            if (fingerprints.size() >= maxFingerprints || old.isExpired(now)) {
+                old.flush(suppressed);
+                continue;
+            }
+            Fingerprint moved = new Fingerprint(old.label, old.windowStart.get());
+            moved.suppressed.add(suppressed);
+            Fingerprint existing = fingerprints.putIfAbsent(entry.getKey(), moved);
+            if (existing != null) {
+                existing.suppressed.add(suppressed);
+            }
+        }
+        previous.fingerprints.clear();
+        if (hasPending()) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 집계 중인 억제 개수를 모두 요약 출력하고 추적을 비움
+     */
+    public void flush() {
+        Iterator<Map.Entry<Long, Fingerprint>> iterator = fingerprints.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Fingerprint> entry = iterator.next();
+            entry.getValue().flush();
+            fingerprints.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 현재 추적 중인 지문 수
+     */
+    public int trackedFingerprints() {
+        return fingerprints.size();
+    }
+
+    /**
+     * 메서드 + 예외 타입 + 상위 스택 프레임으로 64비트 지문 계산
+     */
+    static long fingerprint(String methodName, Throwable error, int stackDepth) {
+        long hash = 1125899906842597L;
+        hash = mix(hash, methodName);
+        hash = mix(hash, error.getClass().getName());
+        StackTraceElement[] trace = error.getStackTrace();
+        int depth = Math.min(stackDepth, trace.length);
+        for (int i = 0; i < depth; i++) {
+            StackTraceElement frame = trace[i];
+            hash = mix(hash, frame.getClassName());
+            hash = mix(hash, frame.getMethodName());
+            hash = 31 * hash + frame.getLineNumber();
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        return 31 * hash + (value != null ? value.hashCode() : 0);
+    }
+
+    // 윈도우마다 한 스레드만 정리 수행
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + windowNanos)) {
+            sweep(now);
+        }
+    }
+
+    /**
+     * 윈도우가 끝날 때 요약을 출력하도록 예약 (이미 예약되어 있으면 생략)
+     */
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                Flusher.EXECUTOR.schedule(this::flushDue, windowNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flushDue() {
+        flushScheduled.set(false);
+        sweep(System.nanoTime());
+        if (hasPending()) {
+            scheduleFlush();
+        }
+    }
+
+    private boolean hasPending() {
+        for (Fingerprint fingerprint : fingerprints.values()) {
+            if (fingerprint.suppressed.sum() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 윈도우가 끝난 지문의 요약 출력 후 제거
+     */
+    private void sweep(long now) {
+        Iterator<Map.Entry<Long, Fingerprint>> iterator = fingerprints.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Fingerprint> entry = iterator.next();
+            Fingerprint fingerprint = entry.getValue();
+            if (fingerprint.isExpired(now)) {
+                fingerprint.flush();
+                fingerprints.remove(entry.getKey(), fingerprint);
+            }
+        }
+    }
+
+    private static String formatWindow(Duration window) {
+        long seconds = window.getSeconds();
+        return (seconds > 0 && window.getNano() == 0) ? seconds + "s" : window.toMillis() + "ms";
+    }
+
+    /**
+     * 지문별 윈도우 상태
+     */
+    private final class Fingerprint {
+        private final String label;
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong windowStart;
+
+        Fingerprint(String label, long windowStart) {
+            this.label = label;
+            this.windowStart = new AtomicLong(windowStart);
+        }
+
+        boolean isExpired(long now) {
+            return now - windowStart.get() >= windowNanos;
+        }
+
+        /**
+         * @return 새 윈도우의 첫 발생이면 true (윈도우 교체는 한 스레드만 성공)
+         */
+        boolean hit(long now) {
+            long start = windowStart.get();
+            if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+                flush();
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+
+        void flush() {
+            flush(suppressed.sumThenReset());
+        }
+
+        void flush(long count) {
+            if (count > 0) {
+                SuhLogger.error("[ERROR][X]" + label + " - " + count + " more in " + windowLabel);
+            }
+        }
+    }
+
+    /**
+     * 윈도우 종료 요약 출력용 공용 데몬 스레드 (억제가 처음 발생할 때 생성)
+     */
+    private static final class Flusher {
+        static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "suh-logger-storm-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,356 @@
+package kr.suhsaechan.suhlogger.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+
+/**
+ * 요청 단위 로그 컨텍스트 (꼬리 버퍼링, 로그 예산)
+ *
+ * 요청 처리 중 SuhLogger 정적 메서드/Aspect가 만든 이벤트를 바로 출력하지 않고
+ * 스레드별 고정 크기 링 버퍼에 쌓아 둔다. 요청이 끝나면 SuhLoggingFilter가
+ * - 빠른 정상 응답: 버퍼를 버림 (discard)
+ * - 에러 또는 느린 응답: 순서대로 DEFERRED 마커를 붙여 출력 (flush)
+ *
+ * - 슬롯 객체는 생성 시 한 번만 만들고 요청마다 재사용 (이벤트당 할당 없음)
+ * - 용량을 넘으면 가장 오래된 이벤트부터 덮어쓰고 버린 개수를 함께 출력
+ * - 인자 객체는 참조만 보관하므로, 출력 시점의 toString() 결과가 찍힘 (정적 메서드 출력은 대부분 이미 문자열)
+ *
+ * 로그 예산(log-budget)이 켜져 있으면 요청 하나가 출력할 수 있는 이벤트 수/바이트 수를 제한한다.
+ * - 예산 안: 그대로 출력
+ * - 예산 소진 후: 직렬화/본문 출력은 한 줄 요약으로 대체되고, 짧은 한 줄 이벤트만 summary-events개까지 출력
+ * - 그 이후: 모두 버리고 개수/크기만 집계하여 요청 종료 시 "[LOG BUDGET] N events / M bytes suppressed" 출력
+ * 바이트 수는 메시지와 문자열 인자의 문자 수 기준 근사치다.
+ */
+public final class RequestLogContext {
+
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_BUDGET_MAX_EVENTS = 2000;
+    public static final long DEFAULT_BUDGET_MAX_BYTES = 1024 * 1024;
+    public static final int DEFAULT_BUDGET_SUMMARY_EVENTS = 100;
+
+    /**
+     * 예산 소진 후 요약으로 인정하는 이벤트 최대 길이 (이보다 긴 이벤트는 버림)
+     */
+    static final int SUMMARY_MAX_CHARS = 256;
+
+    // 문자열이 아닌 인자의 크기 추정치 (toString() 호출 없이 집계)
+    private static final int OBJECT_ARG_ESTIMATE = 16;
+
+    /**
+     * 지연 출력된 이벤트에 붙는 SLF4J 마커 (logback 필터/패턴에서 %marker로 구분 가능)
+     */
+    public static final Marker DEFERRED = MarkerFactory.getMarker("SUH_DEFERRED");
+
+    private static final Logger logger = LoggerFactory.getLogger(SuhLogger.class);
+
+    // 요청 스레드별 컨텍스트 (서블릿 스레드 풀 재사용 시 슬롯도 함께 재사용)
+    private static final ThreadLocal<RequestLogContext> CONTEXTS = new ThreadLocal<>();
+
+    private final Slot[] slots;
+    private int head;      // 가장 오래된 이벤트 위치
+    private int size;
+    private long dropped;
+    private long startNanos;
+    private boolean active;
+    private boolean buffering;
+
+    // 로그 예산 (maxEvents가 0이면 제한 없음)
+    private int maxEvents;
+    private long maxBytes;
+    private int summaryEvents;
+    private int usedEvents;
+    private long usedBytes;
+    private int summarized;
+    private long suppressedEvents;
+    private long suppressedBytes;
+
+    private RequestLogContext(int capacity) {
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 버퍼링 시작 (로그 예산 없음)
+     * 같은 용량의 컨텍스트가 이미 있으면 재사용한다
+     */
+    public static RequestLogContext open(int capacity) {
+        return open(true, capacity, 0, 0, 0);
+    }
+
+    /**
+     * 설정(tail-buffer, log-budget)에 맞춰 현재 스레드의 요청 컨텍스트 시작
+     * 요청이 끝나면 버퍼링 중이면 flush()/discard(), 아니면 close()로 종료해야 한다
+     */
+    public static RequestLogContext open(SuhLoggerSettings settings) {
+        boolean budget = settings.isLogBudgetEnabled();
+        return open(settings.isTailBufferEnabled(), settings.getTailBufferCapacity(),
+            budget ? settings.getLogBudgetMaxEvents() : 0,
+            budget ? settings.getLogBudgetMaxBytes() : 0,
+            budget ? settings.getLogBudgetSummaryEvents() : 0);
+    }
+
+    private static RequestLogContext open(boolean buffering, int capacity, int maxEvents, long maxBytes,
+                                          int summaryEvents) {
+        RequestLogContext context = CONTEXTS.get();
+        if (buffering) {
+            int effectiveCapacity = (capacity > 0) ? capacity : DEFAULT_CAPACITY;
+            if (context == null || context.slots.length != effectiveCapacity) {
+                context = new RequestLogContext(effectiveCapacity);
+                CONTEXTS.set(context);
+            }
+        } else if (context == null) {
+            // 예산만 쓰는 경우 슬롯 없이 생성 (이후 버퍼링 요청이 오면 그때 교체)
+            context = new RequestLogContext(0);
+            CONTEXTS.set(context);
+        }
+        context.reset();
+        context.buffering = buffering;
+        context.maxEvents = Math.max(0, maxEvents);
+        context.maxBytes = (maxBytes > 0) ? maxBytes : Long.MAX_VALUE;
+        context.summaryEvents = Math.max(0, summaryEvents);
+        context.startNanos = System.nanoTime();
+        context.active = true;
+        return context;
+    }
+
+    /**
+     * 현재 스레드에서 버퍼링 중인 컨텍스트
+     * @return 버퍼링 중이 아니면 null
+     */
+    public static RequestLogContext current() {
+        RequestLogContext context = CONTEXTS.get();
+        return (context != null && context.active) ? context : null;
+    }
+
+    /**
+     * 현재 요청의 로그 예산이 소진되었는지 여부 (요청 밖이거나 예산이 없으면 false)
+     * 직렬화/본문 출력처럼 큰 이벤트를 만드는 쪽에서 확인하여 한 줄 요약으로 대체한다
+     */
+    public static boolean isBudgetExhausted() {
+        RequestLogContext context = current();
+        return context != null && context.isOverBudget();
+    }
+
+    /**
+     * 예산을 차감하고, 버퍼링 중이면 이벤트를 버퍼에 추가
+     * @return 버퍼에 담았거나 예산 초과로 버렸으면 true, 바로 출력해야 하면 false
+     */
+    static boolean capture(Logger target, SuhLogger.LogLevel level, String message, Object[] args) {
+        RequestLogContext context = current();
+        if (context == null) {
+            return false;
+        }
+        if (!context.charge(message, args)) {
+            return true;
+        }
+        if (!context.buffering) {
+            return false;
+        }
+        context.append(target, level, message, args);
+        return true;
+    }
+
+    /**
+     * 예산 차감 (예산 소진 후에는 짧은 이벤트만 summary-events개까지 허용)
+     * @return 출력해도 되면 true, 버려야 하면 false
+     */
+    private boolean charge(String message, Object[] args) {
+        if (maxEvents == 0) {
+            return true;
+        }
+        long bytes = estimateSize(message, args);
+        if (!isOverBudget()) {
+            usedEvents++;
+            usedBytes += bytes;
+            return true;
+        }
+        if (summarized < summaryEvents && bytes <= SUMMARY_MAX_CHARS) {
+            summarized++;
+            usedBytes += bytes;
+            return true;
+        }
+        suppressedEvents++;
+        suppressedBytes += bytes;
+        return false;
+    }
+
+    private static long estimateSize(String message, Object[] args) {
+        long size = (message != null) ? message.length() : 0;
+        if (args != null) {
+            for (Object arg : args) {
+                size += (arg instanceof CharSequence) ? ((CharSequence) arg).length() : OBJECT_ARG_ESTIMATE;
+            }
+        }
+        return size;
+    }
+
+    private void append(Logger target, SuhLogger.LogLevel level, String message, Object[] args) {
+        Slot slot;
+        if (size < slots.length) {
+            slot = slots[(head + size) % slots.length];
+            size++;
+        } else {
+            // 가득 참: 가장 오래된 슬롯을 덮어씀
+            slot = slots[head];
+            head = (head + 1) % slots.length;
+            dropped++;
+        }
+        slot.target = target;
+        slot.level = level;
+        slot.message = message;
+        slot.args = args;
+        slot.nanos = System.nanoTime();
+    }
+
+    /**
+     * 버퍼의 이벤트를 순서대로 DEFERRED 마커와 함께 출력하고 버퍼링 종료
+     * @param reason 지연 출력 사유 (예: "status=500", "slow 1.2s")
+     */
+    public void flush(String reason) {
+        // 출력 중 발생하는 로그가 다시 버퍼로 들어가지 않도록 먼저 비활성화
+        active = false;
+        if (!buffering) {
+            close();
+            return;
+        }
+        if (size > 0) {
+            if (logger.isInfoEnabled()) {
+                logger.info(DEFERRED, "[DEFERRED] {} - {} events{}", reason, size,
+                    (dropped > 0) ? " (" + dropped + " earlier events dropped)" : "");
+            }
+            for (int i = 0; i < size; i++) {
+                Slot slot = slots[(head + i) % slots.length];
+                String message = "[DEFERRED +" + ((slot.nanos - startNanos) / 1_000_000) + "ms] " + slot.message;
+                write(slot.target, slot.level, message, slot.args);
+            }
+        }
+        logSuppressed();
+        reset();
+    }
+
+    /**
+     * 버퍼의 이벤트를 출력하지 않고 버퍼링 종료
+     */
+    public void discard() {
+        active = false;
+        reset();
+    }
+
+    /**
+     * 버퍼링 없이 연 컨텍스트 종료 (예산 초과로 버린 이벤트가 있으면 마지막에 한 줄 출력)
+     */
+    public void close() {
+        active = false;
+        logSuppressed();
+        reset();
+    }
+
+    /**
+     * 꼬리 버퍼링 중인지 여부 (false면 로그 예산만 적용)
+     */
+    public boolean isBuffering() {
+        return buffering;
+    }
+
+    /**
+     * 로그 예산이 소진되었는지 여부 (예산이 없으면 항상 false)
+     */
+    public boolean isOverBudget() {
+        return maxEvents > 0 && (usedEvents >= maxEvents || usedBytes >= maxBytes);
+    }
+
+    /**
+     * 예산 초과로 버린 이벤트 수
+     */
+    public long suppressedEvents() {
+        return suppressedEvents;
+    }
+
+    /**
+     * 예산 초과로 버린 이벤트의 크기 (문자 수 기준 근사치)
+     */
+    public long suppressedBytes() {
+        return suppressedBytes;
+    }
+
+    private void logSuppressed() {
+        if (suppressedEvents > 0 && logger.isWarnEnabled()) {
+            logger.warn("[LOG BUDGET] {} events / {} bytes suppressed (budget: {} events / {} bytes)",
+                suppressedEvents, suppressedBytes, maxEvents, maxBytes);
+        }
+    }
+
+    /**
+     * 현재 버퍼에 담긴 이벤트 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 용량 초과로 덮어써진 이벤트 수
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    // 슬롯 참조를 비워 요청 간 인자 객체가 GC되지 않고 남는 것을 방지
+    private void reset() {
+        for (int i = 0; i < size; i++) {
+            slots[(head + i) % slots.length].clear();
+        }
+        head = 0;
+        size = 0;
+        dropped = 0;
+        usedEvents = 0;
+        usedBytes = 0;
+        summarized = 0;
+        suppressedEvents = 0;
+        suppressedBytes = 0;
+    }
+
+    private static void write(Logger target, SuhLogger.LogLevel level, String message, Object[] args) {
+        switch (level) {
+            case DEBUG:
+                target.debug(DEFERRED, message, args);
+                break;
+            case WARN:
+                target.warn(DEFERRED, message, args);
+                break;
+            case ERROR:
+                target.error(DEFERRED, message, args);
+                break;
+            case INFO:
+            default:
+                target.info(DEFERRED, message, args);
+        }
+    }
+
+    /**
+     * 재사용되는 이벤트 슬롯
+     */
+    private static final class Slot {
+        private Logger target;
+        private SuhLogger.LogLevel level;
+        private String message;
+        private Object[] args;
+        private long nanos;
+
+        private void clear() {
+            target = null;
+            level = null;
+            message = null;
+            args = null;
+        }
+    }
+}
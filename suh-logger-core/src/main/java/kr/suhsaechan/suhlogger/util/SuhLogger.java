@@ -1,16 +1,24 @@
 package kr.suhsaechan.suhlogger.util;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
+import kr.suhsaechan.suhlogger.config.DigestMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.digest.HashingOutputStream;
+import kr.suhsaechan.suhlogger.digest.PayloadDigest;
+import kr.suhsaechan.suhlogger.extractor.LazyEntitySupport;
+import kr.suhsaechan.suhlogger.serializer.LogSerializer;
 
 /**
  * SuhLogger 유틸리티 클래스
@@ -21,6 +29,7 @@ import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
  * - 클래스별 로거 인스턴스 지원: SuhLogger.getLogger(MyClass.class)
  * - 인스턴스 메서드는 SLF4J {} 플레이스홀더를 네이티브로 지원
  * - 기존 정적 메서드 API는 하위호환을 위해 시그니처 유지
+ * - caller-aware 모드: 정적 메서드 출력을 호출한 클래스의 로거로 라우팅
  */
 public class SuhLogger {
 
@@ -28,13 +37,34 @@ public class SuhLogger {
     private static final String SEPARATOR_CHAR = "=";
     
     // SLF4J 로거: 정적 메서드 출력은 이 고정 이름으로 찍힘 (상위 프로젝트 패턴이 포맷 담당)
+    // caller-aware 모드에서는 호출 클래스 탐색 전 레벨 게이트로도 사용
     private static final Logger logger = LoggerFactory.getLogger(SuhLogger.class);
 
-
-    // 설정 프로퍼티 (Spring Context에서 주입받을 수 있도록)
-    private static SuhLoggerProperties properties;
+    // caller-aware 모드: 호출 클래스 탐색용 (SuhLogger 프레임만 건너뛰고 첫 외부 프레임에서 중단)
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Function<Stream<StackWalker.StackFrame>, Class<?>> CALLER_FINDER = frames -> frames
+        .map(StackWalker.StackFrame::getDeclaringClass)
+        .filter(type -> type != SuhLogger.class)
+        .findFirst()
+        .orElse(SuhLogger.class);
+
+    // 호출 클래스별 SLF4J 로거 캐시 (클래스 언로드 시 함께 해제)
+    private static final ClassValue<Logger> CALLER_LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
 
     // 클래스별 로거 인스턴스 캐시
+    private static final ClassValue<SuhLogger> classLoggerCache = new ClassValue<>() {
+        @Override
+        protected SuhLogger computeValue(Class<?> type) {
+            return getLogger(type.getName());
+        }
+    };
+
+    // 이름별 로거 인스턴스 캐시
     private static final ConcurrentHashMap<String, SuhLogger> loggerCache = new ConcurrentHashMap<>();
 
     // 인스턴스 필드: getLogger(clazz)로 생성된 클래스별 SLF4J 로거
@@ -54,7 +84,7 @@ public class SuhLogger {
      * 클래스 기반 로거 생성 (권장 방식)
      */
     public static SuhLogger getLogger(Class<?> clazz) {
-        return getLogger(clazz.getName());
+        return classLoggerCache.get(clazz);
     }
 
     /**
@@ -190,102 +220,39 @@ public class SuhLogger {
     // ========== 기존 호환성을 위한 정적 메서드들 ==========
 
     /**
-     * 간단한 JSON 형태의 문자열 생성 (Jackson 대체)
+     * 설정된 직렬화 엔진으로 JSON 형태의 문자열 생성 (값 패턴 마스킹 포함)
      */
     private static String toSimpleJson(Object obj) {
-        if (obj == null) {
-            return "null";
-        }
-        
-        if (obj instanceof String) {
-            return "\"" + obj.toString().replace("\"", "\\\"") + "\"";
-        }
-        
-        if (obj instanceof Number || obj instanceof Boolean) {
-            return obj.toString();
-        }
-        
-        // 객체를 safe serialization 통해 Map으로 변환 후 JSON-like 문자열 생성
-        Object safeObject = (properties != null) 
-            ? CommonUtil.makeSafeForSerialization(obj, properties.getExcludedClasses())
-            : CommonUtil.makeSafeForSerialization(obj);
-            
-        return objectToJsonString(safeObject, 0);
-    }
-    
-    /**
-     * 객체를 JSON-like 문자열로 변환 (재귀적)
-     */
-    private static String objectToJsonString(Object obj, int depth) {
-        if (obj == null) return "null";
-        if (depth > 10) return "\"[MAX_DEPTH_REACHED]\""; // 무한 재귀 방지
-        
-        if (obj instanceof String) {
-            return "\"" + obj.toString().replace("\"", "\\\"") + "\"";
-        }
-        
-        if (obj instanceof Number || obj instanceof Boolean) {
-            return obj.toString();
-        }
-        
-        if (obj instanceof Map) {
-            Map<?, ?> map = (Map<?, ?>) obj;
-            StringBuilder sb = new StringBuilder("{\n");
-            String indent = "  ".repeat(depth + 1);
-            boolean first = true;
-            
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) sb.append(",\n");
-                sb.append(indent)
-                  .append("\"").append(entry.getKey()).append("\": ")
-                  .append(objectToJsonString(entry.getValue(), depth + 1));
-                first = false;
-            }
-            
-            sb.append("\n").append("  ".repeat(depth)).append("}");
-            return sb.toString();
-        }
-        
-        if (obj instanceof Collection) {
-            Collection<?> collection = (Collection<?>) obj;
-            StringBuilder sb = new StringBuilder("[\n");
-            String indent = "  ".repeat(depth + 1);
-            boolean first = true;
-            
-            for (Object item : collection) {
-                if (!first) sb.append(",\n");
-                sb.append(indent).append(objectToJsonString(item, depth + 1));
-                first = false;
-            }
-            
-            sb.append("\n").append("  ".repeat(depth)).append("]");
-            return sb.toString();
-        }
-        
-        if (obj.getClass().isArray()) {
-            Object[] array = (Object[]) obj;
-            StringBuilder sb = new StringBuilder("[\n");
-            String indent = "  ".repeat(depth + 1);
-            
-            for (int i = 0; i < array.length; i++) {
-                if (i > 0) sb.append(",\n");
-                sb.append(indent).append(objectToJsonString(array[i], depth + 1));
-            }
-            
-            sb.append("\n").append("  ".repeat(depth)).append("]");
-            return sb.toString();
-        }
-        
-        // 기본적으로 toString() 사용
-        return "\"" + obj.toString().replace("\"", "\\\"") + "\"";
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+        return settings.getValueRedactor().redact(settings.getSerializer().serialize(obj));
     }
-    
+
     /**
-     * 설정 프로퍼티 설정 (Spring에서 주입받을 때 사용)
+     * 직렬화 결과를 문자열로 모으지 않고 크기/해시만 스트리밍으로 계산해 다이제스트 출력
+     * AUTO 모드에서는 threshold까지만 원문을 보관하고, 그 안에 끝나면 원문(JSON)을 반환
      */
-    public static void setProperties(SuhLoggerProperties properties) {
-        SuhLogger.properties = properties;
+    private static String toDigestOrJson(Object obj, DigestMode mode, String digestKey, SuhLoggerSettings settings)
+            throws IOException {
+        boolean auto = (mode == DigestMode.AUTO);
+        HashingOutputStream out = new HashingOutputStream(auto ? settings.getDigestThreshold() : 0);
+        LogSerializer serializer = settings.getSerializer();
+        try {
+            serializer.writeTo(obj, out);
+        } catch (IOException | RuntimeException e) {
+            // 스트리밍 도중 실패하면 처음부터 문자열 직렬화로 다시 계산 (엔진의 대체 처리 적용)
+            out.reset();
+            out.write(serializer.serialize(obj).getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (auto && out.isFullyRetained()) {
+            return settings.getValueRedactor().redact(out.retainedString(StandardCharsets.UTF_8));
+        }
+        long hash = out.hash();
+        boolean repeated = settings.getDigestTracker().record(digestKey, hash);
+        return new PayloadDigest(PayloadDigest.typeName(obj), out.length(), PayloadDigest.elementCount(obj),
+            hash, repeated).toString();
     }
+
     
     /**
      * 로그 레벨을 정의
@@ -301,46 +268,65 @@ public class SuhLogger {
      * INFO 레벨 로그 출력
      */
     public static void info(String message) {
-        logger.info(message);
+        Logger target = target(LogLevel.INFO);
+        if (target != null) {
+            write(target, LogLevel.INFO, message);
+        }
     }
 
     /**
      * WARN 레벨 로그 출력
      */
     public static void warn(String message) {
-        logger.warn(message);
+        Logger target = target(LogLevel.WARN);
+        if (target != null) {
+            write(target, LogLevel.WARN, message);
+        }
     }
 
     /**
      * ERROR 레벨 로그 출력
      */
     public static void error(String message) {
-        logger.error(message);
+        Logger target = target(LogLevel.ERROR);
+        if (target != null) {
+            write(target, LogLevel.ERROR, message);
+        }
     }
 
     /**
      * DEBUG 레벨 로그 출력
      */
     public static void debug(String message) {
-        logger.debug(message);
+        Logger target = target(LogLevel.DEBUG);
+        if (target != null) {
+            write(target, LogLevel.DEBUG, message);
+        }
     }
 
     /**
      * 예외와 함께 ERROR 레벨 로그 출력
      */
     public static void error(String message, Throwable throwable) {
-        logger.error(message, throwable);
+        Logger target = target(LogLevel.ERROR);
+        if (target != null) {
+            write(target, LogLevel.ERROR, message, throwable);
+        }
     }
 
     /**
      * 객체를 JSON 형식으로 로그 출력
      */
     public static void infoJson(String message, Object object) {
+        Logger target = target(LogLevel.INFO);
+        if (target == null) {
+            return;
+        }
         try {
             String jsonString = toSimpleJson(object);
-            logger.info("{}\n{}", message, jsonString);
+            write(target, LogLevel.INFO, "{}\n{}", message, jsonString);
         } catch (Exception e) {
-            error("JSON 변환 실패", e);
+            write(target, LogLevel.ERROR, "JSON 변환 실패", e);
         }
     }
 
@@ -381,47 +367,64 @@ public class SuhLogger {
      * 구분선 출력 (상단)
      */
     public static void topDivider(String title) {
-        logger.info("============= " + title + " =============");
+        Logger target = target(LogLevel.INFO);
+        if (target != null) {
+            write(target, LogLevel.INFO, "============= " + title + " =============");
+        }
     }
 
     /**
      * 구분선 출력 (하단)
      */
     public static void bottomDivider(String title) {
-        logger.info("============ " + title + " ============");
+        Logger target = target(LogLevel.INFO);
+        if (target != null) {
+            write(target, LogLevel.INFO, "============ " + title + " ============");
+        }
     }
 
     /**
      * 구분선 출력 (기본)
      */
     public static void divider() {
-        logger.info("============================================================");
+        Logger target = target(LogLevel.INFO);
+        if (target != null) {
+            write(target, LogLevel.INFO, "============================================================");
+        }
     }
 
     /**
      * 중앙 정렬된 제목으로 구분선 출력
      */
     public static void logHeader(String title) {
+        Logger target = target(LogLevel.INFO);
+        if (target == null) {
+            return;
+        }
         String separatorLine = SEPARATOR_CHAR.repeat(LINE_LENGTH);
-        logger.info(separatorLine);
+        write(target, LogLevel.INFO, separatorLine);
 
         int titleLength = title.length();
         int paddingSize = (LINE_LENGTH - titleLength) / 2;
 
         if (paddingSize > 0) {
             String padding = " ".repeat(paddingSize);
-            logger.info(padding + title);
+            write(target, LogLevel.INFO, padding + title);
         } else {
-            logger.info(title);
+            write(target, LogLevel.INFO, title);
         }
 
-        logger.info(separatorLine);
+        write(target, LogLevel.INFO, separatorLine);
     }
 
     /**
      * 입력스트림의 내용을 읽어 로그로 출력
      */
     public static void logStream(InputStream stream) {
+        Logger target = target(LogLevel.INFO);
+        if (target == null) {
+            return;
+        }
         try {
             StringBuilder sb = new StringBuilder();
             byte[] buffer = new byte[1024];
@@ -431,9 +434,9 @@ public class SuhLogger {
                 sb.append(new String(buffer, 0, bytesRead));
             }
 
-            logger.info(sb.toString());
+            write(target, LogLevel.INFO, sb.toString());
         } catch (Exception e) {
-            logger.error("스트림 로깅 실패", e);
+            write(target, LogLevel.ERROR, "스트림 로깅 실패", e);
         }
     }
 
@@ -441,56 +444,80 @@ public class SuhLogger {
      * 객체를 INFO 레벨로 로그 출력 (클래스명 포함)
      */
     public static void superLog(Object obj) {
-        superLogImpl(obj, LogLevel.INFO, true);
+        superLogImpl(obj, LogLevel.INFO, true, null, null);
     }
 
     /**
      * 객체를 INFO 레벨로 로그 출력 (클래스명 출력 여부 선택)
      */
     public static void superLog(Object obj, boolean showClassName) {
-        superLogImpl(obj, LogLevel.INFO, showClassName);
+        superLogImpl(obj, LogLevel.INFO, showClassName, null, null);
+    }
+
+    /**
+     * 객체를 INFO 레벨로 로그 출력 (다이제스트 모드 지정)
+     * @param digestMode 다이제스트 모드 (null이면 전역 설정 digest.mode)
+     * @param digestKey same-as-previous 판단용 키 (예: 라우트/메서드명, null이면 반복 표시 안 함)
+     */
+    public static void superLog(Object obj, boolean showClassName, DigestMode digestMode, String digestKey) {
+        superLogImpl(obj, LogLevel.INFO, showClassName, digestMode, digestKey);
+    }
+
+    /**
+     * 객체를 내용 대신 다이제스트(타입/크기/XXH64 해시)로 INFO 레벨 출력
+     */
+    public static void digestLog(Object obj) {
+        superLogImpl(obj, LogLevel.INFO, true, DigestMode.ALWAYS, null);
+    }
+
+    /**
+     * 객체를 다이제스트로 INFO 레벨 출력 (같은 키의 직전 해시와 같으면 same-as-previous 표시)
+     * @param digestKey 반복 판단용 키 (예: "GET /orders")
+     */
+    public static void digestLog(String digestKey, Object obj) {
+        superLogImpl(obj, LogLevel.INFO, true, DigestMode.ALWAYS, digestKey);
     }
 
     /**
      * 객체를 DEBUG 레벨로 로그 출력 (클래스명 포함)
      */
     public static void superLogDebug(Object obj) {
-        superLogImpl(obj, LogLevel.DEBUG, true);
+        superLogImpl(obj, LogLevel.DEBUG, true, null, null);
     }
 
     /**
      * 객체를 DEBUG 레벨로 로그 출력 (클래스명 출력 여부 선택)
      */
     public static void superLogDebug(Object obj, boolean showClassName) {
-        superLogImpl(obj, LogLevel.DEBUG, showClassName);
+        superLogImpl(obj, LogLevel.DEBUG, showClassName, null, null);
     }
 
     /**
      * 객체를 WARN 레벨로 로그 출력 (클래스명 포함)
      */
     public static void superLogWarn(Object obj) {
-        superLogImpl(obj, LogLevel.WARN, true);
+        superLogImpl(obj, LogLevel.WARN, true, null, null);
     }
 
     /**
      * 객체를 WARN 레벨로 로그 출력 (클래스명 출력 여부 선택)
      */
     public static void superLogWarn(Object obj, boolean showClassName) {
-        superLogImpl(obj, LogLevel.WARN, showClassName);
+        superLogImpl(obj, LogLevel.WARN, showClassName, null, null);
     }
 
     /**
      * 객체를 ERROR 레벨로 로그 출력 (클래스명 포함)
      */
     public static void superLogError(Object obj) {
-        superLogImpl(obj, LogLevel.ERROR, true);
+        superLogImpl(obj, LogLevel.ERROR, true, null, null);
     }
 
     /**
      * 객체를 ERROR 레벨로 로그 출력 (클래스명 출력 여부 선택)
      */
     public static void superLogError(Object obj, boolean showClassName) {
-        superLogImpl(obj, LogLevel.ERROR, showClassName);
+        superLogImpl(obj, LogLevel.ERROR, showClassName, null, null);
     }
     
     /**
@@ -498,72 +525,94 @@ public class SuhLogger {
      * @param obj   로그로 출력할 객체
      * @param level 로그 레벨
      * @param showClassName 클래스명 출력 여부
-     */
-    private static void superLogImpl(Object obj, LogLevel level, boolean showClassName) {
+     * @param digestMode 다이제스트 모드 (null이면 전역 설정)
+     * @param digestKey same-as-previous 판단용 키 (null 허용)
+     */
+    private static void superLogImpl(Object obj, LogLevel level, boolean showClassName,
+                                     DigestMode digestMode, String digestKey) {
+        // 레벨이 꺼져 있으면 직렬화 없이 종료
+        Logger target = target(level);
+        if (target == null) {
+            return;
+        }
+
+        // 요청 로그 예산이 소진되었으면 직렬화 없이 한 줄 요약만 출력
+        if (RequestLogContext.isBudgetExhausted()) {
+            emit(target, level, "[SKIPPED] {0} (request log budget exhausted)", PayloadDigest.typeName(obj));
+            return;
+        }
+
         if (obj == null) {
-            lineLogImpl("NULL OBJECT", level);
-            logAtLevel(level, "Object is null");
-            lineLogImpl(null, level);
+            lineLogImpl(target, "NULL OBJECT", level);
+            emit(target, level, "Object is null");
+            lineLogImpl(target, null, level);
             return;
         }
 
         if (showClassName) {
             String className = obj.getClass().getSimpleName();
-            lineLogImpl(className, level);
+            lineLogImpl(target, className, level);
         } else {
             // 클래스명을 표시하지 않는 경우에도 구분선을 출력하여 가독성 유지
-            lineLogImpl(null, level);
+            lineLogImpl(target, null, level);
         }
 
         try {
-            // 설정된 제외 클래스 목록을 가져와서 안전하게 처리
-            Object safeObject = (properties != null) 
-                ? CommonUtil.makeSafeForSerialization(obj, properties.getExcludedClasses())
-                : CommonUtil.makeSafeForSerialization(obj);
-            String json = toSimpleJson(safeObject);
-            logAtLevel(level, "{0}", json);
+            SuhLoggerSettings settings = SuhLoggerSettings.current();
+            DigestMode mode = (digestMode != null) ? digestMode : settings.getDigestMode();
+            // 직렬화 엔진이 제외 클래스 목록을 반영해 안전하게 처리
+            String json = (mode == DigestMode.OFF)
+                ? toSimpleJson(obj)
+                : toDigestOrJson(obj, mode, digestKey, settings);
+            emit(target, level, "{0}", json);
         } catch (Exception e) {
-            logAtLevel(LogLevel.ERROR, "JSON serialization failed: {0}", e.getMessage());
+            emit(target, LogLevel.ERROR, "JSON serialization failed: {0}", e.getMessage());
             
             // 직렬화에 실패한 경우 대체 처리 시도
             try {
-                logAtLevel(level, "Attempting safe conversion...");
+                emit(target, level, "Attempting safe conversion...");
                 // 객체를 완전히 분해하여 직렬화 가능한 형태로 변환
                 Map<String, Object> safeMap = CommonUtil.createSafeMap(obj);
                 String safeJson = toSimpleJson(safeMap);
-                logAtLevel(level, "Safe conversion result: {0}", safeJson);
+                emit(target, level, "Safe conversion result: {0}", safeJson);
             } catch (Exception ex) {
-                // 모든 처리가 실패한 경우 toString() 사용
-                logAtLevel(level, "Fallback to toString(): {0}", obj.toString());
+                // 모든 처리가 실패한 경우 toString() 사용 (엔티티는 지연 로딩 방지를 위해 식별 라벨)
+                String text = LazyEntitySupport.isEntity(obj) ? LazyEntitySupport.label(obj) : obj.toString();
+                emit(target, level, "Fallback to toString(): {0}",
+                    SuhLoggerSettings.current().getValueRedactor().redact(text));
             }
         }
 
-        lineLogImpl(null, level);
+        lineLogImpl(target, null, level);
     }
     
     /**
      * ======== 라인 출력 로그 메소드 ==========
      */
     public static void lineLog(String title) {
-        lineLogImpl(title, LogLevel.INFO);
+        lineLogImpl(target(LogLevel.INFO), title, LogLevel.INFO);
     }
     public static void lineLogDebug(String title) {
-        lineLogImpl(title, LogLevel.DEBUG);
+        lineLogImpl(target(LogLevel.DEBUG), title, LogLevel.DEBUG);
     }
     public static void lineLogWarn(String title) {
-        lineLogImpl(title, LogLevel.WARN);
+        lineLogImpl(target(LogLevel.WARN), title, LogLevel.WARN);
     }
     public static void lineLogError(String title) {
-        lineLogImpl(title, LogLevel.ERROR);
+        lineLogImpl(target(LogLevel.ERROR), title, LogLevel.ERROR);
     }
 
     public static void logServerInitDuration(LocalDateTime serverStartTime){
+        Logger target = target(LogLevel.INFO);
+        if (target == null) {
+            return;
+        }
         LocalDateTime overallEndTime = LocalDateTime.now();
         Duration overallDuration = Duration.between(serverStartTime, overallEndTime);
-        lineLog(null);
-        lineLog("서버 데이터 초기화 및 업데이트 완료");
-        logAtLevel(LogLevel.INFO, "총 소요 시간: {0}", SuhTimeUtil.convertDurationToReadableTime(overallDuration));
-        lineLog(null);
+        lineLogImpl(target, null, LogLevel.INFO);
+        lineLogImpl(target, "서버 데이터 초기화 및 업데이트 완료", LogLevel.INFO);
+        emit(target, LogLevel.INFO, "총 소요 시간: {0}", SuhTimeUtil.convertDurationToReadableTime(overallDuration));
+        lineLogImpl(target, null, LogLevel.INFO);
     }
 
     /**
@@ -583,7 +632,10 @@ public class SuhLogger {
     /**
      * 다양한 로그 레벨로 제목이 중앙에 포함된 구분선을 로그에 출력합니다.
      */
-    private static void lineLogImpl(String title, LogLevel level) {
+    private static void lineLogImpl(Logger target, String title, LogLevel level) {
+        if (target == null) {
+            return;
+        }
         String separator;
         if (title == null || title.isEmpty()) {
             separator = repeat(SEPARATOR_CHAR, LINE_LENGTH);
@@ -603,32 +655,74 @@ public class SuhLogger {
                 }
             }
         }
-        logAtLevel(level, "{0}", separator);
+        emit(target, level, "{0}", separator);
     }
 
     /**
-     * 지정된 로그 레벨에 따라 로그를 출력합니다.
+     * 정적 메서드 출력 대상 로거 결정
+     * - 기본: 고정 로거(SuhLogger)
+     * - caller-aware: 호출 클래스의 로거 (StackWalker로 첫 외부 프레임만 탐색)
+     * 고정 로거 기준 레벨이 꺼져 있으면 스택 탐색 없이 null 반환 → 호출부는 메시지 생성/직렬화까지 생략
+     * @return 출력할 로거, 출력하지 않아야 하면 null
+     */
+    private static Logger target(LogLevel level) {
+        if (!isEnabled(logger, level)) {
+            return null;
+        }
+        if (!SuhLoggerSettings.current().isCallerAware()) {
+            return logger;
+        }
+        Logger callerLogger = CALLER_LOGGERS.get(STACK_WALKER.walk(CALLER_FINDER));
+        return isEnabled(callerLogger, level) ? callerLogger : null;
+    }
+
+    private static boolean isEnabled(Logger target, LogLevel level) {
+        switch (level) {
+            case DEBUG:
+                return target.isDebugEnabled();
+            case WARN:
+                return target.isWarnEnabled();
+            case ERROR:
+                return target.isErrorEnabled();
+            case INFO:
+            default:
+                return target.isInfoEnabled();
+        }
+    }
+
+    /**
+     * 정적 메서드 공통 출력 경로
      * 내부 메시지는 JUL 스타일 "{0}", "{1}" 등 인덱스 플레이스홀더를 써왔다.
      * SLF4J는 인덱스 없는 "{}"를 인자 순서대로 매핑하므로, "{숫자}" 전부를 "{}"로 치환한다.
      * (기존에는 "{0}"만 치환되어 "{1}" 이상의 인자가 로그에서 누락되는 버그가 있었음)
      */
-    private static void logAtLevel(LogLevel level, String message, Object... args) {
-        String slf4jMsg = message.replaceAll("\\{\\d+\\}", "{}");
+    private static void emit(Logger target, LogLevel level, String message, Object... args) {
+        write(target, level, message.replaceAll("\\{\\d+\\}", "{}"), args);
+    }
+
+    /**
+     * SLF4J 출력 (모든 정적 메서드 출력의 최종 경로)
+     * 요청 꼬리 버퍼링 중이면 출력하지 않고 RequestLogContext 버퍼에 담는다
+     */
+    private static void write(Logger target, LogLevel level, String slf4jMsg, Object... args) {
+        if (RequestLogContext.capture(target, level, slf4jMsg, args)) {
+            return;
+        }
         switch (level) {
             case DEBUG:
-                logger.debug(slf4jMsg, args);
+                target.debug(slf4jMsg, args);
                 break;
             case INFO:
-                logger.info(slf4jMsg, args);
+                target.info(slf4jMsg, args);
                 break;
             case WARN:
-                logger.warn(slf4jMsg, args);
+                target.warn(slf4jMsg, args);
                 break;
             case ERROR:
-                logger.error(slf4jMsg, args);
+                target.error(slf4jMsg, args);
                 break;
             default:
-                logger.info(slf4jMsg, args);
+                target.info(slf4jMsg, args);
         }
     }
 
@@ -649,7 +743,10 @@ public class SuhLogger {
         try {
             task.run();
         } catch (Exception e) {
-            logAtLevel(LogLevel.ERROR, "[{0}] 실행 중 예외 발생: {1}", new Object[]{methodName, e.getMessage()});
+            Logger target = target(LogLevel.ERROR);
+            if (target != null) {
+                emit(target, LogLevel.ERROR, "[{0}] 실행 중 예외 발생: {1}", methodName, e.getMessage());
+            }
         } finally {
             long endTime = System.currentTimeMillis();
             long durationMillis = endTime - startTime;
@@ -0,0 +1,147 @@
+package kr.suhsaechan.suhlogger.agent;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.suhsaechan.suhlogger.annotation.CallLogMode;
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.annotation.LogTime;
+import kr.suhsaechan.suhlogger.aspect.MethodLogRegistry;
+import kr.suhsaechan.suhlogger.aspect.MethodLogToggle;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 에이전트 삽입 코드가 호출하는 정적 훅 검증 (삽입 코드와 같은 순서로 직접 호출)
+ */
+class AgentRecorderTest {
+
+  static class SampleService {
+    @LogMonitor
+    public String place(String item, long quantity) {
+      return item + quantity;
+    }
+
+    @LogTime
+    void timed() {
+    }
+
+    @LogCall(result = false)
+    private void fail() {
+    }
+
+    public void plain() {
+    }
+
+    @LogCall(mode = CallLogMode.ON_ERROR)
+    public void settle(String orderId) {
+    }
+  }
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    MethodLogRegistry.resetAll();
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void siteIsResolvedFromSignatureAndCached() {
+    MethodSite site = AgentRecorder.site(SampleService.class, "place(Ljava/lang/String;J)Ljava/lang/String;");
+
+    assertNotNull(site.getDescriptor());
+    assertEquals("SampleService.place", site.getDescriptor().getName());
+    assertEquals(2, site.getParameterNames().length);
+    assertSame(site, AgentRecorder.site(SampleService.class, "place(Ljava/lang/String;J)Ljava/lang/String;"),
+        "같은 시그니처는 캐시된 정보를 반환해야 함");
+  }
+
+  @Test
+  void flagsFollowAnnotations() {
+    assertEquals(AgentRecorder.CALL | AgentRecorder.TIME,
+        AgentRecorder.enter(AgentRecorder.site(SampleService.class, "place(Ljava/lang/String;J)Ljava/lang/String;")));
+    assertEquals(AgentRecorder.TIME, AgentRecorder.enter(AgentRecorder.site(SampleService.class, "timed()V")));
+    assertEquals(AgentRecorder.CALL, AgentRecorder.enter(AgentRecorder.site(SampleService.class, "fail()V")));
+    assertEquals(AgentRecorder.TIME, AgentRecorder.enter(AgentRecorder.site(SampleService.class, "plain()V")),
+        "설정으로 선택된 메서드는 실행 시간만 기록");
+    assertEquals(0, AgentRecorder.enter(AgentRecorder.site(SampleService.class, "missing()V")),
+        "찾을 수 없는 메서드는 기록하지 않음");
+  }
+
+  @Test
+  void flagsRespectSettingsAndToggles() {
+    MethodSite site = AgentRecorder.site(SampleService.class, "place(Ljava/lang/String;J)Ljava/lang/String;");
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().timingEnabled(false).build());
+    assertEquals(AgentRecorder.CALL, AgentRecorder.enter(site), "시간 로깅이 꺼지면 호출 로그만 남아야 함");
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().enabled(false).build());
+    assertEquals(0, AgentRecorder.enter(site), "전체 스위치가 꺼지면 기록하지 않음");
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+    MethodLogRegistry.apply("SampleService.place", new MethodLogToggle(false, true, true, 1.0));
+    assertEquals(0, AgentRecorder.enter(site), "Aspect와 같은 런타임 토글이 적용되어야 함");
+  }
+
+  @Test
+  void hooksWriteSameLinesAsAspects() {
+    MethodSite site = AgentRecorder.site(SampleService.class, "place(Ljava/lang/String;J)Ljava/lang/String;");
+
+    int flags = AgentRecorder.enter(site);
+    AgentRecorder.call(site, new Object[]{"book", 2L});
+    AgentRecorder.exit(site, flags, System.nanoTime(), "book2", null);
+
+    String output = String.join("\n", appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+    assertTrue(output.contains("[SampleService.place] CALL"), output);
+    assertTrue(output.contains("CALL PARAMETER"), output);
+    assertTrue(output.contains("[SampleService.place] RESULT"), output);
+    assertTrue(output.contains("[TIME]: SampleService.place : "), output);
+  }
+
+  @Test
+  void exceptionIsLoggedInsteadOfResult() {
+    MethodSite site = AgentRecorder.site(SampleService.class, "fail()V");
+
+    int flags = AgentRecorder.enter(site);
+    AgentRecorder.call(site, new Object[0]);
+    AgentRecorder.exit(site, flags, System.nanoTime(), null, new IllegalStateException("boom"));
+
+    String output = String.join("\n", appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+    assertTrue(output.contains("[ERROR][X]SampleService.fail 예외 발생"), output);
+    assertFalse(output.contains("RESULT"), output);
+  }
+
+  @Test
+  void onErrorModeLogsArgumentsOnlyWhenThrown() {
+    MethodSite site = AgentRecorder.site(SampleService.class, "settle(Ljava/lang/String;)V");
+
+    int flags = AgentRecorder.enter(site);
+    Object[] captured = AgentRecorder.call(site, new Object[]{"O-1"});
+    AgentRecorder.exit(site, flags, System.nanoTime(), null, null, captured);
+    assertTrue(appender.list.isEmpty(), "정상 종료 시 아무것도 출력하지 않아야 함");
+
+    captured = AgentRecorder.call(site, new Object[]{"O-2"});
+    AgentRecorder.exit(site, flags, System.nanoTime(), null, new IllegalStateException("boom"), captured);
+
+    String output = String.join("\n", appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+    assertTrue(output.contains("[ERROR][X]SampleService.settle 예외 발생"), output);
+    assertTrue(output.contains("CALL PARAMETER"), output);
+    assertTrue(output.contains("O-2"), output);
+    assertFalse(output.contains("[SampleService.settle] CALL"), output);
+  }
+}
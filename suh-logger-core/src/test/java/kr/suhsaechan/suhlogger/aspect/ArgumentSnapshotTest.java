@@ -0,0 +1,174 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import kr.suhsaechan.suhlogger.annotation.CallLogMode;
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializer;
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializers;
+import kr.suhsaechan.suhlogger.serializer.LogFieldWriter;
+import kr.suhsaechan.suhlogger.serializer.SimpleLogSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @LogCall(mode = ON_ERROR) 인자 보관 / 얕은 복사본 검증
+ */
+class ArgumentSnapshotTest {
+
+  static class Order {
+    String id = "O-1";
+    List<String> items = new ArrayList<>(List.of("book"));
+    int[] quantities = {1, 2};
+  }
+
+  static class SpecialOrder extends Order {
+    boolean express = true;
+  }
+
+  // Spring StandardMultipartFile과 같은 구조 (내부 필드에 임시 파일 경로 등을 가짐)
+  public static class StandardMultipartFile {
+    String filename = "a.pdf";
+    String location = "/tmp/upload_123.tmp";
+
+    public String getOriginalFilename() {
+      return filename;
+    }
+  }
+
+  // @Loggable 생성 직렬화기 대상 DTO (password는 컴파일 시점 마스킹)
+  static class Account {
+    String owner = "kim";
+    String password = "secret";
+  }
+
+  static class AccountSerializer implements GeneratedLogSerializer {
+    @Override
+    public Class<?> type() {
+      return Account.class;
+    }
+
+    @Override
+    public void write(Object value, LogFieldWriter out) {
+      out.field("owner", (Object) ((Account) value).owner);
+      out.maskedField("password");
+    }
+  }
+
+  static class InternalHandle {
+    String secret = "handle-secret";
+  }
+
+  static class SampleService {
+    @LogCall(mode = CallLogMode.ON_ERROR)
+    public void settle(Order order) {
+    }
+
+    @LogCall(mode = CallLogMode.ON_ERROR, snapshot = true)
+    public void mutate(Order order) {
+    }
+
+    @LogCall
+    public void plain(Order order) {
+    }
+  }
+
+  @AfterEach
+  void reset() {
+    MethodLogRegistry.resetAll();
+    GeneratedLogSerializers.reset();
+  }
+
+  @Test
+  void descriptorResolvesMode() throws Exception {
+    assertTrue(descriptor("settle").isOnError());
+    assertFalse(descriptor("settle").isSnapshot());
+    assertTrue(descriptor("mutate").isSnapshot());
+    assertEquals(CallLogMode.ALWAYS, descriptor("plain").getMode(), "기본값은 ALWAYS");
+  }
+
+  @Test
+  void withoutSnapshotOnlyReferenceIsKept() throws Exception {
+    Object[] args = {new Order()};
+
+    assertSame(args, MethodInvocationLogger.captureArguments(descriptor("settle"), SuhLoggerSettings.current(), args),
+        "snapshot이 꺼져 있으면 인자 배열 참조만 보관해야 함");
+  }
+
+  @Test
+  void snapshotKeepsValuesAtCallTime() throws Exception {
+    Order order = new Order();
+    List<String> tags = new ArrayList<>(List.of("a"));
+    Map<String, Object> options = new HashMap<>(Map.of("gift", true));
+    Object[] args = {order, tags, options, "text", null};
+
+    Object[] captured = MethodInvocationLogger.captureArguments(descriptor("mutate"), SuhLoggerSettings.current(), args);
+
+    order.id = "O-2";
+    order.quantities = new int[]{9};
+    tags.add("b");
+    options.put("gift", false);
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> orderCopy = (Map<String, Object>) captured[0];
+    assertEquals("O-1", orderCopy.get("id"), "호출 이후 변경된 필드가 반영되면 안 됨");
+    assertArrayEquals(new int[]{1, 2}, (int[]) orderCopy.get("quantities"));
+    assertSame(order.items, orderCopy.get("items"), "필드 값은 한 단계만 복사 (참조 유지)");
+    assertEquals(List.of("a"), captured[1]);
+    assertEquals(Map.of("gift", true), captured[2]);
+    assertSame(args[3], captured[3]);
+    assertNull(captured[4]);
+  }
+
+  @Test
+  void inheritedFieldsAndValueTypes() {
+    @SuppressWarnings("unchecked")
+    Map<String, Object> copy = (Map<String, Object>) ArgumentSnapshot.copy(new SpecialOrder(), null);
+    assertEquals(Set.of("express", "id", "items", "quantities"), copy.keySet(),
+        "상위 클래스 필드까지 복사해야 함");
+
+    LocalDate date = LocalDate.of(2024, 1, 1);
+    assertSame(date, ArgumentSnapshot.copy(date, null), "JDK 타입은 복사하지 않음");
+    assertSame(CallLogMode.ON_ERROR, ArgumentSnapshot.copy(CallLogMode.ON_ERROR, null));
+
+    int[] array = {1};
+    Object arrayCopy = ArgumentSnapshot.copy(array, null);
+    assertNotSame(array, arrayCopy);
+    assertArrayEquals(array, (int[]) arrayCopy);
+  }
+
+  @Test
+  void typesWithDedicatedHandlingAreKeptAsReferences() {
+    GeneratedLogSerializers.register(new AccountSerializer());
+    StandardMultipartFile file = new StandardMultipartFile();
+    Account account = new Account();
+    InternalHandle handle = new InternalHandle();
+
+    Object[] captured = ArgumentSnapshot.of(new Object[]{file, account, handle},
+        List.of(InternalHandle.class.getName()));
+
+    assertSame(file, captured[0], "TypeExtractor 대상은 복사하지 않아야 함");
+    assertSame(account, captured[1], "@Loggable 생성 직렬화기 대상은 복사하지 않아야 함");
+    assertSame(handle, captured[2], "제외 클래스는 복사하지 않아야 함");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("file", captured[0]);
+    params.put("account", captured[1]);
+    String json = new SimpleLogSerializer(null).serialize(params);
+    assertFalse(json.contains("/tmp/upload_123.tmp"), "MultipartFile 내부 필드가 출력되면 안 됨: " + json);
+    assertTrue(json.contains("a.pdf"), json);
+    assertFalse(json.contains("secret"), "컴파일 시점 마스킹 필드가 출력되면 안 됨: " + json);
+  }
+
+  private static MethodLogDescriptor descriptor(String name) throws Exception {
+    return MethodLogRegistry.descriptor(SampleService.class.getMethod(name, Order.class));
+  }
+}
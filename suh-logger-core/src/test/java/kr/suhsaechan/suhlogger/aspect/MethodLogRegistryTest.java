@@ -0,0 +1,85 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.annotation.TriState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 메서드별 디스크립터 캐시 및 런타임 토글 검증 테스트
+ */
+class MethodLogRegistryTest {
+
+  static class SampleService {
+    @LogCall(params = false, header = TriState.ON, maskFields = {"pin"})
+    public void call() {
+    }
+
+    @LogMonitor(mask = TriState.OFF)
+    public void monitor() {
+    }
+
+    @LogCall
+    public void pending() {
+    }
+  }
+
+  @AfterEach
+  void reset() {
+    MethodLogRegistry.resetAll();
+  }
+
+  @Test
+  void descriptorResolvesAnnotationOnceAndIsCached() throws Exception {
+    Method method = SampleService.class.getMethod("call");
+    MethodLogDescriptor descriptor = MethodLogRegistry.descriptor(method);
+
+    assertSame(descriptor, MethodLogRegistry.descriptor(method), "같은 Method는 캐시된 디스크립터를 반환해야 함");
+    assertEquals("SampleService.call", descriptor.getName());
+    assertFalse(descriptor.isLogParams());
+    assertTrue(descriptor.isLogResult());
+    assertEquals(TriState.ON, descriptor.getHeader());
+    assertArrayEquals(new String[]{"pin"}, descriptor.getMaskFields());
+
+    MethodLogDescriptor monitor = MethodLogRegistry.descriptor(SampleService.class.getMethod("monitor"));
+    assertEquals(TriState.OFF, monitor.getMask());
+  }
+
+  @Test
+  void toggleIsAppliedToExistingDescriptor() throws Exception {
+    MethodLogDescriptor descriptor = MethodLogRegistry.descriptor(SampleService.class.getMethod("monitor"));
+    assertTrue(descriptor.getToggle().shouldLog());
+
+    MethodLogRegistry.apply("SampleService.monitor",
+        MethodLogRegistry.toggleOf("SampleService.monitor").merge(false, null, null, null));
+    assertFalse(descriptor.getToggle().shouldLog(), "비활성화 토글은 기존 디스크립터에 즉시 반영되어야 함");
+
+    MethodLogRegistry.reset("SampleService.monitor");
+    assertSame(MethodLogToggle.DEFAULT, descriptor.getToggle(), "토글 제거 시 기본값으로 복귀");
+  }
+
+  @Test
+  void pendingToggleIsAppliedOnFirstInvocation() throws Exception {
+    MethodLogRegistry.apply(SampleService.class.getName() + ".pending", new MethodLogToggle(true, false, false, 0.0));
+
+    MethodLogToggle toggle = MethodLogRegistry.descriptor(SampleService.class.getMethod("pending")).getToggle();
+    assertFalse(toggle.isParams(), "호출 전에 지정한 토글은 디스크립터 생성 시 적용되어야 함");
+    assertFalse(toggle.isResult());
+    assertFalse(toggle.shouldLog(), "샘플링 비율 0이면 로깅하지 않음");
+  }
+
+  @Test
+  void mergeKeepsUnspecifiedValues() {
+    MethodLogToggle toggle = MethodLogToggle.DEFAULT.merge(null, false, null, 5.0);
+
+    assertTrue(toggle.isEnabled());
+    assertFalse(toggle.isParams());
+    assertTrue(toggle.isResult());
+    assertEquals(1.0, toggle.getSampleRate(), "샘플링 비율은 0.0 ~ 1.0으로 제한");
+  }
+}
@@ -0,0 +1,107 @@
+package kr.suhsaechan.suhlogger.digest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스트리밍 XXH64 해시와 페이로드 다이제스트 구성 요소 검증
+ */
+class XxHash64Test {
+
+  @Test
+  void matchesReferenceVectors() {
+    assertEquals("ef46db3751d8e999", hex(""));
+    assertEquals("d24ec4f1a98c6e5b", hex("a"));
+    assertEquals("44bc2cf5ad770999", hex("abc"));
+    assertEquals("fbcea83c8a378bf1", hex("Nobody inspects the spammish repetition"),
+        "32바이트 이상 입력은 블록 누적 경로를 거쳐야 함");
+  }
+
+  @Test
+  void streamingEqualsOneShot() {
+    byte[] data = new byte[4099];
+    new Random(7).nextBytes(data);
+    long expected = XxHash64.hash(data, 0, data.length);
+
+    XxHash64 hash = new XxHash64();
+    Random chunks = new Random(42);
+    int position = 0;
+    while (position < data.length) {
+      int length = Math.min(chunks.nextInt(70), data.length - position);
+      if (length == 1) {
+        hash.update(data[position]);
+      } else {
+        hash.update(data, position, length);
+      }
+      position += length;
+    }
+
+    assertEquals(expected, hash.getValue(), "나눠서 넣어도 한 번에 계산한 값과 같아야 함");
+    assertEquals(data.length, hash.length());
+    assertEquals(expected, hash.getValue(), "getValue()는 상태를 바꾸지 않아야 함");
+  }
+
+  @Test
+  void hashingStreamRetainsOnlyUpToLimit() {
+    byte[] payload = "{\"items\":[1,2,3,4,5,6,7,8,9]}".getBytes(StandardCharsets.UTF_8);
+
+    HashingOutputStream small = new HashingOutputStream(64);
+    small.write(payload, 0, payload.length);
+    assertTrue(small.isFullyRetained());
+    assertEquals(new String(payload, StandardCharsets.UTF_8), small.retainedString(StandardCharsets.UTF_8));
+
+    HashingOutputStream large = new HashingOutputStream(8);
+    large.write(payload, 0, payload.length);
+    assertFalse(large.isFullyRetained(), "한도를 넘으면 원문 대신 다이제스트를 써야 함");
+    assertEquals(payload.length, large.length());
+    assertEquals(XxHash64.hash(payload, 0, payload.length), large.hash(), "보관 한도와 관계없이 전체를 해시해야 함");
+
+    large.reset();
+    assertEquals(0, large.length());
+    assertTrue(large.isFullyRetained());
+  }
+
+  @Test
+  void trackerMarksRepeatsPerKeyWithinBound() {
+    DigestTracker tracker = new DigestTracker(2);
+
+    assertFalse(tracker.record("GET /orders", 1L), "첫 기록은 반복이 아님");
+    assertTrue(tracker.record("GET /orders", 1L));
+    assertFalse(tracker.record("GET /orders", 2L), "해시가 바뀌면 반복이 아님");
+    assertFalse(tracker.record("GET /users", 2L), "키별로 따로 추적해야 함");
+
+    assertFalse(tracker.record("GET /items", 3L));
+    assertFalse(tracker.record("GET /items", 3L), "상한을 넘는 새 키는 추적하지 않음");
+    assertEquals(2, tracker.size());
+    assertTrue(tracker.record("GET /orders", 2L), "상한 도달 후에도 기존 키는 갱신해야 함");
+
+    assertFalse(tracker.record(null, 1L));
+    assertFalse(DigestTracker.DISABLED.record("GET /orders", 1L));
+    assertFalse(DigestTracker.DISABLED.record("GET /orders", 1L));
+  }
+
+  @Test
+  void digestLineShowsTypeSizeAndHash() {
+    assertEquals(3, PayloadDigest.elementCount(List.of(1, 2, 3)));
+    assertEquals(1, PayloadDigest.elementCount(Map.of("a", 1)));
+    assertEquals(4, PayloadDigest.elementCount(new int[4]));
+    assertEquals(PayloadDigest.UNKNOWN_ELEMENTS, PayloadDigest.elementCount("text"));
+    assertEquals("int[]", PayloadDigest.typeName(new int[0]));
+
+    assertEquals("[DIGEST] type=ArrayList, bytes=120, elements=3, xxh64=00000000000000ff, same-as-previous",
+        new PayloadDigest("ArrayList", 120, 3, 0xFFL, true).toString());
+    assertEquals("[DIGEST] type=application/json, bytes=5, xxh64=44bc2cf5ad770999",
+        new PayloadDigest("application/json", 5, PayloadDigest.UNKNOWN_ELEMENTS, 0x44BC2CF5AD770999L, false).toString());
+  }
+
+  private static String hex(String text) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    return XxHash64.toHex(XxHash64.hash(bytes, 0, bytes.length));
+  }
+}
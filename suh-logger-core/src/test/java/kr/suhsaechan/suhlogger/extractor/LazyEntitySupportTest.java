@@ -0,0 +1,188 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate 지연 로딩 프록시/컬렉션을 초기화하지 않고 출력하는지 검증
+ * (세션 없이 프록시와 컬렉션을 직접 만들고, 초기화 메서드가 호출되면 실패)
+ */
+class LazyEntitySupportTest {
+
+  static class BaseEntity {
+    @Id
+    Long id;
+  }
+
+  @Entity
+  static class Order extends BaseEntity {
+    String status;
+    String cardNumber;
+    List<Order> children;
+    Customer customer;
+    transient String cached = "cache";
+
+    @Override
+    public String toString() {
+      throw new AssertionError("엔티티 toString()이 호출되면 안 됨");
+    }
+  }
+
+  @Entity
+  static class Customer {
+    @Id
+    Long id;
+    String name;
+    List<Order> orders = new ArrayList<>();
+
+    @Override
+    public String toString() {
+      throw new AssertionError("엔티티 toString()이 호출되면 안 됨");
+    }
+  }
+
+  /**
+   * Hibernate가 만드는 엔티티 프록시와 같은 구조 (엔티티 하위 클래스 + HibernateProxy)
+   */
+  static class CustomerProxy extends Customer implements HibernateProxy {
+    private final LazyInitializer initializer;
+
+    CustomerProxy(LazyInitializer initializer) {
+      this.initializer = initializer;
+    }
+
+    @Override
+    public Object writeReplace() {
+      return this;
+    }
+
+    @Override
+    public LazyInitializer getHibernateLazyInitializer() {
+      return initializer;
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void uninitializedProxyIsRenderedWithoutInitialization() {
+    CustomerProxy proxy = new CustomerProxy(initializer(true, 7L, null));
+
+    Object safe = CommonUtil.makeSafeForSerialization(proxy);
+
+    assertEquals(Map.of("_lazy", "Customer#7"), safe);
+  }
+
+  @Test
+  void entityFieldsAreReadDirectlyWithLazyPlaceholders() {
+    Order order = new Order();
+    order.id = 42L;
+    order.status = "PAID";
+    order.children = uninitializedBag("com.example.Order.children", 42L);
+    order.customer = new CustomerProxy(initializer(true, 7L, null));
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> safe = (Map<String, Object>) CommonUtil.makeSafeForSerialization(order);
+
+    assertEquals(List.of("id", "status", "cardNumber", "children", "customer"), new ArrayList<>(safe.keySet()),
+        "상위 클래스 필드가 먼저, transient 필드는 제외");
+    assertEquals(42L, safe.get("id"));
+    assertEquals(Map.of("_lazy", "Order.children#42"), safe.get("children"));
+    assertEquals(Map.of("_lazy", "Customer#7"), safe.get("customer"));
+  }
+
+  @Test
+  void initializedProxyIsUnwrappedAndCyclesBecomeReferences() {
+    Customer customer = new Customer();
+    customer.id = 7L;
+    customer.name = "suh";
+    Order order = new Order();
+    order.id = 42L;
+    order.customer = new CustomerProxy(initializer(false, 7L, customer));
+    customer.orders.add(order);
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> safe = (Map<String, Object>) CommonUtil.makeSafeForSerialization(order);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> customerMap = (Map<String, Object>) safe.get("customer");
+
+    assertEquals("suh", customerMap.get("name"), "초기화된 프록시는 실제 엔티티 필드를 읽어야 함");
+    Object[] orders = (Object[]) customerMap.get("orders");
+    assertEquals(Map.of("_ref", "Order#42"), orders[0], "양방향 연관은 참조 표시로 끊어야 함");
+  }
+
+  @Test
+  void entityMapAppliesCurrentMaskFields() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().maskingEnabled(true).maskFields(List.of("card")).build());
+    Order order = new Order();
+    order.cardNumber = "4111";
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> safe = (Map<String, Object>) CommonUtil.makeSafeForSerialization(order);
+
+    assertEquals(CommonUtil.DEFAULT_MASK_VALUE, safe.get("cardNumber"));
+  }
+
+  @Test
+  void createSafeMapUsesLabelInsteadOfToString() {
+    Order order = new Order();
+    order.id = 42L;
+    order.children = uninitializedBag("com.example.Order.children", 42L);
+
+    Map<String, Object> safe = CommonUtil.createSafeMap(order);
+
+    assertEquals("Order#42", safe.get("_entity"));
+    assertFalse(safe.containsKey("_toString"));
+    assertEquals(Map.of("_lazy", "Order.children#42"), safe.get("children"),
+        "컬렉션 크기를 세기 전에 지연 로딩 여부를 판별해야 함");
+  }
+
+  @Test
+  void simpleNamesAreDerivedFromEntityNameAndRole() {
+    assertEquals("Order", LazyEntitySupport.simpleEntityName("com.example.Order"));
+    assertEquals("Order.items", LazyEntitySupport.simpleRole("com.example.Order.items"));
+    assertEquals("items", LazyEntitySupport.simpleRole("items"));
+  }
+
+  private static PersistentBag<Order> uninitializedBag(String role, Object key) {
+    PersistentBag<Order> bag = new PersistentBag<>();
+    bag.setSnapshot(key, role, null);
+    return bag;
+  }
+
+  /**
+   * 식별자/엔티티 이름/구현체 조회만 허용하는 LazyInitializer (초기화 관련 호출 시 실패)
+   */
+  private static LazyInitializer initializer(boolean uninitialized, Object id, Object implementation) {
+    return (LazyInitializer) Proxy.newProxyInstance(LazyInitializer.class.getClassLoader(),
+        new Class<?>[]{LazyInitializer.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "isUninitialized" -> uninitialized;
+          case "getEntityName" -> "com.example.Customer";
+          case "getIdentifier" -> id;
+          case "getImplementation" -> {
+            if (uninitialized) {
+              throw new AssertionError("초기화되지 않은 프록시의 구현체를 조회하면 안 됨");
+            }
+            yield implementation;
+          }
+          default -> throw new AssertionError("호출되면 안 되는 메서드: " + method.getName());
+        });
+  }
+}
@@ -0,0 +1,148 @@
+package kr.suhsaechan.suhlogger.extractor;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TypeExtractor 레지스트리와 기본 추출기 검증
+ */
+class TypeExtractorsTest {
+
+  public interface Upload {
+    String getOriginalFilename();
+
+    long getSize();
+  }
+
+  // public이 아닌 구현 클래스 (StandardMultipartFile과 같은 구조)
+  private static class HiddenUpload implements Upload {
+    @Override
+    public String getOriginalFilename() {
+      return "a.pdf";
+    }
+
+    @Override
+    public long getSize() {
+      return 10;
+    }
+  }
+
+  public static class LegacyMultipartFile {
+    public String getOriginalFilename() {
+      return "b.png";
+    }
+
+    public String getContentType() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  static class PathExtractor implements TypeExtractor {
+    @Override
+    public String targetType() {
+      return "java.nio.file.Path";
+    }
+
+    @Override
+    public Map<String, Object> extract(Object value) {
+      Map<String, Object> info = new HashMap<>();
+      info.put("_type", "Path");
+      info.put("fileName", String.valueOf(((Path) value).getFileName()));
+      return info;
+    }
+  }
+
+  static class UploadExtractor implements TypeExtractor {
+    @Override
+    public String targetType() {
+      return Upload.class.getName();
+    }
+
+    @Override
+    public Map<String, Object> extract(Object value) {
+      return new MultipartFileExtractor().extract(value);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    TypeExtractors.reset();
+  }
+
+  @Test
+  void extractorIsResolvedThroughTypeHierarchyAndCached() {
+    PathExtractor extractor = new PathExtractor();
+    TypeExtractors.register(extractor);
+
+    Class<?> pathClass = Path.of("logs", "app.log").getClass();
+    assertSame(extractor, TypeExtractors.find(pathClass), "구현 클래스가 대상 인터페이스를 구현하면 적용되어야 함");
+    assertSame(extractor, TypeExtractors.find(pathClass));
+    assertNull(TypeExtractors.find(String.class));
+
+    Object safe = CommonUtil.makeSafeForSerialization(List.of(Path.of("logs", "app.log")));
+    assertEquals("{_type=Path, fileName=app.log}", new TreeMap<>((Map<?, ?>) ((Object[]) safe)[0]).toString());
+  }
+
+  @Test
+  void laterRegistrationReplacesAndUnregisterRestoresLookup() {
+    PathExtractor first = new PathExtractor();
+    PathExtractor second = new PathExtractor();
+    Class<?> pathClass = Path.of("a").getClass();
+
+    TypeExtractors.register(first);
+    assertSame(first, TypeExtractors.find(pathClass));
+    TypeExtractors.register(second);
+    assertSame(second, TypeExtractors.find(pathClass), "같은 대상 타입은 나중에 등록한 추출기가 사용되어야 함");
+
+    TypeExtractors.unregister(first);
+    assertSame(second, TypeExtractors.find(pathClass), "등록되지 않은 인스턴스 해제는 무시되어야 함");
+    TypeExtractors.unregister(second);
+    assertNull(TypeExtractors.find(pathClass));
+  }
+
+  @Test
+  void multipartHandlesResolveThroughPublicInterface() {
+    TypeExtractors.register(new UploadExtractor());
+
+    Map<String, Object> info = TypeExtractors.extract(new HiddenUpload());
+
+    assertEquals("MultipartFile", info.get("_type"));
+    assertEquals("a.pdf", info.get("fileName"), "public이 아닌 구현 클래스도 인터페이스 핸들로 호출되어야 함");
+    assertEquals(10L, info.get("size"));
+    assertEquals("unknown", info.get("contentType"), "없는 메서드는 기본값");
+  }
+
+  @Test
+  void builtInMultipartExtractorKeepsNameBasedMatching() {
+    assertInstanceOf(MultipartFileExtractor.class, TypeExtractors.find(LegacyMultipartFile.class));
+
+    Map<String, Object> info = CommonUtil.extractMultipartFileInfo(new LegacyMultipartFile());
+
+    assertEquals("b.png", info.get("fileName"));
+    assertEquals("unknown", info.get("contentType"), "대상 메서드 예외는 기본값으로 대체되어야 함");
+    assertEquals(-1, info.get("size"));
+  }
+
+  @Test
+  void failingExtractorIsReportedInsteadOfThrown() {
+    TypeExtractors.register(new PathExtractor() {
+      @Override
+      public Map<String, Object> extract(Object value) {
+        throw new IllegalStateException("boom");
+      }
+    });
+
+    Map<String, Object> info = TypeExtractors.extract(Path.of("a"));
+
+    assertEquals("정보 추출 실패: boom", info.get("error"));
+  }
+}
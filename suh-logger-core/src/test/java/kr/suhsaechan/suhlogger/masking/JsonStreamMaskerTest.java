@@ -0,0 +1,81 @@
+package kr.suhsaechan.suhlogger.masking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JSON 본문 스트리밍 마스킹 검증 테스트
+ */
+class JsonStreamMaskerTest {
+
+  private static final List<String> MASK_FIELDS = List.of("password", "token", "secret");
+
+  @Test
+  void nestedObjectUnderSensitiveKeyIsReplacedWhole() {
+    String json = "{\"secret\":{\"pin\":\"1234\",\"otp\":\"9876\"},\"name\":\"suh\"}";
+
+    assertEquals("{\"secret\":\"****\",\"name\":\"suh\"}", JsonStreamMasker.mask(json, MASK_FIELDS, "****", false));
+  }
+
+  @Test
+  void arrayUnderSensitiveKeyIsSkipped() {
+    String json = "{\"tokens\":[\"t-1\",{\"value\":\"t-2\"}],\"count\":2}";
+
+    assertEquals("{\"tokens\":\"****\",\"count\":2}", JsonStreamMasker.mask(json, MASK_FIELDS, "****", false));
+  }
+
+  @Test
+  void sensitiveKeysAtDepthAreMasked() {
+    String json = "{\"data\":{\"users\":[{\"name\":\"suh\",\"auth\":{\"password\":\"plain-password\"}}]},"
+        + "\"accessToken\":\"plain-token\"}";
+
+    String masked = JsonStreamMasker.mask(json, MASK_FIELDS, "****", false);
+
+    assertEquals("{\"data\":{\"users\":[{\"name\":\"suh\",\"auth\":{\"password\":\"****\"}}]},"
+        + "\"accessToken\":\"****\"}", masked);
+  }
+
+  @Test
+  void prettyPrintOnAndOff() {
+    String json = "{\"name\":\"suh\",\"password\":\"plain-password\"}";
+
+    String compact = JsonStreamMasker.mask(json, MASK_FIELDS, "****", false);
+    String pretty = JsonStreamMasker.mask(json, MASK_FIELDS, "****", true);
+
+    assertEquals("{\"name\":\"suh\",\"password\":\"****\"}", compact);
+    assertEquals("{\n  \"name\" : \"suh\",\n  \"password\" : \"****\"\n}", pretty.replace("\r\n", "\n"));
+  }
+
+  @Test
+  void nonJsonContentTypePassesThrough() {
+    assertFalse(JsonStreamMasker.isJsonContentType("text/plain;charset=UTF-8"), "JSON이 아닌 응답은 마스킹 대상이 아님");
+    assertFalse(JsonStreamMasker.isJsonContentType(null));
+    assertTrue(JsonStreamMasker.isJsonContentType("application/json;charset=UTF-8"));
+    assertTrue(JsonStreamMasker.isJsonContentType("application/problem+json"));
+  }
+
+  @Test
+  void truncatedBodyDoesNotEchoSecret() {
+    String json = "{\"name\":\"suh\",\"password\":\"plain-password\",\"token\":\"plain-tok";
+
+    String masked = JsonStreamMasker.mask(json, MASK_FIELDS, "****", false);
+
+    assertFalse(masked.contains("plain-password"), "파싱 실패 시에도 원문을 반환하면 안 됨: " + masked);
+    assertFalse(masked.contains("plain-tok"), masked);
+    assertTrue(masked.startsWith("{\"name\":\"suh\",\"password\":\"****\""), masked);
+    assertTrue(masked.endsWith("[unparsable JSON, " + json.length() + " chars]"), masked);
+  }
+
+  @Test
+  void badByteAfterSecretDoesNotEchoSecret() {
+    String json = "{\"password\":\"plain-password\"\u0001}";
+
+    String masked = JsonStreamMasker.mask(json, MASK_FIELDS, "****", false);
+
+    assertFalse(masked.contains("plain-password"), masked);
+    assertTrue(masked.contains("[unparsable JSON"), masked);
+  }
+}
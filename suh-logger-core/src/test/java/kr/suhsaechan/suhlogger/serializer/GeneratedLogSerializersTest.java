@@ -0,0 +1,94 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 생성된 직렬화기(@Loggable)가 기본 엔진과 createSafeMap에서 리플렉션 대신 사용되는지 검증
+ * (프로세서가 만드는 코드와 같은 형태의 직렬화기를 직접 등록)
+ */
+class GeneratedLogSerializersTest {
+
+  static class Account {
+    String owner = "kim";
+    long balance = 1500;
+    String password = "secret";
+    int[] history = {1, 2, 3, 4};
+
+    @Override
+    public String toString() {
+      throw new IllegalStateException("toString이 호출되면 안 됨");
+    }
+  }
+
+  static class AccountSerializer implements GeneratedLogSerializer {
+
+    @Override
+    public Class<?> type() {
+      return Account.class;
+    }
+
+    @Override
+    public void write(Object value, LogFieldWriter out) {
+      Account v = (Account) value;
+      out.field("owner", (Object) v.owner);
+      out.field("balance", v.balance);
+      out.maskedField("password");
+      out.field("history", (Object) v.history);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    GeneratedLogSerializers.register(new AccountSerializer());
+  }
+
+  @AfterEach
+  void tearDown() {
+    GeneratedLogSerializers.reset();
+  }
+
+  @Test
+  void simpleSerializerWritesGeneratedFields() {
+    String json = new SimpleLogSerializer(null, 2, 4, List.of("owner"), "##").serialize(new Account());
+
+    assertTrue(json.contains("\"owner\": \"##\""), "실행 시점 마스킹 키워드도 적용되어야 함: " + json);
+    assertTrue(json.contains("\"balance\": 1500"), json);
+    assertTrue(json.contains("\"password\": \"##\""), "컴파일 시점 마스킹 필드: " + json);
+    assertTrue(json.contains("\"history\": [1, 2, \"... 2 more\"]"), "배열 요소 수 제한이 적용되어야 함: " + json);
+  }
+
+  @Test
+  void nestedGeneratedTypeIsUsedInsideCollections() {
+    String json = new SimpleLogSerializer(null).serialize(Map.of("accounts", List.of(new Account())));
+
+    assertTrue(json.contains("\"balance\": 1500"), json);
+    assertTrue(json.contains("\"password\": \"****\""), json);
+  }
+
+  @Test
+  void createSafeMapUsesGeneratedSerializer() {
+    // Account.toString()은 호출되면 예외 (Lombok toString처럼 마스킹 필드를 출력할 수 있음)
+    Account account = new Account();
+
+    Map<String, Object> map = CommonUtil.createSafeMap(account, null, null);
+
+    assertEquals("kim", map.get("owner"));
+    assertEquals(1500L, map.get("balance"));
+    assertEquals("****", map.get("password"));
+    assertEquals("[int[]: 4 items]", map.get("history"), "reflection 경로와 같은 요약 규칙이 적용되어야 함");
+    assertFalse(map.containsKey("_toString"), "생성 직렬화기가 있으면 toString()을 호출하지 않아야 함");
+  }
+
+  @Test
+  void unknownTypeFallsBackToReflection() {
+    assertNull(GeneratedLogSerializers.find(String.class));
+  }
+}
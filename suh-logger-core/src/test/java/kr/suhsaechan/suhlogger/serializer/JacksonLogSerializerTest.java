@@ -0,0 +1,137 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Jackson 직렬화 엔진의 중첩 필드 마스킹 검증 테스트
+ */
+class JacksonLogSerializerTest {
+
+  public static class User {
+    public String name = "suh";
+    public String password = "plain-password";
+  }
+
+  public static class SignUpRequest {
+    public User user = new User();
+    public Map<String, Object> extra = new HashMap<>(Map.of("apiToken", "plain-token", "count", 1));
+  }
+
+  /**
+   * 프레임워크 인터페이스를 구현한 타입 (HttpServletRequest처럼 getter가 부수효과를 일으킴)
+   */
+  public static class StreamingRequest implements Supplier<String> {
+    boolean consumed;
+
+    public String getBody() {
+      consumed = true;
+      return "body";
+    }
+
+    @Override
+    public String get() {
+      return "request";
+    }
+
+    @Override
+    public String toString() {
+      return "StreamingRequest[/orders]";
+    }
+  }
+
+  public static record Credentials(String username, String password) {
+  }
+
+  public static class BrokenRequest {
+    public User user = new User();
+    public Map<String, Object> extra = new HashMap<>(Map.of("apiToken", "plain-token"));
+
+    public String getExplode() {
+      throw new IllegalStateException("getter 실패");
+    }
+  }
+
+  @Test
+  void nestedSensitiveFieldsAreMasked() {
+    LogSerializer serializer = new JacksonLogSerializer(null, List.of("password", "token"), "****");
+
+    String json = serializer.serialize(Map.of("request", new SignUpRequest()));
+
+    assertFalse(json.contains("plain-password"), "DTO 내부 password 필드는 마스킹되어야 함");
+    assertFalse(json.contains("plain-token"), "중첩 Map의 token 키는 마스킹되어야 함");
+    assertTrue(json.contains("\"name\" : \"suh\""), "민감하지 않은 필드는 그대로 출력되어야 함");
+  }
+
+  @Test
+  void noMaskingWhenMaskFieldsEmpty() {
+    LogSerializer serializer = new JacksonLogSerializer(null, null, null);
+
+    String json = serializer.serialize(new SignUpRequest());
+
+    assertTrue(json.contains("plain-password"));
+  }
+
+  @Test
+  void nonDtoTypesAreRenderedWithoutCallingGetters() {
+    LogSerializer serializer = new JacksonLogSerializer(null, List.of("password"), "****");
+    StreamingRequest request = new StreamingRequest();
+
+    String json = serializer.serialize(Map.of("request", request));
+
+    assertFalse(request.consumed, "일반 DTO가 아닌 타입의 getter는 호출되면 안 됨");
+    assertTrue(json.contains("StreamingRequest[/orders]"), json);
+  }
+
+  @Test
+  void recordsAreSerializedAsDtos() {
+    LogSerializer serializer = new JacksonLogSerializer(null, List.of("password"), "****");
+
+    String json = serializer.serialize(Map.of("login", new Credentials("suh", "plain-password")));
+
+    assertTrue(json.contains("\"username\" : \"suh\""), json);
+    assertFalse(json.contains("plain-password"), json);
+  }
+
+  @Test
+  void fallbackKeepsNestedMasking() {
+    LogSerializer serializer = new JacksonLogSerializer(null, List.of("password", "token"), "****");
+
+    String json = serializer.serialize(Map.of("request", new BrokenRequest()));
+
+    assertTrue(json.contains("\"name\": \"suh\""), "대체 엔진은 DTO를 필드 단위로 펼쳐야 함: " + json);
+    assertFalse(json.contains("plain-password"), "대체 엔진에서도 중첩 필드는 마스킹되어야 함: " + json);
+    assertFalse(json.contains("plain-token"), "대체 엔진에서도 중첩 Map 키는 마스킹되어야 함: " + json);
+  }
+
+  @Test
+  void everyPrimitiveArrayRespectsElementBudget() throws Exception {
+    LogSerializer serializer = new JacksonLogSerializer(null, null, null, 3, 2);
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("ints", new int[]{1, 2, 3, 4, 5});
+    params.put("longs", new long[]{1L, 2L, 3L, 4L, 5L});
+    params.put("floats", new float[]{1f, 2f, 3f, 4f, 5f});
+    params.put("doubles", new double[]{1d, 2d, 3d, 4d, 5d});
+    params.put("shorts", new short[]{1, 2, 3, 4, 5});
+    params.put("flags", new boolean[]{true, false, true, false, true});
+
+    JsonNode root = new ObjectMapper().readTree(serializer.serialize(params));
+
+    for (String key : params.keySet()) {
+      JsonNode array = root.get(key);
+      assertEquals(4, array.size(), key + " 배열에 요소 수 제한이 적용되어야 함: " + array);
+      assertEquals("... 2 more", array.get(3).asText(), key);
+    }
+    assertEquals(3, root.get("shorts").get(2).asInt());
+    assertTrue(root.get("flags").get(2).asBoolean());
+  }
+}
@@ -0,0 +1,33 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 직렬화 엔진 선택 검증 (Jackson은 core 모듈의 선택 의존성)
+ */
+class LogSerializerFactoryTest {
+
+  @Test
+  void jacksonEngineIsUsedWhenAvailable() {
+    assertTrue(LogSerializerFactory.isJacksonAvailable(), "테스트 클래스패스에는 Jackson이 있음");
+
+    LogSerializer serializer = LogSerializerFactory.create(SerializerType.JACKSON, null,
+        List.of("password"), "****", 100, 32);
+
+    assertInstanceOf(JacksonLogSerializer.class, serializer);
+    assertTrue(serializer.serialize(Map.of("password", "plain")).contains("****"), "마스킹 설정이 전달되어야 함");
+  }
+
+  @Test
+  void simpleEngineIsDefault() {
+    assertInstanceOf(SimpleLogSerializer.class,
+        LogSerializerFactory.create(SerializerType.SIMPLE, null, null, null, 100, 32));
+    assertInstanceOf(SimpleLogSerializer.class,
+        LogSerializerFactory.create(null, null, null, null, 100, 32), "종류를 지정하지 않으면 SIMPLE");
+  }
+}
@@ -0,0 +1,57 @@
+package kr.suhsaechan.suhlogger.serializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기본 직렬화 엔진의 원시 타입 배열 출력 검증 테스트
+ */
+class SimpleLogSerializerTest {
+
+  private final SimpleLogSerializer serializer = new SimpleLogSerializer(null, 3, 2);
+
+  @Test
+  void primitiveArraysDoNotFail() {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("ids", new int[]{1, 2});
+    params.put("timestamps", new long[]{10L});
+    params.put("embedding", new float[1536]);
+
+    String json = serializer.serialize(params);
+
+    assertTrue(json.contains("\"ids\": [1, 2]"));
+    assertTrue(json.contains("\"timestamps\": [10]"));
+    assertTrue(json.contains("\"embedding\": [0.0, 0.0, 0.0, \"... 1533 more\"]"), "요소 수 제한이 적용되어야 함");
+  }
+
+  @Test
+  void byteArrayRendersLengthAndPreview() {
+    String json = serializer.serialize(Map.of("image", new byte[]{(byte) 0x89, 0x50, 0x4e, 0x47}));
+
+    assertTrue(json.contains("{\"_type\": \"byte[]\", \"length\": 4, \"preview\": \"8950...\"}"));
+  }
+
+  @Test
+  void everyPrimitiveArrayRespectsElementBudget() {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("ints", new int[]{1, 2, 3, 4, 5});
+    params.put("longs", new long[]{1L, 2L, 3L, 4L, 5L});
+    params.put("floats", new float[]{1f, 2f, 3f, 4f, 5f});
+    params.put("doubles", new double[]{1d, 2d, 3d, 4d, 5d});
+    params.put("shorts", new short[]{1, 2, 3, 4, 5});
+    params.put("flags", new boolean[]{true, false, true, false, true});
+
+    String json = serializer.serialize(params);
+
+    assertTrue(json.contains("\"ints\": [1, 2, 3, \"... 2 more\"]"), json);
+    assertTrue(json.contains("\"longs\": [1, 2, 3, \"... 2 more\"]"), json);
+    assertTrue(json.contains("\"floats\": [1.0, 2.0, 3.0, \"... 2 more\"]"), json);
+    assertTrue(json.contains("\"doubles\": [1.0, 2.0, 3.0, \"... 2 more\"]"), json);
+    assertTrue(json.contains("\"shorts\": [1, 2, 3, \"... 2 more\"]"), json);
+    assertTrue(json.contains("\"flags\": [true, false, true, \"... 2 more\"]"), json);
+  }
+}
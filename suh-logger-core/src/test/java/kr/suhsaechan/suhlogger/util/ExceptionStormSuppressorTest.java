@@ -0,0 +1,130 @@
+package kr.suhsaechan.suhlogger.util;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예외 지문화 및 폭주 억제 검증 테스트
+ */
+class ExceptionStormSuppressorTest {
+
+  // 같은 던지는 위치(스택)를 재현하려면 한 인스턴스를 재사용 (호출 줄이 다르면 스택 프레임이 달라져 다른 지문)
+  private static RuntimeException downstreamFailure() {
+    return new IllegalStateException("downstream unavailable");
+  }
+
+  @AfterEach
+  void resetSettings() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void onlyFirstOccurrenceInWindowIsLogged() {
+    ExceptionStormSuppressor suppressor = new ExceptionStormSuppressor(Duration.ofMinutes(1), 100, 3);
+
+    int logged = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (suppressor.shouldLog("OrderService.place", downstreamFailure())) {
+        logged++;
+      }
+    }
+
+    assertEquals(1, logged, "같은 지문은 윈도우 안에서 한 번만 전체 로그로 출력되어야 함");
+  }
+
+  @Test
+  void differentMethodOrTypeIsDifferentFingerprint() {
+    ExceptionStormSuppressor suppressor = new ExceptionStormSuppressor(Duration.ofMinutes(1), 100, 3);
+
+    assertTrue(suppressor.shouldLog("OrderService.place", downstreamFailure()));
+    assertTrue(suppressor.shouldLog("OrderService.cancel", downstreamFailure()), "메서드가 다르면 별도 지문");
+    assertTrue(suppressor.shouldLog("OrderService.place", new IllegalArgumentException()), "예외 타입이 다르면 별도 지문");
+    assertEquals(3, suppressor.trackedFingerprints());
+  }
+
+  @Test
+  void newWindowLogsAgain() throws InterruptedException {
+    ExceptionStormSuppressor suppressor = new ExceptionStormSuppressor(Duration.ofMillis(50), 100, 3);
+    RuntimeException failure = downstreamFailure();
+
+    assertTrue(suppressor.shouldLog("OrderService.place", failure));
+    assertFalse(suppressor.shouldLog("OrderService.place", failure));
+    Thread.sleep(80);
+    assertTrue(suppressor.shouldLog("OrderService.place", failure), "윈도우가 지나면 다시 전체 로그");
+  }
+
+  @Test
+  void trackedFingerprintsAreBounded() {
+    ExceptionStormSuppressor suppressor = new ExceptionStormSuppressor(Duration.ofMinutes(1), 2, 3);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(suppressor.shouldLog("Service.method" + i, downstreamFailure()));
+    }
+    assertEquals(2, suppressor.trackedFingerprints(), "추적 지문 수는 한도를 넘지 않아야 함");
+  }
+
+  @Test
+  void disabledAlwaysLogs() {
+    for (int i = 0; i < 3; i++) {
+      assertTrue(ExceptionStormSuppressor.DISABLED.shouldLog("OrderService.place", downstreamFailure()));
+    }
+  }
+
+  @Test
+  void pendingSummaryIsFlushedWithoutLaterException() throws InterruptedException {
+    ExceptionStormSuppressor suppressor = new ExceptionStormSuppressor(Duration.ofMillis(50), 100, 3);
+    RuntimeException failure = downstreamFailure();
+
+    assertTrue(suppressor.shouldLog("OrderService.place", failure));
+    assertFalse(suppressor.shouldLog("OrderService.place", failure));
+    Thread.sleep(300);
+
+    assertEquals(0, suppressor.trackedFingerprints(), "이후 예외가 없어도 윈도우가 끝나면 요약 출력 후 정리되어야 함");
+  }
+
+  @Test
+  void republishedSettingsKeepStormWindows() {
+    RuntimeException failure = downstreamFailure();
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .exceptionSuppressor(new ExceptionStormSuppressor(Duration.ofMinutes(1), 100, 3))
+        .build());
+    assertTrue(SuhLoggerSettings.current().getExceptionSuppressor().shouldLog("OrderService.place", failure));
+    assertFalse(SuhLoggerSettings.current().getExceptionSuppressor().shouldLog("OrderService.place", failure));
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .exceptionSuppressor(new ExceptionStormSuppressor(Duration.ofMinutes(1), 100, 3))
+        .build());
+
+    ExceptionStormSuppressor republished = SuhLoggerSettings.current().getExceptionSuppressor();
+    assertEquals(1, republished.trackedFingerprints(), "설정 갱신 후에도 진행 중인 윈도우를 이어받아야 함");
+    assertFalse(republished.shouldLog("OrderService.place", failure), "같은 윈도우 안에서는 계속 억제되어야 함");
+  }
+
+  @Test
+  void republishedSettingsKeepDigestHistory() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+    assertFalse(SuhLoggerSettings.current().getDigestTracker().record("GET /orders", 42L));
+
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+
+    assertTrue(SuhLoggerSettings.current().getDigestTracker().record("GET /orders", 42L),
+        "설정 갱신 후에도 직전 해시와 비교되어야 함");
+  }
+
+  @Test
+  void disabledReplacementFlushesPreviousCounts() {
+    ExceptionStormSuppressor previous = new ExceptionStormSuppressor(Duration.ofMinutes(1), 100, 3);
+    RuntimeException failure = downstreamFailure();
+    assertTrue(previous.shouldLog("OrderService.place", failure));
+    assertFalse(previous.shouldLog("OrderService.place", failure));
+
+    ExceptionStormSuppressor.DISABLED.takeOver(previous);
+
+    assertEquals(0, previous.trackedFingerprints(), "억제가 꺼지면 이전 집계를 출력하고 비워야 함");
+  }
+}
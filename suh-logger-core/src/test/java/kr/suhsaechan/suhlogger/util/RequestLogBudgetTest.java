@@ -0,0 +1,124 @@
+package kr.suhsaechan.suhlogger.util;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청당 로그 예산(log-budget) 검증
+ */
+class RequestLogBudgetTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    RequestLogContext context = RequestLogContext.current();
+    if (context != null) {
+      context.discard();
+    }
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void eventsWithinBudgetAreWrittenAsIs() {
+    RequestLogContext context = open(10, 1024, 0);
+
+    SuhLogger.info("first");
+    SuhLogger.info("second");
+    context.close();
+
+    assertEquals(List.of("first", "second"), messages());
+    assertNull(RequestLogContext.current(), "종료 후에는 예산이 적용되지 않아야 함");
+  }
+
+  @Test
+  void exhaustedBudgetSuppressesAndReportsAtClose() {
+    RequestLogContext context = open(3, 1024 * 1024, 0);
+
+    for (int i = 0; i < 10; i++) {
+      SuhLogger.info("event-" + i);
+    }
+    assertTrue(context.isOverBudget());
+    assertEquals(7, context.suppressedEvents());
+    context.close();
+
+    List<String> messages = messages();
+    assertEquals(List.of("event-0", "event-1", "event-2",
+        "[LOG BUDGET] 7 events / 49 bytes suppressed (budget: 3 events / 1048576 bytes)"), messages,
+        "예산을 넘은 이벤트는 버리고 마지막에 개수/크기를 한 줄로 출력해야 함");
+  }
+
+  @Test
+  void superLogDegradesToSummaryAfterBudget() {
+    RequestLogContext context = open(1, 1024 * 1024, 5);
+
+    SuhLogger.info("warm-up");
+    SuhLogger.superLog(new HashMap<>(Map.of("payload", "x".repeat(10_000))));
+    SuhLogger.info("y".repeat(RequestLogContext.SUMMARY_MAX_CHARS + 1));
+    context.close();
+
+    List<String> messages = messages();
+    assertEquals("[SKIPPED] HashMap (request log budget exhausted)", messages.get(1),
+        "예산 소진 후에는 직렬화 없이 한 줄 요약만 출력해야 함");
+    assertEquals(3, messages.size(), "요약보다 긴 이벤트는 버려야 함");
+    assertTrue(messages.get(2).startsWith("[LOG BUDGET] 1 events"), messages.get(2));
+  }
+
+  @Test
+  void byteLimitAlsoExhaustsBudget() {
+    RequestLogContext context = open(100, 10, 0);
+
+    SuhLogger.info("0123456789");
+    SuhLogger.info("next");
+    context.close();
+
+    assertEquals("0123456789", messages().get(0));
+    assertTrue(messages().get(1).startsWith("[LOG BUDGET] 1 events / 4 bytes suppressed"), messages().get(1));
+  }
+
+  @Test
+  void tailBufferWithoutBudgetIsUnlimited() {
+    RequestLogContext context = RequestLogContext.open(4);
+
+    for (int i = 0; i < 10; i++) {
+      SuhLogger.info("event-" + i);
+    }
+
+    assertFalse(context.isOverBudget());
+    assertEquals(0, context.suppressedEvents());
+    context.discard();
+  }
+
+  private RequestLogContext open(int maxEvents, long maxBytes, int summaryEvents) {
+    return RequestLogContext.open(SuhLoggerSettings.builder()
+        .logBudgetEnabled(true)
+        .logBudgetMaxEvents(maxEvents)
+        .logBudgetMaxBytes(maxBytes)
+        .logBudgetSummaryEvents(summaryEvents)
+        .build());
+  }
+
+  private List<String> messages() {
+    return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+  }
+}
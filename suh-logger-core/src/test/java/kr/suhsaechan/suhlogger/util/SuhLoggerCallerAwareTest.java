@@ -0,0 +1,68 @@
+package kr.suhsaechan.suhlogger.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * caller-aware 모드에서 정적 호출이 호출 클래스 로거로 출력되는지 검증
+ */
+class SuhLoggerCallerAwareTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final Logger callerLogger = (Logger) LoggerFactory.getLogger(SuhLoggerCallerAwareTest.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    callerLogger.setLevel(null);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void staticCallsUseFixedLoggerByDefault() {
+    SuhLogger.info("fixed");
+
+    assertEquals(SuhLogger.class.getName(), appender.list.get(0).getLoggerName());
+  }
+
+  @Test
+  void staticCallsUseCallerLoggerWhenCallerAware() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().callerAware(true).build());
+
+    SuhLogger.info("caller");
+    SuhLogger.lineLog("title");
+
+    assertEquals(2, appender.list.size());
+    for (ILoggingEvent event : appender.list) {
+      assertEquals(SuhLoggerCallerAwareTest.class.getName(), event.getLoggerName(), "호출 클래스 로거로 출력되어야 함");
+    }
+  }
+
+  @Test
+  void callerLoggerLevelIsRespected() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().callerAware(true).build());
+    callerLogger.setLevel(Level.WARN);
+
+    SuhLogger.superLog("suppressed");
+    SuhLogger.warn("visible");
+
+    assertEquals(1, appender.list.size(), "호출 클래스 로거 레벨 미만 출력은 생략되어야 함");
+    assertEquals("visible", appender.list.get(0).getFormattedMessage());
+  }
+}
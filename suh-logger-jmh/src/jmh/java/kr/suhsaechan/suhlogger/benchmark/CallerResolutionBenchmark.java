@@ -0,0 +1,54 @@
+package kr.suhsaechan.suhlogger.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * caller-aware 모드의 호출 클래스 탐색 비용 측정
+ *
+ * logback.xml(jmh 리소스)에서 INFO는 활성화하되 Appender를 붙이지 않아 출력 I/O 없이
+ * 로거 선택 비용만 비교한다.
+ * - info: 활성화된 호출 (callerAware=true면 StackWalker 탐색 + ClassValue 조회 포함)
+ * - debugDisabled: 비활성화된 호출 (두 모드 모두 탐색 없이 레벨 게이트에서 종료되어야 함)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallerResolutionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean callerAware;
+
+    @Setup
+    public void setUp() {
+        SuhLoggerSettings.publish(SuhLoggerSettings.builder().callerAware(callerAware).build());
+    }
+
+    @Benchmark
+    public void info() {
+        SuhLogger.info("benchmark");
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        SuhLogger.debug("benchmark");
+    }
+}
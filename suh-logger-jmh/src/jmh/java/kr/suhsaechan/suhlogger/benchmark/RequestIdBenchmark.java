@@ -0,0 +1,50 @@
+package kr.suhsaechan.suhlogger.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import kr.suhsaechan.suhlogger.filter.RequestIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청 ID 생성 경합 측정 (200 스레드 동시 생성)
+ *
+ * - requestIdGenerator: ThreadLocalRandom 기반 (스레드 간 공유 상태 없음)
+ * - randomUuid: 비교 기준, UUID.randomUUID()는 공유 SecureRandom을 사용
+ *
+ * 10k RPS(요청당 ID 1개) 기준 스레드당 수십 ns 수준이면 충분하며,
+ * 스레드 수를 늘려도 requestIdGenerator의 호출당 시간이 늘지 않아야 잠금이 없음을 의미한다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RequestIdBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(200)
+public class RequestIdBenchmark {
+
+    @Benchmark
+    public String requestIdGenerator() {
+        return RequestIdGenerator.generate();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String requestIdGeneratorSingleThread() {
+        return RequestIdGenerator.generate();
+    }
+}
@@ -0,0 +1,53 @@
+package kr.suhsaechan.suhlogger.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerAutoConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 컨텍스트 기동 시간 비교: 명시적 빈 등록 vs 패키지 스캔
+ *
+ * 콜드 스타트에 가깝게 측정하기 위해 SingleShotTime + 다중 fork 사용.
+ * - explicit: 현재 자동 설정 (@Bean 명시 등록)
+ * - componentScan: 기존 방식처럼 kr.suhsaechan.suhlogger 패키지를 스캔
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=StartupBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(5)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Object explicit() {
+        try (AnnotationConfigApplicationContext context =
+                 new AnnotationConfigApplicationContext(SuhLoggerAutoConfiguration.class)) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Benchmark
+    public Object componentScan() {
+        try (AnnotationConfigApplicationContext context =
+                 new AnnotationConfigApplicationContext(ScanConfiguration.class)) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ComponentScan("kr.suhsaechan.suhlogger")
+    static class ScanConfiguration {
+    }
+}
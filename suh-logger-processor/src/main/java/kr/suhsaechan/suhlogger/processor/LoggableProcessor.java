@@ -0,0 +1,351 @@
+package kr.suhsaechan.suhlogger.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * @Loggable DTO용 로그 직렬화기 생성기
+ *
+ * 타입마다 같은 패키지에 {@code <클래스명>_SuhLogSerializer}(GeneratedLogSerializer 구현)를 생성하고,
+ * 처리가 끝나면 META-INF/services에 등록 파일을 쓴다.
+ * - 필드는 선언 순서대로, 필드 직접 접근 또는 getter 호출로 읽음 (리플렉션 없음)
+ * - @Loggable(maskFields)에 해당하는 필드는 값을 읽지 않고 maskedField로 출력
+ * - 원시 타입은 박싱 없이 LogFieldWriter의 원시 타입 오버로드로 전달
+ *
+ * suh-logger-core 타입은 이름으로만 참조하므로 프로세서 자체는 의존성이 없다.
+ */
+@SupportedAnnotationTypes(LoggableProcessor.LOGGABLE)
+public class LoggableProcessor extends AbstractProcessor {
+
+    static final String LOGGABLE = "kr.suhsaechan.suhlogger.annotation.Loggable";
+    static final String SERIALIZER_INTERFACE = "kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializer";
+    static final String WRITER_INTERFACE = "kr.suhsaechan.suhlogger.serializer.LogFieldWriter";
+    static final String SERVICE_FILE = "META-INF/services/" + SERIALIZER_INTERFACE;
+    static final String SUFFIX = "_SuhLogSerializer";
+
+    // getter가 컴파일 중에 생성되는 경우 (Lombok)
+    private static final Set<String> GETTER_ANNOTATIONS = Set.of("lombok.Getter", "lombok.Data", "lombok.Value");
+
+    // 라운드를 거쳐 생성된 직렬화기 클래스 이름 (마지막 라운드에 등록 파일로 출력)
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement loggable = processingEnv.getElementUtils().getTypeElement(LOGGABLE);
+        if (loggable == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(loggable)) {
+            if (element instanceof TypeElement) {
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        Messager messager = processingEnv.getMessager();
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Loggable은 클래스와 레코드에만 사용할 수 있습니다", type);
+            return;
+        }
+        if (!isAccessibleFromPackage(type)) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "@Loggable 타입과 바깥 타입은 private일 수 없습니다 (생성된 직렬화기가 같은 패키지에서 접근)", type);
+            return;
+        }
+
+        List<String> maskKeywords = maskKeywords(type);
+        List<String> statements = new ArrayList<>();
+        for (FieldAccess field : fields(type)) {
+            statements.add(writeStatement(field, isMasked(field.name, maskKeywords)));
+        }
+
+        String packageName = packageOf(type);
+        String simpleName = serializerSimpleName(type);
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(render(packageName, simpleName, type, statements));
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "직렬화기 생성 실패: " + e.getMessage(), type);
+            return;
+        }
+        generated.add(qualifiedName);
+    }
+
+    /**
+     * 출력할 필드와 읽는 방법 수집 (레코드는 컴포넌트 접근자, 클래스는 static이 아닌 선언 필드)
+     */
+    private List<FieldAccess> fields(TypeElement type) {
+        List<FieldAccess> fields = new ArrayList<>();
+        if (type.getKind() == ElementKind.RECORD) {
+            for (Element component : type.getEnclosedElements()) {
+                if (component.getKind() == ElementKind.RECORD_COMPONENT) {
+                    String name = component.getSimpleName().toString();
+                    fields.add(new FieldAccess(name, "v." + name + "()", component.asType()));
+                }
+            }
+            return fields;
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        boolean lombokType = hasGetterAnnotation(type);
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                fields.add(new FieldAccess(name, "v." + name, field.asType()));
+                continue;
+            }
+            String getter = findGetter(methods, field);
+            if (getter == null && (lombokType || hasGetterAnnotation(field))) {
+                getter = getterName(field);
+            }
+            if (getter == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "private 필드 '" + name + "'에 getter가 없어 로그 출력에서 제외됩니다", field);
+                continue;
+            }
+            fields.add(new FieldAccess(name, "v." + getter + "()", field.asType()));
+        }
+        return fields;
+    }
+
+    /**
+     * 같은 패키지에서 호출할 수 있는 인자 없는 getter 조회 (getX, boolean은 isX도 허용)
+     */
+    private String findGetter(List<ExecutableElement> methods, VariableElement field) {
+        String expected = getterName(field);
+        String fallback = "get" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methods) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals(expected) || name.equals(fallback))
+                && method.getParameters().isEmpty()
+                && !method.getModifiers().contains(Modifier.PRIVATE)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && method.getReturnType().getKind() != TypeKind.VOID) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private String getterName(VariableElement field) {
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + capitalize(field.getSimpleName().toString());
+    }
+
+    private static boolean hasGetterAnnotation(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (GETTER_ANNOTATIONS.contains(mirror.getAnnotationType().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 하나를 출력하는 문장 (원시 타입은 박싱 없는 오버로드 사용)
+     */
+    private static String writeStatement(FieldAccess field, boolean masked) {
+        String name = "\"" + field.name + "\"";
+        if (masked) {
+            return "out.maskedField(" + name + ");";
+        }
+        switch (field.type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return "out.field(" + name + ", " + field.expression + ");";
+            case CHAR:
+                return "out.field(" + name + ", String.valueOf(" + field.expression + "));";
+            default:
+                return "out.field(" + name + ", (Object) " + field.expression + ");";
+        }
+    }
+
+    private String render(String packageName, String simpleName, TypeElement type, List<String> statements) {
+        String typeName = type.getQualifiedName().toString();
+        String variableType = typeName + wildcards(type);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(LoggableProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(SERIALIZER_INTERFACE).append(" {\n\n");
+        source.append("    @Override\n");
+        source.append("    public Class<?> type() {\n");
+        source.append("        return ").append(typeName).append(".class;\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public void write(Object value, ").append(WRITER_INTERFACE).append(" out) {\n");
+        if (!statements.isEmpty()) {
+            source.append("        ").append(variableType).append(" v = (").append(variableType).append(") value;\n");
+        }
+        for (String statement : statements) {
+            source.append("        ").append(statement).append('\n');
+        }
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String name : generated) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "직렬화기 등록 파일 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @Loggable(maskFields) 값 (프로세서는 core를 로드하지 않으므로 AnnotationMirror로 읽음)
+     */
+    private static List<String> maskKeywords(TypeElement type) {
+        List<String> keywords = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().toString().equals(LOGGABLE)) {
+                continue;
+            }
+            mirror.getElementValues().forEach((key, value) -> {
+                if (key.getSimpleName().contentEquals("maskFields")) {
+                    for (Object item : (List<?>) value.getValue()) {
+                        keywords.add(String.valueOf(((AnnotationValue) item).getValue()).toLowerCase(Locale.ROOT));
+                    }
+                }
+            });
+        }
+        return keywords;
+    }
+
+    /**
+     * CommonUtil.isSensitive와 같은 규칙 (필드명에 키워드가 포함되면 마스킹, 대소문자 무시)
+     */
+    static boolean isMasked(String fieldName, List<String> keywords) {
+        String lowerName = fieldName.toLowerCase(Locale.ROOT);
+        for (String keyword : keywords) {
+            if (lowerName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAccessibleFromPackage(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static String packageOf(TypeElement type) {
+        Element current = type;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return ((PackageElement) current).getQualifiedName().toString();
+    }
+
+    /**
+     * 생성 클래스 이름: 중첩 타입은 바깥 타입 이름을 '_'로 연결 (Outer.Inner → Outer_Inner_SuhLogSerializer)
+     */
+    static String serializerSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element current = type.getEnclosingElement();
+        while (current instanceof TypeElement) {
+            name.insert(0, current.getSimpleName() + "_");
+            current = current.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    private static String wildcards(TypeElement type) {
+        int count = type.getTypeParameters().size();
+        if (count == 0) {
+            return "";
+        }
+        StringBuilder wildcards = new StringBuilder("<");
+        for (int i = 0; i < count; i++) {
+            wildcards.append(i == 0 ? "?" : ", ?");
+        }
+        return wildcards.append('>').toString();
+    }
+
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 출력할 필드 하나 (이름, 값을 읽는 식, 타입)
+     */
+    private static final class FieldAccess {
+
+        private final String name;
+        private final String expression;
+        private final TypeMirror type;
+
+        FieldAccess(String name, String expression, TypeMirror type) {
+            this.name = name;
+            this.expression = expression;
+            this.type = type;
+        }
+    }
+}
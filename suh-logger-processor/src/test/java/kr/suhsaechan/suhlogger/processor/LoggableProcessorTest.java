@@ -0,0 +1,172 @@
+package kr.suhsaechan.suhlogger.processor;
+
+import kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializer;
+import kr.suhsaechan.suhlogger.serializer.LogFieldWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @Loggable 직렬화기 생성 검증 (javax.tools로 직접 컴파일 후 생성 클래스 실행)
+ */
+class LoggableProcessorTest {
+
+  @TempDir
+  Path workDir;
+
+  @Test
+  void generatesReflectionFreeSerializerAndServiceFile() throws Exception {
+    Path output = compile("com/example/Payment.java", String.join("\n",
+        "package com.example;",
+        "import kr.suhsaechan.suhlogger.annotation.Loggable;",
+        "@Loggable(maskFields = {\"card\"})",
+        "public class Payment {",
+        "  static int counter;",
+        "  String orderId = \"O-1\";",
+        "  private long amount = 1200;",
+        "  private String cardNumber = \"4111\";",
+        "  private boolean paid = true;",
+        "  private char grade = 'A';",
+        "  private String hidden = \"x\";",
+        "  public long getAmount() { return amount; }",
+        "  public String getCardNumber() { throw new IllegalStateException(\"읽으면 안 됨\"); }",
+        "  public boolean isPaid() { return paid; }",
+        "  char getGrade() { return grade; }",
+        "}"));
+
+    String services = Files.readString(
+        output.resolve("META-INF/services/kr.suhsaechan.suhlogger.serializer.GeneratedLogSerializer"));
+    assertEquals("com.example.Payment_SuhLogSerializer", services.trim());
+
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+      Class<?> type = loader.loadClass("com.example.Payment");
+      GeneratedLogSerializer serializer = (GeneratedLogSerializer) loader
+          .loadClass("com.example.Payment_SuhLogSerializer").getConstructor().newInstance();
+      assertSame(type, serializer.type());
+
+      RecordingWriter writer = new RecordingWriter();
+      serializer.write(type.getConstructor().newInstance(), writer);
+
+      assertEquals(List.of(
+          "orderId=O-1 (Object)",
+          "amount=1200 (long)",
+          "cardNumber=MASKED",
+          "paid=true (boolean)",
+          "grade=A (Object)"), writer.calls,
+          "static 필드와 getter 없는 private 필드는 제외, 마스킹 필드는 값을 읽지 않아야 함");
+    }
+  }
+
+  @Test
+  void recordsAndNestedTypesUseAccessors() throws Exception {
+    Path output = compile("com/example/Order.java", String.join("\n",
+        "package com.example;",
+        "import kr.suhsaechan.suhlogger.annotation.Loggable;",
+        "public class Order {",
+        "  @Loggable",
+        "  public record Line(String sku, int quantity, float weight) {}",
+        "}"));
+
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+      Class<?> type = loader.loadClass("com.example.Order$Line");
+      GeneratedLogSerializer serializer = (GeneratedLogSerializer) loader
+          .loadClass("com.example.Order_Line_SuhLogSerializer").getConstructor().newInstance();
+
+      RecordingWriter writer = new RecordingWriter();
+      serializer.write(type.getConstructors()[0].newInstance("A-1", 3, 1.5f), writer);
+
+      assertEquals(List.of("sku=A-1 (Object)", "quantity=3 (long)", "weight=1.5 (double)"), writer.calls,
+          "원시 타입은 박싱 없는 오버로드로 전달되어야 함");
+    }
+  }
+
+  @Test
+  void privateTypeIsRejected() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    boolean success = compile("com/example/Holder.java", String.join("\n",
+        "package com.example;",
+        "import kr.suhsaechan.suhlogger.annotation.Loggable;",
+        "public class Holder {",
+        "  @Loggable",
+        "  private static class Secret { String value; }",
+        "}"), diagnostics);
+
+    assertFalse(success, "private 타입은 생성된 직렬화기가 접근할 수 없으므로 컴파일 오류여야 함");
+    assertTrue(diagnostics.getDiagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR));
+  }
+
+  private Path compile(String path, String source) throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    assertTrue(compile(path, source, diagnostics), () -> "컴파일 실패: " + diagnostics.getDiagnostics());
+    return workDir.resolve("out");
+  }
+
+  private boolean compile(String path, String source, DiagnosticCollector<JavaFileObject> diagnostics)
+      throws IOException {
+    Path sourceFile = workDir.resolve("src").resolve(path);
+    Files.createDirectories(sourceFile.getParent());
+    Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+    Path output = Files.createDirectories(workDir.resolve("out"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      List<String> options = List.of(
+          "-classpath", System.getProperty("java.class.path"),
+          "-d", output.toString(),
+          "-s", output.toString());
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+          fileManager.getJavaFileObjects(sourceFile));
+      task.setProcessors(List.of(new LoggableProcessor()));
+      return task.call();
+    }
+  }
+
+  /**
+   * 생성된 코드가 호출한 오버로드와 값을 기록
+   */
+  static class RecordingWriter implements LogFieldWriter {
+
+    final List<String> calls = new ArrayList<>();
+
+    @Override
+    public void field(String name, Object value) {
+      calls.add(name + "=" + value + " (Object)");
+    }
+
+    @Override
+    public void field(String name, long value) {
+      calls.add(name + "=" + value + " (long)");
+    }
+
+    @Override
+    public void field(String name, double value) {
+      calls.add(name + "=" + value + " (double)");
+    }
+
+    @Override
+    public void field(String name, boolean value) {
+      calls.add(name + "=" + value + " (boolean)");
+    }
+
+    @Override
+    public void maskedField(String name) {
+      calls.add(name + "=MASKED");
+    }
+  }
+}
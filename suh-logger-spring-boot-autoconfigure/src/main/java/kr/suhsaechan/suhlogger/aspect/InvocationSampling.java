@@ -0,0 +1,55 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+
+/**
+ * 호출당 한 번만 샘플링하도록 두 Aspect가 결정을 공유
+ *
+ * @LogMonitor 메서드는 호출 로그 Aspect와 실행 시간 Aspect가 모두 적용되는데, 각자 shouldLog()를 호출하면
+ * sampleRate &lt; 1일 때 CALL만 또는 TIME만 남는 호출이 생긴다.
+ * 먼저 실행된 Aspect의 결정을 같은 프록시 호출(ProxyMethodInvocation)의 사용자 속성에 저장하고 나중 Aspect가 재사용한다.
+ * (Java 에이전트의 AgentRecorder.enter와 같은 호출당 1회 샘플링)
+ *
+ * - 결과가 항상 같은 토글(비활성화, sampleRate 0 또는 1)은 공유 없이 바로 판단
+ * - 호출이 노출되지 않는 환경(컴파일 타임 위빙 등)에서는 Aspect별로 판단
+ */
+final class InvocationSampling {
+
+  private static final String ATTRIBUTE = InvocationSampling.class.getName() + ".shouldLog";
+
+  private InvocationSampling() {
+  }
+
+  /**
+   * 이번 호출을 로깅할지 결정 (같은 호출에서는 Aspect와 무관하게 같은 결과)
+   */
+  static boolean shouldLog(MethodLogToggle toggle) {
+    double sampleRate = toggle.getSampleRate();
+    if (!toggle.isEnabled() || sampleRate <= 0.0 || sampleRate >= 1.0) {
+      return toggle.shouldLog();
+    }
+
+    ProxyMethodInvocation invocation = currentInvocation();
+    if (invocation == null) {
+      return toggle.shouldLog();
+    }
+    Object decided = invocation.getUserAttribute(ATTRIBUTE);
+    if (decided instanceof Boolean) {
+      return (Boolean) decided;
+    }
+    boolean sampled = toggle.shouldLog();
+    invocation.setUserAttribute(ATTRIBUTE, sampled);
+    return sampled;
+  }
+
+  private static ProxyMethodInvocation currentInvocation() {
+    try {
+      MethodInvocation invocation = ExposeInvocationInterceptor.currentInvocation();
+      return (invocation instanceof ProxyMethodInvocation) ? (ProxyMethodInvocation) invocation : null;
+    } catch (IllegalStateException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+
+/**
+ * 메서드별 로깅 토글 JMX MBean 구현
+ * 플랫폼 MBeanServer에 직접 등록하므로 spring.jmx.enabled 설정과 무관하게 동작
+ */
+public class MethodLoggingControl implements MethodLoggingControlMBean {
+
+    public static final String OBJECT_NAME = "kr.suhsaechan.suhlogger:type=MethodLogging";
+
+    private boolean registered;
+
+    @Override
+    public String[] getMethods() {
+        Map<String, MethodLogToggle> snapshot = MethodLogRegistry.snapshot();
+        return snapshot.entrySet().stream()
+            .map(entry -> entry.getKey() + ": " + entry.getValue())
+            .toArray(String[]::new);
+    }
+
+    @Override
+    public void enable(String method) {
+        MethodLogRegistry.apply(method, MethodLogRegistry.toggleOf(method).merge(true, null, null, null));
+    }
+
+    @Override
+    public void disable(String method) {
+        MethodLogRegistry.apply(method, MethodLogRegistry.toggleOf(method).merge(false, null, null, null));
+    }
+
+    @Override
+    public void configure(String method, boolean enabled, boolean params, boolean result, double sampleRate) {
+        MethodLogRegistry.apply(method, new MethodLogToggle(enabled, params, result, sampleRate));
+    }
+
+    @Override
+    public void reset(String method) {
+        MethodLogRegistry.reset(method);
+    }
+
+    @Override
+    public void resetAll() {
+        MethodLogRegistry.resetAll();
+    }
+
+    /**
+     * 플랫폼 MBeanServer에 등록 (이미 등록된 경우 건너뜀)
+     */
+    public synchronized void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+                registered = true;
+            }
+        } catch (JMException | RuntimeException e) {
+            SuhLogger.warn("메서드 로깅 JMX MBean 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 직접 등록한 경우에만 해제
+     */
+    public synchronized void unregister() {
+        if (!registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (JMException | RuntimeException e) {
+            // 종료 시점 해제 실패는 무시
+        } finally {
+            registered = false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+/**
+ * 메서드별 로깅 토글 JMX 인터페이스
+ * ObjectName: kr.suhsaechan.suhlogger:type=MethodLogging
+ *
+ * method 인자는 SimpleClassName.method 또는 패키지 포함 이름
+ */
+public interface MethodLoggingControlMBean {
+
+    /**
+     * 호출된 메서드와 토글이 지정된 메서드 목록 ("이름: 토글" 형식)
+     */
+    String[] getMethods();
+
+    void enable(String method);
+
+    void disable(String method);
+
+    /**
+     * 로깅 수준 낮추기
+     * @param params false면 파라미터 로깅 생략
+     * @param result false면 결과 로깅 생략
+     * @param sampleRate 0.0 ~ 1.0 샘플링 비율
+     */
+    void configure(String method, boolean enabled, boolean params, boolean result, double sampleRate);
+
+    /**
+     * 토글 제거 (어노테이션 설정으로 복귀)
+     */
+    void reset(String method);
+
+    void resetAll();
+}
@@ -0,0 +1,195 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.filter.SuhLoggingFilter;
+import kr.suhsaechan.suhlogger.util.CommonUtil;
+
+/**
+ * 서블릿 환경의 메서드 호출 로그 정보 제공자
+ * - 현재 스레드에 바인딩된 HttpServletRequest의 method/URI/헤더/요청 ID
+ * - ResponseEntity 결과는 상태 코드/헤더/본문 타입만 출력 (response 충돌 방지)
+ *
+ * 애스펙트와 Java 에이전트 모두 MethodInvocationLogger를 통해 이 정보를 사용한다.
+ */
+public class ServletInvocationContextProvider implements InvocationContextProvider {
+
+  /**
+   * HTTP 요청 관련 정보 추출 (웹 환경일 때만)
+   */
+  @Override
+  public Map<String, Object> requestInfo(SuhLoggerSettings settings) {
+    Map<String, Object> httpInfo = new HashMap<>();
+
+    try {
+      ServletRequestAttributes attributes =
+          (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+      if (attributes != null) {
+        HttpServletRequest request = attributes.getRequest();
+        if (request != null) {
+          // 주요 HTTP 정보만 수집
+          httpInfo.put("method", request.getMethod());
+          httpInfo.put("URI", request.getRequestURI());
+
+          // 요청 헤더 수집 (설정된 헤더만 조회)
+          Map<String, String> filteredHeaders = collectHeaders(request, settings);
+          if (!filteredHeaders.isEmpty()) {
+            httpInfo.put("headers", filteredHeaders);
+          }
+
+          // 요청 ID가 있으면 추가
+          String requestId = (String) request.getAttribute(SuhLoggingFilter.REQUEST_ID_ATTRIBUTE);
+          if (requestId != null) {
+            httpInfo.put("requestId", requestId);
+          }
+        }
+      }
+    } catch (Exception e) {
+      // 웹 환경이 아닌 경우 무시
+    }
+
+    return httpInfo;
+  }
+
+  /**
+   * ResponseEntity의 경우 특별 처리하여 response 충돌 방지
+   */
+  @Override
+  public Object resultView(Object result, SuhLoggerSettings settings) {
+    if (!(result instanceof ResponseEntity)) {
+      return result;
+    }
+    ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
+
+    // ResponseEntity의 안전한 정보만 로깅
+    Map<String, Object> safeResponse = new HashMap<>();
+    safeResponse.put("statusCode", responseEntity.getStatusCode().toString());
+    safeResponse.put("statusCodeValue", responseEntity.getStatusCode().value());
+
+    // 헤더 마스킹 처리
+    Map<String, String> headers = responseEntity.getHeaders().toSingleValueMap();
+    Map<String, String> maskedHeaders = maskSensitiveHeaders(headers, settings);
+    safeResponse.put("headers", maskedHeaders);
+
+    // Body는 안전하게 처리
+    Object body = responseEntity.getBody();
+    if (body != null) {
+      // Body가 복잡한 객체인 경우 타입 정보만 로깅
+      if (isComplexObject(body)) {
+        safeResponse.put("bodyType", body.getClass().getSimpleName());
+        safeResponse.put("bodyInfo", "Complex object - logged separately by filter");
+      } else {
+        safeResponse.put("body", body);
+      }
+    }
+    return safeResponse;
+  }
+
+  /**
+   * 헤더 수집 - 설정에 따라 출력할 헤더만 조회
+   * - includeAll: 헤더 이름을 한 번만 순회하며 수집
+   * - includeHeaders: 목록에 있는 헤더만 request.getHeader 계열로 직접 조회 (전체 헤더 복사 없음)
+   * - 같은 이름으로 여러 값이 온 헤더는 ", "로 합쳐서 출력
+   * @param request HTTP 요청
+   * @return 필터링 및 마스킹된 헤더 맵
+   */
+  private Map<String, String> collectHeaders(HttpServletRequest request, SuhLoggerSettings settings) {
+    // 헤더 출력이 비활성화된 경우 빈 맵 반환
+    if (!settings.isHeaderEnabled()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, String> headers = new LinkedHashMap<>();
+
+    // 모든 헤더 출력인 경우
+    if (settings.isHeaderIncludeAll()) {
+      Enumeration<String> headerNames = request.getHeaderNames();
+      if (headerNames == null) {
+        return Collections.emptyMap();
+      }
+      while (headerNames.hasMoreElements()) {
+        String headerName = headerNames.nextElement();
+        String headerValue = readHeader(request, headerName);
+        if (headerValue != null) {
+          headers.put(headerName, headerValue);
+        }
+      }
+      return maskSensitiveHeaders(headers, settings);
+    }
+
+    // 특정 헤더만 출력하는 경우: 목록에 있는 헤더만 직접 조회
+    for (String headerName : settings.getIncludeHeaders()) {
+      String headerValue = readHeader(request, headerName);
+      if (headerValue != null) {
+        headers.put(headerName, headerValue);
+      }
+    }
+
+    return headers.isEmpty() ? Collections.emptyMap() : maskSensitiveHeaders(headers, settings);
+  }
+
+  /**
+   * 헤더 값 조회 (여러 값이면 ", "로 합침)
+   */
+  private String readHeader(HttpServletRequest request, String headerName) {
+    Enumeration<String> values = request.getHeaders(headerName);
+    if (values == null || !values.hasMoreElements()) {
+      return null;
+    }
+    String first = values.nextElement();
+    if (!values.hasMoreElements()) {
+      return first;
+    }
+    StringBuilder joined = new StringBuilder(first);
+    while (values.hasMoreElements()) {
+      joined.append(", ").append(values.nextElement());
+    }
+    return joined.toString();
+  }
+
+  /**
+   * 복잡한 객체인지 판단 (직렬화 시 문제가 될 수 있는 객체들)
+   */
+  private boolean isComplexObject(Object obj) {
+    if (obj == null) return false;
+
+    String className = obj.getClass().getName();
+
+    // Spring 관련 복잡한 객체들
+    return className.startsWith("org.springframework.") ||
+           className.startsWith("jakarta.servlet.") ||
+           className.startsWith("javax.servlet.") ||
+           className.contains("$Proxy") ||
+           className.contains("CGLIB");
+  }
+
+  /**
+   * 헤더 맵에서 민감한 헤더를 마스킹 처리
+   * 스냅샷의 컴파일된 헤더 키워드 매처 사용
+   * @param headers 원본 헤더 맵
+   * @param settings 설정 스냅샷
+   * @return 마스킹 처리된 헤더 맵
+   */
+  private Map<String, String> maskSensitiveHeaders(Map<String, String> headers, SuhLoggerSettings settings) {
+    if (headers == null) {
+      return new HashMap<>();
+    }
+
+    // 마스킹이 비활성화되었거나 마스킹할 헤더 키워드가 없는 경우 원본 반환
+    if (!settings.isMaskingEnabled() || settings.getMaskHeaderMatcher().isEmpty()) {
+      return headers;
+    }
+
+    return CommonUtil.maskHeaders(headers, settings.getMaskHeaderMatcher(), settings.getMaskValue());
+  }
+}
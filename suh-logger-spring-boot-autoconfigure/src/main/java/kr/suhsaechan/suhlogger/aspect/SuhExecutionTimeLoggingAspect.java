@@ -4,32 +4,27 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
-import kr.suhsaechan.suhlogger.util.SuhLogger;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
 
 @Aspect
-@Component
 public class SuhExecutionTimeLoggingAspect {
 
-  @Autowired
-  private SuhLoggerProperties properties;
-
   /**
    * LogTimeInvocation, LogMonitoringInvocation 어노테이션이 붙은 메서드 실행 시간 로깅
    */
   @Around("@annotation(kr.suhsaechan.suhlogger.annotation.LogTime) || @annotation(kr.suhsaechan.suhlogger.annotation.LogMonitor)")
   public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-    // 로깅이 비활성화된 경우 로깅 없이 메서드만 실행
-    if (properties != null && !properties.isEnabled()) {
+    // 로깅이 비활성화된 경우 로깅 없이 메서드만 실행 (전체 스위치 포함)
+    if (!SuhLoggerSettings.current().isTimingEnabled()) {
       return joinPoint.proceed();
     }
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    String methodName = signature.getMethod().getName();
-    String className = signature.getDeclaringType().getSimpleName();
-    String fullMethodName = className + "." + methodName;
+    MethodLogDescriptor descriptor = MethodLogRegistry.descriptor(signature.getMethod());
 
+    // 메서드별 런타임 토글: 비활성화/샘플링 제외 시 로깅 없이 실행 (@LogMonitor는 호출 로그와 같은 샘플링 결정)
+    if (!InvocationSampling.shouldLog(descriptor.getToggle())) {
+      return joinPoint.proceed();
+    }
     // 시작 시간 기록
     long startTime = System.currentTimeMillis();
 
@@ -41,7 +36,7 @@ public class SuhExecutionTimeLoggingAspect {
       long executionTime = System.currentTimeMillis() - startTime;
 
       // 실행 시간 로깅
-      SuhLogger.lineLog("[TIME]: " + fullMethodName + " : " + executionTime + " ms");
+      MethodInvocationLogger.logTime(descriptor, executionTime);
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.aspectj.lang.reflect.MethodSignature;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+
+/**
+ * 메서드 호출 로깅 Aspect
+ * 출력은 MethodInvocationLogger가 담당 (Java 에이전트와 같은 형식)
+ */
+@Aspect
+public class SuhMethodInvocationLoggingAspect {
+
+
+  /**
+   * LogMethodInvocation, LogMonitoringInvocation 어노테이션이 붙은 메서드 호출 정보 로깅
+   */
+  @Around("@annotation(kr.suhsaechan.suhlogger.annotation.LogCall) || @annotation(kr.suhsaechan.suhlogger.annotation.LogMonitor)")
+  public Object logMethodInvocation(ProceedingJoinPoint joinPoint) throws Throwable {
+    // 설정 스냅샷은 호출당 한 번만 읽음
+    SuhLoggerSettings settings = SuhLoggerSettings.current();
+
+    // 로깅이 비활성화된 경우 로깅 없이 메서드만 실행 (전체 스위치 포함)
+    if (!settings.isMethodLoggingEnabled()) {
+      return joinPoint.proceed();
+    }
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    MethodLogDescriptor descriptor = MethodLogRegistry.descriptor(signature.getMethod());
+
+    // 메서드별 런타임 토글 (필드 읽기 한 번): 비활성화/샘플링 제외 시 로깅 없이 실행 (@LogMonitor는 실행 시간과 같은 샘플링 결정)
+    MethodLogToggle toggle = descriptor.getToggle();
+    if (!InvocationSampling.shouldLog(toggle)) {
+      return joinPoint.proceed();
+    }
+
+    // ON_ERROR: 인자 참조만 보관하고 예외가 발생했을 때만 예외와 함께 로깅
+    if (descriptor.isOnError()) {
+      return proceedLoggingOnError(joinPoint, descriptor, toggle, settings);
+    }
+
+    // 메서드 호출 전 로깅 (파라미터 이름은 AspectJ 시그니처에서 조회)
+    String[] parameterNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+    MethodInvocationLogger.logCall(descriptor, toggle, settings, parameterNames, joinPoint.getArgs());
+
+    try {
+      // 메서드 실행
+      Object result = joinPoint.proceed();
+
+      // 결과 로깅 (result = true 인 경우만)
+      MethodInvocationLogger.logResult(descriptor, toggle, settings, result);
+
+      return result;
+    } catch (Exception e) {
+      // 예외 발생 시 로깅
+      MethodInvocationLogger.logError(descriptor, settings, e);
+
+      throw e;
+    }
+  }
+
+  /**
+   * ON_ERROR 모드 실행 (정상 종료 시 아무것도 출력하지 않음)
+   * 파라미터 이름 조회와 직렬화/마스킹은 예외가 발생했을 때만 수행
+   */
+  private Object proceedLoggingOnError(ProceedingJoinPoint joinPoint, MethodLogDescriptor descriptor,
+      MethodLogToggle toggle, SuhLoggerSettings settings) throws Throwable {
+    Object[] captured = MethodInvocationLogger.captureArguments(descriptor, settings, joinPoint.getArgs());
+    try {
+      return joinPoint.proceed();
+    } catch (Exception e) {
+      String[] parameterNames = ((CodeSignature) joinPoint.getSignature()).getParameterNames();
+      MethodInvocationLogger.logError(descriptor, toggle, settings, parameterNames, captured, e);
+
+      throw e;
+    }
+  }
+}
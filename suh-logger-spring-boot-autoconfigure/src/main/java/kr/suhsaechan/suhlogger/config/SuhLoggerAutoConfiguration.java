@@ -0,0 +1,262 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import kr.suhsaechan.suhlogger.aspect.InvocationContextProvider;
+import kr.suhsaechan.suhlogger.aspect.MethodInvocationLogger;
+import kr.suhsaechan.suhlogger.aspect.MethodLoggingControl;
+import kr.suhsaechan.suhlogger.aspect.ServletInvocationContextProvider;
+import kr.suhsaechan.suhlogger.aspect.SuhExecutionTimeLoggingAspect;
+import kr.suhsaechan.suhlogger.aspect.SuhMethodInvocationLoggingAspect;
+import kr.suhsaechan.suhlogger.extractor.TypeExtractor;
+import kr.suhsaechan.suhlogger.extractor.TypeExtractors;
+import kr.suhsaechan.suhlogger.filter.SuhLoggingFilter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * SuhLogger 자동 설정 클래스
+ * Spring Boot 환경에서 AOP 및 로깅 설정을 자동화
+ * 
+ * 우선순위 설정:
+ * 1. Security Filters (인증/인가) - 최우선
+ * 2. Logging/Monitoring - Security 이후 실행
+ * 3. Error Handling - 마지막
+ *
+ * Spring Boot 3.x 및 4.x 모두 지원
+ *
+ * 클래스패스 스캔 없이 모든 빈을 명시적으로 등록 (시작 시간 단축, Spring AOT/native-image 대응)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAspectJAutoProxy
+@EnableConfigurationProperties(SuhLoggerProperties.class)
+@ImportRuntimeHints(SuhLoggerRuntimeHints.class)
+@AutoConfigureAfter(name = {
+    "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",  // Spring Boot 3.x
+    "org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration"           // Spring Boot 4.x
+})
+@AutoConfigureBefore(name = {
+    "org.springframework.boot.autoconfigure.web.servlet.error.ErrorMvcAutoConfiguration", // Spring Boot 3.x
+    "org.springframework.boot.webmvc.autoconfigure.error.ErrorMvcAutoConfiguration"       // Spring Boot 4.x
+})
+public class SuhLoggerAutoConfiguration {
+
+  /**
+   * SuhLogger 설정 초기화
+   * Spring Boot 시작 시 로깅 설정을 초기화
+   */
+  @Bean
+  public SuhLoggerInitializer suhLoggerInitializer(SuhLoggerProperties properties) {
+    return new SuhLoggerInitializer(properties);
+  }
+
+
+  /**
+   * refresh 이벤트와 Actuator 쓰기가 공유하는 설정 발행기
+   */
+  @Bean
+  public SuhLoggerSettingsPublisher suhLoggerSettingsPublisher(SuhLoggerProperties properties) {
+    return new SuhLoggerSettingsPublisher(properties);
+  }
+
+  /**
+   * 설정 변경 이벤트(EnvironmentChangeEvent/refresh) 수신 시 설정 스냅샷 재발행
+   */
+  @Bean
+  public SuhLoggerSettingsRefresher suhLoggerSettingsRefresher(SuhLoggerSettingsPublisher publisher,
+      Environment environment) {
+    return new SuhLoggerSettingsRefresher(publisher, environment);
+  }
+
+  /**
+   * 메서드별 로깅 토글 JMX MBean (플랫폼 MBeanServer에 등록)
+   */
+  @Bean(initMethod = "register", destroyMethod = "unregister")
+  public MethodLoggingControl suhLoggerMethodLoggingControl() {
+    return new MethodLoggingControl();
+  }
+
+  /**
+   * TypeExtractor 빈을 TypeExtractors 레지스트리에 등록 (ServiceLoader 등록과 함께 사용)
+   */
+  @Bean
+  public SuhTypeExtractorRegistrar suhTypeExtractorRegistrar(ObjectProvider<TypeExtractor> extractors) {
+    return new SuhTypeExtractorRegistrar(extractors);
+  }
+
+  /**
+   * 메서드 로깅 Aspect 설정
+   * Java 에이전트(suh-logger-agent)가 설치되면 에이전트가 suh-logger.agent.active=true를 설정하므로
+   * 프록시를 만들지 않음 (같은 메서드가 두 번 기록되지 않도록)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(prefix = SuhLoggerProperties.PREFIX, name = "agent.active",
+      havingValue = "false", matchIfMissing = true)
+  static class SuhLoggingAspectConfiguration {
+
+    /**
+     * 메서드 호출 로깅 Aspect (@LogCall, @LogMonitor)
+     * suh-logger.enabled 또는 suh-logger.method-logging.enabled가 false면 등록하지 않음 (프록시 생성 안 됨)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = SuhLoggerProperties.PREFIX, name = {"enabled", "method-logging.enabled"},
+        havingValue = "true", matchIfMissing = true)
+    public SuhMethodInvocationLoggingAspect suhMethodInvocationLoggingAspect() {
+      return new SuhMethodInvocationLoggingAspect();
+    }
+
+    /**
+     * 실행 시간 로깅 Aspect (@LogTime, @LogMonitor)
+     * suh-logger.enabled 또는 suh-logger.timing.enabled가 false면 등록하지 않음
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = SuhLoggerProperties.PREFIX, name = {"enabled", "timing.enabled"},
+        havingValue = "true", matchIfMissing = true)
+    public SuhExecutionTimeLoggingAspect suhExecutionTimeLoggingAspect() {
+      return new SuhExecutionTimeLoggingAspect();
+    }
+  }
+
+  /**
+   * 서블릿 환경이면 메서드 호출 로그에 HTTP 요청 정보를 더하는 제공자 등록 (Aspect, 에이전트 공용)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.web.context.request.RequestContextHolder")
+  static class SuhInvocationContextConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(InvocationContextProvider.class)
+    public InvocationContextProvider suhInvocationContextProvider() {
+      return new ServletInvocationContextProvider();
+    }
+
+    @Bean
+    public SuhInvocationContextRegistrar suhInvocationContextRegistrar(InvocationContextProvider provider) {
+      return new SuhInvocationContextRegistrar(provider);
+    }
+  }
+
+  /**
+   * HTTP 응답 캡처 필터 설정
+   * suh-logger.enabled 또는 suh-logger.http-capture.enabled가 false면 필터를 등록하지 않음 (필터 체인에서 제외)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(prefix = SuhLoggerProperties.PREFIX, name = {"enabled", "http-capture.enabled"},
+      havingValue = "true", matchIfMissing = true)
+  static class SuhLoggingFilterConfiguration {
+
+    /**
+     * SuhLoggingFilter 빈 등록
+     * 설정은 요청마다 SuhLoggerSettings 스냅샷에서 읽음
+     */
+    @Bean
+    public SuhLoggingFilter suhLoggingFilter() {
+      return new SuhLoggingFilter();
+    }
+
+    /**
+     * 안전한 Response 처리를 위한 로깅 필터 등록
+     * Spring Security 이후 실행되도록 설정
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<SuhLoggingFilter> suhLoggingFilterRegistration(SuhLoggingFilter filter) {
+      FilterRegistrationBean<SuhLoggingFilter> registration = new FilterRegistrationBean<>();
+      registration.setFilter(filter);
+      registration.addUrlPatterns("/*");
+      registration.setName("suhLoggingFilter");
+      registration.setOrder(Ordered.LOWEST_PRECEDENCE); // 가장 낮은 우선순위
+      return registration;
+    }
+  }
+
+  /**
+   * Actuator가 클래스패스에 있을 때만 설정 조회/변경 엔드포인트 등록
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+  static class SuhLoggerEndpointConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SuhLoggerEndpoint suhLoggerEndpoint(SuhLoggerSettingsPublisher publisher,
+        ObjectProvider<SuhLoggingFilter> filter) {
+      return new SuhLoggerEndpoint(publisher, filter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SuhLoggerMethodsEndpoint suhLoggerMethodsEndpoint() {
+      return new SuhLoggerMethodsEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SuhLoggerRoutesEndpoint suhLoggerRoutesEndpoint(ObjectProvider<SuhLoggingFilter> filter) {
+      return new SuhLoggerRoutesEndpoint(filter);
+    }
+  }
+
+  /**
+   * SuhLogger 초기화 클래스
+   * 로깅 시스템을 초기화하고 기본 설정을 적용
+   */
+  public static class SuhLoggerInitializer {
+
+    public SuhLoggerInitializer(SuhLoggerProperties properties) {
+      // SLF4J 위임 구조: 로거 초기화/차단 로직 없이 프로퍼티를 불변 스냅샷으로 컴파일해 발행
+      SuhLoggerSettings.publish(properties.toSettings());
+    }
+  }
+
+  /**
+   * InvocationContextProvider를 MethodInvocationLogger에 연결 (컨텍스트 종료 시 해제)
+   */
+  public static class SuhInvocationContextRegistrar implements DisposableBean {
+
+    public SuhInvocationContextRegistrar(InvocationContextProvider provider) {
+      MethodInvocationLogger.setContextProvider(provider);
+    }
+
+    @Override
+    public void destroy() {
+      MethodInvocationLogger.setContextProvider(null);
+    }
+  }
+
+  /**
+   * TypeExtractor 빈 등록/해제 (컨텍스트 종료 시 해제)
+   * 같은 대상 타입이면 우선순위(@Order)가 높은 빈이 사용되도록 낮은 순서부터 등록
+   */
+  public static class SuhTypeExtractorRegistrar implements DisposableBean {
+
+    private final List<TypeExtractor> registered;
+
+    public SuhTypeExtractorRegistrar(ObjectProvider<TypeExtractor> extractors) {
+      List<TypeExtractor> ordered = new ArrayList<>(extractors.orderedStream().toList());
+      Collections.reverse(ordered);
+      ordered.forEach(TypeExtractors::register);
+      this.registered = ordered;
+    }
+
+    @Override
+    public void destroy() {
+      registered.forEach(TypeExtractors::unregister);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.filter.CaptureBufferPool;
+import kr.suhsaechan.suhlogger.filter.SuhLoggingFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * SuhLogger 설정 조회/변경 Actuator 엔드포인트 (/actuator/suhlogger)
+ *
+ * 쓰기 연산은 SuhLoggerSettingsPublisher를 통해 SuhLoggerProperties를 수정한 뒤 새 SuhLoggerSettings 스냅샷을 발행하므로
+ * 재배포 없이 장애 대응 중 상세 로깅을 켜고 끌 수 있다.
+ * 전달되지 않은(null) 항목은 기존 값을 유지한다.
+ */
+@Endpoint(id = "suhlogger")
+public class SuhLoggerEndpoint {
+
+    private final SuhLoggerSettingsPublisher publisher;
+    private final ObjectProvider<SuhLoggingFilter> filter;
+
+    public SuhLoggerEndpoint(SuhLoggerProperties properties) {
+        this(new SuhLoggerSettingsPublisher(properties), null);
+    }
+
+    /**
+     * @param publisher refresh 이벤트와 공유하는 설정 발행기
+     * @param filter 캡처 버퍼 풀 지표 조회용 (http-capture가 꺼져 있으면 빈 제공자)
+     */
+    public SuhLoggerEndpoint(SuhLoggerSettingsPublisher publisher, @Nullable ObjectProvider<SuhLoggingFilter> filter) {
+        this.publisher = publisher;
+        this.filter = filter;
+    }
+
+    /**
+     * 현재 발행된 설정 스냅샷 조회
+     */
+    @ReadOperation
+    public Map<String, Object> settings() {
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", settings.isEnabled());
+        result.put("maxResponseBodySize", settings.getMaxResponseBodySize());
+        result.put("prettyPrintJson", settings.isPrettyPrintJson());
+        result.put("maskingEnabled", settings.isMaskingEnabled());
+        result.put("maskFields", settings.getMaskFieldMatcher().getKeywords());
+        result.put("maskHeaders", settings.getMaskHeaderMatcher().getKeywords());
+        result.put("headerEnabled", settings.isHeaderEnabled());
+        result.put("headerIncludeAll", settings.isHeaderIncludeAll());
+        result.put("includeHeaders", List.of(settings.getIncludeHeaders()));
+        result.put("serializer", publisher.getProperties().getSerializer());
+        result.put("tailBufferEnabled", settings.isTailBufferEnabled());
+        result.put("slowRequestThreshold", settings.getSlowRequestThreshold().toString());
+        SuhLoggingFilter loggingFilter = (filter != null) ? filter.getIfAvailable() : null;
+        CaptureBufferPool pool = (loggingFilter != null) ? loggingFilter.getCaptureBufferPool() : null;
+        if (pool != null) {
+            result.put("captureBufferPool", pool.metrics());
+        }
+        return result;
+    }
+
+    /**
+     * 설정 변경 후 새 스냅샷 발행
+     */
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled,
+                                      @Nullable Integer maxResponseBodySize,
+                                      @Nullable Boolean prettyPrintJson,
+                                      @Nullable Boolean maskingEnabled,
+                                      @Nullable Boolean headerEnabled,
+                                      @Nullable Boolean headerIncludeAll) {
+        publisher.update(properties -> {
+            if (enabled != null) {
+                properties.setEnabled(enabled);
+            }
+            if (maxResponseBodySize != null && maxResponseBodySize >= 0) {
+                properties.setMaxResponseBodySize(maxResponseBodySize);
+            }
+            if (prettyPrintJson != null) {
+                properties.setPrettyPrintJson(prettyPrintJson);
+            }
+            if (maskingEnabled != null) {
+                properties.getMasking().setEnabled(maskingEnabled);
+            }
+            if (headerEnabled != null) {
+                properties.getHeader().setEnabled(headerEnabled);
+            }
+            if (headerIncludeAll != null) {
+                properties.getHeader().setIncludeAll(headerIncludeAll);
+            }
+        });
+        return settings();
+    }
+}
@@ -0,0 +1,59 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.aspect.MethodLogRegistry;
+import kr.suhsaechan.suhlogger.aspect.MethodLogToggle;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 메서드별 로깅 토글 Actuator 엔드포인트 (/actuator/suhloggermethods)
+ *
+ * method 경로 변수는 SimpleClassName.method 또는 패키지 포함 이름.
+ * 아직 호출되지 않은 메서드에 지정한 토글은 첫 호출 시 적용된다.
+ */
+@Endpoint(id = "suhloggermethods")
+public class SuhLoggerMethodsEndpoint {
+
+    /**
+     * 호출된 메서드와 토글이 지정된 메서드의 토글 현황
+     */
+    @ReadOperation
+    public Map<String, Object> methods() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        MethodLogRegistry.snapshot().forEach((name, toggle) -> result.put(name, toggle.toMap()));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> method(@Selector String method) {
+        return MethodLogRegistry.toggleOf(method).toMap();
+    }
+
+    /**
+     * 메서드 토글 변경 (전달되지 않은 항목은 기존 값 유지)
+     */
+    @WriteOperation
+    public Map<String, Object> update(@Selector String method,
+                                      @Nullable Boolean enabled,
+                                      @Nullable Boolean params,
+                                      @Nullable Boolean result,
+                                      @Nullable Double sampleRate) {
+        MethodLogToggle toggle = MethodLogRegistry.toggleOf(method).merge(enabled, params, result, sampleRate);
+        return MethodLogRegistry.apply(method, toggle).toMap();
+    }
+
+    /**
+     * 메서드 토글 제거 (어노테이션 설정으로 복귀)
+     */
+    @DeleteOperation
+    public void reset(@Selector String method) {
+        MethodLogRegistry.reset(method);
+    }
+}
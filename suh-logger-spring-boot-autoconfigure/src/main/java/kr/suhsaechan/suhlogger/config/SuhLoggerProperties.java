@@ -0,0 +1,933 @@
+package kr.suhsaechan.suhlogger.config;
+
+import kr.suhsaechan.suhlogger.filter.CaptureBufferPool;
+import kr.suhsaechan.suhlogger.filter.RouteTelemetry;
+import kr.suhsaechan.suhlogger.serializer.LogSerializerFactory;
+import kr.suhsaechan.suhlogger.serializer.SerializerType;
+import kr.suhsaechan.suhlogger.util.ExceptionStormSuppressor;
+import kr.suhsaechan.suhlogger.util.RequestLogContext;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SuhLogger 설정 프로퍼티
+ * application.yml에서 suh-logger 관련 설정을 관리
+ */
+@ConfigurationProperties(prefix = SuhLoggerProperties.PREFIX)
+public class SuhLoggerProperties {
+
+    /**
+     * 설정 프로퍼티 접두사
+     */
+    public static final String PREFIX = "suh-logger";
+
+    /**
+     * 로깅에서 제외할 URL 패턴들
+     */
+    private List<String> excludePatterns = new ArrayList<>();
+
+    /**
+     * 로깅 활성화 여부 (전체 제어)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Response Body 로깅 최대 크기 (bytes)
+     */
+    private int maxResponseBodySize = 4096;
+
+    /**
+     * 마스킹 관련 설정
+     */
+    private MaskingConfig masking = new MaskingConfig();
+
+    /**
+     * 헤더 관련 설정
+     */
+    private HeaderConfig header = new HeaderConfig();
+
+    /**
+     * 메서드 호출 로깅(@LogCall, @LogMonitor) 기능 스위치
+     */
+    private FeatureConfig methodLogging = new FeatureConfig();
+
+    /**
+     * 실행 시간 로깅(@LogTime, @LogMonitor) 기능 스위치
+     */
+    private FeatureConfig timing = new FeatureConfig();
+
+    /**
+     * HTTP 응답 캡처 필터(SuhLoggingFilter) 기능 스위치
+     */
+    private FeatureConfig httpCapture = new FeatureConfig();
+
+    /**
+     * 예외 폭주 억제 설정
+     */
+    private ExceptionSuppressionConfig exceptionSuppression = new ExceptionSuppressionConfig();
+
+    /**
+     * 요청 ID(correlation ID) 설정
+     */
+    private RequestIdConfig requestId = new RequestIdConfig();
+
+    /**
+     * 요청 단위 꼬리 버퍼링 설정
+     */
+    private TailBufferConfig tailBuffer = new TailBufferConfig();
+
+    /**
+     * 느린 요청 기준 시간 (기본값: 1s)
+     * 꼬리 버퍼링 모드에서 이 시간을 넘긴 요청은 정상 응답이어도 버퍼를 출력
+     * response-log.mode가 slow-or-error이면 이 시간을 넘긴 요청의 본문을 로깅
+     */
+    private Duration slowRequestThreshold = SuhLoggerSettings.DEFAULT_SLOW_REQUEST_THRESHOLD;
+
+    /**
+     * 응답 본문 캡처 버퍼 풀 설정
+     */
+    private CaptureBufferConfig captureBuffer = new CaptureBufferConfig();
+
+    /**
+     * 응답 로깅 설정
+     */
+    private ResponseLogConfig responseLog = new ResponseLogConfig();
+
+    /**
+     * 라우트별 처리량/처리 시간/응답 크기 집계 설정
+     */
+    private TelemetryConfig telemetry = new TelemetryConfig();
+
+    /**
+     * 페이로드 다이제스트 설정 (큰 파라미터/결과/Response Body를 타입·크기·해시로 출력)
+     */
+    private DigestConfig digest = new DigestConfig();
+
+    /**
+     * 요청당 로그 예산 설정 (한 요청이 출력하는 이벤트/바이트 수 제한)
+     */
+    private LogBudgetConfig logBudget = new LogBudgetConfig();
+
+    /**
+     * JSON 직렬화에서 제외할 클래스들
+     */
+    private List<String> excludedClasses = new ArrayList<>();
+
+    /**
+     * Response Body JSON pretty print 활성화 여부 (기본값: false)
+     */
+    private boolean prettyPrintJson = false;
+
+    /**
+     * 객체 직렬화 엔진 (기본값: simple)
+     * - simple: 외부 의존성 없는 기본 엔진
+     * - jackson: Jackson 기반 엔진 (캐시된 ObjectWriter, DTO 중첩 필드 마스킹)
+     */
+    private SerializerType serializer = SerializerType.SIMPLE;
+
+    /**
+     * 원시 타입 배열(int[], float[] 등) 출력 최대 요소 수 (기본값: 100)
+     * 초과분은 "... N more"로 요약
+     */
+    private int maxArrayElements = 100;
+
+    /**
+     * byte[] 출력 시 hex 미리보기 최대 바이트 수 (기본값: 32)
+     */
+    private int bytePreviewSize = 32;
+
+    /**
+     * 정적 SuhLogger 호출을 호출 클래스의 로거로 출력 (기본값: false)
+     * - false: 모든 출력이 kr.suhsaechan.suhlogger.util.SuhLogger 로거로 찍힘
+     * - true: StackWalker로 호출 클래스를 찾아 해당 클래스 로거로 출력 (%logger, 패키지별 레벨 제어 가능)
+     */
+    private boolean callerAware = false;
+
+    // 기본 제외 패턴은 빈 배열로 시작 (사용자가 필요에 따라 설정)
+    public SuhLoggerProperties() {
+        // 기본값은 빈 배열
+    }
+
+    /**
+     * 마스킹 설정 내부 클래스
+     */
+    public static class MaskingConfig {
+        /**
+         * 마스킹 활성화 여부 (기본값: false)
+         * false로 설정하면 마스킹 없이 모든 데이터 로깅
+         */
+        private boolean enabled = false;
+
+        /**
+         * 마스킹할 헤더 키워드 목록
+         * 헤더명에 이 키워드가 포함되면 마스킹 처리
+         */
+        private List<String> maskHeaders = new ArrayList<>();
+
+        /**
+         * 마스킹할 필드 키워드 목록
+         * 필드명에 이 키워드가 포함되면 마스킹 처리
+         */
+        private List<String> maskFields = new ArrayList<>();
+
+        /**
+         * 마스킹 값 (기본값: ****)
+         */
+        private String maskValue = "****";
+
+        /**
+         * 값 패턴 마스킹 목록
+         * 필드명과 무관하게 값이 패턴에 해당하면 마스킹 처리
+         * - 내장 패턴: card(카드번호, Luhn 검증), jwt, email
+         * - 그 외 문자열은 정규식으로 취급
+         */
+        private List<String> valuePatterns = new ArrayList<>();
+
+        /**
+         * @deprecated 기존 호환성을 위해 유지, masking.enabled와 maskHeaders 사용 권장
+         */
+        @Deprecated
+        private boolean header = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getMaskHeaders() {
+            return maskHeaders;
+        }
+
+        public void setMaskHeaders(List<String> maskHeaders) {
+            this.maskHeaders = maskHeaders;
+        }
+
+        public List<String> getMaskFields() {
+            return maskFields;
+        }
+
+        public void setMaskFields(List<String> maskFields) {
+            this.maskFields = maskFields;
+        }
+
+        public String getMaskValue() {
+            return maskValue;
+        }
+
+        public void setMaskValue(String maskValue) {
+            this.maskValue = maskValue;
+        }
+
+        public List<String> getValuePatterns() {
+            return valuePatterns;
+        }
+
+        public void setValuePatterns(List<String> valuePatterns) {
+            this.valuePatterns = valuePatterns;
+        }
+
+        @Deprecated
+        public boolean isHeader() {
+            return header;
+        }
+
+        @Deprecated
+        public void setHeader(boolean header) {
+            this.header = header;
+        }
+    }
+
+    /**
+     * 헤더 설정 내부 클래스
+     */
+    public static class HeaderConfig {
+        /**
+         * 헤더 출력 활성화 여부 (기본값: false)
+         * false로 설정하면 헤더 정보가 로그에 출력되지 않음
+         */
+        private boolean enabled = false;
+
+        /**
+         * 모든 헤더 출력 여부 (기본값: false)
+         * true로 설정하면 모든 헤더를 출력
+         * false이고 includeHeaders가 설정되어 있으면 해당 헤더만 출력
+         */
+        private boolean includeAll = false;
+
+        /**
+         * 출력할 헤더 목록
+         * includeAll이 false일 때 이 목록에 있는 헤더만 출력
+         */
+        private List<String> includeHeaders = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isIncludeAll() {
+            return includeAll;
+        }
+
+        public void setIncludeAll(boolean includeAll) {
+            this.includeAll = includeAll;
+        }
+
+        public List<String> getIncludeHeaders() {
+            return includeHeaders;
+        }
+
+        public void setIncludeHeaders(List<String> includeHeaders) {
+            this.includeHeaders = includeHeaders;
+        }
+    }
+
+    /**
+     * 기능 스위치 내부 클래스
+     * 시작 시 false이면 해당 Aspect/필터 빈 자체가 등록되지 않음 (프록시, 필터 체인 비용 없음)
+     */
+    public static class FeatureConfig {
+        /**
+         * 기능 활성화 여부 (기본값: true)
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * 예외 폭주 억제 설정 내부 클래스
+     * 같은 지문(메서드 + 예외 타입 + 상위 스택 프레임)의 예외는 윈도우 안에서 첫 발생만 전체 로그로 출력
+     */
+    public static class ExceptionSuppressionConfig {
+        /**
+         * 억제 활성화 여부 (기본값: true)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 집계 윈도우 (기본값: 10s)
+         */
+        private Duration window = ExceptionStormSuppressor.DEFAULT_WINDOW;
+
+        /**
+         * 동시에 추적할 최대 지문 수 (기본값: 1000)
+         */
+        private int maxFingerprints = ExceptionStormSuppressor.DEFAULT_MAX_FINGERPRINTS;
+
+        /**
+         * 지문 계산에 사용할 상위 스택 프레임 수 (기본값: 3)
+         */
+        private int stackDepth = ExceptionStormSuppressor.DEFAULT_STACK_DEPTH;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxFingerprints() {
+            return maxFingerprints;
+        }
+
+        public void setMaxFingerprints(int maxFingerprints) {
+            this.maxFingerprints = maxFingerprints;
+        }
+
+        public int getStackDepth() {
+            return stackDepth;
+        }
+
+        public void setStackDepth(int stackDepth) {
+            this.stackDepth = stackDepth;
+        }
+
+        ExceptionStormSuppressor toSuppressor() {
+            return enabled
+                ? new ExceptionStormSuppressor(window, maxFingerprints, stackDepth)
+                : ExceptionStormSuppressor.DISABLED;
+        }
+    }
+
+    /**
+     * 요청 ID 설정 내부 클래스
+     * 수신 헤더(header) → traceparent의 trace-id → 새 ID 생성 순으로 결정
+     */
+    public static class RequestIdConfig {
+        /**
+         * 요청 ID 부여 활성화 여부 (기본값: true)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 수신/응답에 사용할 헤더 이름 (기본값: X-Request-ID)
+         */
+        private String header = "X-Request-ID";
+
+        /**
+         * MDC 키 (기본값: requestId) - 로그 패턴에서 %X{requestId}로 출력
+         */
+        private String mdcKey = "requestId";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public void setHeader(String header) {
+            this.header = header;
+        }
+
+        public String getMdcKey() {
+            return mdcKey;
+        }
+
+        public void setMdcKey(String mdcKey) {
+            this.mdcKey = mdcKey;
+        }
+    }
+
+    /**
+     * 요청 단위 꼬리 버퍼링 설정 내부 클래스
+     * 요청 중 로그를 버퍼에 모았다가 에러/느린 요청일 때만 출력하고, 빠른 정상 요청은 버림
+     */
+    public static class TailBufferConfig {
+        /**
+         * 꼬리 버퍼링 활성화 여부 (기본값: false)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 요청당 버퍼링할 최대 이벤트 수 (기본값: 256, 초과 시 오래된 이벤트부터 버림)
+         */
+        private int capacity = RequestLogContext.DEFAULT_CAPACITY;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * 응답 본문 캡처 버퍼 풀 설정 내부 클래스
+     * 버퍼 하나의 크기는 max-response-body-size와 같음
+     */
+    public static class CaptureBufferConfig {
+        /**
+         * 풀에 보관할 최대 버퍼 수 (기본값: 32, 0이면 풀링 없이 매번 할당)
+         */
+        private int poolSize = CaptureBufferPool.DEFAULT_POOL_SIZE;
+
+        /**
+         * direct ByteBuffer(힙 외부 메모리) 사용 여부 (기본값: false)
+         */
+        private boolean direct = false;
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public boolean isDirect() {
+            return direct;
+        }
+
+        public void setDirect(boolean direct) {
+            this.direct = direct;
+        }
+    }
+
+    /**
+     * 응답 로깅 설정 내부 클래스
+     * 응답은 항상 클라이언트로 먼저 내보낸 뒤 로깅함
+     */
+    public static class ResponseLogConfig {
+        /**
+         * 응답 로깅을 전용 스레드에서 처리 (기본값: false)
+         * 꼬리 버퍼링 중인 요청은 항상 요청 스레드에서 처리
+         */
+        private boolean async = false;
+
+        /**
+         * Response Body 로깅 조건 (기본값: success-only)
+         * - success-only: 2xx 응답만
+         * - slow-or-error: 2xx가 아니거나 예외/느린 요청(slow-request-threshold)만
+         * - always: 모든 응답
+         */
+        private ResponseLogMode mode = ResponseLogMode.SUCCESS_ONLY;
+
+        public boolean isAsync() {
+            return async;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        public ResponseLogMode getMode() {
+            return mode;
+        }
+
+        public void setMode(ResponseLogMode mode) {
+            this.mode = mode;
+        }
+    }
+
+    /**
+     * 라우트별 통계 설정 내부 클래스
+     * 라우트는 Spring MVC 매칭 패턴(예: GET /orders/{id})으로 정규화
+     */
+    public static class TelemetryConfig {
+        /**
+         * 집계 활성화 여부 (기본값: true)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 집계할 최대 라우트 수 (기본값: 200, 초과분은 OTHER로 합산)
+         */
+        private int maxRoutes = RouteTelemetry.DEFAULT_MAX_ROUTES;
+
+        /**
+         * 요약 로그 출력 주기 (기본값: 0 - 출력 안 함)
+         */
+        private Duration summaryInterval = Duration.ZERO;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxRoutes() {
+            return maxRoutes;
+        }
+
+        public void setMaxRoutes(int maxRoutes) {
+            this.maxRoutes = maxRoutes;
+        }
+
+        public Duration getSummaryInterval() {
+            return summaryInterval;
+        }
+
+        public void setSummaryInterval(Duration summaryInterval) {
+            this.summaryInterval = summaryInterval;
+        }
+    }
+
+    /**
+     * 페이로드 다이제스트 설정 내부 클래스
+     * 내용 대신 타입, 바이트/요소 수, XXH64 해시(비암호화 64비트)를 출력
+     * 해시는 직렬화 결과/응답 본문을 모으지 않고 스트리밍으로 계산
+     */
+    public static class DigestConfig {
+        /**
+         * 다이제스트 모드 (기본값: off)
+         * - off: 항상 내용 출력
+         * - auto: 직렬화 크기가 threshold를 넘거나 응답 본문이 캡처 한도를 넘을 때만
+         * - always: 항상 다이제스트
+         * 메서드별로는 @LogCall/@LogMonitor(digest = ON/OFF)로 덮어씀
+         */
+        private DigestMode mode = DigestMode.OFF;
+
+        /**
+         * auto 모드에서 다이제스트로 전환하는 크기 (bytes, 기본값: 16384)
+         */
+        private int threshold = SuhLoggerSettings.DEFAULT_DIGEST_THRESHOLD;
+
+        /**
+         * 모드와 관계없이 Response Body를 항상 다이제스트로 출력할 URL 패턴들 (exclude-patterns와 같은 포함 매칭)
+         */
+        private List<String> routes = new ArrayList<>();
+
+        /**
+         * 같은 라우트/메서드의 직전 해시와 같으면 same-as-previous 표시 (기본값: true)
+         */
+        private boolean markRepeats = true;
+
+        public DigestMode getMode() {
+            return mode;
+        }
+
+        public void setMode(DigestMode mode) {
+            this.mode = mode;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public List<String> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(List<String> routes) {
+            this.routes = routes;
+        }
+
+        public boolean isMarkRepeats() {
+            return markRepeats;
+        }
+
+        public void setMarkRepeats(boolean markRepeats) {
+            this.markRepeats = markRepeats;
+        }
+    }
+
+    /**
+     * 요청당 로그 예산 설정 내부 클래스
+     * SuhLoggingFilter가 요청마다 예산을 열고 닫으며, Aspect/superLog/Response 로깅이 모두 같은 예산을 차감
+     * 예산 소진 후에는 한 줄 요약만 summary-events개까지 출력하고, 이후 이벤트는 버린 뒤 요청 끝에 개수/크기를 출력
+     */
+    public static class LogBudgetConfig {
+        /**
+         * 활성화 여부 (기본값: false)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 요청당 최대 이벤트 수 (기본값: 2000)
+         */
+        private int maxEvents = RequestLogContext.DEFAULT_BUDGET_MAX_EVENTS;
+
+        /**
+         * 요청당 최대 바이트 수 (기본값: 1048576, 문자 수 기준 근사치)
+         */
+        private long maxBytes = RequestLogContext.DEFAULT_BUDGET_MAX_BYTES;
+
+        /**
+         * 예산 소진 후 출력할 한 줄 요약 이벤트 수 (기본값: 100)
+         */
+        private int summaryEvents = RequestLogContext.DEFAULT_BUDGET_SUMMARY_EVENTS;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEvents() {
+            return maxEvents;
+        }
+
+        public void setMaxEvents(int maxEvents) {
+            this.maxEvents = maxEvents;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public int getSummaryEvents() {
+            return summaryEvents;
+        }
+
+        public void setSummaryEvents(int summaryEvents) {
+            this.summaryEvents = summaryEvents;
+        }
+    }
+
+    /**
+     * 현재 값으로 불변 설정 스냅샷 생성
+     * 마스킹 키워드/헤더 목록/직렬화 엔진 등을 미리 컴파일하여 로깅 경로에서 재계산하지 않도록 함
+     */
+    public SuhLoggerSettings toSettings() {
+        MaskingConfig maskingConfig = (masking != null) ? masking : new MaskingConfig();
+        HeaderConfig headerConfig = (header != null) ? header : new HeaderConfig();
+        RequestIdConfig requestIdConfig = (requestId != null) ? requestId : new RequestIdConfig();
+        DigestConfig digestConfig = (digest != null) ? digest : new DigestConfig();
+        LogBudgetConfig logBudgetConfig = (logBudget != null) ? logBudget : new LogBudgetConfig();
+
+        return SuhLoggerSettings.builder()
+            .enabled(enabled)
+            .maxResponseBodySize(maxResponseBodySize)
+            .prettyPrintJson(prettyPrintJson)
+            .excludePatterns(excludePatterns)
+            .excludedClasses(excludedClasses)
+            .maskingEnabled(maskingConfig.isEnabled())
+            .maskValue(maskingConfig.getMaskValue())
+            .maskFields(maskingConfig.getMaskFields())
+            .maskHeaders(maskingConfig.getMaskHeaders())
+            .valuePatterns(maskingConfig.getValuePatterns())
+            .headerEnabled(headerConfig.isEnabled())
+            .headerIncludeAll(headerConfig.isIncludeAll())
+            .includeHeaders(headerConfig.getIncludeHeaders())
+            .serializer(LogSerializerFactory.create(serializer, excludedClasses,
+                maskingConfig.isEnabled() ? maskingConfig.getMaskFields() : null,
+                maskingConfig.isEnabled() ? maskingConfig.getMaskValue() : null,
+                maxArrayElements, bytePreviewSize))
+            .callerAware(callerAware)
+            .methodLoggingEnabled(methodLogging == null || methodLogging.isEnabled())
+            .timingEnabled(timing == null || timing.isEnabled())
+            .httpCaptureEnabled(httpCapture == null || httpCapture.isEnabled())
+            .exceptionSuppressor(exceptionSuppression != null
+                ? exceptionSuppression.toSuppressor()
+                : new ExceptionSuppressionConfig().toSuppressor())
+            .requestIdEnabled(requestIdConfig.isEnabled())
+            .requestIdHeader(requestIdConfig.getHeader())
+            .requestIdMdcKey(requestIdConfig.getMdcKey())
+            .tailBufferEnabled(tailBuffer != null && tailBuffer.isEnabled())
+            .tailBufferCapacity(tailBuffer != null ? tailBuffer.getCapacity() : RequestLogContext.DEFAULT_CAPACITY)
+            .slowRequestThreshold(slowRequestThreshold)
+            .captureBufferPoolSize(captureBuffer != null ? captureBuffer.getPoolSize() : CaptureBufferPool.DEFAULT_POOL_SIZE)
+            .captureBufferDirect(captureBuffer != null && captureBuffer.isDirect())
+            .responseLogAsync(responseLog != null && responseLog.isAsync())
+            .responseLogMode(responseLog != null ? responseLog.getMode() : null)
+            .telemetryEnabled(telemetry == null || telemetry.isEnabled())
+            .telemetryMaxRoutes(telemetry != null ? telemetry.getMaxRoutes() : RouteTelemetry.DEFAULT_MAX_ROUTES)
+            .telemetrySummaryInterval(telemetry != null ? telemetry.getSummaryInterval() : null)
+            .digestMode(digestConfig.getMode())
+            .digestThreshold(digestConfig.getThreshold())
+            .digestRoutes(digestConfig.getRoutes())
+            .digestMarkRepeats(digestConfig.isMarkRepeats())
+            .logBudgetEnabled(logBudgetConfig.isEnabled())
+            .logBudgetMaxEvents(logBudgetConfig.getMaxEvents())
+            .logBudgetMaxBytes(logBudgetConfig.getMaxBytes())
+            .logBudgetSummaryEvents(logBudgetConfig.getSummaryEvents())
+            .build();
+    }
+
+    // Getters and Setters
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public void setExcludePatterns(List<String> excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    public void setMaxResponseBodySize(int maxResponseBodySize) {
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
+    public MaskingConfig getMasking() {
+        return masking;
+    }
+
+    public void setMasking(MaskingConfig masking) {
+        this.masking = masking;
+    }
+
+    public List<String> getExcludedClasses() {
+        return excludedClasses;
+    }
+
+    public void setExcludedClasses(List<String> excludedClasses) {
+        this.excludedClasses = excludedClasses;
+    }
+
+    public boolean isPrettyPrintJson() {
+        return prettyPrintJson;
+    }
+
+    public void setPrettyPrintJson(boolean prettyPrintJson) {
+        this.prettyPrintJson = prettyPrintJson;
+    }
+
+    public SerializerType getSerializer() {
+        return serializer;
+    }
+
+    public void setSerializer(SerializerType serializer) {
+        this.serializer = serializer;
+    }
+
+    public int getMaxArrayElements() {
+        return maxArrayElements;
+    }
+
+    public void setMaxArrayElements(int maxArrayElements) {
+        this.maxArrayElements = maxArrayElements;
+    }
+
+    public int getBytePreviewSize() {
+        return bytePreviewSize;
+    }
+
+    public void setBytePreviewSize(int bytePreviewSize) {
+        this.bytePreviewSize = bytePreviewSize;
+    }
+
+    public boolean isCallerAware() {
+        return callerAware;
+    }
+
+    public void setCallerAware(boolean callerAware) {
+        this.callerAware = callerAware;
+    }
+
+    public FeatureConfig getMethodLogging() {
+        return methodLogging;
+    }
+
+    public void setMethodLogging(FeatureConfig methodLogging) {
+        this.methodLogging = methodLogging;
+    }
+
+    public FeatureConfig getTiming() {
+        return timing;
+    }
+
+    public void setTiming(FeatureConfig timing) {
+        this.timing = timing;
+    }
+
+    public FeatureConfig getHttpCapture() {
+        return httpCapture;
+    }
+
+    public void setHttpCapture(FeatureConfig httpCapture) {
+        this.httpCapture = httpCapture;
+    }
+
+    public ExceptionSuppressionConfig getExceptionSuppression() {
+        return exceptionSuppression;
+    }
+
+    public void setExceptionSuppression(ExceptionSuppressionConfig exceptionSuppression) {
+        this.exceptionSuppression = exceptionSuppression;
+    }
+
+    public RequestIdConfig getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(RequestIdConfig requestId) {
+        this.requestId = requestId;
+    }
+
+    public TailBufferConfig getTailBuffer() {
+        return tailBuffer;
+    }
+
+    public void setTailBuffer(TailBufferConfig tailBuffer) {
+        this.tailBuffer = tailBuffer;
+    }
+
+    public Duration getSlowRequestThreshold() {
+        return slowRequestThreshold;
+    }
+
+    public void setSlowRequestThreshold(Duration slowRequestThreshold) {
+        this.slowRequestThreshold = slowRequestThreshold;
+    }
+
+    public CaptureBufferConfig getCaptureBuffer() {
+        return captureBuffer;
+    }
+
+    public void setCaptureBuffer(CaptureBufferConfig captureBuffer) {
+        this.captureBuffer = captureBuffer;
+    }
+
+    public ResponseLogConfig getResponseLog() {
+        return responseLog;
+    }
+
+    public void setResponseLog(ResponseLogConfig responseLog) {
+        this.responseLog = responseLog;
+    }
+
+    public TelemetryConfig getTelemetry() {
+        return telemetry;
+    }
+
+    public void setTelemetry(TelemetryConfig telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    public DigestConfig getDigest() {
+        return digest;
+    }
+
+    public void setDigest(DigestConfig digest) {
+        this.digest = digest;
+    }
+
+    public LogBudgetConfig getLogBudget() {
+        return logBudget;
+    }
+
+    public void setLogBudget(LogBudgetConfig logBudget) {
+        this.logBudget = logBudget;
+    }
+
+    public HeaderConfig getHeader() {
+        return header;
+    }
+
+    public void setHeader(HeaderConfig header) {
+        this.header = header;
+    }
+}
@@ -0,0 +1,61 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import kr.suhsaechan.suhlogger.filter.RouteTelemetry;
+import kr.suhsaechan.suhlogger.filter.SuhLoggingFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 라우트별 처리량/처리 시간/응답 크기 통계 Actuator 엔드포인트 (/actuator/suhloggerroutes)
+ *
+ * 값은 애플리케이션 시작(또는 마지막 초기화) 이후 누적치이며,
+ * 처리 시간(ms)과 응답 크기(bytes) 백분위수는 로그 스케일 구간 상한으로 근사한 값이다. (상대 오차 12.5% 이내)
+ */
+@Endpoint(id = "suhloggerroutes")
+public class SuhLoggerRoutesEndpoint {
+
+    private final ObjectProvider<SuhLoggingFilter> filter;
+
+    public SuhLoggerRoutesEndpoint(ObjectProvider<SuhLoggingFilter> filter) {
+        this.filter = filter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> routes() {
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", settings.isTelemetryEnabled());
+        result.put("maxRoutes", settings.getTelemetryMaxRoutes());
+
+        RouteTelemetry telemetry = telemetry();
+        Map<String, Object> routes = new LinkedHashMap<>();
+        if (telemetry != null) {
+            result.put("routeCount", telemetry.routeCount());
+            telemetry.snapshot().forEach((route, snapshot) -> routes.put(route, snapshot.toMap()));
+        }
+        result.put("routes", routes);
+        return result;
+    }
+
+    /**
+     * 누적 통계 초기화
+     */
+    @DeleteOperation
+    public void reset() {
+        RouteTelemetry telemetry = telemetry();
+        if (telemetry != null) {
+            telemetry.reset();
+        }
+    }
+
+    // http-capture가 꺼져 있으면 필터 빈이 없음
+    private RouteTelemetry telemetry() {
+        SuhLoggingFilter loggingFilter = filter.getIfAvailable();
+        return (loggingFilter != null) ? loggingFilter.getRouteTelemetry() : null;
+    }
+}
@@ -0,0 +1,62 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.List;
+
+import kr.suhsaechan.suhlogger.annotation.LogCall;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.annotation.LogTime;
+import kr.suhsaechan.suhlogger.aspect.MethodLoggingControl;
+import kr.suhsaechan.suhlogger.aspect.MethodLoggingControlMBean;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Spring AOT / GraalVM native-image 리플렉션 힌트
+ *
+ * - MultipartFile, JTS Geometry 추출기는 publicLookup().findVirtual(...)로 메서드 핸들을 조회하므로
+ *   해당 타입의 public 메서드 호출 힌트를 등록 (클래스가 없으면 이름 기반 힌트는 무시됨)
+ * - JMX MBean은 MBeanServer가 인터페이스를 리플렉션으로 조회하므로 등록
+ * - 사용자 DTO의 getDeclaredFields 기반 출력(createSafeMap)은 대상 타입을 알 수 없으므로
+ *   애플리케이션에서 직접 힌트를 등록해야 함 (@RegisterReflectionForBinding 등)
+ * - @Loggable DTO는 suh-logger-processor가 생성한 직렬화기(ServiceLoader 등록)를 사용하므로 힌트 불필요
+ */
+public class SuhLoggerRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> MULTIPART_TYPES = List.of(
+        "org.springframework.web.multipart.MultipartFile",
+        "org.springframework.web.multipart.support.StandardMultipartHttpServletRequest$StandardMultipartFile"
+    );
+
+    static final List<String> JTS_TYPES = List.of(
+        "org.locationtech.jts.geom.Geometry",
+        "org.locationtech.jts.geom.Point",
+        "org.locationtech.jts.geom.LineString",
+        "org.locationtech.jts.geom.LinearRing",
+        "org.locationtech.jts.geom.Polygon",
+        "org.locationtech.jts.geom.MultiPoint",
+        "org.locationtech.jts.geom.MultiLineString",
+        "org.locationtech.jts.geom.MultiPolygon",
+        "org.locationtech.jts.geom.GeometryCollection"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : MULTIPART_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String type : JTS_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.reflection().registerType(MethodLoggingControlMBean.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(MethodLoggingControl.class,
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // 어노테이션 속성은 디스크립터 생성 시 리플렉션으로 읽음
+        hints.reflection().registerType(LogCall.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LogMonitor.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LogTime.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
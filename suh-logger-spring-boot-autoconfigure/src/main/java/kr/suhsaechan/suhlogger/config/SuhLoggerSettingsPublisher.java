@@ -0,0 +1,50 @@
+package kr.suhsaechan.suhlogger.config;
+
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * SuhLoggerProperties 변경과 SuhLoggerSettings 스냅샷 발행을 한 곳에서 처리
+ *
+ * refresh 이벤트(SuhLoggerSettingsRefresher)와 Actuator 쓰기(SuhLoggerEndpoint)가 같은 인스턴스와 잠금을 공유하므로
+ * 두 경로가 동시에 실행되어도 서로의 변경이 섞인 스냅샷이 발행되지 않는다.
+ */
+public class SuhLoggerSettingsPublisher {
+
+    private SuhLoggerProperties properties;
+
+    public SuhLoggerSettingsPublisher(SuhLoggerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 현재 기준 프로퍼티 (refresh 후에는 새로 바인딩된 인스턴스)
+     */
+    public synchronized SuhLoggerProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Environment에서 새 인스턴스로 다시 바인딩한 뒤 발행
+     * 기존 인스턴스에 덮어 바인딩하면 Environment에서 삭제된 키가 이전 값을 유지하므로 항상 기본값에서 시작한다.
+     * (Actuator로 변경한 값도 Environment 기준으로 되돌아감)
+     */
+    public synchronized void rebind(Environment environment) {
+        SuhLoggerProperties fresh = new SuhLoggerProperties();
+        Binder.get(environment).bind(SuhLoggerProperties.PREFIX, Bindable.ofInstance(fresh));
+        this.properties = fresh;
+        SuhLoggerSettings.publish(fresh.toSettings());
+    }
+
+    /**
+     * 현재 프로퍼티를 변경한 뒤 발행
+     * @param change 프로퍼티 변경 내용
+     */
+    public synchronized void update(Consumer<SuhLoggerProperties> change) {
+        change.accept(properties);
+        SuhLoggerSettings.publish(properties.toSettings());
+    }
+}
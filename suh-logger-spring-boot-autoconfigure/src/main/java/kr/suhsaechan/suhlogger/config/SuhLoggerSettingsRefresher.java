@@ -0,0 +1,56 @@
+package kr.suhsaechan.suhlogger.config;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * 설정 변경 이벤트 수신 시 SuhLoggerSettings 스냅샷을 다시 만들어 교체
+ *
+ * Spring Cloud의 EnvironmentChangeEvent / RefreshScopeRefreshedEvent를 클래스명으로 감지하므로
+ * Spring Cloud 의존성 없이도 동작한다. 이벤트 수신 시 현재 Environment에서 suh-logger 설정을
+ * 새 인스턴스로 다시 바인딩한 뒤 새 스냅샷을 발행한다. (Actuator 쓰기와 같은 SuhLoggerSettingsPublisher 사용)
+ */
+public class SuhLoggerSettingsRefresher implements ApplicationListener<ApplicationEvent>, Ordered {
+
+    static final String ENVIRONMENT_CHANGE_EVENT =
+        "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+    static final String REFRESH_SCOPE_REFRESHED_EVENT =
+        "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent";
+
+    private final SuhLoggerSettingsPublisher publisher;
+    private final Environment environment;
+
+    public SuhLoggerSettingsRefresher(SuhLoggerSettingsPublisher publisher, Environment environment) {
+        this.publisher = publisher;
+        this.environment = environment;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (isRefreshEvent(event)) {
+            refresh();
+        }
+    }
+
+    /**
+     * Environment 기준으로 설정을 다시 바인딩하고 새 스냅샷 발행
+     */
+    public void refresh() {
+        publisher.rebind(environment);
+    }
+
+    /**
+     * 다른 리스너(ConfigurationPropertiesRebinder 등)가 먼저 처리한 뒤 실행되도록 가장 낮은 우선순위
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    static boolean isRefreshEvent(ApplicationEvent event) {
+        String name = event.getClass().getName();
+        return ENVIRONMENT_CHANGE_EVENT.equals(name) || REFRESH_SCOPE_REFRESHED_EVENT.equals(name);
+    }
+}
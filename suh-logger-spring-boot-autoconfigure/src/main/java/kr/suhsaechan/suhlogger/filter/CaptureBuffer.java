@@ -0,0 +1,134 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import kr.suhsaechan.suhlogger.digest.XxHash64;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * 고정 크기 응답 본문 캡처 버퍼
+ *
+ * 용량을 넘는 바이트는 저장하지 않고 전체 크기만 센다 (본문 크기와 무관하게 할당량 일정).
+ * CaptureBufferPool에서 빌려 쓰고, 로깅이 끝나면 release()로 반납한다.
+ * 다이제스트 대상 요청이면 용량 초과분을 포함한 전체 본문의 XXH64 해시도 스트리밍으로 계산한다.
+ */
+public final class CaptureBuffer {
+
+    private final ByteBuffer buffer;
+    private final CaptureBufferPool pool;
+    private long totalBytes;
+
+    // 다이제스트 해시 (최초 사용 시 생성 후 버퍼와 함께 재사용)
+    private XxHash64 digest;
+    private boolean digesting;
+
+    CaptureBuffer(int capacity, boolean direct, CaptureBufferPool pool) {
+        this.buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        this.pool = pool;
+    }
+
+    void write(int b) {
+        totalBytes++;
+        if (digesting) {
+            digest.update(b);
+        }
+        if (buffer.hasRemaining()) {
+            buffer.put((byte) b);
+        }
+    }
+
+    void write(byte[] bytes, int offset, int length) {
+        totalBytes += length;
+        if (digesting) {
+            digest.update(bytes, offset, length);
+        }
+        int captured = Math.min(length, buffer.remaining());
+        if (captured > 0) {
+            buffer.put(bytes, offset, captured);
+        }
+    }
+
+    /**
+     * 캡처된 바이트 수 (최대 capacity)
+     */
+    public int capturedBytes() {
+        return buffer.position();
+    }
+
+    /**
+     * 실제로 쓰인 전체 바이트 수 (용량 초과분 포함)
+     */
+    public long totalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 용량을 넘어 일부만 캡처되었는지 여부
+     */
+    public boolean isTruncated() {
+        return totalBytes > buffer.position();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    /**
+     * 이후 쓰이는 바이트의 해시 계산 시작 (반납 시 해제)
+     */
+    void startDigest() {
+        if (digest == null) {
+            digest = new XxHash64();
+        } else {
+            digest.reset();
+        }
+        digesting = true;
+    }
+
+    /**
+     * 본문 전체 해시를 계산했는지 여부
+     */
+    public boolean hasDigest() {
+        return digesting;
+    }
+
+    /**
+     * 본문 전체(용량 초과분 포함)의 XXH64 해시 (hasDigest()일 때만 의미 있음)
+     */
+    public long digest() {
+        return digesting ? digest.getValue() : 0L;
+    }
+
+    /**
+     * 캡처된 바이트를 문자열로 디코딩 (버퍼 내용은 그대로 유지)
+     */
+    public String decode(Charset charset) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset(), buffer.position(), charset);
+        }
+        ByteBuffer view = buffer.duplicate();
+        view.flip();
+        return charset.decode(view).toString();
+    }
+
+    void clear() {
+        buffer.clear();
+        totalBytes = 0;
+        if (digesting) {
+            digest.reset();
+        }
+    }
+
+    /**
+     * 버퍼를 비우고 풀에 반납 (반납 후에는 사용 금지)
+     */
+    public void release() {
+        clear();
+        digesting = false;
+        pool.release(this);
+    }
+}
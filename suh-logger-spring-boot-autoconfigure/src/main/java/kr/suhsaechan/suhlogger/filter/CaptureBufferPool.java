@@ -0,0 +1,134 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 본문 캡처 버퍼 풀 (크기 제한, lock-free)
+ *
+ * 고정 개수의 슬롯을 CAS로 비우고 채우는 방식이라 잠금과 노드 할당이 없다.
+ * - 풀이 비어 있으면(exhausted) 새 버퍼를 만들어 빌려주고, 반납 시 빈 슬롯이 있으면 풀에 편입
+ * - 반납 시 슬롯이 모두 차 있으면 버퍼는 버려짐 (GC 대상)
+ * - 풀은 처음에 비어 있고 사용하면서 채워진다
+ */
+public final class CaptureBufferPool {
+
+    public static final int DEFAULT_POOL_SIZE = SuhLoggerSettings.DEFAULT_CAPTURE_BUFFER_POOL_SIZE;
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final AtomicReferenceArray<CaptureBuffer> slots;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    public CaptureBufferPool(int bufferSize, int poolSize, boolean direct) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.direct = direct;
+        this.slots = new AtomicReferenceArray<>(Math.max(0, poolSize));
+    }
+
+    /**
+     * 버퍼 대여 (풀이 비어 있으면 새로 생성하므로 null을 반환하지 않음)
+     */
+    public CaptureBuffer acquire() {
+        acquired.increment();
+        int length = slots.length();
+        int start = probeStart(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            CaptureBuffer buffer = slots.get(index);
+            if (buffer != null && slots.compareAndSet(index, buffer, null)) {
+                hits.increment();
+                return buffer;
+            }
+        }
+        exhausted.increment();
+        return new CaptureBuffer(bufferSize, direct, this);
+    }
+
+    void release(CaptureBuffer buffer) {
+        int length = slots.length();
+        int start = probeStart(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+                return;
+            }
+        }
+        discarded.increment();
+    }
+
+    // 스레드마다 다른 슬롯부터 탐색하여 같은 슬롯에 대한 CAS 경합을 줄임
+    private static int probeStart(int length) {
+        return (length == 0) ? 0 : (int) (Thread.currentThread().getId() % length);
+    }
+
+    /**
+     * 현재 설정과 같은 형태의 풀인지 확인 (설정 변경 시 풀 교체 판단용)
+     */
+    public boolean matches(int bufferSize, int poolSize, boolean direct) {
+        return this.bufferSize == Math.max(1, bufferSize)
+            && slots.length() == Math.max(0, poolSize)
+            && this.direct == direct;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * 대여 요청 중 풀에서 바로 꺼내 준 비율 (대여 기록이 없으면 0)
+     */
+    public double hitRate() {
+        long total = acquired.sum();
+        return (total == 0) ? 0.0 : (double) hits.sum() / total;
+    }
+
+    /**
+     * 풀이 비어 새 버퍼를 만든 횟수
+     */
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * 현재 풀에 보관 중인 버퍼 수 (근사치)
+     */
+    public int pooledCount() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 모니터링용 지표 (Actuator 엔드포인트에서 사용)
+     */
+    public Map<String, Object> metrics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bufferSize", bufferSize);
+        result.put("poolSize", slots.length());
+        result.put("direct", direct);
+        result.put("pooled", pooledCount());
+        result.put("acquired", acquired.sum());
+        result.put("hits", hits.sum());
+        result.put("hitRate", hitRate());
+        result.put("exhausted", exhausted.sum());
+        result.put("discarded", discarded.sum());
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * 응답 본문을 실제 응답으로 그대로 흘려보내면서(tee) 앞부분만 고정 크기 버퍼에 캡처하는 래퍼
+ *
+ * ContentCachingResponseWrapper와 달리 본문 전체를 늘어나는 버퍼에 쌓았다가 복사하지 않는다.
+ * - 캡처 버퍼는 첫 쓰기 시점에 풀에서 빌림 (본문 없는 응답은 풀을 건드리지 않음)
+ * - 용량을 넘는 부분은 전체 크기만 기록 (다이제스트 대상이면 해시도 계산)
+ * - 로깅이 끝나면 release()로 버퍼를 반납해야 함
+ */
+public class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final CaptureBufferPool pool;
+    private final boolean digest;
+    private CaptureBuffer buffer;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public CapturingResponseWrapper(HttpServletResponse response, CaptureBufferPool pool) {
+        this(response, pool, false);
+    }
+
+    /**
+     * @param digest 본문 전체의 XXH64 해시를 계산할지 여부 (digest.mode/routes)
+     */
+    public CapturingResponseWrapper(HttpServletResponse response, CaptureBufferPool pool, boolean digest) {
+        super(response);
+        this.pool = pool;
+        this.digest = digest;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            // 문자 출력도 바이트 단위로 캡처되도록 응답 인코딩으로 직접 인코딩
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        clearCapture();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        clearCapture();
+    }
+
+    /**
+     * 래퍼가 만든 Writer의 남은 문자를 실제 응답으로 내보냄 (체인 종료 후 호출)
+     */
+    public void finish() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 캡처된 본문 버퍼 (본문이 없었으면 null)
+     */
+    public CaptureBuffer getCapturedBody() {
+        return buffer;
+    }
+
+    /**
+     * 캡처 버퍼 소유권을 호출자에게 넘김 (이후 래퍼의 release()는 아무 동작도 하지 않음)
+     * @return 캡처된 본문 버퍼, 본문이 없었으면 null
+     */
+    public CaptureBuffer detachCapturedBody() {
+        CaptureBuffer detached = buffer;
+        buffer = null;
+        return detached;
+    }
+
+    /**
+     * 캡처 버퍼를 풀에 반납
+     */
+    public void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    private void clearCapture() {
+        if (buffer != null) {
+            buffer.clear();
+        }
+    }
+
+    private CaptureBuffer captureBuffer() {
+        if (buffer == null) {
+            buffer = pool.acquire();
+            if (digest) {
+                buffer.startDigest();
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * 실제 응답 스트림으로 쓰면서 캡처 버퍼에도 복사하는 스트림
+     */
+    private class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            captureBuffer().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            if (length > 0) {
+                captureBuffer().write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 스케일 구간 히스토그램 (lock-free, LongAdder 스트라이프)
+ *
+ * 2의 거듭제곱 구간을 다시 8개의 선형 하위 구간으로 나누어 상대 오차를 12.5% 이내로 유지한다.
+ * - 0~7은 값 그대로 구간 하나씩
+ * - 구간 카운터는 처음 값이 들어올 때 생성 (사용하지 않는 구간은 메모리를 차지하지 않음)
+ * - 백분위수는 해당 구간의 상한(최대값 이하로 보정)으로 근사
+ */
+final class ExponentialHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // 최대 2^48 미만 (마이크로초 기준 약 8년, 바이트 기준 256TB), 초과 값은 마지막 구간
+    private static final int MAX_EXPONENT = 47;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    void record(long value) {
+        long v = Math.max(0L, value);
+        bucket(bucketOf(v)).increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    private LongAdder bucket(int index) {
+        LongAdder adder = buckets.get(index);
+        if (adder == null) {
+            LongAdder created = new LongAdder();
+            adder = buckets.compareAndSet(index, null, created) ? created : buckets.get(index);
+        }
+        return adder;
+    }
+
+    /**
+     * 구간별 개수 스냅샷 (동시 기록 중에는 구간 간 약간의 불일치가 있을 수 있음)
+     */
+    long[] snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            LongAdder adder = buckets.get(i);
+            counts[i] = (adder != null) ? adder.sum() : 0L;
+        }
+        return counts;
+    }
+
+    long sum() {
+        return sum.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 구간에 들어가는 최대값
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * 구간 개수 배열에서 백분위수 근사값
+     * @param percentile 0 < percentile <= 1
+     * @param max 기록된 최대값 (구간 상한이 실제 최대값을 넘지 않도록 보정)
+     * @return 기록이 없으면 0
+     */
+    static long percentile(long[] counts, double percentile, long max) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 ID 생성/해석 유틸리티
+ *
+ * 생성 ID는 ULID와 같은 26자 Crockford Base32 문자열 (앞 10자: 밀리초 타임스탬프, 뒤 16자: 난수 80비트).
+ * - 문자열 정렬 순서가 생성 시각 순서와 일치 (밀리초 단위)
+ * - 난수는 ThreadLocalRandom을 사용하므로 UUID.randomUUID()의 SecureRandom 경합/잠금이 없음
+ *
+ * 보안 토큰 용도가 아닌 로그 상관관계(correlation) 용도이므로 예측 불가능성은 요구하지 않음
+ */
+public final class RequestIdGenerator {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ID_LENGTH = 26;
+    private static final int MAX_INCOMING_LENGTH = 128;
+
+    private RequestIdGenerator() {
+    }
+
+    /**
+     * 시간 순서 정렬 가능한 26자 요청 ID 생성
+     */
+    public static String generate() {
+        return generate(System.currentTimeMillis(), ThreadLocalRandom.current());
+    }
+
+    static String generate(long timestamp, ThreadLocalRandom random) {
+        char[] id = new char[ID_LENGTH];
+
+        // 48비트 타임스탬프 → 10자 (상위 비트부터)
+        for (int i = 9; i >= 0; i--) {
+            id[i] = ENCODING[(int) (timestamp & 0x1F)];
+            timestamp >>>= 5;
+        }
+
+        // 80비트 난수 → 16자 (40비트씩 두 번)
+        encode40(random.nextLong(), id, 10);
+        encode40(random.nextLong(), id, 18);
+        return new String(id);
+    }
+
+    private static void encode40(long bits, char[] target, int offset) {
+        for (int i = offset + 7; i >= offset; i--) {
+            target[i] = ENCODING[(int) (bits & 0x1F)];
+            bits >>>= 5;
+        }
+    }
+
+    /**
+     * 수신한 요청 ID 헤더 값 검증 (길이 제한 및 로그 인젝션 방지용 문자 제한)
+     * @return 사용 가능하면 원본 값, 아니면 null
+     */
+    public static String sanitizeIncoming(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_INCOMING_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * W3C traceparent 헤더에서 trace-id 추출
+     * 형식: {version}-{trace-id 32 hex}-{parent-id 16 hex}-{flags}
+     * @return trace-id, 형식이 맞지 않거나 전부 0이면 null
+     */
+    public static String traceIdFromTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55
+            || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-') {
+            return null;
+        }
+        boolean allZero = true;
+        for (int i = 3; i < 35; i++) {
+            char c = traceparent.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!hex) {
+                return null;
+            }
+            allZero &= (c == '0');
+        }
+        return allZero ? null : traceparent.substring(3, 35);
+    }
+}
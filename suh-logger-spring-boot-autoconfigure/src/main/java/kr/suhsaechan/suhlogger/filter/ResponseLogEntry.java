@@ -0,0 +1,110 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 로깅에 필요한 값을 응답 전송 전에 떼어 둔 스냅샷
+ *
+ * 응답을 클라이언트로 내보낸 뒤(또는 별도 스레드에서) 로깅하므로
+ * 요청/응답 객체 대신 필요한 값과 캡처 버퍼만 들고 다닌다. (컨테이너가 요청 객체를 재활용해도 안전)
+ */
+final class ResponseLogEntry {
+
+    private final String uri;
+    private final String method;
+    private final String routePattern;
+    private final int status;
+    private final String contentType;
+    private final String characterEncoding;
+    private final long elapsedNanos;
+    private final boolean failed;
+    private CaptureBuffer body;
+
+    ResponseLogEntry(HttpServletRequest request, CapturingResponseWrapper response, long elapsedNanos,
+                     boolean failed) {
+        this.uri = request.getRequestURI();
+        this.method = request.getMethod();
+        Object pattern = request.getAttribute(RouteTelemetry.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        this.routePattern = (pattern instanceof String) ? (String) pattern : null;
+        this.status = response.getStatus();
+        this.contentType = response.getContentType();
+        this.characterEncoding = response.getCharacterEncoding();
+        this.elapsedNanos = elapsedNanos;
+        this.failed = failed;
+        // 버퍼 소유권을 래퍼에서 넘겨받음 (로깅 후 release()로 반납)
+        this.body = response.detachCapturedBody();
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * Spring MVC가 매칭한 핸들러 패턴 (매칭 전 응답이면 null)
+     */
+    String getRoutePattern() {
+        return routePattern;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 본문 디코딩에 사용할 응답 인코딩
+     * getWriter()가 인코딩한 문자셋과 같으며, 지정되지 않았거나 알 수 없으면 서블릿 기본값(ISO-8859-1)
+     */
+    Charset getCharset() {
+        if (characterEncoding != null) {
+            try {
+                return Charset.forName(characterEncoding);
+            } catch (IllegalArgumentException e) {
+                // 지원하지 않는 인코딩명은 기본값으로 디코딩
+            }
+        }
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 필터 체인에서 예외가 발생했는지 여부
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * 캡처된 본문 (본문이 없었으면 null)
+     */
+    CaptureBuffer getBody() {
+        return body;
+    }
+
+    /**
+     * 응답 본문 전체 크기 (캡처 한도 초과분 포함)
+     */
+    long getBodyBytes() {
+        return (body != null) ? body.totalBytes() : 0L;
+    }
+
+    void release() {
+        if (body != null) {
+            body.release();
+            body = null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트 하나의 누적 통계 (상태 코드 계열별 요청 수, 처리 시간/응답 크기 분포)
+ * 처리 시간은 마이크로초, 응답 크기는 바이트 단위로 ExponentialHistogram에 기록
+ */
+public final class RouteStats {
+
+    // 인덱스 1~5: 1xx~5xx, 0: 그 외
+    private static final int STATUS_CLASSES = 6;
+
+    private final String route;
+    private final LongAdder[] statusCounts = new LongAdder[STATUS_CLASSES];
+    private final ExponentialHistogram latencyMicros = new ExponentialHistogram();
+    private final ExponentialHistogram responseBytes = new ExponentialHistogram();
+
+    RouteStats(String route) {
+        this.route = route;
+        for (int i = 0; i < STATUS_CLASSES; i++) {
+            statusCounts[i] = new LongAdder();
+        }
+    }
+
+    void record(int status, long elapsedNanos, long bytes) {
+        int statusClass = status / 100;
+        statusCounts[(statusClass >= 1 && statusClass <= 5) ? statusClass : 0].increment();
+        latencyMicros.record(elapsedNanos / 1_000);
+        responseBytes.record(bytes);
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * 현재까지의 누적 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[STATUS_CLASSES];
+        for (int i = 0; i < STATUS_CLASSES; i++) {
+            counts[i] = statusCounts[i].sum();
+        }
+        return new Snapshot(route, counts, latencyMicros.snapshot(), latencyMicros.sum(), latencyMicros.max(),
+            responseBytes.snapshot(), responseBytes.sum(), responseBytes.max());
+    }
+
+    /**
+     * 특정 시점의 라우트 통계 (불변)
+     * minus()로 두 스냅샷 사이의 구간 통계를 구할 수 있음 (구간 max는 누적 max로 대체)
+     */
+    public static final class Snapshot {
+        private final String route;
+        private final long[] statusCounts;
+        private final long[] latencyBuckets;
+        private final long latencySum;
+        private final long latencyMax;
+        private final long[] bytesBuckets;
+        private final long bytesSum;
+        private final long bytesMax;
+
+        private Snapshot(String route, long[] statusCounts, long[] latencyBuckets, long latencySum, long latencyMax,
+                         long[] bytesBuckets, long bytesSum, long bytesMax) {
+            this.route = route;
+            this.statusCounts = statusCounts;
+            this.latencyBuckets = latencyBuckets;
+            this.latencySum = latencySum;
+            this.latencyMax = latencyMax;
+            this.bytesBuckets = bytesBuckets;
+            this.bytesSum = bytesSum;
+            this.bytesMax = bytesMax;
+        }
+
+        public Snapshot minus(Snapshot previous) {
+            if (previous == null) {
+                return this;
+            }
+            return new Snapshot(route, subtract(statusCounts, previous.statusCounts),
+                subtract(latencyBuckets, previous.latencyBuckets), latencySum - previous.latencySum, latencyMax,
+                subtract(bytesBuckets, previous.bytesBuckets), bytesSum - previous.bytesSum, bytesMax);
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        public long count() {
+            long total = 0;
+            for (long count : statusCounts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * 상태 코드 계열별 요청 수
+         * @param statusClass 1~5 (1xx~5xx)
+         */
+        public long statusCount(int statusClass) {
+            return (statusClass >= 1 && statusClass <= 5) ? statusCounts[statusClass] : statusCounts[0];
+        }
+
+        /**
+         * 처리 시간 백분위수 근사값 (마이크로초)
+         */
+        public long latencyPercentileMicros(double percentile) {
+            return ExponentialHistogram.percentile(latencyBuckets, percentile, latencyMax);
+        }
+
+        /**
+         * 응답 크기 백분위수 근사값 (바이트)
+         */
+        public long bytesPercentile(double percentile) {
+            return ExponentialHistogram.percentile(bytesBuckets, percentile, bytesMax);
+        }
+
+        /**
+         * Actuator 응답용 Map
+         */
+        public Map<String, Object> toMap() {
+            long count = count();
+            Map<String, Object> statuses = new LinkedHashMap<>();
+            for (int i = 1; i <= 5; i++) {
+                statuses.put(i + "xx", statusCounts[i]);
+            }
+
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("mean", (count == 0) ? 0.0 : latencySum / 1000.0 / count);
+            latency.put("p50", latencyPercentileMicros(0.50) / 1000.0);
+            latency.put("p95", latencyPercentileMicros(0.95) / 1000.0);
+            latency.put("p99", latencyPercentileMicros(0.99) / 1000.0);
+            latency.put("max", latencyMax / 1000.0);
+
+            Map<String, Object> bytes = new LinkedHashMap<>();
+            bytes.put("total", bytesSum);
+            bytes.put("p50", bytesPercentile(0.50));
+            bytes.put("p95", bytesPercentile(0.95));
+            bytes.put("p99", bytesPercentile(0.99));
+            bytes.put("max", bytesMax);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("status", statuses);
+            result.put("latencyMs", latency);
+            result.put("responseBytes", bytes);
+            return result;
+        }
+
+        private static long[] subtract(long[] current, long[] previous) {
+            long[] result = new long[current.length];
+            for (int i = 0; i < current.length; i++) {
+                result[i] = Math.max(0L, current[i] - previous[i]);
+            }
+            return result;
+        }
+    }
+}
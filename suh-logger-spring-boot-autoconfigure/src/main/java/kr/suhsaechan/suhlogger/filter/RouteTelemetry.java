@@ -0,0 +1,175 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 처리량/처리 시간/응답 크기 집계
+ *
+ * 라우트는 Spring MVC가 매칭한 핸들러 패턴(bestMatchingPattern)으로 정규화하여
+ * /orders/123, /orders/456이 "GET /orders/{id}" 하나로 합쳐진다.
+ * - 매칭 패턴이 없는 요청(404, 필터 단계 응답 등)은 UNMATCHED로 집계
+ * - 라우트 수가 maxRoutes에 도달하면 새 라우트는 OTHER로 집계 (카디널리티 상한)
+ * - 주기 요약은 별도 스레드 없이 요청 완료 시점에 기회적으로(opportunistic) 출력
+ */
+public final class RouteTelemetry {
+
+    /**
+     * Spring MVC HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE (spring-webmvc 의존 없이 이름으로 참조)
+     */
+    public static final String BEST_MATCHING_PATTERN_ATTRIBUTE =
+        "org.springframework.web.servlet.HandlerMapping.bestMatchingPattern";
+
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+    public static final String OVERFLOW_ROUTE = "OTHER";
+    public static final int DEFAULT_MAX_ROUTES = SuhLoggerSettings.DEFAULT_TELEMETRY_MAX_ROUTES;
+
+    // 패턴 → (HTTP 메서드 → 통계): 요청마다 "메서드 + 패턴" 문자열을 만들지 않도록 2단계로 조회
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RouteStats>> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger routeCount = new AtomicInteger();
+    private volatile RouteStats overflow = new RouteStats(OVERFLOW_ROUTE);
+
+    private final AtomicLong nextSummary = new AtomicLong();
+    // 요약 출력 스레드(CAS 성공한 스레드)만 접근
+    private Map<String, RouteStats.Snapshot> lastSummary = new HashMap<>();
+
+    /**
+     * 요청 1건 기록
+     * @param method HTTP 메서드
+     * @param pattern 매칭된 핸들러 패턴 (없으면 null)
+     */
+    public void record(String method, String pattern, int status, long elapsedNanos, long bytes, int maxRoutes) {
+        stats(method, (pattern != null) ? pattern : UNMATCHED_ROUTE, maxRoutes)
+            .record(status, elapsedNanos, bytes);
+    }
+
+    private RouteStats stats(String method, String pattern, int maxRoutes) {
+        ConcurrentHashMap<String, RouteStats> byMethod = routes.get(pattern);
+        RouteStats stats = (byMethod != null) ? byMethod.get(method) : null;
+        if (stats != null) {
+            return stats;
+        }
+        if (routeCount.get() >= maxRoutes) {
+            return overflow;
+        }
+        byMethod = routes.computeIfAbsent(pattern, key -> new ConcurrentHashMap<>());
+        stats = byMethod.computeIfAbsent(method, key -> {
+            // 동시에 새 라우트가 들어와도 상한을 넘지 않도록 예약 후 확인 (null 반환 시 매핑 안 됨)
+            if (routeCount.incrementAndGet() > maxRoutes) {
+                routeCount.decrementAndGet();
+                return null;
+            }
+            return new RouteStats(key + " " + pattern);
+        });
+        return (stats != null) ? stats : overflow;
+    }
+
+    /**
+     * 라우트별 누적 통계 (라우트 이름순)
+     */
+    public Map<String, RouteStats.Snapshot> snapshot() {
+        Map<String, RouteStats.Snapshot> result = new TreeMap<>();
+        for (ConcurrentHashMap<String, RouteStats> byMethod : routes.values()) {
+            for (RouteStats stats : byMethod.values()) {
+                result.put(stats.getRoute(), stats.snapshot());
+            }
+        }
+        RouteStats.Snapshot other = overflow.snapshot();
+        if (other.count() > 0) {
+            result.put(OVERFLOW_ROUTE, other);
+        }
+        return result;
+    }
+
+    public int routeCount() {
+        return routeCount.get();
+    }
+
+    /**
+     * 누적 통계 초기화
+     */
+    public synchronized void reset() {
+        routes.clear();
+        routeCount.set(0);
+        overflow = new RouteStats(OVERFLOW_ROUTE);
+        lastSummary = new HashMap<>();
+    }
+
+    /**
+     * 요약 주기가 지났으면 직전 요약 이후 구간 통계를 라우트별 한 줄로 출력
+     * @param interval 요약 주기 (null 또는 0이면 출력 안 함)
+     */
+    public void summarizeIfDue(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextSummary.get();
+        if (next == 0L) {
+            // 첫 요청 기준으로 주기 시작
+            nextSummary.compareAndSet(0L, now + interval.toNanos());
+            return;
+        }
+        if (now - next < 0 || !nextSummary.compareAndSet(next, now + interval.toNanos())) {
+            return;
+        }
+        summarize(interval);
+    }
+
+    private synchronized void summarize(Duration interval) {
+        Map<String, RouteStats.Snapshot> current = snapshot();
+        String window = formatWindow(interval);
+        for (RouteStats.Snapshot snapshot : current.values()) {
+            RouteStats.Snapshot delta = snapshot.minus(lastSummary.get(snapshot.getRoute()));
+            long count = delta.count();
+            if (count == 0) {
+                continue;
+            }
+            SuhLogger.info("[ROUTE] " + delta.getRoute() + " - " + count + " req in " + window
+                + " (2xx " + delta.statusCount(2) + ", 3xx " + delta.statusCount(3)
+                + ", 4xx " + delta.statusCount(4) + ", 5xx " + delta.statusCount(5) + ")"
+                + " latency p50 " + formatMicros(delta.latencyPercentileMicros(0.50))
+                + " p95 " + formatMicros(delta.latencyPercentileMicros(0.95))
+                + " p99 " + formatMicros(delta.latencyPercentileMicros(0.99))
+                + ", bytes p50 " + formatBytes(delta.bytesPercentile(0.50))
+                + " p95 " + formatBytes(delta.bytesPercentile(0.95)));
+        }
+        lastSummary = current;
+    }
+
+    private static String formatMicros(long micros) {
+        if (micros < 1_000) {
+            return micros + "us";
+        }
+        if (micros < 10_000) {
+            return String.format("%.1fms", micros / 1000.0);
+        }
+        return (micros / 1_000) + "ms";
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+        if (bytes < 1024 * 1024) {
+            return (bytes / 1024) + "KB";
+        }
+        return (bytes / (1024 * 1024)) + "MB";
+    }
+
+    private static String formatWindow(Duration interval) {
+        long seconds = interval.getSeconds();
+        if (seconds > 0 && seconds % 60 == 0) {
+            return (seconds / 60) + "m";
+        }
+        return (seconds > 0) ? seconds + "s" : interval.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,474 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.DigestMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
+import kr.suhsaechan.suhlogger.config.ResponseLogMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.digest.PayloadDigest;
+import kr.suhsaechan.suhlogger.masking.JsonStreamMasker;
+import kr.suhsaechan.suhlogger.util.RequestLogContext;
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+import kr.suhsaechan.suhlogger.util.SuhTimeUtil;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SuhLogger 안전한 Response 처리 필터
+ * 
+ * 이 필터는 다음과 같은 문제를 해결합니다:
+ * 1. Response 객체 중복 사용으로 인한 "getWriter() has already been called" 에러
+ * 2. Spring Security와의 충돌 방지
+ * 3. 안전한 Response Body 로깅 (본문은 그대로 흘려보내고 앞부분만 풀링된 고정 크기 버퍼에 캡처)
+ * 
+ * 4. 요청 ID 부여 (MDC, 요청 속성, 응답 헤더)
+ * 5. 꼬리 버퍼링: 요청 중 로그를 모았다가 에러/느린 요청일 때만 출력 (tail-buffer.enabled)
+ * 6. 라우트별 처리량/처리 시간/응답 크기 집계 (telemetry.enabled)
+ * 7. 페이로드 다이제스트: 큰 본문은 내용 대신 크기와 XXH64 해시만 출력 (digest.mode, digest.routes)
+ * 8. 요청당 로그 예산: 한 요청이 출력하는 이벤트/바이트 수 제한 (log-budget.enabled)
+ * 
+ * 실행 순서: Spring Security → Business Logic → SuhLoggingFilter (최하위 우선순위)
+ */
+public class SuhLoggingFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * 요청 ID를 담는 요청 속성 이름 (Aspect의 HTTP 정보 로깅에서 사용)
+     */
+    public static final String REQUEST_ID_ATTRIBUTE = "RequestID";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 비동기 응답 로깅 대기열 크기 (가득 차면 요청 스레드에서 직접 로깅)
+     */
+    static final int RESPONSE_LOG_QUEUE_CAPACITY = 1024;
+
+    // 설정(최대 본문 크기, 풀 크기, direct 여부)이 바뀌면 새 풀로 교체
+    private volatile CaptureBufferPool captureBufferPool;
+
+    // response-log.async 최초 사용 시 생성
+    private volatile ExecutorService responseLogExecutor;
+
+    private final RouteTelemetry routeTelemetry = new RouteTelemetry();
+
+    /**
+     * 설정은 요청마다 SuhLoggerSettings 스냅샷에서 읽으므로 런타임 설정 변경이 바로 반영됨
+     */
+    public SuhLoggingFilter() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * @deprecated 설정은 SuhLoggerSettings 스냅샷에서 읽으므로 properties 인자는 사용하지 않음. {@link #SuhLoggingFilter()} 사용 권장
+     */
+    @Deprecated
+    public SuhLoggingFilter(SuhLoggerProperties properties) {
+        this();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        
+        String uri = request.getRequestURI();
+        SuhLoggerSettings settings = SuhLoggerSettings.current();
+        
+        // 로깅이 비활성화된 경우 통과 (전체 스위치 포함)
+        if (!settings.isHttpCaptureEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        // 요청 ID 부여 (제외 패턴 요청도 상관관계 추적을 위해 부여)
+        String mdcKey = settings.getRequestIdMdcKey();
+        String previousRequestId = null;
+        if (settings.isRequestIdEnabled()) {
+            previousRequestId = MDC.get(mdcKey);
+            String requestId = resolveRequestId(request, settings);
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            response.setHeader(settings.getRequestIdHeader(), requestId);
+            MDC.put(mdcKey, requestId);
+        }
+
+        try {
+            // 제외 패턴에 해당하는 경우 로깅 없이 통과
+            if (settings.isExcludedUri(uri)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            doFilterWithCapture(request, response, filterChain, settings);
+        } finally {
+            if (settings.isRequestIdEnabled()) {
+                // 스레드 재사용 시 다른 요청으로 ID가 새지 않도록 이전 값 복원
+                if (previousRequestId != null) {
+                    MDC.put(mdcKey, previousRequestId);
+                } else {
+                    MDC.remove(mdcKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 ID 결정: 수신 헤더 → traceparent trace-id → 새로 생성
+     */
+    private String resolveRequestId(HttpServletRequest request, SuhLoggerSettings settings) {
+        String incoming = RequestIdGenerator.sanitizeIncoming(request.getHeader(settings.getRequestIdHeader()));
+        if (incoming != null) {
+            return incoming;
+        }
+        String traceId = RequestIdGenerator.traceIdFromTraceparent(
+            request.getHeader(RequestIdGenerator.TRACEPARENT_HEADER));
+        if (traceId != null) {
+            return traceId;
+        }
+        return RequestIdGenerator.generate();
+    }
+
+    /**
+     * Response를 캐싱하며 체인 실행 후 로깅
+     */
+    private void doFilterWithCapture(HttpServletRequest request,
+                                     HttpServletResponse response,
+                                     FilterChain filterChain,
+                                     SuhLoggerSettings settings) throws ServletException, IOException {
+
+        // 본문은 실제 응답으로 바로 흘려보내고, 로깅 가능한 크기만큼만 캡처 (다이제스트 대상이면 전체 해시 계산)
+        boolean digest = settings.digestModeFor(request.getRequestURI()) != DigestMode.OFF;
+        CapturingResponseWrapper responseWrapper =
+            new CapturingResponseWrapper(response, captureBufferPool(settings), digest);
+
+        // 꼬리 버퍼링: 이후 SuhLogger/Aspect 출력은 요청이 끝날 때까지 버퍼에 쌓임
+        // 로그 예산: 이후 SuhLogger/Aspect 출력의 이벤트/바이트 수를 요청 단위로 집계
+        RequestLogContext logContext = settings.isRequestLogContextEnabled()
+            ? RequestLogContext.open(settings)
+            : null;
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            // 다음 필터 체인 실행
+            filterChain.doFilter(request, responseWrapper);
+            failed = false;
+        } finally {
+            // 래퍼 Writer에 남은 문자를 실제 응답으로 내보냄
+            responseWrapper.finish();
+            // 상태/소요 시간은 응답 전송 전에 기록 (로깅 시간이 포함되지 않도록)
+            ResponseLogEntry entry = new ResponseLogEntry(request, responseWrapper,
+                System.nanoTime() - startNanos, failed);
+            try {
+                // 로깅 전에 응답을 먼저 클라이언트로 내보냄
+                // 예외 시에는 에러 처리(에러 페이지 등)가 응답을 쓸 수 있도록, 비동기 요청은 아직 끝나지 않았으므로 flush하지 않음
+                if (!failed && !isAsyncStarted(request)) {
+                    responseWrapper.flushBuffer();
+                }
+            } finally {
+                completeResponseLog(entry, logContext, failed, settings);
+            }
+        }
+    }
+
+    /**
+     * 응답 로깅과 요청 컨텍스트(꼬리 버퍼, 로그 예산) 마무리
+     * response-log.async이면 전용 스레드에서 로깅 (꼬리 버퍼링 중에는 같은 버퍼에 담아야 하므로 현재 스레드에서 처리)
+     */
+    private void completeResponseLog(ResponseLogEntry entry, RequestLogContext logContext, boolean failed,
+                                     SuhLoggerSettings settings) {
+        if (settings.isTelemetryEnabled()) {
+            // 처리 중 예외는 컨테이너가 5xx로 응답하므로 5xx로 집계
+            routeTelemetry.record(entry.getMethod(), entry.getRoutePattern(), failed ? 500 : entry.getStatus(),
+                entry.getElapsedNanos(), entry.getBodyBytes(), settings.getTelemetryMaxRoutes());
+        }
+        try {
+            // 전용 스레드에는 요청 컨텍스트가 없으므로 예산 소진 여부는 요청 스레드에서 미리 판단
+            boolean overBudget = logContext != null && logContext.isOverBudget();
+            boolean buffering = logContext != null && logContext.isBuffering();
+            if (!buffering && settings.isResponseLogAsync() && submitResponseLog(entry, settings, overBudget)) {
+                return;
+            }
+            try {
+                logResponseSafely(entry, settings, overBudget);
+            } finally {
+                // 캡처 버퍼 반납
+                entry.release();
+            }
+        } finally {
+            if (logContext != null) {
+                completeLogContext(logContext, entry.getStatus(), failed, entry.getElapsedNanos(), settings);
+            }
+            // 꼬리 버퍼가 닫힌 뒤 출력해야 요약이 버려지지 않음
+            if (settings.isTelemetryEnabled()) {
+                routeTelemetry.summarizeIfDue(settings.getTelemetrySummaryInterval());
+            }
+        }
+    }
+
+    /**
+     * 응답 로깅을 전용 스레드에 제출 (MDC 복사)
+     * @return 제출했으면 true, 큐가 가득 차 거절되면 false (호출 스레드에서 처리)
+     */
+    private boolean submitResponseLog(ResponseLogEntry entry, SuhLoggerSettings settings, boolean overBudget) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        try {
+            responseLogExecutor().execute(() -> {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    logResponseSafely(entry, settings, overBudget);
+                } finally {
+                    entry.release();
+                    MDC.clear();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private ExecutorService responseLogExecutor() {
+        ExecutorService executor = responseLogExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = responseLogExecutor;
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(RESPONSE_LOG_QUEUE_CAPACITY), runnable -> {
+                            Thread thread = new Thread(runnable, "suh-logger-response-log");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                    responseLogExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        ExecutorService executor = responseLogExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+        super.destroy();
+    }
+
+    /**
+     * 현재 설정에 맞는 캡처 버퍼 풀 (설정이 바뀌었으면 새 풀 생성)
+     * 버퍼 크기는 max-response-body-size: 원문이 이보다 크면 포맷팅 후에도 출력 한도를 넘으므로 더 캡처하지 않음
+     */
+    private CaptureBufferPool captureBufferPool(SuhLoggerSettings settings) {
+        CaptureBufferPool pool = captureBufferPool;
+        if (pool == null || !pool.matches(settings.getMaxResponseBodySize(),
+                settings.getCaptureBufferPoolSize(), settings.isCaptureBufferDirect())) {
+            pool = new CaptureBufferPool(settings.getMaxResponseBodySize(),
+                settings.getCaptureBufferPoolSize(), settings.isCaptureBufferDirect());
+            captureBufferPool = pool;
+        }
+        return pool;
+    }
+
+    /**
+     * 캡처 버퍼 풀 (모니터링용, 첫 요청 전에는 null)
+     */
+    public CaptureBufferPool getCaptureBufferPool() {
+        return captureBufferPool;
+    }
+
+    /**
+     * 라우트별 처리량/처리 시간/응답 크기 집계 (모니터링용)
+     */
+    public RouteTelemetry getRouteTelemetry() {
+        return routeTelemetry;
+    }
+
+    /**
+     * 요청 컨텍스트 마무리
+     * - 꼬리 버퍼링 중: 에러(4xx/5xx, 예외) 또는 느린 요청이면 출력, 빠른 정상 요청이면 버림
+     * - 로그 예산만 사용: 종료 (버린 이벤트가 있으면 요약 한 줄 출력)
+     */
+    private void completeLogContext(RequestLogContext logContext, int status, boolean failed,
+                                    long elapsedNanos, SuhLoggerSettings settings) {
+        if (!logContext.isBuffering()) {
+            logContext.close();
+            return;
+        }
+        String elapsed = SuhTimeUtil.convertMillisToReadableTime(elapsedNanos / 1_000_000);
+        if (failed) {
+            logContext.flush("exception, status=" + status + ", " + elapsed);
+        } else if (status >= 400) {
+            logContext.flush("status=" + status + ", " + elapsed);
+        } else if (settings.isSlowRequest(elapsedNanos)) {
+            logContext.flush("slow request, status=" + status + ", " + elapsed);
+        } else {
+            logContext.discard();
+        }
+    }
+
+    /**
+     * Response를 안전하게 로깅
+     * @param overBudget 요청 로그 예산이 소진되었으면 본문 대신 한 줄 요약만 출력
+     */
+    private void logResponseSafely(ResponseLogEntry entry, SuhLoggerSettings settings, boolean overBudget) {
+        try {
+            int status = entry.getStatus();
+            
+            // 로깅 조건(response-log.mode)에 해당하지 않으면 캡처된 바이트를 디코딩하지 않고 버림
+            if (shouldLogBody(entry, settings)) {
+                CaptureBuffer content = entry.getBody();
+                
+                if (content != null && content.totalBytes() > 0 && overBudget) {
+                    SuhLogger.info("[SKIPPED] Response " + entry.getMethod() + " " + entry.getUri() + " status=" + status
+                        + ", " + content.totalBytes() + " bytes (request log budget exhausted)");
+                } else if (content != null && content.totalBytes() > 0) {
+                    // Response 로깅 (구분선과 함께)
+                    SuhLogger.lineLog("RESPONSE LOGGING");
+                    SuhLogger.info("URI: " + entry.getUri());
+                    SuhLogger.info("Method: " + entry.getMethod());
+                    SuhLogger.info("Status: " + status);
+                    SuhLogger.info("Duration: " + SuhTimeUtil.convertMillisToReadableTime(entry.getElapsedNanos() / 1_000_000));
+                    
+                    // Response Body 크기 제한 확인 (포맷팅 후 크기 고려)
+                    int maxSize = settings.getMaxResponseBodySize();
+                    if (shouldDigestBody(entry, content, settings)) {
+                        // 내용 대신 크기와 해시만 출력 (디코딩/포맷팅 없음)
+                        SuhLogger.info("Response Body: " + digestBody(entry, content, settings));
+                    } else if (content.isTruncated()) {
+                        // 원문이 캡처 한도(max-response-body-size)를 넘으면 디코딩 없이 크기만 출력
+                        SuhLogger.info("Response Body: [Too large to log - " + content.totalBytes() + " bytes, max: " + maxSize + "]");
+                    } else {
+                        String responseBody = content.decode(entry.getCharset());
+                        String formattedBody = settings.getValueRedactor().redact(
+                            maskResponseBody(responseBody, entry.getContentType(), settings));
+
+                        if (formattedBody.length() <= maxSize) {
+                            SuhLogger.info("Response Body: " + formattedBody);
+                        } else {
+                            SuhLogger.info("Response Body: [Too large to log - " + formattedBody.length() + " bytes, max: " + maxSize + "]");
+                        }
+                    }
+                    
+                    SuhLogger.lineLog(null);
+                }
+            }
+        } catch (Exception e) {
+            // 로깅 중 에러가 발생해도 원본 응답에는 영향을 주지 않음
+            SuhLogger.error("Response 로깅 중 에러 발생", e);
+        }
+    }
+
+    /**
+     * Response Body 로깅 여부 결정 (요청이 끝난 뒤 상태 코드/처리 시간 기준)
+     */
+    private boolean shouldLogBody(ResponseLogEntry entry, SuhLoggerSettings settings) {
+        int status = entry.getStatus();
+        boolean success = status >= 200 && status < 300;
+        switch (settings.getResponseLogMode()) {
+            case ALWAYS:
+                return true;
+            case SLOW_OR_ERROR:
+                return !success || entry.isFailed() || settings.isSlowRequest(entry.getElapsedNanos());
+            case SUCCESS_ONLY:
+            default:
+                // 성공 응답(2xx)만 로깅하여 에러 상황에서의 추가 문제 방지
+                return success;
+        }
+    }
+
+    /**
+     * 본문을 다이제스트로 출력할지 결정
+     * - ALWAYS 또는 digest.routes에 해당하는 라우트: 항상
+     * - AUTO: 캡처 한도를 넘었거나 본문이 digest.threshold보다 큰 경우
+     */
+    private boolean shouldDigestBody(ResponseLogEntry entry, CaptureBuffer content, SuhLoggerSettings settings) {
+        if (!content.hasDigest()) {
+            return false;
+        }
+        DigestMode mode = settings.digestModeFor(entry.getUri());
+        return mode == DigestMode.ALWAYS
+            || (mode == DigestMode.AUTO
+                && (content.isTruncated() || content.totalBytes() > settings.getDigestThreshold()));
+    }
+
+    /**
+     * 본문 다이제스트 (같은 메서드+라우트의 직전 본문과 해시가 같으면 same-as-previous)
+     */
+    private String digestBody(ResponseLogEntry entry, CaptureBuffer content, SuhLoggerSettings settings) {
+        String route = (entry.getRoutePattern() != null) ? entry.getRoutePattern() : entry.getUri();
+        long hash = content.digest();
+        boolean repeated = settings.getDigestTracker().record(entry.getMethod() + " " + route, hash);
+        String type = (entry.getContentType() != null) ? entry.getContentType() : "unknown";
+        return new PayloadDigest(type, content.totalBytes(), PayloadDigest.UNKNOWN_ELEMENTS, hash, repeated).toString();
+    }
+
+    /**
+     * Response Body에 마스킹 적용 (JSON Content-Type인 경우만)
+     * 마스킹 대상이 아니면 기존 포맷팅만 적용
+     */
+    private String maskResponseBody(String responseBody, String contentType, SuhLoggerSettings settings) {
+        boolean shouldMask = settings.isMaskingEnabled() && !settings.getMaskFieldMatcher().isEmpty();
+
+        if (!shouldMask || !JsonStreamMasker.isJsonContentType(contentType)) {
+            return formatResponseBody(responseBody, settings);
+        }
+
+        // 스트리밍 마스킹과 pretty print를 한 번의 패스로 처리
+        return JsonStreamMasker.mask(responseBody, settings.getMaskFieldMatcher(),
+            settings.getMaskValue(), settings.isPrettyPrintJson());
+    }
+
+    /**
+     * Response Body를 설정에 따라 포맷팅
+     */
+    private String formatResponseBody(String responseBody, SuhLoggerSettings settings) {
+        if (!settings.isPrettyPrintJson()) {
+            return responseBody;
+        }
+
+        try {
+            // JSON인지 확인하고 pretty print 적용
+            Object jsonObject = objectMapper.readValue(responseBody, Object.class);
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonObject);
+        } catch (Exception e) {
+            // JSON이 아니거나 파싱 실패시 원본 반환
+            return responseBody;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // 가장 낮은 우선순위로 설정하여 모든 다른 필터들이 실행된 후 로깅
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 정적 리소스는 필터링하지 않음
+        String uri = request.getRequestURI();
+        return uri.startsWith("/static/") || 
+               uri.startsWith("/css/") || 
+               uri.startsWith("/js/") || 
+               uri.startsWith("/images/") ||
+               uri.endsWith(".ico") ||
+               uri.endsWith(".png") ||
+               uri.endsWith(".jpg") ||
+               uri.endsWith(".css") ||
+               uri.endsWith(".js");
+    }
+}
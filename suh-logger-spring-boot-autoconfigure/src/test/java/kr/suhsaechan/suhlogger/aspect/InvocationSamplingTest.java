@@ -0,0 +1,63 @@
+package kr.suhsaechan.suhlogger.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @LogMonitor 메서드의 호출 로그/실행 시간 샘플링이 호출당 한 번만 결정되는지 검증
+ */
+class InvocationSamplingTest {
+
+  public static class MonitoredService {
+    @LogMonitor
+    public String place(String item) {
+      return item;
+    }
+  }
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    MethodLogRegistry.resetAll();
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void callAndTimeAreSampledTogether() {
+    AspectJProxyFactory factory = new AspectJProxyFactory(new MonitoredService());
+    factory.addAspect(new SuhMethodInvocationLoggingAspect());
+    factory.addAspect(new SuhExecutionTimeLoggingAspect());
+    MonitoredService service = factory.getProxy();
+    MethodLogRegistry.apply("MonitoredService.place", new MethodLogToggle(true, true, true, 0.5));
+
+    for (int i = 0; i < 200; i++) {
+      appender.list.clear();
+      service.place("book");
+
+      boolean call = appender.list.stream()
+          .anyMatch(event -> event.getFormattedMessage().contains("[MonitoredService.place] CALL"));
+      boolean time = appender.list.stream()
+          .anyMatch(event -> event.getFormattedMessage().contains("[TIME]: MonitoredService.place : "));
+      assertEquals(call, time, "같은 호출에서 CALL과 TIME 중 하나만 기록되면 안 됨");
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package kr.suhsaechan.suhlogger.config;
+
+import kr.suhsaechan.suhlogger.SuhLoggerApplication;
+import kr.suhsaechan.suhlogger.aspect.MethodLoggingControlMBean;
+import kr.suhsaechan.suhlogger.aspect.SuhExecutionTimeLoggingAspect;
+import kr.suhsaechan.suhlogger.aspect.SuhMethodInvocationLoggingAspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.javapoet.ClassName;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동 설정의 AOT 처리(processAot와 동일한 ApplicationContextAotGenerator) 검증 테스트
+ */
+class SuhLoggerAotTest {
+
+  @Test
+  void autoConfigurationIsProcessedAheadOfTime() {
+    InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+    DefaultGenerationContext generationContext = new DefaultGenerationContext(
+        new ClassNameGenerator(ClassName.get(SuhLoggerAotTest.class)), generatedFiles);
+
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+      context.register(SuhLoggerAutoConfiguration.class);
+      new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+      generationContext.writeGeneratedContent();
+
+      // 스캔 없이 명시적으로 등록된 빈만 존재해야 함
+      assertEquals(1, context.getBeanNamesForType(SuhMethodInvocationLoggingAspect.class).length);
+      assertEquals(1, context.getBeanNamesForType(SuhExecutionTimeLoggingAspect.class).length);
+      assertEquals(0, context.getBeanNamesForType(SuhLoggerApplication.class).length,
+          "SuhLoggerApplication이 빈으로 등록되면 안 됨");
+    }
+
+    assertTrue(generatedFiles.getGeneratedFiles(Kind.SOURCE).keySet().stream()
+            .anyMatch(path -> path.contains("SuhLoggerAutoConfiguration__BeanDefinitions")),
+        "자동 설정 빈 정의 코드가 생성되어야 함");
+
+    RuntimeHints hints = generationContext.getRuntimeHints();
+    assertTrue(RuntimeHintsPredicates.reflection().onType(MethodLoggingControlMBean.class).test(hints),
+        "@ImportRuntimeHints로 등록한 힌트가 포함되어야 함");
+  }
+
+  @Test
+  void reflectivePathsHaveHints() {
+    RuntimeHints hints = new RuntimeHints();
+    new SuhLoggerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    for (String type : SuhLoggerRuntimeHints.MULTIPART_TYPES) {
+      assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type);
+    }
+    for (String type : Arrays.asList("org.locationtech.jts.geom.Point", "org.locationtech.jts.geom.Polygon")) {
+      assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type);
+    }
+  }
+}
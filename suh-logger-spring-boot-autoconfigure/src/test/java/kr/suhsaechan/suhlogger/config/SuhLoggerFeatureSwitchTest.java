@@ -0,0 +1,97 @@
+package kr.suhsaechan.suhlogger.config;
+
+import kr.suhsaechan.suhlogger.annotation.LogMonitor;
+import kr.suhsaechan.suhlogger.filter.SuhLoggingFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.AspectJAroundAdvice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기능 스위치에 따라 Aspect/필터 빈 자체가 등록되지 않는지 검증
+ * (샘플 빈에 적용된 advisor 수로 프록시 여부 확인)
+ */
+class SuhLoggerFeatureSwitchTest {
+
+  private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(SuhLoggerAutoConfiguration.class))
+      .withUserConfiguration(SampleConfiguration.class);
+
+  @Test
+  void allFeaturesEnabledByDefault() {
+    runner.run(context -> {
+      assertEquals(2, countSuhLoggerAdvisors(context), "호출/시간 로깅 advisor가 모두 적용되어야 함");
+      assertEquals(1, context.getBeanNamesForType(SuhLoggingFilter.class).length);
+      assertEquals(1, context.getBeanNamesForType(FilterRegistrationBean.class).length);
+    });
+  }
+
+  @Test
+  void globalDisableRemovesProxiesAndFilter() {
+    runner.withPropertyValues("suh-logger.enabled=false").run(context -> {
+      assertFalse(AopUtils.isAopProxy(context.getBean(SampleService.class)), "비활성화 시 프록시가 생성되면 안 됨");
+      assertEquals(0, context.getBeanNamesForType(SuhLoggingFilter.class).length);
+      assertEquals(0, context.getBeanNamesForType(FilterRegistrationBean.class).length);
+    });
+  }
+
+  @Test
+  void featureSwitchesAreIndependent() {
+    runner.withPropertyValues("suh-logger.timing.enabled=false", "suh-logger.http-capture.enabled=false")
+        .run(context -> {
+          assertEquals(1, countSuhLoggerAdvisors(context), "호출 로깅 advisor만 남아야 함");
+          assertEquals(0, context.getBeanNamesForType(SuhLoggingFilter.class).length);
+        });
+
+    runner.withPropertyValues("suh-logger.method-logging.enabled=false", "suh-logger.timing.enabled=false")
+        .run(context -> {
+          assertFalse(AopUtils.isAopProxy(context.getBean(SampleService.class)));
+          assertEquals(1, context.getBeanNamesForType(SuhLoggingFilter.class).length);
+        });
+  }
+
+  @Test
+  void agentActiveSkipsAspects() {
+    runner.withPropertyValues("suh-logger.agent.active=true").run(context -> {
+      assertFalse(AopUtils.isAopProxy(context.getBean(SampleService.class)), "에이전트 사용 시 프록시가 생성되면 안 됨");
+      assertEquals(1, context.getBeanNamesForType(SuhLoggingFilter.class).length);
+    });
+  }
+
+  private long countSuhLoggerAdvisors(ApplicationContext context) {
+    Object bean = context.getBean(SampleService.class);
+    if (!(bean instanceof Advised)) {
+      return 0;
+    }
+    return Arrays.stream(((Advised) bean).getAdvisors())
+        .filter(advisor -> advisor.getAdvice() instanceof AspectJAroundAdvice)
+        .count();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class SampleConfiguration {
+
+    @Bean
+    SampleService sampleService() {
+      return new SampleService();
+    }
+  }
+
+  static class SampleService {
+
+    @LogMonitor
+    public String hello(String name) {
+      return "hello " + name;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package kr.suhsaechan.suhlogger.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 불변 설정 스냅샷 컴파일/발행 검증 테스트
+ */
+class SuhLoggerSettingsTest {
+
+  @AfterEach
+  void reset() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void propertiesAreCompiledIntoSnapshot() {
+    SuhLoggerProperties properties = new SuhLoggerProperties();
+    properties.setExcludePatterns(List.of("/actuator"));
+    properties.getMasking().setEnabled(true);
+    properties.getMasking().setMaskFields(List.of("password", "token"));
+    properties.getHeader().setIncludeHeaders(List.of("X-Trace", "x-trace", "Accept"));
+
+    SuhLoggerSettings settings = properties.toSettings();
+
+    assertTrue(settings.isExcludedUri("/actuator/health"), "제외 패턴이 포함된 URI는 제외되어야 함");
+    assertFalse(settings.isExcludedUri("/api/users"));
+    assertTrue(settings.getMaskFieldMatcher().matches("userPassword"), "키워드 포함 필드는 대소문자 무시 매칭");
+    assertTrue(settings.getMaskFieldMatcher().matches("ACCESS_TOKEN"));
+    assertFalse(settings.getMaskFieldMatcher().matches("username"));
+    assertArrayEquals(new String[]{"X-Trace", "Accept"}, settings.getIncludeHeaders(), "헤더는 대소문자 무시 중복 제거");
+  }
+
+  @Test
+  void snapshotIsNotAffectedByLaterPropertyChanges() {
+    SuhLoggerProperties properties = new SuhLoggerProperties();
+    SuhLoggerSettings.publish(properties.toSettings());
+    SuhLoggerSettings published = SuhLoggerSettings.current();
+
+    properties.setEnabled(false);
+
+    assertTrue(published.isEnabled(), "발행된 스냅샷은 이후 프로퍼티 변경에 영향받지 않아야 함");
+    SuhLoggerSettings.publish(properties.toSettings());
+    assertFalse(SuhLoggerSettings.current().isEnabled(), "재발행 후에는 새 설정이 반영되어야 함");
+  }
+
+  @Test
+  void endpointWriteRepublishesSnapshot() {
+    SuhLoggerProperties properties = new SuhLoggerProperties();
+    SuhLoggerEndpoint endpoint = new SuhLoggerEndpoint(properties);
+
+    endpoint.update(null, 1024, null, true, true, null);
+
+    SuhLoggerSettings settings = SuhLoggerSettings.current();
+    assertEquals(1024, settings.getMaxResponseBodySize());
+    assertTrue(settings.isMaskingEnabled());
+    assertTrue(settings.isHeaderEnabled());
+    assertTrue(settings.isEnabled(), "전달하지 않은 항목은 기존 값 유지");
+  }
+
+  @Test
+  void refreshRevertsRemovedKeysToDefaults() {
+    Map<String, Object> source = new HashMap<>();
+    source.put("suh-logger.masking.enabled", "true");
+    source.put("suh-logger.masking.mask-fields[0]", "password");
+    source.put("suh-logger.masking.mask-fields[1]", "token");
+    source.put("suh-logger.max-response-body-size", "2048");
+    StandardEnvironment environment = new StandardEnvironment();
+    environment.getPropertySources().addFirst(new MapPropertySource("test", source));
+    SuhLoggerSettingsPublisher publisher = new SuhLoggerSettingsPublisher(new SuhLoggerProperties());
+    SuhLoggerSettingsRefresher refresher = new SuhLoggerSettingsRefresher(publisher, environment);
+
+    refresher.refresh();
+    assertTrue(SuhLoggerSettings.current().getMaskFieldMatcher().matches("accessToken"));
+    assertEquals(2048, SuhLoggerSettings.current().getMaxResponseBodySize());
+
+    source.remove("suh-logger.masking.mask-fields[1]");
+    source.remove("suh-logger.max-response-body-size");
+    refresher.refresh();
+
+    SuhLoggerSettings settings = SuhLoggerSettings.current();
+    assertTrue(settings.getMaskFieldMatcher().matches("password"));
+    assertFalse(settings.getMaskFieldMatcher().matches("accessToken"), "삭제된 키는 이전 값을 유지하면 안 됨");
+    assertEquals(new SuhLoggerProperties().getMaxResponseBodySize(), settings.getMaxResponseBodySize(),
+        "삭제된 키는 기본값으로 돌아가야 함");
+
+    new SuhLoggerEndpoint(publisher, null).update(null, null, null, null, true, null);
+    assertFalse(SuhLoggerSettings.current().getMaskFieldMatcher().matches("accessToken"),
+        "Actuator 쓰기는 refresh로 다시 바인딩된 설정을 기준으로 해야 함");
+  }
+}
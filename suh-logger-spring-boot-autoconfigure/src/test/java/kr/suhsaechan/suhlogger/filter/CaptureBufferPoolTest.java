@@ -0,0 +1,87 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캡처 버퍼 풀 재사용/지표 및 CapturingResponseWrapper의 tee 동작 검증
+ */
+class CaptureBufferPoolTest {
+
+  @Test
+  void releasedBuffersAreReused() {
+    CaptureBufferPool pool = new CaptureBufferPool(16, 2, false);
+
+    CaptureBuffer first = pool.acquire();
+    first.release();
+    CaptureBuffer second = pool.acquire();
+
+    assertSame(first, second, "반납한 버퍼를 다시 빌려줘야 함");
+    assertEquals(0, second.totalBytes(), "반납 시 버퍼가 비워져야 함");
+    assertEquals(1, pool.exhaustedCount());
+    assertEquals(0.5, pool.hitRate());
+  }
+
+  @Test
+  void poolIsBoundedAndCountsExhaustion() {
+    CaptureBufferPool pool = new CaptureBufferPool(16, 1, true);
+
+    CaptureBuffer a = pool.acquire();
+    CaptureBuffer b = pool.acquire();
+    assertTrue(a.isDirect());
+    a.release();
+    b.release();
+
+    assertEquals(1, pool.pooledCount(), "풀 크기를 넘는 버퍼는 보관하지 않아야 함");
+    assertEquals(2L, pool.metrics().get("exhausted"));
+    assertEquals(1L, pool.metrics().get("discarded"));
+  }
+
+  @Test
+  void wrapperTeesBodyAndCapturesOnlyPrefix() throws Exception {
+    CaptureBufferPool pool = new CaptureBufferPool(5, 4, false);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, pool);
+
+    wrapper.getOutputStream().write("hello world".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("hello world", response.getContentAsString(), "본문은 실제 응답으로 그대로 전달되어야 함");
+    CaptureBuffer captured = wrapper.getCapturedBody();
+    assertEquals("hello", captured.decode(StandardCharsets.UTF_8));
+    assertEquals(11, captured.totalBytes());
+    assertTrue(captured.isTruncated());
+
+    wrapper.release();
+    assertNull(wrapper.getCapturedBody());
+    assertEquals(1, pool.pooledCount());
+  }
+
+  @Test
+  void writerOutputIsCapturedAfterFinish() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.setCharacterEncoding("UTF-8");
+    CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, new CaptureBufferPool(64, 1, false));
+
+    wrapper.getWriter().write("{\"name\":\"수\"}");
+    wrapper.finish();
+
+    assertEquals("{\"name\":\"수\"}", response.getContentAsString());
+    assertEquals("{\"name\":\"수\"}", wrapper.getCapturedBody().decode(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void emptyResponseDoesNotTouchPool() {
+    CaptureBufferPool pool = new CaptureBufferPool(16, 1, false);
+    CapturingResponseWrapper wrapper = new CapturingResponseWrapper(new MockHttpServletResponse(), pool);
+
+    wrapper.finish();
+    wrapper.release();
+
+    assertNull(wrapper.getCapturedBody());
+    assertEquals(0L, pool.metrics().get("acquired"));
+  }
+}
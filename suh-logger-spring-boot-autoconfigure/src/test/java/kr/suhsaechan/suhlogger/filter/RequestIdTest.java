@@ -0,0 +1,84 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 ID 생성 및 SuhLoggingFilter의 MDC/요청 속성/응답 헤더 부여 검증
+ */
+class RequestIdTest {
+
+  @AfterEach
+  void reset() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void generatedIdsAreCompactUniqueAndTimeOrdered() throws InterruptedException {
+    Set<String> ids = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      String id = RequestIdGenerator.generate();
+      assertEquals(26, id.length());
+      assertTrue(ids.add(id), "중복 ID가 생성되면 안 됨");
+    }
+
+    String earlier = RequestIdGenerator.generate();
+    Thread.sleep(2);
+    String later = RequestIdGenerator.generate();
+    assertTrue(earlier.compareTo(later) < 0, "나중에 생성된 ID가 문자열 정렬상 뒤에 와야 함");
+  }
+
+  @Test
+  void traceparentTraceIdIsExtracted() {
+    assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", RequestIdGenerator.traceIdFromTraceparent(
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+    assertNull(RequestIdGenerator.traceIdFromTraceparent(
+        "00-00000000000000000000000000000000-00f067aa0ba902b7-01"), "전부 0인 trace-id는 무효");
+    assertNull(RequestIdGenerator.traceIdFromTraceparent("invalid"));
+  }
+
+  @Test
+  void incomingHeaderIsReusedAndPropagated() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+    request.addHeader("X-Request-ID", "abc-123");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> mdcDuringChain = new AtomicReference<>();
+    MockFilterChain chain = new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+      @Override
+      protected void service(jakarta.servlet.http.HttpServletRequest req, jakarta.servlet.http.HttpServletResponse res) {
+        mdcDuringChain.set(MDC.get("requestId"));
+      }
+    });
+
+    new SuhLoggingFilter().doFilter(request, response, chain);
+
+    assertEquals("abc-123", mdcDuringChain.get(), "체인 실행 중 MDC에 요청 ID가 있어야 함");
+    assertEquals("abc-123", request.getAttribute(SuhLoggingFilter.REQUEST_ID_ATTRIBUTE));
+    assertEquals("abc-123", response.getHeader("X-Request-ID"));
+    assertNull(MDC.get("requestId"), "요청 종료 후 MDC는 정리되어야 함");
+  }
+
+  @Test
+  void unsafeIncomingHeaderIsReplaced() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+    request.addHeader("X-Request-ID", "abc\n[INFO] forged");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new SuhLoggingFilter().doFilter(request, response, new MockFilterChain());
+
+    String requestId = response.getHeader("X-Request-ID");
+    assertNotNull(requestId);
+    assertEquals(26, requestId.length(), "허용되지 않은 문자가 포함된 헤더는 새 ID로 대체");
+  }
+}
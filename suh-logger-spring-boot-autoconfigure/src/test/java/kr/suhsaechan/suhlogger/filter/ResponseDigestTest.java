@@ -0,0 +1,107 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.DigestMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.digest.XxHash64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * digest.mode / digest.routes에 따른 Response Body 다이제스트 출력 검증
+ */
+class ResponseDigestTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void offLogsBodyAsBefore() throws Exception {
+    assertEquals("Response Body: {\"id\":1}", bodyLine("/api/orders", "{\"id\":1}"));
+  }
+
+  @Test
+  void alwaysHashesWholeBodyBeyondCaptureLimit() throws Exception {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .digestMode(DigestMode.ALWAYS)
+        .maxResponseBodySize(16)
+        .build());
+    String body = "{\"items\":\"" + "x".repeat(500) + "\"}";
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+    String line = bodyLine("/api/orders", body);
+
+    assertEquals("Response Body: [DIGEST] type=application/json, bytes=" + bytes.length
+        + ", xxh64=" + XxHash64.toHex(XxHash64.hash(bytes, 0, bytes.length)), line,
+        "캡처 한도를 넘은 부분까지 해시해야 함");
+  }
+
+  @Test
+  void autoDigestsOnlyLargeBodies() throws Exception {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .digestMode(DigestMode.AUTO)
+        .digestThreshold(32)
+        .build());
+
+    assertEquals("Response Body: {\"id\":1}", bodyLine("/api/orders", "{\"id\":1}"));
+    assertTrue(bodyLine("/api/orders", "{\"items\":\"" + "x".repeat(64) + "\"}").startsWith("Response Body: [DIGEST]"));
+  }
+
+  @Test
+  void routesForceDigestAndMarkRepeats() throws Exception {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .digestRoutes(List.of("/api/export"))
+        .build());
+
+    assertEquals("Response Body: {\"id\":1}", bodyLine("/api/orders", "{\"id\":1}"), "지정하지 않은 라우트는 그대로");
+    assertFalse(bodyLine("/api/export", "{\"id\":1}").endsWith("same-as-previous"));
+    assertTrue(bodyLine("/api/export", "{\"id\":1}").endsWith(", same-as-previous"),
+        "같은 라우트의 직전 본문과 같으면 표시해야 함");
+    assertFalse(bodyLine("/api/export", "{\"id\":2}").endsWith("same-as-previous"));
+  }
+
+  private String bodyLine(String uri, String body) throws Exception {
+    appender.list.clear();
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setContentType("application/json");
+        res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+      }
+    });
+    new SuhLoggingFilter().doFilter(new MockHttpServletRequest("GET", uri), new MockHttpServletResponse(), chain);
+    return appender.list.stream()
+        .map(ILoggingEvent::getFormattedMessage)
+        .filter(message -> message.startsWith("Response Body:"))
+        .findFirst()
+        .orElse(null);
+  }
+}
@@ -0,0 +1,120 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 응답을 클라이언트로 먼저 내보낸 뒤 로깅하는지(동기/비동기) 검증
+ */
+class ResponseLogFlushTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+  private final RecordingAppender appender = new RecordingAppender();
+  private final SuhLoggingFilter filter = new SuhLoggingFilter();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    filter.destroy();
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void responseIsCommittedBeforeBodyIsLogged() throws Exception {
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, chain("{\"id\":1}"));
+
+    assertTrue(appender.awaitBody(), "Response Body 로그가 출력되어야 함");
+    assertTrue(appender.committedAtBody, "로깅 시점에는 이미 응답이 전송(commit)되어 있어야 함");
+    assertEquals("{\"id\":1}", response.getContentAsString());
+  }
+
+  @Test
+  void responseIsNotFlushedWhenChainFails() {
+    MockFilterChain failing = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.getOutputStream();
+        throw new IllegalStateException("boom");
+      }
+    });
+
+    assertThrows(IllegalStateException.class,
+        () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, failing));
+    assertFalse(response.isCommitted(), "예외 시에는 에러 처리를 위해 응답을 commit하지 않아야 함");
+  }
+
+  @Test
+  void asyncModeLogsOnDedicatedThreadWithMdc() throws Exception {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().responseLogAsync(true).build());
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+    request.addHeader("X-Request-ID", "req-1");
+
+    filter.doFilter(request, response, chain("{\"id\":2}"));
+
+    assertTrue(appender.awaitBody(), "비동기 로깅이 완료되어야 함");
+    assertEquals("suh-logger-response-log", appender.bodyEvent.getThreadName());
+    assertEquals("req-1", appender.bodyEvent.getMDCPropertyMap().get("requestId"), "요청 MDC가 전달되어야 함");
+  }
+
+  private MockFilterChain chain(String body) {
+    return new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setContentType("application/json");
+        res.getOutputStream().write(body.getBytes());
+      }
+    });
+  }
+
+  /**
+   * Response Body 로그 시점의 commit 여부를 기록하는 Appender
+   */
+  private class RecordingAppender extends AppenderBase<ILoggingEvent> {
+    private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch bodyLogged = new CountDownLatch(1);
+    private volatile boolean committedAtBody;
+    private volatile ILoggingEvent bodyEvent;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      event.prepareForDeferredProcessing();
+      events.add(event);
+      if (event.getFormattedMessage().startsWith("Response Body:")) {
+        committedAtBody = response.isCommitted();
+        bodyEvent = event;
+        bodyLogged.countDown();
+      }
+    }
+
+    boolean awaitBody() throws InterruptedException {
+      return bodyLogged.await(5, TimeUnit.SECONDS);
+    }
+  }
+}
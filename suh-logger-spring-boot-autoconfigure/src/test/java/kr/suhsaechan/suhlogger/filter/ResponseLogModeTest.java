@@ -0,0 +1,120 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.ResponseLogMode;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * response-log.mode별 Response Body 로깅 조건 검증
+ */
+class ResponseLogModeTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void successOnlyIsDefault() throws Exception {
+    assertTrue(bodyLogged(200, 0));
+    assertFalse(bodyLogged(500, 0), "기본 모드에서는 에러 응답 본문을 로깅하지 않음");
+  }
+
+  @Test
+  void slowOrErrorSkipsFastSuccess() throws Exception {
+    publish(ResponseLogMode.SLOW_OR_ERROR);
+
+    assertFalse(bodyLogged(200, 0), "빠른 2xx 응답은 디코딩/로깅하지 않아야 함");
+    assertTrue(bodyLogged(500, 0), "에러 응답 본문은 로깅해야 함");
+    assertTrue(bodyLogged(404, 0));
+  }
+
+  @Test
+  void slowOrErrorLogsSlowSuccess() throws Exception {
+    publish(ResponseLogMode.SLOW_OR_ERROR);
+
+    assertTrue(bodyLogged(200, 30), "느린 요청은 2xx여도 로깅해야 함");
+  }
+
+  @Test
+  void alwaysLogsEveryResponse() throws Exception {
+    publish(ResponseLogMode.ALWAYS);
+
+    assertTrue(bodyLogged(200, 0));
+    assertTrue(bodyLogged(503, 0));
+  }
+
+  @Test
+  void bodyIsDecodedWithResponseEncoding() throws Exception {
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setContentType("text/plain");
+        res.setCharacterEncoding("ISO-8859-1");
+        res.getWriter().write("café");
+      }
+    });
+    new SuhLoggingFilter().doFilter(new MockHttpServletRequest("GET", "/api/menu"),
+        new MockHttpServletResponse(), chain);
+
+    assertTrue(appender.list.stream()
+            .anyMatch(event -> event.getFormattedMessage().equals("Response Body: café")),
+        "응답 인코딩(ISO-8859-1)으로 디코딩해야 함");
+  }
+
+  private void publish(ResponseLogMode mode) {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .responseLogMode(mode)
+        .slowRequestThreshold(Duration.ofMillis(20))
+        .build());
+  }
+
+  private boolean bodyLogged(int status, long delayMillis) throws Exception {
+    appender.list.clear();
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        if (delayMillis > 0) {
+          try {
+            Thread.sleep(delayMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        res.setStatus(status);
+        res.getOutputStream().write("{\"error\":\"detail\"}".getBytes());
+      }
+    });
+    new SuhLoggingFilter().doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+        new MockHttpServletResponse(), chain);
+    return appender.list.stream()
+        .anyMatch(event -> event.getFormattedMessage().startsWith("Response Body:"));
+  }
+}
@@ -0,0 +1,92 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 라우트별 통계: 매칭 패턴 기준 정규화, 카디널리티 상한, 백분위수 근사 검증
+ */
+class RouteTelemetryTest {
+
+  @AfterEach
+  void reset() {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void requestsAreGroupedByMatchedPattern() throws Exception {
+    SuhLoggingFilter filter = new SuhLoggingFilter();
+    filter.doFilter(new MockHttpServletRequest("GET", "/orders/123"), new MockHttpServletResponse(), chain(200, "abc"));
+    filter.doFilter(new MockHttpServletRequest("GET", "/orders/456"), new MockHttpServletResponse(), chain(404, ""));
+    filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(), new MockFilterChain());
+
+    Map<String, RouteStats.Snapshot> routes = filter.getRouteTelemetry().snapshot();
+    RouteStats.Snapshot orders = routes.get("GET /orders/{id}");
+    assertNotNull(orders, "구체 URI가 아닌 매칭 패턴으로 집계되어야 함");
+    assertEquals(2, orders.count());
+    assertEquals(1, orders.statusCount(2));
+    assertEquals(1, orders.statusCount(4));
+    assertEquals(3, orders.bytesPercentile(1.0));
+    assertEquals(1, routes.get("GET " + RouteTelemetry.UNMATCHED_ROUTE).count(), "패턴이 없으면 UNMATCHED로 집계");
+  }
+
+  @Test
+  void routeCardinalityIsCapped() {
+    RouteTelemetry telemetry = new RouteTelemetry();
+    for (int i = 0; i < 10; i++) {
+      telemetry.record("GET", "/r" + i, 200, 1_000_000L, 10, 3);
+    }
+
+    assertEquals(3, telemetry.routeCount());
+    assertEquals(7, telemetry.snapshot().get(RouteTelemetry.OVERFLOW_ROUTE).count(), "상한 초과분은 OTHER로 합산");
+  }
+
+  @Test
+  void latencyPercentilesStayWithinBucketError() {
+    RouteTelemetry telemetry = new RouteTelemetry();
+    for (int i = 1; i <= 100; i++) {
+      telemetry.record("GET", "/p", 200, i * 1_000_000L, 0, 10);
+    }
+
+    RouteStats.Snapshot snapshot = telemetry.snapshot().get("GET /p");
+    long p50 = snapshot.latencyPercentileMicros(0.50);
+    long p99 = snapshot.latencyPercentileMicros(0.99);
+    assertTrue(p50 >= 50_000 && p50 <= 50_000 * 1.125, "p50 근사 오차는 12.5% 이내여야 함: " + p50);
+    assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99는 최대값을 넘지 않아야 함: " + p99);
+  }
+
+  @Test
+  void resetClearsRoutes() {
+    RouteTelemetry telemetry = new RouteTelemetry();
+    telemetry.record("GET", "/a", 200, 1L, 1L, 10);
+
+    telemetry.reset();
+
+    assertTrue(telemetry.snapshot().isEmpty());
+    assertEquals(0, telemetry.routeCount());
+  }
+
+  private MockFilterChain chain(int status, String body) {
+    return new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        // DispatcherServlet이 핸들러 매칭 후 설정하는 속성
+        req.setAttribute(RouteTelemetry.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+        res.setStatus(status);
+        res.getOutputStream().write(body.getBytes());
+      }
+    });
+  }
+}
@@ -0,0 +1,143 @@
+package kr.suhsaechan.suhlogger.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
+import kr.suhsaechan.suhlogger.util.RequestLogContext;
+import kr.suhsaechan.suhlogger.util.SuhLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 꼬리 버퍼링: 빠른 정상 요청은 버리고, 에러/느린 요청은 순서대로 DEFERRED 출력하는지 검증
+ */
+class TailBufferingTest {
+
+  private final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    root.addAppender(appender);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .tailBufferEnabled(true)
+        .tailBufferCapacity(4)
+        .slowRequestThreshold(Duration.ofSeconds(10))
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    root.detachAppender(appender);
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder().build());
+  }
+
+  @Test
+  void fastSuccessfulRequestIsDiscarded() throws Exception {
+    run(200, Duration.ZERO);
+
+    assertTrue(appender.list.isEmpty(), "빠른 2xx 요청의 로그는 출력되지 않아야 함");
+    assertNull(RequestLogContext.current(), "요청 종료 후 버퍼링이 해제되어야 함");
+
+    SuhLogger.info("after");
+    assertEquals(1, appender.list.size(), "요청 밖의 로그는 바로 출력되어야 함");
+  }
+
+  @Test
+  void errorResponseIsFlushedInOrderWithDeferredMarker() throws Exception {
+    run(500, Duration.ZERO);
+
+    List<String> messages = messages();
+    assertTrue(messages.get(0).startsWith("[DEFERRED] status=500"), "첫 줄은 지연 출력 요약이어야 함");
+    assertTrue(messages.get(1).endsWith("first"));
+    assertTrue(messages.get(2).endsWith("second"));
+    for (ILoggingEvent event : appender.list) {
+      assertTrue(event.getMarkerList().contains(RequestLogContext.DEFERRED), "DEFERRED 마커가 붙어야 함");
+    }
+  }
+
+  @Test
+  void slowRequestIsFlushed() throws Exception {
+    SuhLoggerSettings.publish(SuhLoggerSettings.builder()
+        .tailBufferEnabled(true)
+        .slowRequestThreshold(Duration.ofMillis(20))
+        .build());
+
+    run(204, Duration.ofMillis(40));
+
+    assertTrue(messages().get(0).startsWith("[DEFERRED] slow request"));
+  }
+
+  @Test
+  void exceptionFlushesAndPropagates() {
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) {
+        SuhLogger.info("before failure");
+        throw new IllegalStateException("boom");
+      }
+    });
+
+    assertThrows(IllegalStateException.class, () -> new SuhLoggingFilter()
+        .doFilter(new MockHttpServletRequest("GET", "/api/orders"), new MockHttpServletResponse(), chain));
+    assertTrue(messages().get(0).startsWith("[DEFERRED] exception"));
+    assertTrue(messages().get(1).endsWith("before failure"));
+  }
+
+  @Test
+  void overflowKeepsNewestEventsAndReportsDropped() {
+    RequestLogContext context = RequestLogContext.open(2);
+    SuhLogger.info("e1");
+    SuhLogger.info("e2");
+    SuhLogger.info("e3");
+
+    assertEquals(2, context.size());
+    assertEquals(1, context.dropped());
+
+    context.flush("test");
+    List<String> messages = messages();
+    assertTrue(messages.get(0).contains("1 earlier events dropped"));
+    assertTrue(messages.get(1).endsWith("e2"), "가장 오래된 이벤트부터 버려져야 함");
+    assertTrue(messages.get(2).endsWith("e3"));
+  }
+
+  private void run(int status, Duration delay) throws Exception {
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) {
+        SuhLogger.info("first");
+        SuhLogger.info("second");
+        if (!delay.isZero()) {
+          try {
+            Thread.sleep(delay.toMillis());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        res.setStatus(status);
+      }
+    });
+    new SuhLoggingFilter().doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+        new MockHttpServletResponse(), chain);
+  }
+
+  private List<String> messages() {
+    return appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+  }
+}
@@ -1,6 +1,7 @@
 package kr.suhsaechan.suhlogger.util;
 
 import kr.suhsaechan.suhlogger.config.SuhLoggerProperties;
+import kr.suhsaechan.suhlogger.config.SuhLoggerSettings;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
@@ -73,7 +74,7 @@ class SuhLoggerTest {
     properties.setExcludedClasses(excludedClasses);
     
     // SuhLogger에 properties 설정
-    SuhLogger.setProperties(properties);
+    SuhLoggerSettings.publish(properties.toSettings());
     
     // MockMultipartFile 생성
     MockMultipartFile mockFile = new MockMultipartFile(
@@ -91,7 +92,7 @@ class SuhLoggerTest {
     
     // 2. excluded-classes를 제거하고 로그 출력 (비교용)
     properties.setExcludedClasses(Arrays.asList()); // 빈 리스트로 설정
-    SuhLogger.setProperties(properties);
+    SuhLoggerSettings.publish(properties.toSettings());
     
     SuhLogger.info("=== MultipartFile이 excluded-classes에 포함되지 않은 경우 ===");
     SuhLogger.superLog(mockFile);